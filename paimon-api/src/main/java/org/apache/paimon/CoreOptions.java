@@ -333,6 +333,35 @@ public class CoreOptions implements Serializable {
                     .defaultValue(true)
                     .withDescription("Whether enabled read file index.");
 
+    public static final ConfigOption<String> GLOBAL_INDEX_COLUMNS =
+            key("global-index.columns")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Specifies the column name(s) of a table level index of append tables,"
+                                    + " in the format 'columnName1,columnName2'. The index maps the"
+                                    + " values of the columns to the data files containing them, it is"
+                                    + " written with the data files and merged by compaction. Scans use"
+                                    + " it to skip data files for equal and in predicates without"
+                                    + " checking the file index of every data file.");
+
+    public static final ConfigOption<MemorySize> GLOBAL_INDEX_CACHE_MAX_MEMORY =
+            key("global-index.cache.max-memory")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(64))
+                    .withDescription(
+                            "The maximum memory of the global index files cached in a JVM, the cache is"
+                                    + " shared by the scans of all tables. Index files are not cached if it is 0.");
+
+    public static final ConfigOption<MemorySize> GLOBAL_INDEX_INDEX_FILE_TARGET_SIZE =
+            key("global-index.index-file.target-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(2))
+                    .withDescription(
+                            "The target size of global index files. When compacting the data files"
+                                    + " of a bucket, its global index files smaller than this size are"
+                                    + " merged into one file.");
+
     public static final ConfigOption<String> MANIFEST_FORMAT =
             key("manifest.format")
                     .stringType()
@@ -366,6 +395,16 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_MERGE_ON_COMMIT =
+            key("manifest.merge-on-commit")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to merge manifest files when committing. If disabled, commits only "
+                                    + "write new manifest files, and manifests should be compacted by the "
+                                    + "'compact_manifest' procedure or action, which keeps commit latency "
+                                    + "predictable for large tables.");
+
     public static final ConfigOption<String> UPSERT_KEY =
             key("upsert-key")
                     .stringType()
@@ -1093,6 +1132,25 @@ public class CoreOptions implements Serializable {
                                                     + " avoid the disorder reading for partitions, you can open this option.")
                                     .build());
 
+    public static final ConfigOption<Boolean> SCAN_PLAN_DISTRIBUTED_ENABLED =
+            key("scan.plan.distributed.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to plan batch scans in a distributed way. The coordinator only"
+                                    + " reads manifest lists and the files deleted by the snapshot, and"
+                                    + " hands disjoint sets of manifest files to tasks, which are planned"
+                                    + " by the computing nodes. Only tables without primary keys are"
+                                    + " supported.");
+
+    public static final ConfigOption<Integer> SCAN_PLAN_DISTRIBUTED_FILES_PER_TASK =
+            key("scan.plan.distributed.files-per-task")
+                    .intType()
+                    .defaultValue(100_000)
+                    .withDescription(
+                            "The number of data files planned by each task of distributed planning,"
+                                    + " estimated from the added files of the manifest files to scan.");
+
     @Immutable
     public static final ConfigOption<String> PRIMARY_KEY =
             key("primary-key")
@@ -1282,6 +1340,29 @@ public class CoreOptions implements Serializable {
                                     + " related to the number of initialized bucket, too small will lead to"
                                     + " insufficient processing speed of assigner.");
 
+    public static final ConfigOption<MemorySize> DYNAMIC_BUCKET_ASSIGNER_INDEX_MEMORY =
+            key("dynamic-bucket.assigner.index-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Memory of the key hash indexes of all partitions in an assigner of the"
+                                    + " assigner operator for dynamic bucket mode. If set, the indexes are"
+                                    + " paged and the least recently used pages of all partitions are spilled"
+                                    + " to local disk once the indexes exceed this memory. By default the"
+                                    + " whole indexes are kept in memory.");
+
+    public static final ConfigOption<Integer> DYNAMIC_BUCKET_INDEX_FILE_MAX_DELTA_FILES =
+            key("dynamic-bucket.index-file.max-delta-files")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of delta hash index files of a bucket in dynamic bucket"
+                                    + " mode. When it is greater than 0, only the key hashes added since the"
+                                    + " last commit are written into a new delta index file, instead of"
+                                    + " rewriting all hashes of the bucket. All index files of the bucket are"
+                                    + " consolidated into one file when another delta file would exceed this"
+                                    + " value.");
+
     public static final ConfigOption<String> INCREMENTAL_BETWEEN =
             key("incremental-between")
                     .stringType()
@@ -1588,6 +1669,31 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "In watermarking, if a source remains idle beyond the specified timeout duration, it triggers snapshot advancement and facilitates tag creation.");
 
+    public static final ConfigOption<Boolean> SNAPSHOT_SUMMARY_INDEX_ENABLED =
+            key("snapshot.summary-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a snapshot summary index at commit time. The index stores the id, "
+                                    + "commit time, watermark, schema id and manifest lists of snapshots in compact "
+                                    + "segment files, so that time travel and watermark based scans can search "
+                                    + "snapshots without reading each probed snapshot file.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_SUMMARY_INDEX_SEGMENT_SIZE =
+            key("snapshot.summary-index.segment-size")
+                    .intType()
+                    .defaultValue(64)
+                    .withDescription(
+                            "The number of snapshots contained in one segment file of the snapshot summary index.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_PREFETCH_NUM =
+            key("snapshot.prefetch-num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of subsequent snapshots a streaming reader reads in parallel "
+                                    + "when it falls behind the latest snapshot. 0 means snapshots are read one by one.");
+
     public static final ConfigOption<Integer> PARQUET_ENABLE_DICTIONARY =
             key("parquet.enable.dictionary")
                     .intType()
@@ -1635,6 +1741,14 @@ public class CoreOptions implements Serializable {
                                     + "this can avoid maintaining too many indexes and lead to worse and worse performance, "
                                     + "but please note that this may also cause data duplication.");
 
+    public static final ConfigOption<CrossPartitionIndexBackend>
+            CROSS_PARTITION_UPSERT_INDEX_BACKEND =
+                    key("cross-partition-upsert.index-backend")
+                            .enumType(CrossPartitionIndexBackend.class)
+                            .defaultValue(CrossPartitionIndexBackend.ROCKSDB)
+                            .withDescription(
+                                    "The local backend of the key index for cross partition upsert.");
+
     public static final ConfigOption<Integer> CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM =
             key("cross-partition-upsert.bootstrap-parallelism")
                     .intType()
@@ -1642,6 +1756,15 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The parallelism for bootstrap in a single task for cross partition upsert.");
 
+    public static final ConfigOption<String> CROSS_PARTITION_UPSERT_BOOTSTRAP_CACHE_PATH =
+            key("cross-partition-upsert.bootstrap-cache-path")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "A directory dedicated to the table to cache the bootstrapped keys of each split for cross partition upsert. "
+                                    + "On restart, only the splits whose data files have changed since "
+                                    + "their keys were cached are read from the table again.");
+
     public static final ConfigOption<Integer> ZORDER_VAR_LENGTH_CONTRIBUTION =
             key("zorder.var-length-contribution")
                     .intType()
@@ -1662,6 +1785,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "In streaming job, whether to force creating snapshot when there is no data in this write-commit phase.");
 
+    public static final ConfigOption<Boolean> PRIMARY_KEY_INDEX_ENABLED =
+            key("primary-key-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to maintain a primary key index for the files of the highest level of"
+                                    + " each bucket. The index maps the hash of a key to the data file and row"
+                                    + " position, it is written at compaction time and lets point lookups read"
+                                    + " only the matching rows.");
+
     public static final ConfigOption<Boolean> DELETION_VECTORS_ENABLED =
             key("deletion-vectors.enabled")
                     .booleanType()
@@ -1677,6 +1810,31 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(2))
                     .withDescription("The target size of deletion vector index file.");
 
+    public static final ConfigOption<Integer> DELETION_VECTOR_INDEX_FILE_MAX_DELTA_FILES =
+            key("deletion-vector.index-file.max-delta-files")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of delta deletion vector index files of a bucket. When it is"
+                                    + " greater than 0, only the deletion vectors of changed data files are"
+                                    + " written into a new delta index file, instead of rewriting the whole"
+                                    + " bucket. All index files of the bucket are consolidated into one file"
+                                    + " when another delta file would exceed this value, or the live size of"
+                                    + " the delta files exceeds '"
+                                    + DELETION_VECTOR_INDEX_FILE_TARGET_SIZE.key()
+                                    + "'. Only takes effect for bucketed tables.");
+
+    public static final ConfigOption<MemorySize> DELETION_VECTOR_CACHE_MAX_MEMORY =
+            key("deletion-vector.cache.max-memory")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(64))
+                    .withDescription(
+                            "The maximum memory of the deserialized deletion vectors cached in a JVM,"
+                                    + " the cache is shared by the readers and writers of all tables."
+                                    + " Deletion vectors are read on demand, a deletion vector read by"
+                                    + " several splits or writers is read from the index file only once."
+                                    + " Set to 0 to disable the cache.");
+
     public static final ConfigOption<Boolean> DELETION_VECTOR_BITMAP64 =
             key("deletion-vectors.bitmap64")
                     .booleanType()
@@ -1790,6 +1948,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether to enable asynchronous IO writing when writing files.");
 
+    public static final ConfigOption<Integer> ASYNC_FILE_CLOSE_MAX_PENDING =
+            key("async-file-close.max-pending")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of rolled data files of a writer which are closed "
+                                    + "in background. Closing a file flushes its last row group, "
+                                    + "writes the footer, completes the upload and collects "
+                                    + "statistics, which then overlaps with writing the next file. "
+                                    + "0 means files are closed synchronously.");
+
     public static final ConfigOption<Boolean> MANIFEST_DELETE_FILE_DROP_STATS =
             key("manifest.delete-file-drop-stats")
                     .booleanType()
@@ -2253,6 +2422,16 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_EXPIRE_LIMIT);
     }
 
+    public int snapshotSummaryIndexSegmentSize() {
+        return options.get(SNAPSHOT_SUMMARY_INDEX_ENABLED)
+                ? options.get(SNAPSHOT_SUMMARY_INDEX_SEGMENT_SIZE)
+                : 0;
+    }
+
+    public int snapshotPrefetchNum() {
+        return options.get(SNAPSHOT_PREFETCH_NUM);
+    }
+
     public boolean cleanEmptyDirectories() {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
@@ -2283,6 +2462,10 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
 
+    public boolean manifestMergeOnCommit() {
+        return options.get(MANIFEST_MERGE_ON_COMMIT);
+    }
+
     public MergeEngine mergeEngine() {
         return options.get(MERGE_ENGINE);
     }
@@ -2540,6 +2723,14 @@ public class CoreOptions implements Serializable {
         return options.get(SCAN_PLAN_SORT_PARTITION);
     }
 
+    public boolean scanPlanDistributedEnabled() {
+        return options.get(SCAN_PLAN_DISTRIBUTED_ENABLED);
+    }
+
+    public int scanPlanDistributedFilesPerTask() {
+        return options.get(SCAN_PLAN_DISTRIBUTED_FILES_PER_TASK);
+    }
+
     public StartupMode startupMode() {
         return startupMode(options);
     }
@@ -2652,6 +2843,15 @@ public class CoreOptions implements Serializable {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
 
+    @Nullable
+    public MemorySize dynamicBucketAssignerIndexMemory() {
+        return options.get(DYNAMIC_BUCKET_ASSIGNER_INDEX_MEMORY);
+    }
+
+    public int dynamicBucketIndexFileMaxDeltaFiles() {
+        return options.get(DYNAMIC_BUCKET_INDEX_FILE_MAX_DELTA_FILES);
+    }
+
     public List<String> sequenceField() {
         return options.getOptional(SEQUENCE_FIELD)
                 .map(s -> Arrays.asList(s.split(",")))
@@ -2877,10 +3077,19 @@ public class CoreOptions implements Serializable {
         return options.get(CROSS_PARTITION_UPSERT_INDEX_TTL);
     }
 
+    public CrossPartitionIndexBackend crossPartitionUpsertIndexBackend() {
+        return options.get(CROSS_PARTITION_UPSERT_INDEX_BACKEND);
+    }
+
     public int crossPartitionUpsertBootstrapParallelism() {
         return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM);
     }
 
+    @Nullable
+    public String crossPartitionUpsertBootstrapCachePath() {
+        return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_CACHE_PATH);
+    }
+
     public int varTypeSize() {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
@@ -2889,6 +3098,10 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTORS_ENABLED);
     }
 
+    public boolean primaryKeyIndexEnabled() {
+        return options.get(PRIMARY_KEY_INDEX_ENABLED);
+    }
+
     public boolean forceLookup() {
         return options.get(FORCE_LOOKUP);
     }
@@ -2901,6 +3114,14 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE);
     }
 
+    public int dvIndexFileMaxDeltaFiles() {
+        return options.get(DELETION_VECTOR_INDEX_FILE_MAX_DELTA_FILES);
+    }
+
+    public MemorySize deletionVectorCacheMaxMemory() {
+        return options.get(DELETION_VECTOR_CACHE_MAX_MEMORY);
+    }
+
     public boolean deletionVectorBitmap64() {
         return options.get(DELETION_VECTOR_BITMAP64);
     }
@@ -2917,6 +3138,25 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_INDEX_READ_ENABLED);
     }
 
+    public List<String> globalIndexColumns() {
+        String columns = options.get(GLOBAL_INDEX_COLUMNS);
+        if (columns == null || columns.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(columns.split(","))
+                .map(String::trim)
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public MemorySize globalIndexCacheMaxMemory() {
+        return options.get(GLOBAL_INDEX_CACHE_MAX_MEMORY);
+    }
+
+    public MemorySize globalIndexFileTargetSize() {
+        return options.get(GLOBAL_INDEX_INDEX_FILE_TARGET_SIZE);
+    }
+
     public boolean deleteForceProduceChangelog() {
         return options.get(DELETION_FORCE_PRODUCE_CHANGELOG);
     }
@@ -2963,6 +3203,10 @@ public class CoreOptions implements Serializable {
         return options.get(ASYNC_FILE_WRITE);
     }
 
+    public int asyncFileCloseMaxPending() {
+        return options.get(ASYNC_FILE_CLOSE_MAX_PENDING);
+    }
+
     public boolean statsDenseStore() {
         return options.get(METADATA_STATS_DENSE_STORE);
     }
@@ -3708,6 +3952,35 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the local backend of the key index for cross partition upsert. */
+    public enum CrossPartitionIndexBackend implements DescribedEnum {
+        ROCKSDB("rocksdb", "Maintain the index in an embedded RocksDB."),
+
+        SORT(
+                "sort",
+                "Maintain the index in sorted lookup files, which are bulk loaded from the "
+                        + "bootstrap and merged by a pure Java LSM, no native library is needed.");
+
+        private final String value;
+
+        private final String description;
+
+        CrossPartitionIndexBackend(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** The time unit of materialized table freshness. */
     public enum MaterializedTableIntervalFreshnessTimeUnit {
         SECOND,
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.arrow.converter;
 
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableVector;
 import org.apache.paimon.arrow.writer.ArrowFieldWriter;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.ColumnVector;
@@ -50,7 +51,16 @@ public class ArrowVectorizedBatchConverter extends ArrowBatchConverter {
     public void doWrite(int maxBatchRows) {
         int batchRows = Math.min(maxBatchRows, totalNumRows - startIndex);
         ColumnVector[] columns = batch.columns;
+        // the whole batch is written, vectors backed by arrow buffers can be transferred
+        boolean transferable =
+                pickedInColumn == null && startIndex == 0 && batchRows == totalNumRows;
         for (int i = 0; i < columns.length; i++) {
+            if (transferable
+                    && columns[i] instanceof ArrowWritableVector
+                    && ((ArrowWritableVector<?>) columns[i])
+                            .transferTo(root.getVector(i), batchRows)) {
+                continue;
+            }
             fieldWriters[i].write(columns[i], pickedInColumn, startIndex, batchRows);
         }
         root.setRowCount(batchRows);
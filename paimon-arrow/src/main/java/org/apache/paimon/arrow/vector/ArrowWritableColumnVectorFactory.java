@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.vector;
+
+import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableDoubleVector;
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableFloatVector;
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableIntVector;
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableLongVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
+import org.apache.paimon.types.DataField;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableColumnVectorFactory} creating vectors backed by Arrow buffers for int, date,
+ * bigint, float and double fields.
+ *
+ * <p>The buffers are allocated from the allocator of the consumer. Buffers can only be transferred
+ * between allocators of the same root, so the {@link org.apache.arrow.vector.VectorSchemaRoot}
+ * which batches are exported to must be created from the same allocator, or an allocator of the
+ * same root, to receive read batches without copying. The readers must be closed before the
+ * allocator.
+ */
+public class ArrowWritableColumnVectorFactory implements WritableColumnVectorFactory {
+
+    private final BufferAllocator allocator;
+
+    public ArrowWritableColumnVectorFactory(BufferAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Nullable
+    @Override
+    public WritableColumnVector create(DataField field, int capacity) {
+        switch (field.type().getTypeRoot()) {
+            case INTEGER:
+            case DATE:
+                return new ArrowWritableIntVector(newVector(field), capacity);
+            case BIGINT:
+                return new ArrowWritableLongVector(newVector(field), capacity);
+            case FLOAT:
+                return new ArrowWritableFloatVector(newVector(field), capacity);
+            case DOUBLE:
+                return new ArrowWritableDoubleVector(newVector(field), capacity);
+            default:
+                return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends BaseFixedWidthVector> V newVector(DataField field) {
+        return (V) ArrowUtils.createVector(field, allocator, true);
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.vector;
+
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.writable.AbstractWritableVector;
+import org.apache.paimon.data.columnar.writable.WritableDoubleVector;
+import org.apache.paimon.data.columnar.writable.WritableFloatVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+import org.apache.paimon.data.columnar.writable.WritableLongVector;
+
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+
+/**
+ * {@link org.apache.paimon.data.columnar.writable.WritableColumnVector}s which keep values in the
+ * buffers of fixed width Arrow vectors, so that a batch decoded by a format reader can be
+ * transferred to a {@link org.apache.arrow.vector.VectorSchemaRoot} without copying.
+ */
+public class ArrowWritableVectors {
+
+    /**
+     * Base class of the writable vectors backed by a {@link BaseFixedWidthVector}. Like heap
+     * vectors, all values are valid after {@link #reset()} until they are set to null.
+     */
+    public abstract static class ArrowWritableVector<V extends BaseFixedWidthVector>
+            extends AbstractWritableVector implements AutoCloseable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final transient V vector;
+
+        private HeapIntVector dictionaryIds;
+
+        protected ArrowWritableVector(V vector, int capacity) {
+            super(capacity);
+            this.vector = vector;
+            vector.allocateNew(capacity);
+            markAllValid();
+        }
+
+        /** The Arrow vector holding the values. */
+        public V getFieldVector() {
+            return vector;
+        }
+
+        /**
+         * Transfers the first {@code rowCount} values to the target vector of the same type, the
+         * buffers are reallocated on the next {@link #reset()}. Returns false if the buffers can
+         * not be transferred, then values must be copied.
+         */
+        public boolean transferTo(FieldVector target, int rowCount) {
+            // all null vectors of missing columns are never reset, keep their buffers
+            if (isAllNull
+                    || hasDictionary()
+                    || target.getClass() != vector.getClass()
+                    || target.getAllocator().getRoot() != vector.getAllocator().getRoot()) {
+                return false;
+            }
+
+            vector.setValueCount(rowCount);
+            vector.makeTransferPair(target).transfer();
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (vector.getValueCapacity() < capacity) {
+                // buffers are transferred
+                vector.allocateNew(capacity);
+            }
+            markAllValid();
+            if (dictionaryIds != null) {
+                dictionaryIds.reset();
+            }
+        }
+
+        private void markAllValid() {
+            vector.getValidityBuffer().setOne(0, BitVectorHelper.getValidityBufferSize(capacity));
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return isAllNull || (!noNulls && vector.isNull(i));
+        }
+
+        @Override
+        public void setNullAt(int i) {
+            BitVectorHelper.unsetBit(vector.getValidityBuffer(), i);
+            noNulls = false;
+        }
+
+        @Override
+        public void setNulls(int i, int count) {
+            for (int j = 0; j < count; j++) {
+                BitVectorHelper.unsetBit(vector.getValidityBuffer(), i + j);
+            }
+            if (count > 0) {
+                noNulls = false;
+            }
+        }
+
+        @Override
+        public void fillWithNulls() {
+            noNulls = false;
+            vector.getValidityBuffer().setZero(0, BitVectorHelper.getValidityBufferSize(capacity));
+        }
+
+        @Override
+        public HeapIntVector reserveDictionaryIds(int capacity) {
+            if (dictionaryIds == null || capacity > dictionaryIds.getCapacity()) {
+                dictionaryIds = new HeapIntVector(capacity);
+            } else {
+                dictionaryIds.reset();
+            }
+            return dictionaryIds;
+        }
+
+        @Override
+        public HeapIntVector getDictionaryIds() {
+            return dictionaryIds;
+        }
+
+        /** Dictionary encoded values are decoded into the buffers to keep them transferable. */
+        @Override
+        public boolean supportsDictionary() {
+            return false;
+        }
+
+        @Override
+        protected void reserveInternal(int newCapacity) {
+            while (vector.getValueCapacity() < newCapacity) {
+                vector.reAlloc();
+            }
+            for (int i = capacity; i < newCapacity; i++) {
+                BitVectorHelper.setBit(vector.getValidityBuffer(), i);
+            }
+        }
+
+        @Override
+        public void close() {
+            vector.close();
+        }
+    }
+
+    /** Writable int vector backed by an int or date Arrow vector. */
+    public static class ArrowWritableIntVector extends ArrowWritableVector<BaseFixedWidthVector>
+            implements WritableIntVector {
+
+        private static final long serialVersionUID = 1L;
+
+        public ArrowWritableIntVector(BaseFixedWidthVector vector, int capacity) {
+            super(vector, capacity);
+        }
+
+        @Override
+        public int getInt(int i) {
+            if (dictionary == null) {
+                return vector.getDataBuffer().getInt(i * 4L);
+            } else {
+                return dictionary.decodeToInt(getDictionaryIds().vector[i]);
+            }
+        }
+
+        @Override
+        public void setInt(int rowId, int value) {
+            vector.getDataBuffer().setInt(rowId * 4L, value);
+        }
+
+        @Override
+        public void setIntsFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+            vector.getDataBuffer().setBytes(rowId * 4L, src, srcIndex, count * 4L);
+        }
+
+        @Override
+        public void setInts(int rowId, int count, int value) {
+            for (int i = 0; i < count; i++) {
+                setInt(rowId + i, value);
+            }
+        }
+
+        @Override
+        public void setInts(int rowId, int count, int[] src, int srcIndex) {
+            for (int i = 0; i < count; i++) {
+                setInt(rowId + i, src[srcIndex + i]);
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            setInts(0, capacity, value);
+        }
+
+        @Override
+        public void appendInt(int v) {
+            reserve(elementsAppended + 1);
+            setInt(elementsAppended, v);
+            elementsAppended++;
+        }
+
+        @Override
+        public void appendInts(int count, int v) {
+            reserve(elementsAppended + count);
+            setInts(elementsAppended, count, v);
+            elementsAppended += count;
+        }
+    }
+
+    /** Writable long vector backed by a {@link BigIntVector}. */
+    public static class ArrowWritableLongVector extends ArrowWritableVector<BigIntVector>
+            implements WritableLongVector {
+
+        private static final long serialVersionUID = 1L;
+
+        public ArrowWritableLongVector(BigIntVector vector, int capacity) {
+            super(vector, capacity);
+        }
+
+        @Override
+        public long getLong(int i) {
+            if (dictionary == null) {
+                return vector.getDataBuffer().getLong(i * 8L);
+            } else {
+                return dictionary.decodeToLong(getDictionaryIds().vector[i]);
+            }
+        }
+
+        @Override
+        public void setLong(int rowId, long value) {
+            vector.getDataBuffer().setLong(rowId * 8L, value);
+        }
+
+        @Override
+        public void setLongsFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+            vector.getDataBuffer().setBytes(rowId * 8L, src, srcIndex, count * 8L);
+        }
+
+        @Override
+        public void fill(long value) {
+            for (int i = 0; i < capacity; i++) {
+                setLong(i, value);
+            }
+        }
+    }
+
+    /** Writable float vector backed by a {@link Float4Vector}. */
+    public static class ArrowWritableFloatVector extends ArrowWritableVector<Float4Vector>
+            implements WritableFloatVector {
+
+        private static final long serialVersionUID = 1L;
+
+        public ArrowWritableFloatVector(Float4Vector vector, int capacity) {
+            super(vector, capacity);
+        }
+
+        @Override
+        public float getFloat(int i) {
+            if (dictionary == null) {
+                return vector.getDataBuffer().getFloat(i * 4L);
+            } else {
+                return dictionary.decodeToFloat(getDictionaryIds().vector[i]);
+            }
+        }
+
+        @Override
+        public void setFloat(int rowId, float value) {
+            vector.getDataBuffer().setFloat(rowId * 4L, value);
+        }
+
+        @Override
+        public void setFloatsFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+            vector.getDataBuffer().setBytes(rowId * 4L, src, srcIndex, count * 4L);
+        }
+
+        @Override
+        public void fill(float value) {
+            for (int i = 0; i < capacity; i++) {
+                setFloat(i, value);
+            }
+        }
+    }
+
+    /** Writable double vector backed by a {@link Float8Vector}. */
+    public static class ArrowWritableDoubleVector extends ArrowWritableVector<Float8Vector>
+            implements WritableDoubleVector {
+
+        private static final long serialVersionUID = 1L;
+
+        public ArrowWritableDoubleVector(Float8Vector vector, int capacity) {
+            super(vector, capacity);
+        }
+
+        @Override
+        public double getDouble(int i) {
+            if (dictionary == null) {
+                return vector.getDataBuffer().getDouble(i * 8L);
+            } else {
+                return dictionary.decodeToDouble(getDictionaryIds().vector[i]);
+            }
+        }
+
+        @Override
+        public void setDouble(int rowId, double value) {
+            vector.getDataBuffer().setDouble(rowId * 8L, value);
+        }
+
+        @Override
+        public void setDoublesFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+            vector.getDataBuffer().setBytes(rowId * 8L, src, srcIndex, count * 8L);
+        }
+
+        @Override
+        public void fill(double value) {
+            for (int i = 0; i < capacity; i++) {
+                setDouble(i, value);
+            }
+        }
+    }
+}
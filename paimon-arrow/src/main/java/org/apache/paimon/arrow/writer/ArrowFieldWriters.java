@@ -29,8 +29,10 @@ import org.apache.paimon.data.columnar.ArrayColumnVector;
 import org.apache.paimon.data.columnar.BooleanColumnVector;
 import org.apache.paimon.data.columnar.ByteColumnVector;
 import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector.Bytes;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.Dictionary;
 import org.apache.paimon.data.columnar.DoubleColumnVector;
 import org.apache.paimon.data.columnar.FloatColumnVector;
 import org.apache.paimon.data.columnar.IntColumnVector;
@@ -40,6 +42,8 @@ import org.apache.paimon.data.columnar.RowColumnVector;
 import org.apache.paimon.data.columnar.ShortColumnVector;
 import org.apache.paimon.data.columnar.TimestampColumnVector;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.utils.IntArrayList;
 
@@ -65,6 +69,7 @@ import javax.annotation.Nullable;
 
 import java.math.BigDecimal;
 import java.time.ZoneId;
+import java.util.Arrays;
 
 /** Registry of {@link ArrowFieldWriter}s. */
 public class ArrowFieldWriters {
@@ -72,6 +77,8 @@ public class ArrowFieldWriters {
     /** Writer for CHAR & VARCHAR. */
     public static class StringWriter extends ArrowFieldWriter {
 
+        private final DictionaryValues dictionaryValues = new DictionaryValues();
+
         public StringWriter(FieldVector fieldVector, boolean isNullable) {
             super(fieldVector, isNullable);
         }
@@ -83,13 +90,16 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             VarCharVector varCharVector = (VarCharVector) fieldVector;
+            WritableIntVector dictionaryIds = dictionaryValues.reset(columnVector);
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
-                    varCharVector.setNull(row);
+                    varCharVector.setNull(i);
+                } else if (dictionaryIds != null) {
+                    varCharVector.setSafe(i, dictionaryValues.get(dictionaryIds.getInt(row)));
                 } else {
-                    byte[] value = ((BytesColumnVector) columnVector).getBytes(row).getBytes();
-                    varCharVector.setSafe(i, value);
+                    Bytes value = ((BytesColumnVector) columnVector).getBytes(row);
+                    varCharVector.setSafe(i, value.data, value.offset, value.len);
                 }
             }
         }
@@ -135,7 +145,7 @@ public class ArrowFieldWriters {
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
-                    bitVector.setNull(row);
+                    bitVector.setNull(i);
                 } else {
                     int value = ((BooleanColumnVector) columnVector).getBoolean(row) ? 1 : 0;
                     bitVector.setSafe(i, value);
@@ -152,6 +162,8 @@ public class ArrowFieldWriters {
     /** Writer for BINARY & VARBINARY. */
     public static class BinaryWriter extends ArrowFieldWriter {
 
+        private final DictionaryValues dictionaryValues = new DictionaryValues();
+
         public BinaryWriter(FieldVector fieldVector, boolean isNullable) {
             super(fieldVector, isNullable);
         }
@@ -163,13 +175,16 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             VarBinaryVector varBinaryVector = (VarBinaryVector) fieldVector;
+            WritableIntVector dictionaryIds = dictionaryValues.reset(columnVector);
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
                     varBinaryVector.setNull(i);
+                } else if (dictionaryIds != null) {
+                    varBinaryVector.setSafe(i, dictionaryValues.get(dictionaryIds.getInt(row)));
                 } else {
-                    byte[] value = ((BytesColumnVector) columnVector).getBytes(row).getBytes();
-                    varBinaryVector.setSafe(i, value);
+                    Bytes value = ((BytesColumnVector) columnVector).getBytes(row);
+                    varBinaryVector.setSafe(i, value.data, value.offset, value.len);
                 }
             }
         }
@@ -815,4 +830,48 @@ public class ArrowFieldWriters {
             structVector.setIndexDefined(rowIndex);
         }
     }
+
+    /**
+     * Decoded values of the dictionary of a column vector. A value referenced by many rows is only
+     * decoded once, as long as the vector keeps the same dictionary.
+     */
+    private static class DictionaryValues {
+
+        @Nullable private Dictionary dictionary;
+        private byte[][] values = new byte[0][];
+
+        /**
+         * Switches to the dictionary of the given vector, returns its dictionary ids or null if the
+         * values are not dictionary encoded.
+         */
+        @Nullable
+        private WritableIntVector reset(ColumnVector columnVector) {
+            if (!(columnVector instanceof WritableColumnVector)) {
+                return null;
+            }
+
+            WritableColumnVector vector = (WritableColumnVector) columnVector;
+            Dictionary newDictionary = vector.getDictionary();
+            if (newDictionary == null) {
+                return null;
+            }
+            if (newDictionary != dictionary) {
+                dictionary = newDictionary;
+                Arrays.fill(values, null);
+            }
+            return vector.getDictionaryIds();
+        }
+
+        private byte[] get(int id) {
+            if (id >= values.length) {
+                values = Arrays.copyOf(values, Math.max(id + 1, values.length * 2));
+            }
+            byte[] value = values[id];
+            if (value == null) {
+                value = dictionary.decodeToBinary(id);
+                values[id] = value;
+            }
+            return value;
+        }
+    }
 }
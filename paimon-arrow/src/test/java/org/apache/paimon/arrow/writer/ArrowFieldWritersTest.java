@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writer;
+
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.heap.HeapBooleanVector;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link ArrowFieldWriters}. */
+public class ArrowFieldWritersTest {
+
+    @Test
+    public void testDictionaryEncodedString() {
+        try (RootAllocator allocator = new RootAllocator();
+                VarCharVector vector = new VarCharVector("f", allocator)) {
+            testDictionaryEncoded(
+                    vector, vector::get, new ArrowFieldWriters.StringWriter(vector, true));
+        }
+    }
+
+    @Test
+    public void testDictionaryEncodedBinary() {
+        try (RootAllocator allocator = new RootAllocator();
+                VarBinaryVector vector = new VarBinaryVector("f", allocator)) {
+            testDictionaryEncoded(
+                    vector, vector::get, new ArrowFieldWriters.BinaryWriter(vector, true));
+        }
+    }
+
+    @Test
+    public void testPlainStringWithNulls() {
+        HeapBytesVector columnVector = new HeapBytesVector(5);
+        String[] values = {"a", "bb", null, "ccc", null};
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                columnVector.setNullAt(i);
+            } else {
+                byte[] bytes = bytes(values[i]);
+                columnVector.putByteArray(i, bytes, 0, bytes.length);
+            }
+        }
+
+        try (RootAllocator allocator = new RootAllocator();
+                VarCharVector vector = new VarCharVector("f", allocator)) {
+            ArrowFieldWriter writer = new ArrowFieldWriters.StringWriter(vector, true);
+            writer.write(columnVector, null, 1, 4);
+            assertValues(vector, vector::get, "bb", null, "ccc", null);
+        }
+    }
+
+    @Test
+    public void testBooleanWithNulls() {
+        HeapBooleanVector columnVector = new HeapBooleanVector(5);
+        columnVector.setBoolean(0, true);
+        columnVector.setBoolean(1, false);
+        columnVector.setNullAt(2);
+        columnVector.setBoolean(3, true);
+        columnVector.setNullAt(4);
+
+        try (RootAllocator allocator = new RootAllocator();
+                BitVector vector = new BitVector("f", allocator)) {
+            ArrowFieldWriter writer = new ArrowFieldWriters.BooleanWriter(vector, true);
+            writer.write(columnVector, null, 1, 4);
+            assertThat(vector.getValueCount()).isEqualTo(4);
+            assertThat(vector.isNull(0)).isFalse();
+            assertThat(vector.get(0)).isEqualTo(0);
+            assertThat(vector.isNull(1)).isTrue();
+            assertThat(vector.isNull(2)).isFalse();
+            assertThat(vector.get(2)).isEqualTo(1);
+            assertThat(vector.isNull(3)).isTrue();
+        }
+    }
+
+    private void testDictionaryEncoded(
+            FieldVector vector, IntFunction<byte[]> getter, ArrowFieldWriter writer) {
+        // rows: "a", null, "ccc", "bb", null, "a"
+        HeapBytesVector columnVector = new HeapBytesVector(6);
+        columnVector.setDictionary(new BytesDictionary("a", "bb", "ccc"));
+        HeapIntVector ids = columnVector.reserveDictionaryIds(6);
+        int[] rowIds = {0, -1, 2, 1, -1, 0};
+        for (int i = 0; i < rowIds.length; i++) {
+            if (rowIds[i] < 0) {
+                columnVector.setNullAt(i);
+            } else {
+                ids.setInt(i, rowIds[i]);
+            }
+        }
+
+        // start from a non-zero offset, nulls are set at the positions of the arrow vector
+        writer.write(columnVector, null, 2, 4);
+        assertValues(vector, getter, "ccc", "bb", null, "a");
+
+        // picked rows are mapped through the start offset
+        writer.reset();
+        writer.write(columnVector, new int[] {5, 4, 3, 1, 0}, 1, 3);
+        assertValues(vector, getter, null, "bb", null);
+
+        // decoded values are not reused across dictionaries
+        writer.reset();
+        columnVector.setDictionary(new BytesDictionary("x", "yy", "zzz"));
+        writer.write(columnVector, null, 0, 6);
+        assertValues(vector, getter, "x", null, "zzz", "yy", null, "x");
+    }
+
+    private static void assertValues(
+            FieldVector vector, IntFunction<byte[]> getter, String... expected) {
+        assertThat(vector.getValueCount()).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] == null) {
+                assertThat(vector.isNull(i)).isTrue();
+            } else {
+                assertThat(vector.isNull(i)).isFalse();
+                assertThat(new String(getter.apply(i), StandardCharsets.UTF_8))
+                        .isEqualTo(expected[i]);
+            }
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** A {@link Dictionary} of bytes values. */
+    private static class BytesDictionary implements Dictionary {
+
+        private final String[] values;
+
+        private BytesDictionary(String... values) {
+            this.values = values;
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            return bytes(values[id]);
+        }
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -21,6 +21,8 @@ package org.apache.paimon.data.columnar.writable;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.Dictionary;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 
 /**
@@ -62,6 +64,12 @@ public abstract class AbstractWritableVector implements WritableColumnVector, Se
         return dictionary != null;
     }
 
+    @Nullable
+    @Override
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+
     @Override
     public void setAllNull() {
         isAllNull = true;
@@ -21,6 +21,8 @@ package org.apache.paimon.data.columnar.writable;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.Dictionary;
 
+import javax.annotation.Nullable;
+
 /** Writable {@link ColumnVector}. */
 public interface WritableColumnVector extends ColumnVector {
 
@@ -42,6 +44,10 @@ public interface WritableColumnVector extends ColumnVector {
     /** Check if there's a dictionary. */
     boolean hasDictionary();
 
+    /** Get the dictionary, null if values are not dictionary encoded. */
+    @Nullable
+    Dictionary getDictionary();
+
     /**
      * Reserve a integer column for ids of dictionary. The size of return {@link WritableIntVector}
      * should be equal to or bigger than capacity. DictionaryIds must inconsistent with {@link
@@ -52,6 +58,14 @@ public interface WritableColumnVector extends ColumnVector {
     /** Get reserved dictionary ids. */
     WritableIntVector getDictionaryIds();
 
+    /**
+     * Whether dictionary ids can be kept with {@link #setDictionary}, otherwise readers decode
+     * dictionary encoded values into the vector.
+     */
+    default boolean supportsDictionary() {
+        return true;
+    }
+
     /** Set all values to null. */
     void setAllNull();
 
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.columnar.writable;
+
+import org.apache.paimon.types.DataField;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates the {@link WritableColumnVector}s which format readers decode into, for example vectors
+ * backed by the buffers of another columnar format, so that read batches can be handed over to it
+ * without copying. Vectors implementing {@link AutoCloseable} are closed with the reader.
+ */
+public interface WritableColumnVectorFactory {
+
+    /**
+     * Creates a vector for the top level field, or returns null if the type of the field is not
+     * supported, then a heap vector is used.
+     */
+    @Nullable
+    WritableColumnVector create(DataField field, int capacity);
+}
@@ -24,14 +24,23 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.Equal;
 import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.GreaterOrEqual;
+import org.apache.paimon.predicate.GreaterThan;
+import org.apache.paimon.predicate.In;
+import org.apache.paimon.predicate.IsNotNull;
+import org.apache.paimon.predicate.IsNull;
 import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.LessOrEqual;
+import org.apache.paimon.predicate.LessThan;
 import org.apache.paimon.predicate.Or;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateVisitor;
 import org.apache.paimon.predicate.SortValue;
 import org.apache.paimon.predicate.TopN;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +49,7 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -54,6 +64,18 @@ public class FileIndexPredicate implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileIndexPredicate.class);
 
+    private static final Set<Class<?>> EXACT_FUNCTIONS =
+            new HashSet<>(
+                    Arrays.asList(
+                            Equal.class,
+                            In.class,
+                            IsNull.class,
+                            IsNotNull.class,
+                            LessThan.class,
+                            LessOrEqual.class,
+                            GreaterThan.class,
+                            GreaterOrEqual.class));
+
     private final FileIndexFormat.Reader reader;
 
     @Nullable private Path path;
@@ -113,6 +135,19 @@ public class FileIndexPredicate implements Closeable {
         return result;
     }
 
+    /**
+     * Evaluates the predicate to the exact positions of the matching rows, or null if the indexes
+     * can not tell them exactly. Only bitmap results of comparisons, in and null checks are exact,
+     * the bitmaps of not equal and not in also hold the rows of null values.
+     */
+    @Nullable
+    public RoaringBitmap32 evaluateExact(Predicate predicate) {
+        Map<String, Collection<FileIndexReader>> indexReaders = new HashMap<>();
+        getRequiredNames(predicate)
+                .forEach(name -> indexReaders.put(name, reader.readColumnIndex(name)));
+        return predicate.visit(new ExactPositions(new FileIndexPredicateTest(indexReaders)));
+    }
+
     private Set<String> getRequiredNames(Predicate filePredicate) {
         return filePredicate.visit(
                 new PredicateVisitor<Set<String>>() {
@@ -139,6 +174,50 @@ public class FileIndexPredicate implements Closeable {
         this.reader.close();
     }
 
+    /** Visitor to evaluate the exact positions of the matching rows. */
+    private static class ExactPositions implements PredicateVisitor<RoaringBitmap32> {
+
+        private final FileIndexPredicateTest test;
+
+        private ExactPositions(FileIndexPredicateTest test) {
+            this.test = test;
+        }
+
+        @Override
+        @Nullable
+        public RoaringBitmap32 visit(LeafPredicate predicate) {
+            if (!EXACT_FUNCTIONS.contains(predicate.function().getClass())
+                    || predicate.literals().contains(null)) {
+                return null;
+            }
+            FileIndexResult result = test.visit(predicate);
+            if (result instanceof BitmapIndexResult) {
+                return ((BitmapIndexResult) result).get();
+            }
+            return result.remain() ? null : new RoaringBitmap32();
+        }
+
+        @Override
+        @Nullable
+        public RoaringBitmap32 visit(CompoundPredicate predicate) {
+            RoaringBitmap32 result = null;
+            for (Predicate child : predicate.children()) {
+                RoaringBitmap32 positions = child.visit(this);
+                if (positions == null) {
+                    return null;
+                }
+                if (result == null) {
+                    result = positions;
+                } else if (predicate.function() instanceof Or) {
+                    result = RoaringBitmap32.or(result, positions);
+                } else {
+                    result = RoaringBitmap32.and(result, positions);
+                }
+            }
+            return result;
+        }
+    }
+
     /** Predicate test worker. */
     private static class FileIndexPredicateTest implements PredicateVisitor<FileIndexResult> {
 
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * An inverted index from the n-grams of string values to the positions of rows containing them,
+ * used to accelerate {@code StartsWith}, {@code EndsWith}, {@code Contains} (that is {@code LIKE
+ * 'x%'}, {@code LIKE '%x'} and {@code LIKE '%x%'}) and {@code Equal} predicates.
+ *
+ * <p>The n-grams are taken over the UTF-8 bytes of a value, enclosed by a begin and an end marker
+ * which never appear in UTF-8, so that prefixes and suffixes can be looked up as well. A pattern
+ * matches at most the rows holding all of its n-grams, the returned positions are candidates and
+ * rows must still be filtered by the predicate.
+ */
+public class NGramFileIndex implements FileIndexer {
+
+    public static final int VERSION_1 = 1;
+
+    public static final String GRAM_SIZE = "gram-size";
+    public static final int DEFAULT_GRAM_SIZE = 3;
+
+    private static final int MAX_GRAM_SIZE = 7;
+    private static final byte BEGIN = (byte) 0xFF;
+    private static final byte END = (byte) 0xFE;
+
+    private final int gramSize;
+
+    public NGramFileIndex(DataType dataType, Options options) {
+        if (!dataType.is(DataTypeFamily.CHARACTER_STRING)) {
+            throw new UnsupportedOperationException(
+                    "NGram file index only supports character string types, but is " + dataType);
+        }
+        this.gramSize = options.getInteger(GRAM_SIZE, DEFAULT_GRAM_SIZE);
+        checkArgument(
+                gramSize > 0 && gramSize <= MAX_GRAM_SIZE,
+                "%s of ngram file index should be in [1, %s], but is %s.",
+                GRAM_SIZE,
+                MAX_GRAM_SIZE,
+                gramSize);
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(gramSize);
+    }
+
+    @Override
+    public FileIndexReader createReader(
+            SeekableInputStream seekableInputStream, int start, int length) {
+        try {
+            return new Reader(seekableInputStream, start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes {@code length} bytes of a gram into a long, the length is kept in the highest byte so
+     * that grams of different lengths never collide.
+     */
+    private static long gram(byte[] bytes, int offset, int length) {
+        long gram = length;
+        for (int i = 0; i < length; i++) {
+            gram = (gram << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return gram;
+    }
+
+    private static byte[] enclose(byte[] bytes, boolean begin, boolean end) {
+        byte[] enclosed = new byte[bytes.length + (begin ? 1 : 0) + (end ? 1 : 0)];
+        if (begin) {
+            enclosed[0] = BEGIN;
+        }
+        System.arraycopy(bytes, 0, enclosed, begin ? 1 : 0, bytes.length);
+        if (end) {
+            enclosed[enclosed.length - 1] = END;
+        }
+        return enclosed;
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final int gramSize;
+        private final Map<Long, RoaringBitmap32> postings = new TreeMap<>();
+        private int rowNumber;
+
+        private Writer(int gramSize) {
+            this.gramSize = gramSize;
+        }
+
+        @Override
+        public void write(Object key) {
+            int row = rowNumber++;
+            if (key == null) {
+                return;
+            }
+
+            byte[] value = enclose(((BinaryString) key).toBytes(), true, true);
+            if (value.length < gramSize) {
+                // a value shorter than a gram is indexed as a whole
+                add(gram(value, 0, value.length), row);
+                return;
+            }
+            for (int i = 0; i + gramSize <= value.length; i++) {
+                add(gram(value, i, gramSize), row);
+            }
+        }
+
+        private void add(long gram, int row) {
+            postings.computeIfAbsent(gram, k -> new RoaringBitmap32()).add(row);
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            try {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                DataOutputStream dos = new DataOutputStream(output);
+
+                byte[][] bitmaps = new byte[postings.size()][];
+                int i = 0;
+                for (RoaringBitmap32 bitmap : postings.values()) {
+                    bitmaps[i++] = bitmap.serialize();
+                }
+
+                dos.writeByte(VERSION_1);
+                dos.writeInt(gramSize);
+                dos.writeInt(postings.size());
+                for (long gram : postings.keySet()) {
+                    dos.writeLong(gram);
+                }
+                for (byte[] bitmap : bitmaps) {
+                    dos.writeInt(bitmap.length);
+                }
+                for (byte[] bitmap : bitmaps) {
+                    dos.write(bitmap);
+                }
+                return output.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private static final int HEADER_SIZE = 9;
+
+        private final SeekableInputStream inputStream;
+        private final int gramSize;
+        private final long[] grams;
+        private final int[] lengths;
+        private final long[] offsets;
+
+        private Reader(SeekableInputStream inputStream, int start) throws IOException {
+            this.inputStream = inputStream;
+
+            inputStream.seek(start);
+            byte[] headerBytes = new byte[HEADER_SIZE];
+            IOUtils.readFully(inputStream, headerBytes);
+            ByteBuffer header = ByteBuffer.wrap(headerBytes);
+            int version = header.get();
+            if (version != VERSION_1) {
+                throw new IOException("Unsupported ngram file index version " + version);
+            }
+            this.gramSize = header.getInt();
+            int gramCount = header.getInt();
+
+            byte[] dictionaryBytes = new byte[gramCount * (Long.BYTES + Integer.BYTES)];
+            IOUtils.readFully(inputStream, dictionaryBytes);
+            ByteBuffer dictionary = ByteBuffer.wrap(dictionaryBytes);
+            this.grams = new long[gramCount];
+            for (int i = 0; i < gramCount; i++) {
+                grams[i] = dictionary.getLong();
+            }
+            this.lengths = new int[gramCount];
+            this.offsets = new long[gramCount];
+            long offset = start + HEADER_SIZE + dictionaryBytes.length;
+            for (int i = 0; i < gramCount; i++) {
+                lengths[i] = dictionary.getInt();
+                offsets[i] = offset;
+                offset += lengths[i];
+            }
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            return candidates(literal, true, false);
+        }
+
+        @Override
+        public FileIndexResult visitEndsWith(FieldRef fieldRef, Object literal) {
+            return candidates(literal, false, true);
+        }
+
+        @Override
+        public FileIndexResult visitContains(FieldRef fieldRef, Object literal) {
+            return candidates(literal, false, false);
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            // positions of equal values are not exact, only use them to skip the file
+            FileIndexResult result = candidates(literal, true, true);
+            return result.remain() ? REMAIN : SKIP;
+        }
+
+        private FileIndexResult candidates(Object literal, boolean begin, boolean end) {
+            if (literal == null) {
+                return REMAIN;
+            }
+
+            byte[] pattern = enclose(((BinaryString) literal).toBytes(), begin, end);
+            int[] indexes;
+            if (pattern.length >= gramSize) {
+                indexes = new int[pattern.length - gramSize + 1];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = Arrays.binarySearch(grams, gram(pattern, i, gramSize));
+                }
+            } else if (begin && end) {
+                indexes = new int[] {Arrays.binarySearch(grams, gram(pattern, 0, pattern.length))};
+            } else {
+                // too short to be looked up
+                return REMAIN;
+            }
+
+            for (int index : indexes) {
+                if (index < 0) {
+                    return SKIP;
+                }
+            }
+            return new BitmapIndexResult(() -> intersect(indexes));
+        }
+
+        private RoaringBitmap32 intersect(int[] indexes) {
+            // start from the smallest postings, the intersection shrinks fastest
+            int[] sorted =
+                    Arrays.stream(indexes)
+                            .distinct()
+                            .boxed()
+                            .sorted((a, b) -> Integer.compare(lengths[a], lengths[b]))
+                            .mapToInt(Integer::intValue)
+                            .toArray();
+            RoaringBitmap32 result = null;
+            for (int index : sorted) {
+                RoaringBitmap32 bitmap = readBitmap(index);
+                result = result == null ? bitmap : RoaringBitmap32.and(result, bitmap);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap32 readBitmap(int index) {
+            try {
+                byte[] bytes = new byte[lengths[index]];
+                inputStream.seek(offsets[index]);
+                IOUtils.readFully(inputStream, bytes);
+                RoaringBitmap32 bitmap = new RoaringBitmap32();
+                bitmap.deserialize(ByteBuffer.wrap(bytes));
+                return bitmap;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
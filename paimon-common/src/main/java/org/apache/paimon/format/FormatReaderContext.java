@@ -18,6 +18,7 @@
 
 package org.apache.paimon.format;
 
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.RecordReader;
@@ -32,6 +33,7 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     private final Path file;
     private final long fileSize;
     @Nullable private final RoaringBitmap32 selection;
+    @Nullable private final WritableColumnVectorFactory vectorFactory;
 
     public FormatReaderContext(FileIO fileIO, Path file, long fileSize) {
         this(fileIO, file, fileSize, null);
@@ -39,10 +41,20 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
 
     public FormatReaderContext(
             FileIO fileIO, Path file, long fileSize, @Nullable RoaringBitmap32 selection) {
+        this(fileIO, file, fileSize, selection, null);
+    }
+
+    public FormatReaderContext(
+            FileIO fileIO,
+            Path file,
+            long fileSize,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable WritableColumnVectorFactory vectorFactory) {
         this.fileIO = fileIO;
         this.file = file;
         this.fileSize = fileSize;
         this.selection = selection;
+        this.vectorFactory = vectorFactory;
     }
 
     @Override
@@ -65,4 +77,10 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     public RoaringBitmap32 selection() {
         return selection;
     }
+
+    @Nullable
+    @Override
+    public WritableColumnVectorFactory vectorFactory() {
+        return vectorFactory;
+    }
 }
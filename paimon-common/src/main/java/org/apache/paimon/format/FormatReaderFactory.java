@@ -19,6 +19,7 @@
 package org.apache.paimon.format;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.FileRecordReader;
@@ -45,5 +46,11 @@ public interface FormatReaderFactory {
 
         @Nullable
         RoaringBitmap32 selection();
+
+        /** The factory of the vectors which vectorized readers decode into. */
+        @Nullable
+        default WritableColumnVectorFactory vectorFactory() {
+            return null;
+        }
     }
 }
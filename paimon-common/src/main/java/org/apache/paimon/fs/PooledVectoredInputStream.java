@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link SeekableInputStream} supporting vectored reads for object stores. Positioned reads on
+ * one object store stream are serialized, so ranges are read concurrently through additional
+ * streams of the same file, which are reused and closed together with this stream. A stream still
+ * in use when this stream is closed is closed once its read finishes.
+ *
+ * <p>Sequential reads and seeks go to the stream given at creation.
+ */
+public class PooledVectoredInputStream extends SeekableInputStream implements VectoredReadable {
+
+    private final SeekableInputStream in;
+    private final StreamOpener opener;
+    private final String name;
+    private final Queue<SeekableInputStream> idleStreams = new ConcurrentLinkedQueue<>();
+    private final Object lock = new Object();
+
+    private boolean closed;
+
+    /**
+     * Creates a stream.
+     *
+     * @param in the stream for sequential reads
+     * @param opener opens additional streams of the same file for positioned reads
+     * @param name the name of the file, used in error messages
+     */
+    public PooledVectoredInputStream(SeekableInputStream in, StreamOpener opener, String name) {
+        this.in = in;
+        this.opener = opener;
+        this.name = name;
+    }
+
+    @Override
+    public void seek(long desired) throws IOException {
+        in.seek(desired);
+    }
+
+    @Override
+    public long getPos() throws IOException {
+        return in.getPos();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return in.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return in.read(b, off, len);
+    }
+
+    @Override
+    public int pread(long position, byte[] bytes, int off, int len) throws IOException {
+        SeekableInputStream stream = borrowStream();
+        try {
+            stream.seek(position);
+            return stream.read(bytes, off, len);
+        } finally {
+            returnStream(stream);
+        }
+    }
+
+    @Override
+    public void preadFully(long position, byte[] bytes, int off, int len) throws IOException {
+        SeekableInputStream stream = borrowStream();
+        try {
+            stream.seek(position);
+            int readBytes = 0;
+            while (readBytes < len) {
+                int read = stream.read(bytes, off + readBytes, len - readBytes);
+                if (read < 0) {
+                    throw new EOFException(
+                            String.format(
+                                    "Reached the end of %s after %d of %d bytes at position %d.",
+                                    name, readBytes, len, position));
+                }
+                readBytes += read;
+            }
+        } finally {
+            returnStream(stream);
+        }
+    }
+
+    private SeekableInputStream borrowStream() throws IOException {
+        SeekableInputStream stream = idleStreams.poll();
+        if (stream != null) {
+            return stream;
+        }
+        synchronized (lock) {
+            if (closed) {
+                throw new IOException("Stream of " + name + " is already closed.");
+            }
+            return opener.open();
+        }
+    }
+
+    private void returnStream(SeekableInputStream stream) throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                stream.close();
+            } else {
+                idleStreams.add(stream);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+        synchronized (lock) {
+            closed = true;
+            SeekableInputStream stream;
+            while ((stream = idleStreams.poll()) != null) {
+                stream.close();
+            }
+        }
+    }
+
+    /** Opens a new stream of the file. */
+    @FunctionalInterface
+    public interface StreamOpener {
+        SeekableInputStream open() throws IOException;
+    }
+}
@@ -48,6 +48,35 @@ public class VectoredReadUtils {
 
     public static void readVectored(VectoredReadable readable, List<? extends FileRange> ranges)
             throws IOException {
+        readVectored(readable, ranges, true);
+    }
+
+    /**
+     * Reads the ranges like {@link #readVectored(VectoredReadable, List)}, but returns immediately
+     * and only reads through {@link VectoredReadable#preadFully}, so the position of the stream is
+     * not changed and the caller can keep using it.
+     */
+    public static void readVectoredAsync(
+            VectoredReadable readable, List<? extends FileRange> ranges) {
+        if (ranges.isEmpty()) {
+            return;
+        }
+
+        IO_THREAD_POOL.execute(
+                () -> {
+                    try {
+                        readVectored(readable, ranges, false);
+                    } catch (Throwable t) {
+                        ranges.forEach(range -> range.getData().completeExceptionally(t));
+                    }
+                });
+    }
+
+    private static void readVectored(
+            VectoredReadable readable,
+            List<? extends FileRange> ranges,
+            boolean allowSequentialRead)
+            throws IOException {
         if (ranges.isEmpty()) {
             return;
         }
@@ -58,7 +87,9 @@ public class VectoredReadUtils {
 
         int parallelism = readable.parallelismForVectorReads();
 
-        if (combinedRanges.size() == 1 && readable instanceof SeekableInputStream) {
+        if (allowSequentialRead
+                && combinedRanges.size() == 1
+                && readable instanceof SeekableInputStream) {
             fallbackToReadSequence((SeekableInputStream) readable, sortRanges);
             return;
         }
@@ -76,4 +76,13 @@ public interface VectoredReadable {
     default void readVectored(List<? extends FileRange> ranges) throws IOException {
         VectoredReadUtils.readVectored(this, ranges);
     }
+
+    /**
+     * Read fully a list of file ranges asynchronously like {@link #readVectored}, but return
+     * immediately without changing the current offset of the stream. Failures are reported through
+     * the data futures of the ranges.
+     */
+    default void readVectoredAsync(List<? extends FileRange> ranges) {
+        VectoredReadUtils.readVectoredAsync(this, ranges);
+    }
 }
@@ -34,6 +34,8 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import static org.apache.paimon.lookup.sort.SortLookupStoreUtils.crc32c;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -45,6 +47,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
     private final String filePath;
     private final long fileSize;
 
+    private final BlockHandle indexBlockHandle;
     private final BlockIterator indexBlockIterator;
     @Nullable private FileBasedBloomFilter bloomFilter;
     private final BlockCache blockCache;
@@ -64,7 +67,8 @@ public class SortLookupStoreReader implements LookupStoreReader {
         this.fileInput = PageFileInput.create(file, blockSize, null, fileSize, null);
         this.blockCache = new BlockCache(fileInput.file(), cacheManager);
         Footer footer = readFooter();
-        this.indexBlockIterator = readBlock(footer.getIndexBlockHandle(), true).iterator();
+        this.indexBlockHandle = footer.getIndexBlockHandle();
+        this.indexBlockIterator = readBlock(indexBlockHandle, true).iterator();
         BloomFilterHandle handle = footer.getBloomFilterHandle();
         if (handle != null) {
             this.bloomFilter =
@@ -106,6 +110,34 @@ public class SortLookupStoreReader implements LookupStoreReader {
         return null;
     }
 
+    /** Returns an iterator over all entries of this file in key order. */
+    public Iterator<BlockEntry> iterator() {
+        BlockIterator indexIterator = readBlock(indexBlockHandle, true).iterator();
+        return new Iterator<BlockEntry>() {
+
+            private BlockIterator current;
+
+            @Override
+            public boolean hasNext() {
+                while ((current == null || !current.hasNext()) && indexIterator.hasNext()) {
+                    MemorySlice blockHandle = indexIterator.next().getValue();
+                    current =
+                            readBlock(BlockHandle.readBlockHandle(blockHandle.toInput()), false)
+                                    .iterator();
+                }
+                return current != null && current.hasNext();
+            }
+
+            @Override
+            public BlockEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
     private BlockIterator getNextBlock() {
         // index block handle, point to the key, value position.
         MemorySlice blockHandle = indexBlockIterator.next().getValue();
@@ -0,0 +1,581 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.types.DataTypeRoot;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Evaluates a {@link Predicate} on the rows of a {@link VectorizedColumnBatch}, either row by row
+ * with {@link #test} or a whole batch at once with {@link #filter}.
+ *
+ * <p>Comparisons, {@code IN} and {@code NOT IN} on int, long and double columns and null checks on
+ * all columns are evaluated by loops over the column vectors, without boxing values or creating
+ * rows. Leaves on character string and binary string columns whose values are dictionary encoded
+ * are evaluated once per dictionary id instead of once per row, and the results are cached as long
+ * as the column keeps the same dictionary. Other leaves are evaluated on a {@link ColumnarRow}.
+ */
+public class ColumnarPredicateEvaluator {
+
+    private final ColumnarRow row;
+    private final RowEvaluator evaluator;
+
+    public ColumnarPredicateEvaluator(Predicate predicate, VectorizedColumnBatch batch) {
+        this.row = new ColumnarRow(batch);
+        this.evaluator = predicate.visit(new Compiler(batch));
+    }
+
+    /** Returns true if the row at {@code rowId} of the batch matches the predicate. */
+    public boolean test(int rowId) {
+        return evaluator.test(rowId);
+    }
+
+    /**
+     * Filters the rows of the batch. The first {@code size} elements of {@code rowIds} are the ids
+     * of candidate rows in ascending order, ids of the matching rows are moved to the front in the
+     * same order.
+     *
+     * @return the number of matching rows
+     */
+    public int filter(int[] rowIds, int size) {
+        return evaluator.filter(rowIds, size);
+    }
+
+    /** Evaluator of rows in the batch. */
+    private interface RowEvaluator {
+
+        boolean test(int rowId);
+
+        default int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (test(rowId)) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /** Compiles a {@link Predicate} into {@link RowEvaluator}s. */
+    private class Compiler implements PredicateVisitor<RowEvaluator> {
+
+        private final VectorizedColumnBatch batch;
+
+        private Compiler(VectorizedColumnBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public RowEvaluator visit(LeafPredicate predicate) {
+            ColumnVector vector = batch.columns[predicate.index()];
+            LeafFunction function = predicate.function();
+            if (function instanceof IsNull || function instanceof IsNotNull) {
+                return new NullEvaluator(vector, function instanceof IsNull);
+            }
+
+            boolean isString = predicate.type().is(DataTypeFamily.CHARACTER_STRING);
+            if (vector instanceof WritableColumnVector
+                    && (isString || predicate.type().is(DataTypeFamily.BINARY_STRING))) {
+                return new DictionaryLeafEvaluator(
+                        predicate, (WritableColumnVector) vector, isString);
+            }
+
+            RowEvaluator evaluator = createPrimitiveEvaluator(predicate, vector);
+            if (evaluator != null) {
+                return evaluator;
+            }
+
+            return rowId -> {
+                row.setRowId(rowId);
+                return predicate.test(row);
+            };
+        }
+
+        @Override
+        public RowEvaluator visit(CompoundPredicate predicate) {
+            List<Predicate> children = predicate.children();
+            RowEvaluator[] evaluators = new RowEvaluator[children.size()];
+            for (int i = 0; i < evaluators.length; i++) {
+                evaluators[i] = children.get(i).visit(this);
+            }
+
+            if (predicate.function() instanceof And) {
+                return new AndEvaluator(evaluators);
+            } else if (predicate.function() instanceof Or) {
+                return new OrEvaluator(evaluators);
+            } else {
+                return rowId -> {
+                    row.setRowId(rowId);
+                    return predicate.test(row);
+                };
+            }
+        }
+    }
+
+    @Nullable
+    private static RowEvaluator createPrimitiveEvaluator(
+            LeafPredicate predicate, ColumnVector vector) {
+        DataTypeRoot root = predicate.type().getTypeRoot();
+        boolean isInt =
+                vector instanceof IntColumnVector
+                        && (root == DataTypeRoot.INTEGER
+                                || root == DataTypeRoot.DATE
+                                || root == DataTypeRoot.TIME_WITHOUT_TIME_ZONE);
+        boolean isLong = vector instanceof LongColumnVector && root == DataTypeRoot.BIGINT;
+        boolean isDouble = vector instanceof DoubleColumnVector && root == DataTypeRoot.DOUBLE;
+        if (!isInt && !isLong && !isDouble) {
+            return null;
+        }
+
+        LeafFunction function = predicate.function();
+        List<Object> literals = predicate.literals();
+        CompareOp op = CompareOp.of(function);
+        if (op != null) {
+            Object literal = literals.get(0);
+            if (literal == null) {
+                return rowId -> false;
+            } else if (isInt && literal instanceof Integer) {
+                return new IntCompareEvaluator((IntColumnVector) vector, op, (Integer) literal);
+            } else if (isLong && literal instanceof Long) {
+                return new LongCompareEvaluator((LongColumnVector) vector, op, (Long) literal);
+            } else if (isDouble && literal instanceof Double) {
+                return new DoubleCompareEvaluator(
+                        (DoubleColumnVector) vector, op, (Double) literal);
+            }
+        } else if (function instanceof In || function instanceof NotIn) {
+            boolean negated = function instanceof NotIn;
+            if (negated && literals.contains(null)) {
+                return rowId -> false;
+            }
+
+            List<Object> values = new ArrayList<>(literals.size());
+            for (Object literal : literals) {
+                if (literal != null) {
+                    values.add(literal);
+                }
+            }
+            if (isInt && values.stream().allMatch(v -> v instanceof Integer)) {
+                int[] set = values.stream().mapToInt(v -> (Integer) v).sorted().toArray();
+                return new IntInEvaluator((IntColumnVector) vector, set, negated);
+            } else if (isLong && values.stream().allMatch(v -> v instanceof Long)) {
+                long[] set = values.stream().mapToLong(v -> (Long) v).sorted().toArray();
+                return new LongInEvaluator((LongColumnVector) vector, set, negated);
+            }
+        }
+        return null;
+    }
+
+    /** Comparison of a value with a literal. */
+    private enum CompareOp {
+        EQUAL,
+        NOT_EQUAL,
+        LESS_THAN,
+        LESS_OR_EQUAL,
+        GREATER_THAN,
+        GREATER_OR_EQUAL;
+
+        /** Returns true if the result of {@code compare(value, literal)} matches this op. */
+        private boolean matches(int compared) {
+            switch (this) {
+                case EQUAL:
+                    return compared == 0;
+                case NOT_EQUAL:
+                    return compared != 0;
+                case LESS_THAN:
+                    return compared < 0;
+                case LESS_OR_EQUAL:
+                    return compared <= 0;
+                case GREATER_THAN:
+                    return compared > 0;
+                default:
+                    return compared >= 0;
+            }
+        }
+
+        @Nullable
+        private static CompareOp of(LeafFunction function) {
+            if (function instanceof Equal) {
+                return EQUAL;
+            } else if (function instanceof NotEqual) {
+                return NOT_EQUAL;
+            } else if (function instanceof LessThan) {
+                return LESS_THAN;
+            } else if (function instanceof LessOrEqual) {
+                return LESS_OR_EQUAL;
+            } else if (function instanceof GreaterThan) {
+                return GREATER_THAN;
+            } else if (function instanceof GreaterOrEqual) {
+                return GREATER_OR_EQUAL;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /** Evaluator of {@link And}, children only filter rows selected by previous children. */
+    private static class AndEvaluator implements RowEvaluator {
+
+        private final RowEvaluator[] children;
+
+        private AndEvaluator(RowEvaluator[] children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            for (RowEvaluator child : children) {
+                if (!child.test(rowId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            for (int i = 0; i < children.length && size > 0; i++) {
+                size = children[i].filter(rowIds, size);
+            }
+            return size;
+        }
+    }
+
+    /** Evaluator of {@link Or}, children only filter rows not selected by previous children. */
+    private static class OrEvaluator implements RowEvaluator {
+
+        private final RowEvaluator[] children;
+
+        private int[] remaining = new int[0];
+        private int[] selected = new int[0];
+
+        private OrEvaluator(RowEvaluator[] children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            for (RowEvaluator child : children) {
+                if (child.test(rowId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            if (remaining.length < size) {
+                remaining = new int[size];
+                selected = new int[size];
+            }
+
+            System.arraycopy(rowIds, 0, remaining, 0, size);
+            int remainingSize = size;
+            for (int i = 0; i < children.length && remainingSize > 0; i++) {
+                System.arraycopy(remaining, 0, selected, 0, remainingSize);
+                int selectedSize = children[i].filter(selected, remainingSize);
+                remainingSize = removeSorted(remaining, remainingSize, selected, selectedSize);
+            }
+            return removeSorted(rowIds, size, remaining, remainingSize);
+        }
+
+        /** Removes the ids in {@code toRemove} from {@code ids}, both are sorted. */
+        private static int removeSorted(int[] ids, int size, int[] toRemove, int removeSize) {
+            int j = 0;
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (j < removeSize && ids[i] == toRemove[j]) {
+                    j++;
+                } else {
+                    ids[kept++] = ids[i];
+                }
+            }
+            return kept;
+        }
+    }
+
+    /** Evaluator of {@link IsNull} and {@link IsNotNull}. */
+    private static class NullEvaluator implements RowEvaluator {
+
+        private final ColumnVector vector;
+        private final boolean isNull;
+
+        private NullEvaluator(ColumnVector vector, boolean isNull) {
+            this.vector = vector;
+            this.isNull = isNull;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return vector.isNullAt(rowId) == isNull;
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (vector.isNullAt(rowId) == isNull) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /** Evaluator of comparisons on an int column. */
+    private static class IntCompareEvaluator implements RowEvaluator {
+
+        private final IntColumnVector vector;
+        private final CompareOp op;
+        private final int literal;
+
+        private IntCompareEvaluator(IntColumnVector vector, CompareOp op, int literal) {
+            this.vector = vector;
+            this.op = op;
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return !vector.isNullAt(rowId)
+                    && op.matches(Integer.compare(vector.getInt(rowId), literal));
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (!vector.isNullAt(rowId)
+                        && op.matches(Integer.compare(vector.getInt(rowId), literal))) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /** Evaluator of comparisons on a long column. */
+    private static class LongCompareEvaluator implements RowEvaluator {
+
+        private final LongColumnVector vector;
+        private final CompareOp op;
+        private final long literal;
+
+        private LongCompareEvaluator(LongColumnVector vector, CompareOp op, long literal) {
+            this.vector = vector;
+            this.op = op;
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return !vector.isNullAt(rowId)
+                    && op.matches(Long.compare(vector.getLong(rowId), literal));
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (!vector.isNullAt(rowId)
+                        && op.matches(Long.compare(vector.getLong(rowId), literal))) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Evaluator of comparisons on a double column, values are compared by {@link Double#compare}
+     * like {@link CompareUtils#compareLiteral}.
+     */
+    private static class DoubleCompareEvaluator implements RowEvaluator {
+
+        private final DoubleColumnVector vector;
+        private final CompareOp op;
+        private final double literal;
+
+        private DoubleCompareEvaluator(DoubleColumnVector vector, CompareOp op, double literal) {
+            this.vector = vector;
+            this.op = op;
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return !vector.isNullAt(rowId)
+                    && op.matches(Double.compare(vector.getDouble(rowId), literal));
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (!vector.isNullAt(rowId)
+                        && op.matches(Double.compare(vector.getDouble(rowId), literal))) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /** Evaluator of {@link In} and {@link NotIn} on an int column. */
+    private static class IntInEvaluator implements RowEvaluator {
+
+        private final IntColumnVector vector;
+        private final int[] sortedValues;
+        private final boolean negated;
+
+        private IntInEvaluator(IntColumnVector vector, int[] sortedValues, boolean negated) {
+            this.vector = vector;
+            this.sortedValues = sortedValues;
+            this.negated = negated;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return !vector.isNullAt(rowId)
+                    && (Arrays.binarySearch(sortedValues, vector.getInt(rowId)) >= 0) != negated;
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (!vector.isNullAt(rowId)
+                        && (Arrays.binarySearch(sortedValues, vector.getInt(rowId)) >= 0)
+                                != negated) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /** Evaluator of {@link In} and {@link NotIn} on a long column. */
+    private static class LongInEvaluator implements RowEvaluator {
+
+        private final LongColumnVector vector;
+        private final long[] sortedValues;
+        private final boolean negated;
+
+        private LongInEvaluator(LongColumnVector vector, long[] sortedValues, boolean negated) {
+            this.vector = vector;
+            this.sortedValues = sortedValues;
+            this.negated = negated;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            return !vector.isNullAt(rowId)
+                    && (Arrays.binarySearch(sortedValues, vector.getLong(rowId)) >= 0) != negated;
+        }
+
+        @Override
+        public int filter(int[] rowIds, int size) {
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = rowIds[i];
+                if (!vector.isNullAt(rowId)
+                        && (Arrays.binarySearch(sortedValues, vector.getLong(rowId)) >= 0)
+                                != negated) {
+                    rowIds[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Evaluates a leaf on a string column, the result of a non-null value is computed once per
+     * dictionary id if the values of the current batch are dictionary encoded.
+     */
+    private class DictionaryLeafEvaluator implements RowEvaluator {
+
+        private static final byte UNKNOWN = 0;
+        private static final byte TRUE = 1;
+        private static final byte FALSE = 2;
+
+        private final LeafPredicate predicate;
+        private final WritableColumnVector vector;
+        private final boolean isString;
+
+        private Dictionary cachedDictionary;
+        private byte[] results = new byte[0];
+
+        private DictionaryLeafEvaluator(
+                LeafPredicate predicate, WritableColumnVector vector, boolean isString) {
+            this.predicate = predicate;
+            this.vector = vector;
+            this.isString = isString;
+        }
+
+        @Override
+        public boolean test(int rowId) {
+            Dictionary dictionary = vector.getDictionary();
+            if (dictionary == null || vector.isNullAt(rowId)) {
+                row.setRowId(rowId);
+                return predicate.test(row);
+            }
+
+            if (dictionary != cachedDictionary) {
+                cachedDictionary = dictionary;
+                Arrays.fill(results, UNKNOWN);
+            }
+
+            int id = vector.getDictionaryIds().getInt(rowId);
+            if (id >= results.length) {
+                results = Arrays.copyOf(results, Math.max(id + 1, results.length * 2));
+            }
+            if (results[id] == UNKNOWN) {
+                results[id] = evaluate(dictionary.decodeToBinary(id)) ? TRUE : FALSE;
+            }
+            return results[id] == TRUE;
+        }
+
+        private boolean evaluate(byte[] bytes) {
+            Object value = isString ? BinaryString.fromBytes(bytes) : bytes;
+            return predicate.function().test(predicate.type(), value, predicate.literals());
+        }
+    }
+}
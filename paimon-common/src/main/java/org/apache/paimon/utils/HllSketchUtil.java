@@ -19,6 +19,7 @@
 package org.apache.paimon.utils;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryString;
 
 import org.apache.datasketches.hll.HllSketch;
 import org.apache.datasketches.hll.TgtHllType;
@@ -43,4 +44,29 @@ public class HllSketchUtil {
         }
         return hllSketch.toCompactByteArray();
     }
+
+    /** Estimates the count of distinct values with a {@link HllSketch}. */
+    public static class DistinctCounter {
+
+        private final HllSketch sketch = new HllSketch();
+
+        /** Adds a non-null value of an internal data structure. */
+        public void add(Object value) {
+            if (value instanceof BinaryString) {
+                sketch.update(((BinaryString) value).toBytes());
+            } else if (value instanceof byte[]) {
+                sketch.update((byte[]) value);
+            } else if (value instanceof Float || value instanceof Double) {
+                sketch.update(((Number) value).doubleValue());
+            } else if (value instanceof Number) {
+                sketch.update(((Number) value).longValue());
+            } else {
+                sketch.update(value.toString());
+            }
+        }
+
+        public long estimate() {
+            return Math.round(sketch.getEstimate());
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link NGramFileIndex}. */
+public class NGramFileIndexTest {
+
+    private static final FieldRef FIELD = new FieldRef(0, "f0", DataTypes.STRING());
+
+    @Test
+    public void testSubstringPredicates() {
+        Random random = new Random();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(i % 13 == 0 ? null : randomString(random));
+        }
+        values.add("");
+        values.add("ab");
+        values.add("日本語のテキスト");
+
+        FileIndexReader reader = createReader(new Options(), values);
+        for (int i = 0; i < 500; i++) {
+            String pattern = randomString(random).substring(0, 1 + random.nextInt(5));
+            assertCandidates(
+                    reader.visitContains(FIELD, BinaryString.fromString(pattern)),
+                    values,
+                    (value, p) -> value.contains(p),
+                    pattern);
+            assertCandidates(
+                    reader.visitStartsWith(FIELD, BinaryString.fromString(pattern)),
+                    values,
+                    String::startsWith,
+                    pattern);
+            assertCandidates(
+                    reader.visitEndsWith(FIELD, BinaryString.fromString(pattern)),
+                    values,
+                    String::endsWith,
+                    pattern);
+        }
+
+        assertCandidates(
+                reader.visitContains(FIELD, BinaryString.fromString("テキ")),
+                values,
+                (value, p) -> value.contains(p),
+                "テキ");
+        assertThat(reader.visitEqual(FIELD, BinaryString.fromString("ab")).remain()).isTrue();
+        assertThat(reader.visitEqual(FIELD, BinaryString.fromString("gh")).remain()).isFalse();
+        assertThat(reader.visitEqual(FIELD, BinaryString.fromString("xyzxyz")).remain()).isFalse();
+    }
+
+    @Test
+    public void testSkipAndSelect() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(i % 10 == 0 ? "error: disk full on node-" + i : "info: ok " + i);
+        }
+
+        FileIndexReader reader = createReader(new Options(), values);
+        FileIndexResult result = reader.visitContains(FIELD, BinaryString.fromString("disk full"));
+        assertThat(result).isInstanceOf(BitmapIndexResult.class);
+        assertThat(((BitmapIndexResult) result).get())
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 10, 20, 30, 40, 50, 60, 70, 80, 90));
+
+        result = reader.visitStartsWith(FIELD, BinaryString.fromString("info"));
+        assertThat(((BitmapIndexResult) result).get().getCardinality()).isEqualTo(90);
+
+        assertThat(reader.visitContains(FIELD, BinaryString.fromString("warn")).remain()).isFalse();
+        assertThat(reader.visitEndsWith(FIELD, BinaryString.fromString("ok")).remain()).isFalse();
+        // too short to be looked up
+        assertThat(reader.visitContains(FIELD, BinaryString.fromString("zz")))
+                .isEqualTo(FileIndexResult.REMAIN);
+    }
+
+    @Test
+    public void testGramSize() {
+        List<String> values = new ArrayList<>();
+        values.add("apache");
+        values.add("paimon");
+
+        Options options = new Options();
+        options.setInteger(NGramFileIndex.GRAM_SIZE, 2);
+        FileIndexReader reader = createReader(options, values);
+        FileIndexResult result = reader.visitContains(FIELD, BinaryString.fromString("pa"));
+        assertThat(((BitmapIndexResult) result).get()).isEqualTo(RoaringBitmap32.bitmapOf(0, 1));
+        result = reader.visitStartsWith(FIELD, BinaryString.fromString("p"));
+        assertThat(((BitmapIndexResult) result).get()).isEqualTo(RoaringBitmap32.bitmapOf(1));
+
+        options.setInteger(NGramFileIndex.GRAM_SIZE, 8);
+        assertThatThrownBy(() -> new NGramFileIndex(DataTypes.STRING(), options))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new NGramFileIndex(DataTypes.INT(), new Options()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static FileIndexReader createReader(Options options, List<String> values) {
+        FileIndexer indexer =
+                FileIndexer.create(NGramFileIndexFactory.NGRAM, DataTypes.STRING(), options);
+        FileIndexWriter writer = indexer.createWriter();
+        for (String value : values) {
+            writer.write(value == null ? null : BinaryString.fromString(value));
+        }
+        byte[] bytes = writer.serializedBytes();
+        return indexer.createReader(new ByteArraySeekableStream(bytes), 0, bytes.length);
+    }
+
+    private static void assertCandidates(
+            FileIndexResult result,
+            List<String> values,
+            BiPredicate<String, String> predicate,
+            String pattern) {
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value == null || !predicate.test(value, pattern)) {
+                continue;
+            }
+            assertThat(result.remain()).as(pattern).isTrue();
+            if (result instanceof BitmapIndexResult) {
+                assertThat(((BitmapIndexResult) result).get().contains(i))
+                        .as("row %s for %s", i, pattern)
+                        .isTrue();
+            }
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 5 + random.nextInt(20);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(6)));
+        }
+        return builder.toString();
+    }
+}
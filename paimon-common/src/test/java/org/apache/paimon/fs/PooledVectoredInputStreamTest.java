@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link PooledVectoredInputStream}. */
+class PooledVectoredInputStreamTest {
+
+    private final byte[] bytes = new byte[64 * 1024];
+    private final List<TrackedStream> opened = new ArrayList<>();
+
+    PooledVectoredInputStreamTest() {
+        ThreadLocalRandom.current().nextBytes(bytes);
+    }
+
+    @Test
+    void testSequentialAndPositionedReads() throws Exception {
+        TrackedStream main = new TrackedStream(bytes, null);
+        try (PooledVectoredInputStream in = create(main, null)) {
+            in.seek(100);
+            byte[] buffer = new byte[10];
+            assertThat(in.read(buffer, 0, 10)).isEqualTo(10);
+            assertThat(buffer).isEqualTo(Arrays.copyOfRange(bytes, 100, 110));
+
+            // positioned reads do not move the position of the stream
+            byte[] pread = new byte[1000];
+            in.preadFully(5000, pread, 0, 1000);
+            assertThat(pread).isEqualTo(Arrays.copyOfRange(bytes, 5000, 6000));
+            assertThat(in.getPos()).isEqualTo(110);
+
+            // the additional stream is reused
+            in.preadFully(0, pread, 0, 1000);
+            assertThat(pread).isEqualTo(Arrays.copyOfRange(bytes, 0, 1000));
+            assertThat(opened).hasSize(1);
+
+            assertThatThrownBy(() -> in.preadFully(bytes.length - 10, pread, 0, 100))
+                    .isInstanceOf(EOFException.class);
+        }
+
+        assertThat(main.closed).isTrue();
+        assertThat(opened).allMatch(stream -> stream.closed);
+    }
+
+    @Test
+    void testReadVectored() throws Exception {
+        List<FileRange> ranges = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 100; i++) {
+            int offset = random.nextInt(bytes.length - 1000);
+            ranges.add(FileRange.createFileRange(offset, random.nextInt(1000) + 1));
+        }
+
+        try (PooledVectoredInputStream in = create(new TrackedStream(bytes, null), null)) {
+            in.readVectored(ranges);
+            for (FileRange range : ranges) {
+                int offset = (int) range.getOffset();
+                assertThat(range.getData().get())
+                        .isEqualTo(Arrays.copyOfRange(bytes, offset, offset + range.getLength()));
+            }
+        }
+
+        // streams are only opened for concurrent reads
+        assertThat(opened.size()).isLessThanOrEqualTo(100);
+        assertThat(opened).allMatch(stream -> stream.closed);
+    }
+
+    @Test
+    void testCloseWhileReading() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        PooledVectoredInputStream in =
+                create(
+                        new TrackedStream(bytes, null),
+                        () -> {
+                            reading.countDown();
+                            closed.await();
+                        });
+
+        byte[] buffer = new byte[100];
+        CompletableFuture<Void> read =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                in.preadFully(1000, buffer, 0, 100);
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        reading.await();
+        in.close();
+        // the stream in use is closed once its read finishes
+        assertThat(opened).hasSize(1);
+        assertThat(opened.get(0).closed).isFalse();
+        closed.countDown();
+        read.get();
+        assertThat(buffer).isEqualTo(Arrays.copyOfRange(bytes, 1000, 1100));
+        assertThat(opened.get(0).closed).isTrue();
+
+        assertThatThrownBy(() -> in.pread(0, buffer, 0, 100))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("already closed");
+    }
+
+    private PooledVectoredInputStream create(TrackedStream main, BlockingAction beforeRead) {
+        return new PooledVectoredInputStream(
+                main,
+                () -> {
+                    TrackedStream stream = new TrackedStream(bytes, beforeRead);
+                    synchronized (opened) {
+                        opened.add(stream);
+                    }
+                    return stream;
+                },
+                "test-file");
+    }
+
+    /** An action before a read of a stream. */
+    private interface BlockingAction {
+        void run() throws InterruptedException;
+    }
+
+    /** A stream which tracks whether it is closed. */
+    private static class TrackedStream extends ByteArraySeekableStream {
+
+        private final BlockingAction beforeRead;
+        private volatile boolean closed;
+
+        private TrackedStream(byte[] bytes, BlockingAction beforeRead) {
+            super(bytes);
+            this.beforeRead = beforeRead;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (beforeRead != null) {
+                try {
+                    beforeRead.run();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            return super.read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -63,6 +63,10 @@ class VectoredReadUtilsTest {
 
     private void doTest(List<FileRange> ranges) throws Exception {
         VectoredReadUtils.readVectored(readable, ranges);
+        checkRanges(ranges);
+    }
+
+    private void checkRanges(List<FileRange> ranges) throws Exception {
         for (FileRange range : ranges) {
             byte[] expected = new byte[range.getLength()];
             System.arraycopy(bytes, (int) range.getOffset(), expected, 0, range.getLength());
@@ -111,6 +115,17 @@ class VectoredReadUtilsTest {
                         FileRange.createFileRange(7300, 850)));
     }
 
+    @Test
+    public void testAsync() throws Exception {
+        List<FileRange> ranges =
+                Arrays.asList(
+                        FileRange.createFileRange(0, 60),
+                        FileRange.createFileRange(100, 90),
+                        FileRange.createFileRange(300, 5000));
+        VectoredReadUtils.readVectoredAsync(readable, ranges);
+        checkRanges(ranges);
+    }
+
     @Test
     public void testRandom() throws Exception {
         List<FileRange> ranges = new ArrayList<>();
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.DoubleType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VarCharType;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.paimon.data.BinaryString.fromString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link ColumnarPredicateEvaluator}. */
+public class ColumnarPredicateEvaluatorTest {
+
+    private static final int NUM_ROWS = 100;
+
+    private final PredicateBuilder builder =
+            new PredicateBuilder(RowType.of(new VarCharType(), new IntType()));
+
+    @Test
+    public void testDictionaryEncodedColumn() {
+        CountingDictionary dictionary = new CountingDictionary("apple", "banana", "apricot");
+        VectorizedColumnBatch batch = createBatch(dictionary);
+
+        Predicate[] predicates = {
+            builder.equal(0, fromString("banana")),
+            builder.in(0, Arrays.<Object>asList(fromString("apple"), fromString("cherry"))),
+            builder.startsWith(0, fromString("ap")),
+            builder.isNull(0),
+            PredicateBuilder.or(
+                    builder.equal(0, fromString("apricot")), builder.greaterThan(1, 90)),
+            PredicateBuilder.and(builder.startsWith(0, fromString("a")), builder.lessThan(1, 50))
+        };
+        for (Predicate predicate : predicates) {
+            dictionary.decodeCount = 0;
+            boolean[] results = evaluate(predicate, batch);
+            assertThat(dictionary.decodeCount).isLessThanOrEqualTo(3);
+            assertMatches(predicate, batch, results);
+        }
+    }
+
+    @Test
+    public void testDictionaryChanged() {
+        CountingDictionary dictionary = new CountingDictionary("apple", "banana", "apricot");
+        VectorizedColumnBatch batch = createBatch(dictionary);
+        Predicate predicate = builder.equal(0, fromString("banana"));
+        ColumnarPredicateEvaluator evaluator = new ColumnarPredicateEvaluator(predicate, batch);
+        assertThat(evaluator.test(1)).isTrue();
+
+        ((HeapBytesVector) batch.columns[0])
+                .setDictionary(new CountingDictionary("banana", "apple", "apricot"));
+        assertThat(evaluator.test(1)).isFalse();
+        assertMatches(predicate, batch, evaluate(predicate, batch));
+    }
+
+    @Test
+    public void testPlainColumn() {
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            if (i % 7 == 0) {
+                strings.setNullAt(i);
+            } else {
+                byte[] bytes = ("value" + i % 5).getBytes(StandardCharsets.UTF_8);
+                strings.putByteArray(i, bytes, 0, bytes.length);
+            }
+            ints.setInt(i, i);
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {strings, ints});
+        batch.setNumRows(NUM_ROWS);
+
+        Predicate equal = builder.equal(0, fromString("value3"));
+        assertMatches(equal, batch, evaluate(equal, batch));
+        Predicate isNotNull = builder.isNotNull(0);
+        assertMatches(isNotNull, batch, evaluate(isNotNull, batch));
+    }
+
+    @Test
+    public void testFilter() {
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longs = new HeapLongVector(NUM_ROWS);
+        HeapDoubleVector doubles = new HeapDoubleVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            if (i % 11 == 0) {
+                ints.setNullAt(i);
+                longs.setNullAt(i);
+                doubles.setNullAt(i);
+            } else {
+                ints.setInt(i, i % 10);
+                longs.setLong(i, i * 3L);
+                doubles.setDouble(i, i / 4.0);
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ints, longs, doubles});
+        batch.setNumRows(NUM_ROWS);
+
+        PredicateBuilder builder =
+                new PredicateBuilder(RowType.of(new IntType(), new BigIntType(), new DoubleType()));
+        Predicate[] predicates = {
+            builder.equal(0, 3),
+            builder.notEqual(0, 3),
+            builder.lessThan(1, 90L),
+            builder.greaterOrEqual(2, 12.5),
+            builder.in(0, Arrays.<Object>asList(1, 5, 7)),
+            builder.notIn(1, Arrays.<Object>asList(3L, 33L, 66L)),
+            builder.notIn(0, Arrays.<Object>asList(1, null)),
+            new LeafPredicate(
+                    In.INSTANCE, new IntType(), 0, "f0", Arrays.<Object>asList(2, 4, null)),
+            new LeafPredicate(
+                    NotIn.INSTANCE, new BigIntType(), 1, "f1", Arrays.<Object>asList(9L, 6L, 12L)),
+            builder.isNull(1),
+            builder.equal(0, null),
+            PredicateBuilder.and(builder.greaterThan(0, 2), builder.lessOrEqual(2, 20.0)),
+            PredicateBuilder.or(
+                    builder.equal(0, 1),
+                    builder.greaterThan(1, 250L),
+                    PredicateBuilder.and(builder.isNotNull(2), builder.lessThan(2, 1.0)))
+        };
+
+        for (Predicate predicate : predicates) {
+            ColumnarPredicateEvaluator evaluator = new ColumnarPredicateEvaluator(predicate, batch);
+            int[] rowIds = new int[NUM_ROWS];
+            int size = 0;
+            for (int i = 0; i < NUM_ROWS; i += 2) {
+                rowIds[size++] = i;
+            }
+            size = evaluator.filter(rowIds, size);
+
+            ColumnarRow row = new ColumnarRow(batch);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < NUM_ROWS; i += 2) {
+                row.setRowId(i);
+                if (predicate.test(row)) {
+                    expected.add(i);
+                }
+            }
+            assertThat(Arrays.stream(rowIds, 0, size).boxed())
+                    .as(predicate.toString())
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static VectorizedColumnBatch createBatch(Dictionary dictionary) {
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        HeapIntVector ids = strings.reserveDictionaryIds(NUM_ROWS);
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            if (i % 7 == 0) {
+                strings.setNullAt(i);
+            } else {
+                ids.setInt(i, i % 3);
+            }
+            ints.setInt(i, i);
+        }
+        strings.setDictionary(dictionary);
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {strings, ints});
+        batch.setNumRows(NUM_ROWS);
+        return batch;
+    }
+
+    private static boolean[] evaluate(Predicate predicate, VectorizedColumnBatch batch) {
+        ColumnarPredicateEvaluator evaluator = new ColumnarPredicateEvaluator(predicate, batch);
+        boolean[] results = new boolean[batch.getNumRows()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = evaluator.test(i);
+        }
+        return results;
+    }
+
+    private static void assertMatches(
+            Predicate predicate, VectorizedColumnBatch batch, boolean[] results) {
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < results.length; i++) {
+            row.setRowId(i);
+            assertThat(results[i]).as("row %s of %s", i, predicate).isEqualTo(predicate.test(row));
+        }
+    }
+
+    /** A {@link Dictionary} of strings which counts decoding. */
+    private static class CountingDictionary implements Dictionary {
+
+        private final String[] values;
+        private int decodeCount;
+
+        private CountingDictionary(String... values) {
+            this.values = values;
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            decodeCount++;
+            return values[id].getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.paimon.CoreOptions.ExternalPathStrategy;
 import org.apache.paimon.catalog.RenamingSnapshotCommit;
 import org.apache.paimon.catalog.SnapshotCommit;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.DeletionVectorCache;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
@@ -177,7 +178,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.path(),
                 options.branch(),
                 catalogEnvironment.snapshotLoader(),
-                snapshotCache);
+                snapshotCache,
+                options.snapshotSummaryIndexSegmentSize());
     }
 
     @Override
@@ -226,7 +228,14 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 indexManifestFileFactory().create(),
                 new IndexFilePathFactories(pathFactory()),
                 options.dvIndexFileTargetSize(),
-                options.deletionVectorBitmap64());
+                options.deletionVectorBitmap64(),
+                options.dvIndexFileMaxDeltaFiles(),
+                deletionVectorCache());
+    }
+
+    @Nullable
+    protected DeletionVectorCache deletionVectorCache() {
+        return DeletionVectorCache.shared(options.deletionVectorCacheMaxMemory());
     }
 
     @Override
@@ -22,6 +22,8 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.index.GlobalIndexPruner;
+import org.apache.paimon.index.GlobalIndexWriter;
 import org.apache.paimon.operation.AppendFileStoreWrite;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
 import org.apache.paimon.operation.BaseAppendFileStoreWrite;
@@ -39,6 +41,7 @@ import org.apache.paimon.types.RowType;
 
 import javax.annotation.Nullable;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -76,14 +79,15 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
     @Override
     public RawFileSplitRead newRead() {
         return new RawFileSplitRead(
-                fileIO,
-                schemaManager,
-                schema,
-                rowType,
-                FileFormatDiscover.of(options),
-                pathFactory(),
-                options.fileIndexReadEnabled(),
-                options.rowTrackingEnabled());
+                        fileIO,
+                        schemaManager,
+                        schema,
+                        rowType,
+                        FileFormatDiscover.of(options),
+                        pathFactory(),
+                        options.fileIndexReadEnabled(),
+                        options.rowTrackingEnabled())
+                .withDeletionVectorCache(deletionVectorCache());
     }
 
     public DataEvolutionSplitRead newDataEvolutionRead() {
@@ -107,6 +111,30 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
 
     @Override
     public BaseAppendFileStoreWrite newWrite(String commitUser, @Nullable Integer writeId) {
+        BaseAppendFileStoreWrite write = createWrite(commitUser);
+        List<String> globalIndexColumns = options.globalIndexColumns();
+        if (!globalIndexColumns.isEmpty() && !options.dataEvolutionEnabled()) {
+            RowType indexType = rowType.project(globalIndexColumns);
+            RawFileSplitRead read = newRead();
+            read.withReadType(indexType);
+            write.withGlobalIndexWriter(
+                    new GlobalIndexWriter(
+                            newIndexFileHandler(),
+                            snapshotManager(),
+                            rowType,
+                            globalIndexColumns,
+                            options.globalIndexFileTargetSize().getBytes(),
+                            (partition, bucket, file) ->
+                                    read.createReader(
+                                            partition,
+                                            bucket,
+                                            Collections.singletonList(file),
+                                            null)));
+        }
+        return write;
+    }
+
+    private BaseAppendFileStoreWrite createWrite(String commitUser) {
         if (bucketMode() == BucketMode.BUCKET_UNAWARE) {
             RawFileSplitRead readForCompact = newRead();
             if (options.rowTrackingEnabled()) {
@@ -168,15 +196,26 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     return Optional.empty();
                 };
 
-        return new AppendOnlyFileStoreScan(
-                newManifestsReader(),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                manifestFileFactory(),
-                options.scanManifestParallelism(),
-                options.fileIndexReadEnabled());
+        AppendOnlyFileStoreScan scan =
+                new AppendOnlyFileStoreScan(
+                        newManifestsReader(),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        manifestFileFactory(),
+                        options.scanManifestParallelism(),
+                        options.fileIndexReadEnabled());
+        List<String> globalIndexColumns = options.globalIndexColumns();
+        if (!globalIndexColumns.isEmpty()) {
+            scan.withGlobalIndexPruner(
+                    new GlobalIndexPruner(
+                            newIndexFileHandler(),
+                            rowType,
+                            globalIndexColumns,
+                            options.globalIndexCacheMaxMemory()));
+        }
+        return scan;
     }
 
     @Override
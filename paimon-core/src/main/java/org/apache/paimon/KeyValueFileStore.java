@@ -24,6 +24,7 @@ import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
+import org.apache.paimon.index.PrimaryKeyIndexMaintainer;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
@@ -114,25 +115,27 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
     @Override
     public MergeFileSplitRead newRead() {
         return new MergeFileSplitRead(
-                options,
-                schema,
-                keyType,
-                valueType,
-                newKeyComparator(),
-                mfFactory,
-                newReaderFactoryBuilder());
+                        options,
+                        schema,
+                        keyType,
+                        valueType,
+                        newKeyComparator(),
+                        mfFactory,
+                        newReaderFactoryBuilder())
+                .withDeletionVectorCache(deletionVectorCache());
     }
 
     public RawFileSplitRead newBatchRawFileRead() {
         return new RawFileSplitRead(
-                fileIO,
-                schemaManager,
-                schema,
-                valueType,
-                FileFormatDiscover.of(options),
-                pathFactory(),
-                options.fileIndexReadEnabled(),
-                false);
+                        fileIO,
+                        schemaManager,
+                        schema,
+                        valueType,
+                        FileFormatDiscover.of(options),
+                        pathFactory(),
+                        options.fileIndexReadEnabled(),
+                        false)
+                .withDeletionVectorCache(deletionVectorCache());
     }
 
     public KeyValueFileReaderFactory.Builder newReaderFactoryBuilder() {
@@ -175,12 +178,20 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
         }
         DynamicBucketIndexMaintainer.Factory indexFactory = null;
         if (bucketMode() == BucketMode.HASH_DYNAMIC) {
-            indexFactory = new DynamicBucketIndexMaintainer.Factory(newIndexFileHandler());
+            indexFactory =
+                    new DynamicBucketIndexMaintainer.Factory(
+                            newIndexFileHandler(), options.dynamicBucketIndexFileMaxDeltaFiles());
         }
         BucketedDvMaintainer.Factory dvMaintainerFactory = null;
         if (options.deletionVectorsEnabled()) {
             dvMaintainerFactory = BucketedDvMaintainer.factory(newIndexFileHandler());
         }
+        PrimaryKeyIndexMaintainer.Factory pkIndexMaintainerFactory = null;
+        if (options.primaryKeyIndexEnabled()) {
+            pkIndexMaintainerFactory =
+                    new PrimaryKeyIndexMaintainer.Factory(
+                            newIndexFileHandler(), newReaderFactoryBuilder(), options.numLevels());
+        }
         return new KeyValueFileStoreWrite(
                 fileIO,
                 schemaManager,
@@ -199,6 +210,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 newScan(),
                 indexFactory,
                 dvMaintainerFactory,
+                pkIndexMaintainerFactory,
                 options,
                 keyValueFieldsExtractor,
                 tableName);
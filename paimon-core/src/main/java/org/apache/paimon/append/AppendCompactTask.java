@@ -111,6 +111,9 @@ public class AppendCompactTask {
                         Collections.emptyList(),
                         newIndexFiles,
                         deletedIndexFiles);
+        if (write.globalIndexWriter() != null) {
+            write.globalIndexWriter().compact(partition, 0, compactIncrement);
+        }
         return new CommitMessageImpl(
                 partition,
                 // bucket 0 is bucket for unaware-bucket table
@@ -33,6 +33,7 @@ import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.DataIncrement;
+import org.apache.paimon.io.RowDataFileWriter;
 import org.apache.paimon.io.RowDataRollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.memory.MemoryOwner;
@@ -58,6 +59,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 /**
  * A {@link RecordWriter} implementation that only accepts records which are always insert
@@ -76,6 +78,7 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
     private final IOFunction<List<DataFileMeta>, RecordReaderIterator<InternalRow>> dataFileRead;
     private final boolean forceCompact;
     private final boolean asyncFileWrite;
+    private final int asyncFileCloseMaxPending;
     private final boolean statsDenseStore;
     private final List<DataFileMeta> newFiles;
     private final List<DataFileMeta> deletedFiles;
@@ -92,6 +95,7 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
     @Nullable private CompactDeletionFile compactDeletionFile;
     private SinkWriter<InternalRow> sinkWriter;
     private MemorySegmentPool memorySegmentPool;
+    @Nullable private Supplier<RowDataFileWriter.RowCollector> rowCollectorSupplier;
 
     public AppendOnlyWriter(
             FileIO fileIO,
@@ -115,6 +119,7 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
             MemorySize maxDiskSize,
             FileIndexOptions fileIndexOptions,
             boolean asyncFileWrite,
+            int asyncFileCloseMaxPending,
             boolean statsDenseStore) {
         this.fileIO = fileIO;
         this.schemaId = schemaId;
@@ -127,6 +132,7 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
         this.dataFileRead = dataFileRead;
         this.forceCompact = forceCompact;
         this.asyncFileWrite = asyncFileWrite;
+        this.asyncFileCloseMaxPending = asyncFileCloseMaxPending;
         this.statsDenseStore = statsDenseStore;
         this.newFiles = new ArrayList<>();
         this.deletedFiles = new ArrayList<>();
@@ -154,6 +160,13 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
         }
     }
 
+    /** Collects the rows of the new files with collectors from the given supplier. */
+    public AppendOnlyWriter withRowCollector(
+            @Nullable Supplier<RowDataFileWriter.RowCollector> rowCollectorSupplier) {
+        this.rowCollectorSupplier = rowCollectorSupplier;
+        return this;
+    }
+
     private BufferedSinkWriter<InternalRow> createBufferedSinkWriter(boolean spillable) {
         return new BufferedSinkWriter<>(
                 this::createRollingRowWriter,
@@ -303,8 +316,10 @@ public class AppendOnlyWriter implements BatchRecordWriter, MemoryOwner {
                 fileIndexOptions,
                 FileSource.APPEND,
                 asyncFileWrite,
+                asyncFileCloseMaxPending,
                 statsDenseStore,
-                writeCols);
+                writeCols,
+                rowCollectorSupplier);
     }
 
     private void trySyncLatestCompaction(boolean blocking)
@@ -20,7 +20,7 @@ package org.apache.paimon.compact;
 
 import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
-import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.deletionvectors.DvIndexFileChanges;
 
 import javax.annotation.Nullable;
 
@@ -29,7 +29,7 @@ import java.util.Optional;
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    Optional<DvIndexFileChanges> getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -37,12 +37,12 @@ public interface CompactDeletionFile {
 
     /**
      * Used by async compaction, when compaction task is completed, deletions file will be generated
-     * immediately, so when updateCompactResult, we need to merge old deletion files (just delete
-     * them).
+     * immediately, so when updateCompactResult, we need to merge old deletion files (delete the
+     * files which are replaced).
      */
     static CompactDeletionFile generateFiles(BucketedDvMaintainer maintainer) {
-        Optional<IndexFileMeta> file = maintainer.writeDeletionVectorsIndex();
-        return new GeneratedDeletionFile(file.orElse(null), maintainer.dvIndexFile());
+        Optional<DvIndexFileChanges> changes = maintainer.writeDeletionVectorsIndex();
+        return new GeneratedDeletionFile(changes.orElse(null), maintainer.dvIndexFile());
     }
 
     /** For sync compaction, only create deletion files when prepareCommit. */
@@ -53,21 +53,21 @@ public interface CompactDeletionFile {
     /** A generated files implementation of {@link CompactDeletionFile}. */
     class GeneratedDeletionFile implements CompactDeletionFile {
 
-        @Nullable private final IndexFileMeta deletionFile;
+        @Nullable private final DvIndexFileChanges changes;
         private final DeletionVectorsIndexFile dvIndexFile;
 
         private boolean getInvoked = false;
 
         public GeneratedDeletionFile(
-                @Nullable IndexFileMeta deletionFile, DeletionVectorsIndexFile dvIndexFile) {
-            this.deletionFile = deletionFile;
+                @Nullable DvIndexFileChanges changes, DeletionVectorsIndexFile dvIndexFile) {
+            this.changes = changes;
             this.dvIndexFile = dvIndexFile;
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public Optional<DvIndexFileChanges> getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            return Optional.ofNullable(changes);
         }
 
         @Override
@@ -77,22 +77,27 @@ public interface CompactDeletionFile {
                         "old should be a GeneratedDeletionFile, but it is: " + old.getClass());
             }
 
-            if (((GeneratedDeletionFile) old).getInvoked) {
+            GeneratedDeletionFile oldFile = (GeneratedDeletionFile) old;
+            if (oldFile.getInvoked) {
                 throw new IllegalStateException("old should not be get, this is a bug.");
             }
 
-            if (deletionFile == null) {
+            if (changes == null) {
                 return old;
             }
 
-            old.clean();
-            return this;
+            if (oldFile.changes == null) {
+                return this;
+            }
+
+            return new GeneratedDeletionFile(
+                    changes.mergeOld(oldFile.changes, dvIndexFile), dvIndexFile);
         }
 
         @Override
         public void clean() {
-            if (deletionFile != null) {
-                dvIndexFile.delete(deletionFile);
+            if (changes != null) {
+                changes.writtenFiles().forEach(dvIndexFile::delete);
             }
         }
     }
@@ -109,7 +114,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public Optional<DvIndexFileChanges> getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
@@ -19,6 +19,7 @@
 package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.CrossPartitionIndexBackend;
 import org.apache.paimon.crosspartition.ExistingProcessor.SortOrder;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
@@ -28,11 +29,16 @@ import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.disk.RowBuffer;
-import org.apache.paimon.lookup.rocksdb.RocksDBBulkLoader;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.StateFactory;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.lookup.ValueState;
 import org.apache.paimon.lookup.rocksdb.RocksDBOptions;
 import org.apache.paimon.lookup.rocksdb.RocksDBState;
 import org.apache.paimon.lookup.rocksdb.RocksDBStateFactory;
-import org.apache.paimon.lookup.rocksdb.RocksDBValueState;
+import org.apache.paimon.lookup.sort.SortStateFactory;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
@@ -98,8 +104,8 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
     private transient PartitionKeyExtractor<InternalRow> extractor;
     private transient PartitionKeyExtractor<InternalRow> keyPartExtractor;
     private transient File path;
-    private transient RocksDBStateFactory stateFactory;
-    private transient RocksDBValueState<InternalRow, PositiveIntInt> keyIndex;
+    private transient StateFactory stateFactory;
+    private transient ValueState<InternalRow, PositiveIntInt> keyIndex;
 
     private transient IDMapping<BinaryRow> partMapping;
     private transient BucketAssigner bucketAssigner;
@@ -133,25 +139,18 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
         this.extractor = new RowPartitionAllPrimaryKeyExtractor(table.schema());
         this.keyPartExtractor = new KeyPartPartitionKeyExtractor(table.schema());
 
+        CrossPartitionIndexBackend backend = coreOptions.crossPartitionUpsertIndexBackend();
         String tmpDir = pickRandomly(Arrays.asList(ioManager.tempDirs()));
-        this.path = new File(tmpDir, "rocksdb-" + UUID.randomUUID());
+        this.path = new File(tmpDir, backend + "-" + UUID.randomUUID());
         if (!this.path.mkdirs()) {
             throw new RuntimeException(
-                    "Failed to create RocksDB cache directory in temp dirs: "
+                    "Failed to create index directory in temp dirs: "
                             + Arrays.toString(ioManager.tempDirs()));
         }
 
         // state
         Options options = coreOptions.toConfiguration();
-        Options rocksdbOptions = Options.fromMap(new HashMap<>(options.toMap()));
-        // we should avoid too small memory
-        long blockCache = Math.max(offHeapMemory, rocksdbOptions.get(BLOCK_CACHE_SIZE).getBytes());
-        rocksdbOptions.set(BLOCK_CACHE_SIZE, new MemorySize(blockCache));
-        this.stateFactory =
-                new RocksDBStateFactory(
-                        path.toString(),
-                        rocksdbOptions,
-                        coreOptions.crossPartitionUpsertIndexTtl());
+        this.stateFactory = createStateFactory(backend, coreOptions, offHeapMemory);
         RowType keyType = table.schema().logicalPrimaryKeysType();
         this.keyIndex =
                 stateFactory.valueState(
@@ -209,14 +208,14 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
         bootstrap = false;
         boolean isEmpty = true;
         if (bootstrapKeys.size() > 0) {
-            RocksDBBulkLoader bulkLoader = keyIndex.createBulkLoader();
+            ValueBulkLoader bulkLoader = keyIndex.createBulkLoader();
             MutableObjectIterator<BinaryRow> keyIterator = bootstrapKeys.sortedIterator();
             BinaryRow row = new BinaryRow(2);
             try {
                 while ((row = keyIterator.next(row)) != null) {
                     bulkLoader.write(row.getBinary(0), row.getBinary(1));
                 }
-            } catch (RocksDBBulkLoader.WriteException e) {
+            } catch (BulkLoader.WriteException e) {
                 throw new RuntimeException(
                         "Exception in bulkLoad, the most suspicious reason is that "
                                 + "your data contains duplicates, please check your sink table. "
@@ -286,7 +285,41 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
 
     // ================== End Public API ===================
 
-    /** Sort bootstrap records and assign bucket without RocksDB. */
+    private StateFactory createStateFactory(
+            CrossPartitionIndexBackend backend, CoreOptions coreOptions, long offHeapMemory)
+            throws IOException {
+        Options options = coreOptions.toConfiguration();
+        switch (backend) {
+            case ROCKSDB:
+                Options rocksdbOptions = Options.fromMap(new HashMap<>(options.toMap()));
+                // we should avoid too small memory
+                long blockCache =
+                        Math.max(offHeapMemory, rocksdbOptions.get(BLOCK_CACHE_SIZE).getBytes());
+                rocksdbOptions.set(BLOCK_CACHE_SIZE, new MemorySize(blockCache));
+                return new RocksDBStateFactory(
+                        path.toString(),
+                        rocksdbOptions,
+                        coreOptions.crossPartitionUpsertIndexTtl());
+            case SORT:
+                checkArgument(
+                        coreOptions.crossPartitionUpsertIndexTtl() == null,
+                        "Index TTL of cross partition upsert is only supported by rocksdb backend.");
+                return new SortStateFactory(
+                        path,
+                        new CacheManager(coreOptions.lookupCacheMaxMemory()),
+                        coreOptions.cachePageSize(),
+                        coreOptions.lookupCompressOptions(),
+                        LookupStoreFactory.bfGenerator(options),
+                        coreOptions.writeBufferSize() / 2,
+                        coreOptions.numSortedRunCompactionTrigger(),
+                        SortStateFactory.DEFAULT_MAX_FILE_ROWS);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported cross partition index backend: " + backend);
+        }
+    }
+
+    /** Sort bootstrap records and assign bucket without the key index. */
     private void bulkLoadBootstrapRecords() {
         RowType rowType = table.rowType();
         List<DataType> fields =
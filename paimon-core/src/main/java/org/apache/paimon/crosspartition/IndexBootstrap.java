@@ -23,6 +23,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
@@ -34,6 +35,7 @@ import org.apache.paimon.table.source.Split;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FunctionWithIOException;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.apache.paimon.utils.TypeUtils;
 
@@ -110,9 +112,24 @@ public class IndexBootstrap implements Serializable {
                                 TypeUtils.project(rowType, table.partitionKeys()),
                                 RowType.of(DataTypes.INT())));
 
+        RowType keyType = TypeUtils.project(rowType, keyProjection);
+        FunctionWithIOException<Split, RecordReader<InternalRow>> readerFactory =
+                s -> readBuilder.newRead().createReader(s);
+        String cachePath = options.crossPartitionUpsertBootstrapCachePath();
+        if (cachePath != null) {
+            IndexBootstrapCache cache =
+                    new IndexBootstrapCache(table.fileIO(), new Path(cachePath), keyType);
+            cache.cleanStaleFiles(
+                    splits.stream().map(s -> (DataSplit) s).collect(Collectors.toList()),
+                    bucket -> bucket % numAssigners == assignId);
+            FunctionWithIOException<Split, RecordReader<InternalRow>> tableReaderFactory =
+                    readerFactory;
+            readerFactory = s -> cache.read((DataSplit) s, tableReaderFactory);
+        }
+
         return parallelExecute(
-                TypeUtils.project(rowType, keyProjection),
-                s -> readBuilder.newRead().createReader(s),
+                keyType,
+                readerFactory,
                 splits,
                 options.pageSize(),
                 options.crossPartitionUpsertBootstrapParallelism(),
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.TwoPhaseOutputStream;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FunctionWithIOException;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
+/**
+ * Caches the bootstrapped keys of each split in a file. A file is named by a fingerprint of the
+ * partition, bucket, data files and deletion files of its split, so the keys of a split whose files
+ * have not changed are read from the cache instead of the table.
+ */
+public class IndexBootstrapCache {
+
+    private static final int VERSION = 1;
+    private static final String FILE_PREFIX = "bucket-";
+
+    private final FileIO fileIO;
+    private final Path directory;
+    private final InternalRowSerializer serializer;
+
+    public IndexBootstrapCache(FileIO fileIO, Path directory, RowType keyType) {
+        this.fileIO = fileIO;
+        this.directory = directory;
+        this.serializer = new InternalRowSerializer(keyType);
+    }
+
+    /** Deletes cache files of the given buckets which are not used by the given splits. */
+    public void cleanStaleFiles(List<DataSplit> splits, IntPredicate bucketFilter)
+            throws IOException {
+        if (!fileIO.exists(directory)) {
+            return;
+        }
+
+        Set<String> fileNames = new HashSet<>();
+        for (DataSplit split : splits) {
+            fileNames.add(fileName(split, fingerprint(split)));
+        }
+        for (FileStatus status : fileIO.listStatus(directory)) {
+            String name = status.getPath().getName();
+            if (!name.startsWith(FILE_PREFIX) || fileNames.contains(name)) {
+                continue;
+            }
+            int bucket = bucketOf(name);
+            if (bucket >= 0 && bucketFilter.test(bucket)) {
+                fileIO.deleteQuietly(status.getPath());
+            }
+        }
+    }
+
+    /** Reads the keys of the split from its cache file, or from the table while caching them. */
+    public RecordReader<InternalRow> read(
+            DataSplit split, FunctionWithIOException<Split, RecordReader<InternalRow>> readBuilder)
+            throws IOException {
+        byte[] fingerprint = fingerprint(split);
+        Path path = new Path(directory, fileName(split, fingerprint));
+        RecordReader<InternalRow> cached = readCache(path, fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        return readAndCache(readBuilder.apply(split), path, fingerprint);
+    }
+
+    @Nullable
+    private RecordReader<InternalRow> readCache(Path path, byte[] fingerprint) throws IOException {
+        if (!fileIO.exists(path)) {
+            return null;
+        }
+
+        InputStream in = new BufferedInputStream(fileIO.newInputStream(path));
+        DataInputViewStreamWrapper view = new DataInputViewStreamWrapper(in);
+        boolean matched = false;
+        try {
+            if (view.readInt() == VERSION) {
+                byte[] cachedFingerprint = new byte[view.readInt()];
+                view.readFully(cachedFingerprint);
+                matched = Arrays.equals(cachedFingerprint, fingerprint);
+            }
+        } finally {
+            if (!matched) {
+                in.close();
+            }
+        }
+        if (!matched) {
+            // written by another version, it will be overwritten
+            fileIO.deleteQuietly(path);
+            return null;
+        }
+
+        return new RecordReader<InternalRow>() {
+
+            private boolean read = false;
+
+            @Nullable
+            @Override
+            public RecordIterator<InternalRow> readBatch() {
+                if (read) {
+                    return null;
+                }
+
+                read = true;
+                return new RecordIterator<InternalRow>() {
+                    @Nullable
+                    @Override
+                    public InternalRow next() throws IOException {
+                        return view.readBoolean() ? serializer.deserialize(view) : null;
+                    }
+
+                    @Override
+                    public void releaseBatch() {}
+                };
+            }
+
+            @Override
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+
+    private RecordReader<InternalRow> readAndCache(
+            RecordReader<InternalRow> reader, Path path, byte[] fingerprint) throws IOException {
+        TwoPhaseOutputStream out = fileIO.newTwoPhaseOutputStream(path, true);
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        DataOutputViewStreamWrapper view = new DataOutputViewStreamWrapper(buffered);
+        view.writeInt(VERSION);
+        view.writeInt(fingerprint.length);
+        view.write(fingerprint);
+
+        return new RecordReader<InternalRow>() {
+
+            private boolean finished = false;
+
+            @Nullable
+            @Override
+            public RecordIterator<InternalRow> readBatch() throws IOException {
+                if (finished) {
+                    return null;
+                }
+
+                RecordIterator<InternalRow> batch = reader.readBatch();
+                if (batch == null) {
+                    // commit once all keys are read, the reader may be closed asynchronously
+                    finished = true;
+                    view.writeBoolean(false);
+                    buffered.flush();
+                    out.closeForCommit().commit();
+                    return null;
+                }
+
+                return new RecordIterator<InternalRow>() {
+                    @Nullable
+                    @Override
+                    public InternalRow next() throws IOException {
+                        InternalRow row = batch.next();
+                        if (row != null) {
+                            view.writeBoolean(true);
+                            serializer.serialize(row, view);
+                        }
+                        return row;
+                    }
+
+                    @Override
+                    public void releaseBatch() {
+                        batch.releaseBatch();
+                    }
+                };
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    reader.close();
+                } finally {
+                    if (!finished) {
+                        out.closeForCommit().discard();
+                    }
+                }
+            }
+        };
+    }
+
+    private static byte[] fingerprint(DataSplit split) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(256);
+        byte[] partition = serializeBinaryRow(split.partition());
+        out.writeInt(partition.length);
+        out.write(partition);
+        out.writeInt(split.bucket());
+        List<DataFileMeta> files = split.dataFiles();
+        out.writeInt(files.size());
+        for (DataFileMeta file : files) {
+            out.writeUTF(file.fileName());
+        }
+        DeletionFile.serializeList(out, split.deletionFiles().orElse(null));
+        return out.getCopyOfBuffer();
+    }
+
+    private static String fileName(DataSplit split, byte[] fingerprint) {
+        return FILE_PREFIX + split.bucket() + "-" + UUID.nameUUIDFromBytes(fingerprint);
+    }
+
+    private static int bucketOf(String fileName) {
+        int end = fileName.indexOf('-', FILE_PREFIX.length());
+        try {
+            return Integer.parseInt(fileName.substring(FILE_PREFIX.length(), end));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -20,30 +20,67 @@ package org.apache.paimon.deletionvectors;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.table.source.DeletionFile;
 
 import javax.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-/** Maintainer of deletionVectors index. */
+/**
+ * Maintainer of deletionVectors index.
+ *
+ * <p>By default, the deletion vectors of the whole bucket are rewritten into a single index file
+ * when any of them is modified. When delta files are enabled, only the deletion vectors of the
+ * modified data files are written into a new delta file, and the metas of the older index files
+ * drop these data files from their {@link IndexFileMeta#dvRanges()}, so every data file still has
+ * its deletion vector in exactly one index file. The index files are consolidated into a single
+ * file once there are too many or too large delta files.
+ *
+ * <p>Restored deletion vectors are read on demand, a writer only reads the deletion vectors of the
+ * data files it touches.
+ */
 public class BucketedDvMaintainer {
 
     private final DeletionVectorsIndexFile dvIndexFile;
     private final Map<String, DeletionVector> deletionVectors;
+    private final Map<String, DeletionFile> unloadedDeletionFiles;
+    @Nullable private final DeletionVectorCache cache;
     protected final boolean bitmap64;
+    private final int maxDeltaFiles;
+    private final long maxDeltaSize;
+    private final Set<String> modifiedDataFiles;
+    private List<IndexFileMeta> indexFiles;
     private boolean modified;
 
     private BucketedDvMaintainer(
-            DeletionVectorsIndexFile dvIndexFile, Map<String, DeletionVector> deletionVectors) {
+            DeletionVectorsIndexFile dvIndexFile,
+            Map<String, DeletionVector> deletionVectors,
+            Map<String, DeletionFile> unloadedDeletionFiles,
+            @Nullable DeletionVectorCache cache,
+            List<IndexFileMeta> indexFiles,
+            int maxDeltaFiles) {
         this.dvIndexFile = dvIndexFile;
         this.deletionVectors = deletionVectors;
+        this.unloadedDeletionFiles = unloadedDeletionFiles;
+        this.cache = cache;
         this.bitmap64 = dvIndexFile.bitmap64();
+        this.maxDeltaFiles = maxDeltaFiles;
+        this.maxDeltaSize = dvIndexFile.targetSizePerIndexFile().getBytes();
+        this.modifiedDataFiles = new HashSet<>();
+        this.indexFiles = new ArrayList<>(indexFiles);
         this.modified = false;
     }
 
@@ -51,6 +88,49 @@ public class BucketedDvMaintainer {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
 
+    @Nullable
+    private DeletionVector load(String fileName) {
+        DeletionVector deletionVector = deletionVectors.get(fileName);
+        if (deletionVector != null) {
+            return deletionVector;
+        }
+
+        DeletionFile deletionFile = unloadedDeletionFiles.remove(fileName);
+        if (deletionFile == null) {
+            return null;
+        }
+
+        if (cache == null) {
+            deletionVector = dvIndexFile.readDeletionVector(deletionFile);
+        } else {
+            try {
+                // the cached deletion vector is shared with readers, modify a copy
+                DeletionVector cached =
+                        cache.get(deletionFile, () -> dvIndexFile.readDeletionVector(deletionFile));
+                deletionVector = copy(cached);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        deletionVectors.put(fileName, deletionVector);
+        return deletionVector;
+    }
+
+    private void loadAll() {
+        for (String fileName : new ArrayList<>(unloadedDeletionFiles.keySet())) {
+            load(fileName);
+        }
+    }
+
+    private static DeletionVector copy(DeletionVector deletionVector) {
+        DeletionVector copied =
+                deletionVector instanceof Bitmap64DeletionVector
+                        ? new Bitmap64DeletionVector()
+                        : new BitmapDeletionVector();
+        copied.merge(deletionVector);
+        return copied;
+    }
+
     /**
      * Notifies a new deletion which marks the specified row position as deleted with the given file
      * name.
@@ -59,10 +139,13 @@ public class BucketedDvMaintainer {
      * @param position The row position within the file that has been deleted.
      */
     public void notifyNewDeletion(String fileName, long position) {
-        DeletionVector deletionVector =
-                deletionVectors.computeIfAbsent(fileName, k -> createNewDeletionVector());
+        DeletionVector deletionVector = load(fileName);
+        if (deletionVector == null) {
+            deletionVector = createNewDeletionVector();
+            deletionVectors.put(fileName, deletionVector);
+        }
         if (deletionVector.checkedDelete(position)) {
-            modified = true;
+            markModified(fileName);
         }
     }
 
@@ -73,8 +156,9 @@ public class BucketedDvMaintainer {
      * @param deletionVector The deletion vector
      */
     public void notifyNewDeletion(String fileName, DeletionVector deletionVector) {
+        unloadedDeletionFiles.remove(fileName);
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markModified(fileName);
     }
 
     /**
@@ -85,12 +169,12 @@ public class BucketedDvMaintainer {
      * @param deletionVector The deletion vector
      */
     public void mergeNewDeletion(String fileName, DeletionVector deletionVector) {
-        DeletionVector old = deletionVectors.get(fileName);
+        DeletionVector old = load(fileName);
         if (old != null) {
             deletionVector.merge(old);
         }
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markModified(fileName);
     }
 
     /**
@@ -100,24 +184,124 @@ public class BucketedDvMaintainer {
      * @param fileName The name of the file whose deletion vector should be removed.
      */
     public void removeDeletionVectorOf(String fileName) {
-        if (deletionVectors.containsKey(fileName)) {
-            deletionVectors.remove(fileName);
-            modified = true;
+        boolean unloaded = unloadedDeletionFiles.remove(fileName) != null;
+        if (deletionVectors.remove(fileName) != null || unloaded) {
+            markModified(fileName);
         }
     }
 
+    private void markModified(String fileName) {
+        modified = true;
+        modifiedDataFiles.add(fileName);
+    }
+
     /**
      * Write new deletion vectors index file if any modifications have been made.
      *
-     * @return None if no modifications have been made, otherwise the new deletion vectors index
-     *     file.
+     * @return None if no modifications have been made, otherwise the changes of the deletion
+     *     vectors index files of the bucket.
      */
-    public Optional<IndexFileMeta> writeDeletionVectorsIndex() {
-        if (modified) {
-            modified = false;
-            return Optional.of(dvIndexFile.writeSingleFile(deletionVectors));
+    public Optional<DvIndexFileChanges> writeDeletionVectorsIndex() {
+        if (!modified) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        DvIndexFileChanges changes =
+                shouldConsolidate() ? writeConsolidatedFile() : writeDeltaFile();
+        modified = false;
+        modifiedDataFiles.clear();
+        return Optional.of(changes);
+    }
+
+    private boolean shouldConsolidate() {
+        if (maxDeltaFiles <= 0) {
+            return true;
+        }
+
+        // the file with the most live deletion vectors is regarded as the base file, all other
+        // files are delta files
+        long totalSize = 0;
+        long maxSize = 0;
+        for (IndexFileMeta file : indexFiles) {
+            long liveSize = liveSize(file);
+            totalSize += liveSize;
+            maxSize = Math.max(maxSize, liveSize);
+        }
+        int numDeltaFiles = Math.max(indexFiles.size() - 1, 0);
+        // writing another delta file would exceed the max number of delta files
+        return numDeltaFiles >= maxDeltaFiles || totalSize - maxSize > maxDeltaSize;
+    }
+
+    /**
+     * Size of the deletion vectors in the file which are still in use. Entries dropped by later
+     * delta files are still part of the physical file, but they are never read again.
+     */
+    private static long liveSize(IndexFileMeta file) {
+        LinkedHashMap<String, DeletionVectorMeta> dvRanges = file.dvRanges();
+        if (dvRanges == null) {
+            return file.fileSize();
+        }
+        long size = 0;
+        for (DeletionVectorMeta meta : dvRanges.values()) {
+            size += meta.length();
+        }
+        return size;
+    }
+
+    private DvIndexFileChanges writeConsolidatedFile() {
+        loadAll();
+        IndexFileMeta file = dvIndexFile.writeSingleFile(deletionVectors);
+        List<IndexFileMeta> deletedFiles = indexFiles;
+        indexFiles = new ArrayList<>();
+        indexFiles.add(file);
+        return new DvIndexFileChanges(file, Collections.emptyList(), deletedFiles);
+    }
+
+    private DvIndexFileChanges writeDeltaFile() {
+        Map<String, DeletionVector> modifiedVectors = new LinkedHashMap<>();
+        for (String fileName : modifiedDataFiles) {
+            DeletionVector deletionVector = deletionVectors.get(fileName);
+            if (deletionVector != null) {
+                modifiedVectors.put(fileName, deletionVector);
+            }
+        }
+
+        List<IndexFileMeta> newIndexFiles = new ArrayList<>();
+        List<IndexFileMeta> updatedFiles = new ArrayList<>();
+        List<IndexFileMeta> deletedFiles = new ArrayList<>();
+        for (IndexFileMeta file : indexFiles) {
+            LinkedHashMap<String, DeletionVectorMeta> dvRanges = file.dvRanges();
+            if (dvRanges == null
+                    || dvRanges.keySet().stream().noneMatch(modifiedDataFiles::contains)) {
+                newIndexFiles.add(file);
+                continue;
+            }
+
+            LinkedHashMap<String, DeletionVectorMeta> remaining = new LinkedHashMap<>(dvRanges);
+            remaining.keySet().removeAll(modifiedDataFiles);
+            if (remaining.isEmpty()) {
+                deletedFiles.add(file);
+            } else {
+                IndexFileMeta updated =
+                        new IndexFileMeta(
+                                file.indexType(),
+                                file.fileName(),
+                                file.fileSize(),
+                                remaining.size(),
+                                remaining,
+                                file.externalPath());
+                updatedFiles.add(updated);
+                newIndexFiles.add(updated);
+            }
+        }
+
+        IndexFileMeta writtenFile = null;
+        if (!modifiedVectors.isEmpty()) {
+            writtenFile = dvIndexFile.writeSingleFile(modifiedVectors);
+            newIndexFiles.add(writtenFile);
+        }
+        indexFiles = newIndexFiles;
+        return new DvIndexFileChanges(writtenFile, updatedFiles, deletedFiles);
     }
 
     /**
@@ -128,7 +312,12 @@ public class BucketedDvMaintainer {
      *     Optional} if not.
      */
     public Optional<DeletionVector> deletionVectorOf(String fileName) {
-        return Optional.ofNullable(deletionVectors.get(fileName));
+        return Optional.ofNullable(load(fileName));
+    }
+
+    /** Whether the file has a deletion vector, without reading it. */
+    public boolean hasDeletionVector(String fileName) {
+        return deletionVectors.containsKey(fileName) || unloadedDeletionFiles.containsKey(fileName);
     }
 
     public DeletionVectorsIndexFile dvIndexFile() {
@@ -137,6 +326,7 @@ public class BucketedDvMaintainer {
 
     @VisibleForTesting
     public Map<String, DeletionVector> deletionVectors() {
+        loadAll();
         return deletionVectors;
     }
 
@@ -144,6 +334,11 @@ public class BucketedDvMaintainer {
         return bitmap64;
     }
 
+    /** Current deletion vectors index files of the bucket, including the ones not committed. */
+    public List<IndexFileMeta> indexFiles() {
+        return Collections.unmodifiableList(indexFiles);
+    }
+
     public static Factory factory(IndexFileHandler handler) {
         return new Factory(handler);
     }
@@ -166,14 +361,40 @@ public class BucketedDvMaintainer {
             if (restoredFiles == null) {
                 restoredFiles = Collections.emptyList();
             }
-            Map<String, DeletionVector> deletionVectors =
-                    new HashMap<>(handler.readAllDeletionVectors(partition, bucket, restoredFiles));
-            return create(partition, bucket, deletionVectors);
+            DeletionVectorsIndexFile dvIndexFile = handler.dvIndex(partition, bucket);
+            // later files win, as reading all deletion vectors of the files does
+            Map<String, DeletionFile> deletionFiles = new HashMap<>();
+            for (IndexFileMeta file : restoredFiles) {
+                LinkedHashMap<String, DeletionVectorMeta> dvRanges = file.dvRanges();
+                if (dvRanges == null) {
+                    continue;
+                }
+                String path = dvIndexFile.path(file).toString();
+                for (DeletionVectorMeta meta : dvRanges.values()) {
+                    deletionFiles.put(
+                            meta.dataFileName(),
+                            new DeletionFile(
+                                    path, meta.offset(), meta.length(), meta.cardinality()));
+                }
+            }
+            return new BucketedDvMaintainer(
+                    dvIndexFile,
+                    new HashMap<>(),
+                    deletionFiles,
+                    handler.dvCache(),
+                    restoredFiles,
+                    handler.dvMaxDeltaFiles());
         }
 
         public BucketedDvMaintainer create(
                 BinaryRow partition, int bucket, Map<String, DeletionVector> deletionVectors) {
-            return new BucketedDvMaintainer(handler.dvIndex(partition, bucket), deletionVectors);
+            return new BucketedDvMaintainer(
+                    handler.dvIndex(partition, bucket),
+                    deletionVectors,
+                    new HashMap<>(),
+                    handler.dvCache(),
+                    Collections.emptyList(),
+                    handler.dvMaxDeltaFiles());
         }
     }
 }
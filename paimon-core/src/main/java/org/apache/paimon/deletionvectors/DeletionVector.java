@@ -158,13 +158,31 @@ public interface DeletionVector extends DeletionVectorJudger {
 
     static Factory factory(
             FileIO fileIO, List<DataFileMeta> files, @Nullable List<DeletionFile> deletionFiles) {
+        return factory(fileIO, files, deletionFiles, null);
+    }
+
+    /**
+     * Creates a factory which reads deletion vectors on demand, through the cache if not null. The
+     * created deletion vectors must not be modified if they are cached.
+     */
+    static Factory factory(
+            FileIO fileIO,
+            List<DataFileMeta> files,
+            @Nullable List<DeletionFile> deletionFiles,
+            @Nullable DeletionVectorCache cache) {
         DeletionFile.Factory factory = DeletionFile.factory(files, deletionFiles);
         return fileName -> {
             Optional<DeletionFile> deletionFile = factory.create(fileName);
-            if (deletionFile.isPresent()) {
+            if (!deletionFile.isPresent()) {
+                return Optional.empty();
+            }
+            if (cache == null) {
                 return Optional.of(DeletionVector.read(fileIO, deletionFile.get()));
             }
-            return Optional.empty();
+            return Optional.of(
+                    cache.get(
+                            deletionFile.get(),
+                            () -> DeletionVector.read(fileIO, deletionFile.get())));
         };
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.deletionvectors;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.utils.IOExceptionSupplier;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A size-bounded cache of deserialized {@link DeletionVector}s, keyed by their {@link
+ * DeletionFile}s. Concurrent loads of the same deletion vector read the index file only once.
+ *
+ * <p>Cached deletion vectors are shared, they must not be modified. Writers modify a copy.
+ */
+public class DeletionVectorCache {
+
+    private static final int OBJECT_MEMORY_SIZE = 200;
+
+    @Nullable private static DeletionVectorCache sharedCache;
+
+    private final Cache<DeletionFile, DeletionVector> cache;
+
+    @VisibleForTesting
+    DeletionVectorCache(MemorySize maxMemorySize) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .softValues()
+                        .weigher(DeletionVectorCache::weigh)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .executor(Runnable::run)
+                        .build();
+    }
+
+    /** Returns the cached deletion vector of the file, or loads and caches it. */
+    public DeletionVector get(DeletionFile deletionFile, IOExceptionSupplier<DeletionVector> loader)
+            throws IOException {
+        try {
+            return cache.get(
+                    deletionFile,
+                    k -> {
+                        try {
+                            return loader.get();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private void ensureMaxMemorySize(long maxMemorySize) {
+        cache.policy()
+                .eviction()
+                .ifPresent(
+                        eviction -> {
+                            if (eviction.getMaximum() < maxMemorySize) {
+                                eviction.setMaximum(maxMemorySize);
+                            }
+                        });
+    }
+
+    private static int weigh(DeletionFile deletionFile, DeletionVector deletionVector) {
+        return (int) (OBJECT_MEMORY_SIZE + deletionFile.length());
+    }
+
+    /**
+     * Returns the cache shared by all tables in this JVM, it is bounded by the largest size
+     * requested. Returns null if the size is 0.
+     */
+    @Nullable
+    public static synchronized DeletionVectorCache shared(MemorySize maxMemorySize) {
+        if (maxMemorySize.getBytes() <= 0) {
+            return null;
+        }
+
+        if (sharedCache == null) {
+            sharedCache = new DeletionVectorCache(maxMemorySize);
+        } else {
+            sharedCache.ensureMaxMemorySize(maxMemorySize.getBytes());
+        }
+        return sharedCache;
+    }
+}
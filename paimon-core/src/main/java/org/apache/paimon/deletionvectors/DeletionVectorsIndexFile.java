@@ -63,6 +63,10 @@ public class DeletionVectorsIndexFile extends IndexFile {
         return bitmap64;
     }
 
+    public MemorySize targetSizePerIndexFile() {
+        return targetSizePerIndexFile;
+    }
+
     /**
      * Reads all deletion vectors from a specified file.
      *
@@ -80,6 +84,8 @@ public class DeletionVectorsIndexFile extends IndexFile {
             checkVersion(inputStream);
             DataInputStream dataInputStream = new DataInputStream(inputStream);
             for (DeletionVectorMeta deletionVectorMeta : deletionVectorMetas.values()) {
+                // ranges of deletion vectors moved to delta files are dropped from the metas
+                inputStream.seek(deletionVectorMeta.offset());
                 deletionVectors.put(
                         deletionVectorMeta.dataFileName(),
                         DeletionVector.read(dataInputStream, (long) deletionVectorMeta.length()));
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.deletionvectors;
+
+import org.apache.paimon.index.IndexFileMeta;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Changes of the deletion vectors index files of a bucket. New index files are either written, or
+ * existing files whose {@link IndexFileMeta#dvRanges()} no longer contain the deletion vectors
+ * moved to a newer file. Index files are identified by their file names.
+ */
+public class DvIndexFileChanges {
+
+    private final LinkedHashMap<String, IndexFileMeta> newIndexFiles;
+    private final LinkedHashMap<String, IndexFileMeta> deletedIndexFiles;
+    private final Set<String> writtenFiles;
+
+    public DvIndexFileChanges(
+            @Nullable IndexFileMeta writtenFile,
+            List<IndexFileMeta> updatedFiles,
+            List<IndexFileMeta> deletedFiles) {
+        this(new LinkedHashMap<>(), new LinkedHashMap<>(), new HashSet<>());
+        if (writtenFile != null) {
+            newIndexFiles.put(writtenFile.fileName(), writtenFile);
+            writtenFiles.add(writtenFile.fileName());
+        }
+        updatedFiles.forEach(file -> newIndexFiles.put(file.fileName(), file));
+        deletedFiles.forEach(file -> deletedIndexFiles.put(file.fileName(), file));
+    }
+
+    private DvIndexFileChanges(
+            LinkedHashMap<String, IndexFileMeta> newIndexFiles,
+            LinkedHashMap<String, IndexFileMeta> deletedIndexFiles,
+            Set<String> writtenFiles) {
+        this.newIndexFiles = newIndexFiles;
+        this.deletedIndexFiles = deletedIndexFiles;
+        this.writtenFiles = writtenFiles;
+    }
+
+    /** Written and updated index files. */
+    public List<IndexFileMeta> newIndexFiles() {
+        return new ArrayList<>(newIndexFiles.values());
+    }
+
+    public List<IndexFileMeta> deletedIndexFiles() {
+        return new ArrayList<>(deletedIndexFiles.values());
+    }
+
+    /** Index files written for these changes, they are not committed yet. */
+    public List<IndexFileMeta> writtenFiles() {
+        List<IndexFileMeta> files = new ArrayList<>();
+        for (String fileName : writtenFiles) {
+            files.add(newIndexFiles.get(fileName));
+        }
+        return Collections.unmodifiableList(files);
+    }
+
+    /**
+     * Merges the changes made before these changes and not committed yet. Files written by the old
+     * changes and deleted by these changes are never committed, they are deleted immediately.
+     */
+    public DvIndexFileChanges mergeOld(
+            DvIndexFileChanges old, DeletionVectorsIndexFile dvIndexFile) {
+        LinkedHashMap<String, IndexFileMeta> newFiles = new LinkedHashMap<>(old.newIndexFiles);
+        LinkedHashMap<String, IndexFileMeta> deletedFiles =
+                new LinkedHashMap<>(old.deletedIndexFiles);
+        Set<String> written = new HashSet<>(old.writtenFiles);
+
+        for (IndexFileMeta file : deletedIndexFiles.values()) {
+            newFiles.remove(file.fileName());
+            if (written.remove(file.fileName())) {
+                dvIndexFile.delete(file);
+            } else {
+                deletedFiles.put(file.fileName(), file);
+            }
+        }
+        newFiles.putAll(newIndexFiles);
+        written.addAll(writtenFiles);
+        return new DvIndexFileChanges(newFiles, deletedFiles, written);
+    }
+
+    @Override
+    public String toString() {
+        return "DvIndexFileChanges{"
+                + "newIndexFiles="
+                + newIndexFiles.keySet()
+                + ", deletedIndexFiles="
+                + deletedIndexFiles.keySet()
+                + ", writtenFiles="
+                + writtenFiles
+                + '}';
+    }
+}
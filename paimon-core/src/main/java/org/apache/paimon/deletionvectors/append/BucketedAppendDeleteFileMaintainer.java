@@ -21,6 +21,7 @@ package org.apache.paimon.deletionvectors.append;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.IndexManifestEntry;
 
@@ -61,8 +62,19 @@ public class BucketedAppendDeleteFileMaintainer implements BaseAppendDeleteFileM
         List<IndexManifestEntry> result = new ArrayList<>();
         maintainer
                 .writeDeletionVectorsIndex()
-                .map(fileMeta -> new IndexManifestEntry(FileKind.ADD, partition, bucket, fileMeta))
-                .ifPresent(result::add);
+                .ifPresent(
+                        changes -> {
+                            for (IndexFileMeta file : changes.newIndexFiles()) {
+                                result.add(
+                                        new IndexManifestEntry(
+                                                FileKind.ADD, partition, bucket, file));
+                            }
+                            for (IndexFileMeta file : changes.deletedIndexFiles()) {
+                                result.add(
+                                        new IndexManifestEntry(
+                                                FileKind.DELETE, partition, bucket, file));
+                            }
+                        });
         return result;
     }
 }
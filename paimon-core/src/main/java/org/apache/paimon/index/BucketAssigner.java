@@ -27,6 +27,9 @@ public interface BucketAssigner {
 
     void prepareCommit(long commitIdentifier);
 
+    /** Releases the resources of the assigner. */
+    default void close() {}
+
     static boolean isMyBucket(int bucket, int numAssigners, int assignId) {
         return bucket % numAssigners == assignId % numAssigners;
     }
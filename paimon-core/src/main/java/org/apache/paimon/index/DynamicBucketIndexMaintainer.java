@@ -22,34 +22,53 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.utils.IntArrayList;
 import org.apache.paimon.utils.IntHashSet;
 import org.apache.paimon.utils.IntIterator;
+import org.apache.paimon.utils.Pair;
 
 import javax.annotation.Nullable;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-/** An Index Maintainer for dynamic bucket to maintain key hashcode in a bucket. */
+/**
+ * An Index Maintainer for dynamic bucket to maintain key hashcode in a bucket.
+ *
+ * <p>By default, all hashcodes of the bucket are rewritten into a single index file when new keys
+ * are added. When delta files are enabled, only the hashcodes added since the last commit are
+ * written into a new delta file, and all index files of the bucket are consolidated into one file
+ * once another delta file would exceed the max number of delta files.
+ */
 public class DynamicBucketIndexMaintainer {
 
     private final HashIndexFile indexFile;
     private final IntHashSet hashcode;
+    private final int maxDeltaFiles;
+    private final IntArrayList newHashcode;
+    private List<IndexFileMeta> indexFiles;
 
     private boolean modified;
 
     private DynamicBucketIndexMaintainer(
-            HashIndexFile indexFile, @Nullable IndexFileMeta restoredFile) {
+            HashIndexFile indexFile, List<IndexFileMeta> restoredFiles, int maxDeltaFiles) {
         this.indexFile = indexFile;
-        IntHashSet hashcode = new IntHashSet();
-        if (restoredFile != null) {
-            hashcode = new IntHashSet((int) restoredFile.rowCount());
-            restore(indexFile, hashcode, restoredFile);
+        long rowCount = 0;
+        for (IndexFileMeta file : restoredFiles) {
+            rowCount += file.rowCount();
+        }
+        IntHashSet hashcode = new IntHashSet((int) rowCount);
+        for (IndexFileMeta file : restoredFiles) {
+            restore(indexFile, hashcode, file);
         }
         this.hashcode = hashcode;
+        this.maxDeltaFiles = maxDeltaFiles;
+        this.newHashcode = new IntArrayList(16);
+        this.indexFiles = new ArrayList<>(restoredFiles);
         this.modified = false;
     }
 
@@ -72,24 +91,48 @@ public class DynamicBucketIndexMaintainer {
         if (!(key instanceof BinaryRow)) {
             throw new IllegalArgumentException("Unsupported key type: " + key.getClass());
         }
-        boolean changed = hashcode.add(key.hashCode());
+        int hash = key.hashCode();
+        boolean changed = hashcode.add(hash);
         if (changed) {
             modified = true;
+            newHashcode.add(hash);
         }
     }
 
-    public List<IndexFileMeta> prepareCommit() {
-        if (modified) {
-            IndexFileMeta entry;
-            try {
-                entry = indexFile.write(hashcode.toIntIterator());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-            modified = false;
-            return Collections.singletonList(entry);
+    /**
+     * Writes the new index file of the bucket if any hashcode has been added.
+     *
+     * @return the new index files and the deleted index files of the bucket.
+     */
+    public Pair<List<IndexFileMeta>, List<IndexFileMeta>> prepareCommit() {
+        if (!modified) {
+            return Pair.of(Collections.emptyList(), Collections.emptyList());
+        }
+
+        // all files but one are delta files, consolidate if another delta file would exceed the
+        // max number of delta files
+        boolean consolidate = maxDeltaFiles <= 0 || indexFiles.size() - 1 >= maxDeltaFiles;
+        IndexFileMeta file;
+        try {
+            file =
+                    indexFile.write(
+                            consolidate
+                                    ? hashcode.toIntIterator()
+                                    : IntIterator.create(newHashcode.toArray()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        // without delta files, the new file replaces all files of the bucket when committing
+        List<IndexFileMeta> deletedFiles =
+                consolidate && maxDeltaFiles > 0 ? indexFiles : Collections.emptyList();
+        if (consolidate) {
+            indexFiles = new ArrayList<>();
         }
-        return Collections.emptyList();
+        indexFiles.add(file);
+        newHashcode.clear();
+        modified = false;
+        return Pair.of(Collections.singletonList(file), deletedFiles);
     }
 
     @VisibleForTesting
@@ -102,8 +145,15 @@ public class DynamicBucketIndexMaintainer {
 
         private final IndexFileHandler handler;
 
+        private final int maxDeltaFiles;
+
         public Factory(IndexFileHandler handler) {
+            this(handler, 0);
+        }
+
+        public Factory(IndexFileHandler handler, int maxDeltaFiles) {
             this.handler = handler;
+            this.maxDeltaFiles = maxDeltaFiles;
         }
 
         public IndexFileHandler indexFileHandler() {
@@ -111,9 +161,11 @@ public class DynamicBucketIndexMaintainer {
         }
 
         public DynamicBucketIndexMaintainer create(
-                BinaryRow partition, int bucket, @Nullable IndexFileMeta restoredFile) {
+                BinaryRow partition, int bucket, @Nullable List<IndexFileMeta> restoredFiles) {
             return new DynamicBucketIndexMaintainer(
-                    handler.hashIndex(partition, bucket), restoredFile);
+                    handler.hashIndex(partition, bucket),
+                    restoredFiles == null ? Collections.emptyList() : restoredFiles,
+                    maxDeltaFiles);
         }
     }
 }
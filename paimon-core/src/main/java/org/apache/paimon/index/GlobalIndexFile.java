@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Global index file, maps the hashes of column values to the data files containing them. An index
+ * file covers a set of data files of a bucket, a bucket may have multiple index files.
+ *
+ * <p>File layout: the covered data file names, then for each indexed column its field id, its type,
+ * and the sorted hashes each followed by the bitmap of the ordinals of the data files.
+ */
+public class GlobalIndexFile extends IndexFile {
+
+    public static final String GLOBAL_INDEX = "GLOBAL";
+
+    private static final int VERSION = 1;
+
+    public GlobalIndexFile(FileIO fileIO, IndexPathFactory pathFactory) {
+        super(fileIO, pathFactory);
+    }
+
+    public IndexFileMeta write(List<String> dataFiles, List<ColumnIndex> columns)
+            throws IOException {
+        Path path = pathFactory.newPath();
+        try (DataOutputViewStreamWrapper out =
+                new DataOutputViewStreamWrapper(
+                        new BufferedOutputStream(fileIO.newOutputStream(path, false)))) {
+            out.writeInt(VERSION);
+            out.writeInt(dataFiles.size());
+            for (String file : dataFiles) {
+                out.writeUTF(file);
+            }
+            out.writeInt(columns.size());
+            for (ColumnIndex column : columns) {
+                out.writeInt(column.fieldId);
+                out.writeUTF(column.type);
+                out.writeInt(column.hashes.length);
+                for (int i = 0; i < column.hashes.length; i++) {
+                    out.writeInt(column.hashes[i]);
+                    column.files[i].serialize(out);
+                }
+            }
+        } catch (IOException e) {
+            fileIO.deleteQuietly(path);
+            throw e;
+        }
+        return new IndexFileMeta(
+                GLOBAL_INDEX,
+                path.getName(),
+                fileSize(path),
+                dataFiles.size(),
+                null,
+                isExternalPath() ? path.toString() : null);
+    }
+
+    /** Reads the index, only columns of the given field ids are kept if not null. */
+    public Index read(IndexFileMeta file, @Nullable Set<Integer> fieldIds) throws IOException {
+        try (DataInputViewStreamWrapper in =
+                new DataInputViewStreamWrapper(
+                        new BufferedInputStream(fileIO.newInputStream(path(file))))) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported global index version " + version);
+            }
+            int numFiles = in.readInt();
+            List<String> dataFiles = new ArrayList<>(numFiles);
+            for (int i = 0; i < numFiles; i++) {
+                dataFiles.add(in.readUTF());
+            }
+            int numColumns = in.readInt();
+            Map<Integer, ColumnIndex> columns = new HashMap<>();
+            for (int i = 0; i < numColumns; i++) {
+                int fieldId = in.readInt();
+                String type = in.readUTF();
+                int numHashes = in.readInt();
+                int[] hashes = new int[numHashes];
+                RoaringBitmap32[] files = new RoaringBitmap32[numHashes];
+                for (int j = 0; j < numHashes; j++) {
+                    hashes[j] = in.readInt();
+                    files[j] = new RoaringBitmap32();
+                    files[j].deserialize(in);
+                }
+                if (fieldIds == null || fieldIds.contains(fieldId)) {
+                    columns.put(fieldId, new ColumnIndex(fieldId, type, hashes, files));
+                }
+            }
+            return new Index(dataFiles, columns);
+        }
+    }
+
+    /** Content of a {@link GlobalIndexFile}. */
+    public static class Index {
+
+        private final List<String> dataFiles;
+        private final Map<Integer, ColumnIndex> columns;
+
+        public Index(List<String> dataFiles, Map<Integer, ColumnIndex> columns) {
+            this.dataFiles = Collections.unmodifiableList(dataFiles);
+            this.columns = columns;
+        }
+
+        /** Names of the data files covered by this index. */
+        public List<String> dataFiles() {
+            return dataFiles;
+        }
+
+        /** Index of the field, null if the field is not indexed or its type is changed. */
+        @Nullable
+        public ColumnIndex column(DataField field) {
+            ColumnIndex column = columns.get(field.id());
+            return column != null && column.type.equals(typeString(field.type())) ? column : null;
+        }
+
+        public Map<Integer, ColumnIndex> columns() {
+            return columns;
+        }
+    }
+
+    /** Index of a column, maps value hashes to data file ordinals. */
+    public static class ColumnIndex {
+
+        private final int fieldId;
+        private final String type;
+        private final int[] hashes;
+        private final RoaringBitmap32[] files;
+
+        private ColumnIndex(int fieldId, String type, int[] hashes, RoaringBitmap32[] files) {
+            this.fieldId = fieldId;
+            this.type = type;
+            this.hashes = hashes;
+            this.files = files;
+        }
+
+        public ColumnIndex(DataField field, TreeMap<Integer, RoaringBitmap32> files) {
+            this.fieldId = field.id();
+            this.type = typeString(field.type());
+            this.hashes = new int[files.size()];
+            this.files = new RoaringBitmap32[files.size()];
+            int i = 0;
+            for (Map.Entry<Integer, RoaringBitmap32> entry : files.entrySet()) {
+                hashes[i] = entry.getKey();
+                this.files[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        /** Ordinals of the data files containing a value of the hash. */
+        public RoaringBitmap32 filesOf(int hash) {
+            int index = Arrays.binarySearch(hashes, hash);
+            return index < 0 ? new RoaringBitmap32() : files[index];
+        }
+
+        /** Adds the entries of this index to the builder, with file ordinals mapped. */
+        public void addTo(TreeMap<Integer, RoaringBitmap32> builder, int[] ordinalMapping) {
+            for (int i = 0; i < hashes.length; i++) {
+                RoaringBitmap32 mapped = null;
+                Iterator<Integer> iterator = files[i].iterator();
+                while (iterator.hasNext()) {
+                    int newOrdinal = ordinalMapping[iterator.next()];
+                    if (newOrdinal >= 0) {
+                        if (mapped == null) {
+                            mapped = builder.computeIfAbsent(hashes[i], k -> new RoaringBitmap32());
+                        }
+                        mapped.add(newOrdinal);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String typeString(DataType type) {
+        // nullability does not change the hash of values
+        return type.copy(true).toString();
+    }
+
+    /** Hashes values of a type, values are hashed in their binary format. */
+    public static class ValueHasher {
+
+        private final InternalRowSerializer serializer;
+        private final GenericRow row;
+
+        public ValueHasher(DataType type) {
+            this.serializer = new InternalRowSerializer(type);
+            this.row = new GenericRow(1);
+        }
+
+        public int hash(Object value) {
+            row.setField(0, value);
+            return serializer.toBinaryRow(row).hashCode();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.index.GlobalIndexFile.ColumnIndex;
+import org.apache.paimon.index.GlobalIndexFile.ValueHasher;
+import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.predicate.Equal;
+import org.apache.paimon.predicate.In;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.paimon.index.GlobalIndexFile.GLOBAL_INDEX;
+
+/**
+ * Prunes the data files of a scan with the {@link GlobalIndexFile}s. Equal and in predicates on
+ * indexed columns in the conjunction of the filter are used, a data file is skipped if an index
+ * file covering it tells that it has none of the values of one of these predicates.
+ *
+ * <p>Index files are immutable, the read index files are kept in a cache shared by all tables in
+ * this JVM, so repeated scans do not read them again.
+ */
+public class GlobalIndexPruner {
+
+    @Nullable private static Cache<Path, CachedIndex> sharedCache;
+
+    private final IndexFileHandler handler;
+    private final RowType rowType;
+    private final Set<String> columns;
+    @Nullable private final Cache<Path, CachedIndex> cache;
+
+    /**
+     * Creates a pruner.
+     *
+     * @param cacheMaxMemory the shared cache is bounded by the largest size requested, index files
+     *     are not cached if the size is 0
+     */
+    public GlobalIndexPruner(
+            IndexFileHandler handler,
+            RowType rowType,
+            List<String> columns,
+            MemorySize cacheMaxMemory) {
+        this.handler = handler;
+        this.rowType = rowType;
+        this.columns = new HashSet<>(columns);
+        this.cache = sharedCache(cacheMaxMemory.getBytes());
+    }
+
+    @Nullable
+    private static synchronized Cache<Path, CachedIndex> sharedCache(long maxMemorySize) {
+        if (maxMemorySize <= 0) {
+            return null;
+        }
+
+        if (sharedCache == null) {
+            sharedCache =
+                    Caffeine.newBuilder()
+                            .softValues()
+                            .weigher((Path path, CachedIndex index) -> index.weight)
+                            .maximumWeight(maxMemorySize)
+                            .executor(Runnable::run)
+                            .build();
+        } else {
+            sharedCache
+                    .policy()
+                    .eviction()
+                    .ifPresent(
+                            eviction -> {
+                                if (eviction.getMaximum() < maxMemorySize) {
+                                    eviction.setMaximum(maxMemorySize);
+                                }
+                            });
+        }
+        return sharedCache;
+    }
+
+    /**
+     * Returns the names of the data files which cannot match the filter according to the index of
+     * the snapshot.
+     *
+     * @param partitionFilter only index files of the matched partitions are read, all partitions if
+     *     null
+     */
+    public Set<String> skippedFiles(
+            Snapshot snapshot, @Nullable PartitionPredicate partitionFilter, Predicate filter) {
+        List<ValuesFilter> filters = new ArrayList<>();
+        for (Predicate predicate : PredicateBuilder.splitAnd(filter)) {
+            ValuesFilter valuesFilter = toValuesFilter(predicate);
+            if (valuesFilter != null) {
+                filters.add(valuesFilter);
+            }
+        }
+        if (filters.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> skipped = new HashSet<>();
+        for (IndexManifestEntry entry : handler.scan(snapshot, GLOBAL_INDEX)) {
+            if (partitionFilter != null && !partitionFilter.test(entry.partition())) {
+                continue;
+            }
+
+            GlobalIndexFile.Index index =
+                    read(entry.partition(), entry.bucket(), entry.indexFile());
+            RoaringBitmap32 matched = null;
+            for (ValuesFilter valuesFilter : filters) {
+                ColumnIndex column = index.column(valuesFilter.field);
+                if (column == null) {
+                    continue;
+                }
+                RoaringBitmap32 files = new RoaringBitmap32();
+                for (int hash : valuesFilter.hashes) {
+                    files.or(column.filesOf(hash));
+                }
+                if (matched == null) {
+                    matched = files;
+                } else {
+                    matched.and(files);
+                }
+            }
+            if (matched == null) {
+                continue;
+            }
+
+            List<String> dataFiles = index.dataFiles();
+            for (int i = 0; i < dataFiles.size(); i++) {
+                if (!matched.contains(i)) {
+                    skipped.add(dataFiles.get(i));
+                }
+            }
+        }
+        return skipped;
+    }
+
+    private GlobalIndexFile.Index read(BinaryRow partition, int bucket, IndexFileMeta file) {
+        GlobalIndexFile indexFile = handler.globalIndex(partition, bucket);
+        if (cache == null) {
+            return read(indexFile, file);
+        }
+        return cache.get(
+                        indexFile.path(file),
+                        k -> new CachedIndex(read(indexFile, file), file.fileSize()))
+                .index;
+    }
+
+    private static GlobalIndexFile.Index read(GlobalIndexFile indexFile, IndexFileMeta file) {
+        try {
+            return indexFile.read(file, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nullable
+    private ValuesFilter toValuesFilter(Predicate predicate) {
+        if (!(predicate instanceof LeafPredicate)) {
+            return null;
+        }
+        LeafPredicate leaf = (LeafPredicate) predicate;
+        if (!columns.contains(leaf.fieldName())
+                || !(leaf.function() instanceof Equal || leaf.function() instanceof In)) {
+            return null;
+        }
+
+        DataField field = rowType.getField(leaf.fieldName());
+        ValueHasher hasher = new ValueHasher(field.type());
+        int[] hashes = new int[leaf.literals().size()];
+        int size = 0;
+        for (Object literal : leaf.literals()) {
+            // null never equals to any value
+            if (literal != null) {
+                hashes[size++] = hasher.hash(literal);
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+        return new ValuesFilter(field, Arrays.copyOf(hashes, size));
+    }
+
+    /** A cached index with its weight, the size of its file. */
+    private static class CachedIndex {
+
+        private final GlobalIndexFile.Index index;
+        private final int weight;
+
+        private CachedIndex(GlobalIndexFile.Index index, long fileSize) {
+            this.index = index;
+            this.weight = (int) Math.min(fileSize, Integer.MAX_VALUE);
+        }
+    }
+
+    /** Values of a field to match. */
+    private static class ValuesFilter {
+
+        private final DataField field;
+        private final int[] hashes;
+
+        private ValuesFilter(DataField field, int[] hashes) {
+            this.field = field;
+            this.hashes = hashes;
+        }
+    }
+}
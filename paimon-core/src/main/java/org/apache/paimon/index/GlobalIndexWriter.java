@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.index.GlobalIndexFile.ColumnIndex;
+import org.apache.paimon.index.GlobalIndexFile.ValueHasher;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataIncrement;
+import org.apache.paimon.io.RowDataFileWriter;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
+import org.apache.paimon.utils.SnapshotManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptySet;
+import static org.apache.paimon.index.GlobalIndexFile.GLOBAL_INDEX;
+
+/**
+ * Writes the {@link GlobalIndexFile}s of a table. New data files are indexed into a new index file
+ * when committed, together with the index files written before by this writer which are smaller
+ * than the target size. Index files of other writers are not merged, because all writers of a
+ * bucket-unaware table write the same bucket. A compaction replaces the index files covering its
+ * input files with one index file of their remaining files and the compaction output, so the number
+ * of index files is bounded by compaction just like the number of data files.
+ *
+ * <p>The value hashes of data files written with collectors from {@link #newRowCollector()} are
+ * collected while the files are written, only the other files are read to be indexed.
+ */
+public class GlobalIndexWriter {
+
+    private final IndexFileHandler handler;
+    private final SnapshotManager snapshotManager;
+    private final List<DataField> fields;
+    private final InternalRow.FieldGetter[] fieldGetters;
+    private final InternalRow.FieldGetter[] rowFieldGetters;
+    private final ValueHasher[] hashers;
+    private final long targetFileSize;
+    private final IndexedFieldsReader reader;
+
+    // value hashes of the written files per indexed field, by file name
+    private final Map<String, RoaringBitmap32[]> collected = new ConcurrentHashMap<>();
+
+    // names of the index files written by index()
+    private final Set<String> writtenIndexFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a writer.
+     *
+     * @param rowType the row type of the written data files
+     * @param columns the indexed columns
+     * @param reader reads the indexed columns of a data file, in the order of {@code columns}
+     */
+    public GlobalIndexWriter(
+            IndexFileHandler handler,
+            SnapshotManager snapshotManager,
+            RowType rowType,
+            List<String> columns,
+            long targetFileSize,
+            IndexedFieldsReader reader) {
+        this.handler = handler;
+        this.snapshotManager = snapshotManager;
+        this.fields = rowType.project(columns).getFields();
+        this.fieldGetters = new InternalRow.FieldGetter[fields.size()];
+        this.rowFieldGetters = new InternalRow.FieldGetter[fields.size()];
+        this.hashers = new ValueHasher[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            DataType type = fields.get(i).type();
+            fieldGetters[i] = InternalRow.createFieldGetter(type, i);
+            rowFieldGetters[i] =
+                    InternalRow.createFieldGetter(type, rowType.getFieldIndex(columns.get(i)));
+            hashers[i] = new ValueHasher(type);
+        }
+        this.targetFileSize = targetFileSize;
+        this.reader = reader;
+    }
+
+    /**
+     * Creates a collector of the value hashes of a data file being written. The collected hashes
+     * are used instead of reading the file when it is indexed.
+     */
+    public RowDataFileWriter.RowCollector newRowCollector() {
+        ValueHasher[] fileHashers = new ValueHasher[fields.size()];
+        RoaringBitmap32[] hashes = new RoaringBitmap32[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            fileHashers[i] = new ValueHasher(fields.get(i).type());
+            hashes[i] = new RoaringBitmap32();
+        }
+        return new RowDataFileWriter.RowCollector() {
+            @Override
+            public void collect(InternalRow row) {
+                for (int i = 0; i < fields.size(); i++) {
+                    Object value = rowFieldGetters[i].getFieldOrNull(row);
+                    if (value != null) {
+                        hashes[i].add(fileHashers[i].hash(value));
+                    }
+                }
+            }
+
+            @Override
+            public void finish(String fileName) {
+                collected.put(fileName, hashes);
+            }
+        };
+    }
+
+    /**
+     * Indexes new data files of a bucket. The index files of the bucket written by this writer and
+     * smaller than the target size are merged into the new index file, except the excluded ones.
+     * The index file changes are added to the {@link DataIncrement}.
+     *
+     * @param ignorePrevious the previous index files are not merged, for example when overwriting
+     */
+    public void index(
+            BinaryRow partition,
+            int bucket,
+            DataIncrement increment,
+            Collection<IndexFileMeta> excluded,
+            boolean ignorePrevious)
+            throws IOException {
+        if (increment.newFiles().isEmpty()) {
+            return;
+        }
+        GlobalIndexFile indexFile = handler.globalIndex(partition, bucket);
+        Builder builder = new Builder();
+        Snapshot snapshot = ignorePrevious ? null : snapshotManager.latestSnapshot();
+        if (snapshot != null) {
+            for (IndexFileMeta meta : handler.scan(snapshot, GLOBAL_INDEX, partition, bucket)) {
+                if (meta.fileSize() < targetFileSize
+                        && writtenIndexFiles.contains(meta.fileName())
+                        && !excluded.contains(meta)) {
+                    builder.merge(indexFile.read(meta, null), emptySet(), emptySet());
+                    increment.deletedIndexFiles().add(meta);
+                    writtenIndexFiles.remove(meta.fileName());
+                }
+            }
+        }
+        for (DataFileMeta file : increment.newFiles()) {
+            builder.add(partition, bucket, file);
+        }
+        IndexFileMeta newIndexFile = builder.write(indexFile);
+        writtenIndexFiles.add(newIndexFile.fileName());
+        increment.newIndexFiles().add(newIndexFile);
+    }
+
+    /**
+     * Replaces the index files covering the input files of the compaction, the index file changes
+     * are added to the {@link CompactIncrement}.
+     */
+    public void compact(BinaryRow partition, int bucket, CompactIncrement increment)
+            throws IOException {
+        if (increment.compactBefore().isEmpty()) {
+            return;
+        }
+        Set<String> removed =
+                increment.compactBefore().stream()
+                        .map(DataFileMeta::fileName)
+                        .collect(Collectors.toSet());
+        Set<String> added =
+                increment.compactAfter().stream()
+                        .map(DataFileMeta::fileName)
+                        .collect(Collectors.toSet());
+
+        GlobalIndexFile indexFile = handler.globalIndex(partition, bucket);
+        Builder builder = new Builder();
+        List<IndexFileMeta> replaced = new ArrayList<>();
+        Snapshot snapshot = snapshotManager.latestSnapshot();
+        if (snapshot != null) {
+            for (IndexFileMeta meta : handler.scan(snapshot, GLOBAL_INDEX, partition, bucket)) {
+                GlobalIndexFile.Index index = indexFile.read(meta, null);
+                if (index.dataFiles().stream().noneMatch(removed::contains)) {
+                    continue;
+                }
+                replaced.add(meta);
+                builder.merge(index, removed, added);
+            }
+        }
+
+        for (DataFileMeta file : increment.compactAfter()) {
+            // files upgraded without rewriting are already in the merged index
+            if (!removed.contains(file.fileName())) {
+                builder.add(partition, bucket, file);
+            }
+        }
+
+        if (!builder.isEmpty()) {
+            increment.newIndexFiles().add(builder.write(indexFile));
+        }
+        increment.deletedIndexFiles().addAll(replaced);
+        replaced.forEach(meta -> writtenIndexFiles.remove(meta.fileName()));
+    }
+
+    /** Drops the collected hashes of files not indexed yet, such as files of failed writes. */
+    public void clear() {
+        collected.clear();
+        writtenIndexFiles.clear();
+    }
+
+    /** Builder of the content of an index file. */
+    private class Builder {
+
+        private final List<String> dataFiles = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<TreeMap<Integer, RoaringBitmap32>> columns = new ArrayList<>();
+
+        private Builder() {
+            for (int i = 0; i < fields.size(); i++) {
+                columns.add(new TreeMap<>());
+            }
+        }
+
+        private void add(BinaryRow partition, int bucket, DataFileMeta file) throws IOException {
+            int ordinal = ordinal(file.fileName());
+            RoaringBitmap32[] hashes = collected.remove(file.fileName());
+            if (hashes != null) {
+                for (int i = 0; i < fields.size(); i++) {
+                    TreeMap<Integer, RoaringBitmap32> column = columns.get(i);
+                    Iterator<Integer> iterator = hashes[i].iterator();
+                    while (iterator.hasNext()) {
+                        column.computeIfAbsent(iterator.next(), k -> new RoaringBitmap32())
+                                .add(ordinal);
+                    }
+                }
+                return;
+            }
+
+            try (RecordReader<InternalRow> recordReader = reader.read(partition, bucket, file)) {
+                recordReader.forEachRemaining(
+                        row -> {
+                            for (int i = 0; i < fields.size(); i++) {
+                                Object value = fieldGetters[i].getFieldOrNull(row);
+                                if (value != null) {
+                                    columns.get(i)
+                                            .computeIfAbsent(
+                                                    hashers[i].hash(value),
+                                                    k -> new RoaringBitmap32())
+                                            .add(ordinal);
+                                }
+                            }
+                        });
+            }
+        }
+
+        /**
+         * Merges the entries of the files of the index which are not removed. The files are dropped
+         * if the index does not have all the fields, they are not covered by the index.
+         */
+        private void merge(GlobalIndexFile.Index index, Set<String> removed, Set<String> added) {
+            List<ColumnIndex> columnIndexes = new ArrayList<>();
+            for (DataField field : fields) {
+                ColumnIndex column = index.column(field);
+                if (column == null) {
+                    return;
+                }
+                columnIndexes.add(column);
+            }
+
+            int[] mapping = new int[index.dataFiles().size()];
+            for (int i = 0; i < mapping.length; i++) {
+                String file = index.dataFiles().get(i);
+                mapping[i] = removed.contains(file) && !added.contains(file) ? -1 : ordinal(file);
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                columnIndexes.get(i).addTo(columns.get(i), mapping);
+            }
+        }
+
+        private int ordinal(String file) {
+            Integer ordinal = ordinals.get(file);
+            if (ordinal == null) {
+                ordinal = dataFiles.size();
+                ordinals.put(file, ordinal);
+                dataFiles.add(file);
+            }
+            return ordinal;
+        }
+
+        private boolean isEmpty() {
+            return dataFiles.isEmpty();
+        }
+
+        private IndexFileMeta write(GlobalIndexFile indexFile) throws IOException {
+            List<ColumnIndex> columnIndexes = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                columnIndexes.add(new ColumnIndex(fields.get(i), columns.get(i)));
+            }
+            return indexFile.write(dataFiles, columnIndexes);
+        }
+    }
+
+    /** Reader of the indexed fields of a data file. */
+    @FunctionalInterface
+    public interface IndexedFieldsReader {
+        RecordReader<InternalRow> read(BinaryRow partition, int bucket, DataFileMeta file)
+                throws IOException;
+    }
+}
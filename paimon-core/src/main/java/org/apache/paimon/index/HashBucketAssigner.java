@@ -21,11 +21,15 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -48,6 +52,8 @@ public class HashBucketAssigner implements BucketAssigner {
     private final int maxBucketsNum;
     private int maxBucketId;
 
+    @Nullable private PagedHashBucketIndex.PagePool pagePool;
+
     private final Map<BinaryRow, PartitionIndex> partitionIndex;
 
     public HashBucketAssigner(
@@ -70,6 +76,15 @@ public class HashBucketAssigner implements BucketAssigner {
         this.maxBucketsNum = maxBucketsNum;
     }
 
+    /**
+     * Pages the indexes of the partitions to local disk once they exceed the memory, instead of
+     * keeping the whole indexes in memory. The memory is shared by all partitions of this assigner.
+     */
+    public HashBucketAssigner withPagedIndex(IOManager ioManager, MemorySize indexMemory) {
+        this.pagePool = new PagedHashBucketIndex.PagePool(ioManager, indexMemory);
+        return this;
+    }
+
     /** Assign a bucket for key hash of a record. */
     @Override
     public int assign(BinaryRow partition, int hash) {
@@ -148,6 +163,7 @@ public class HashBucketAssigner implements BucketAssigner {
                                 latestCommittedIdentifier,
                                 commitIdentifier);
                     }
+                    index.close();
                     iterator.remove();
                 }
             }
@@ -155,6 +171,12 @@ public class HashBucketAssigner implements BucketAssigner {
         }
     }
 
+    @Override
+    public void close() {
+        partitionIndex.values().forEach(PartitionIndex::close);
+        partitionIndex.clear();
+    }
+
     @VisibleForTesting
     Set<BinaryRow> currentPartitions() {
         return partitionIndex.keySet();
@@ -174,6 +196,7 @@ public class HashBucketAssigner implements BucketAssigner {
                 partition,
                 targetBucketRowNumber,
                 (hash) -> computeAssignId(partitionHash, hash) == assignId,
-                this::isMyBucket);
+                this::isMyBucket,
+                pagePool);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.utils.Int2ShortHashMap;
+
+import java.io.Closeable;
+
+/** Index from key hashes to buckets of a partition, used by {@link HashBucketAssigner}. */
+public interface HashBucketIndex extends Closeable {
+
+    /** Returns the bucket of the hash, or -1 if the hash is not in the index. */
+    int get(int hash);
+
+    void put(int hash, short bucket);
+
+    @Override
+    default void close() {}
+
+    static HashBucketIndex inMemory(Int2ShortHashMap hash2Bucket) {
+        return new HashBucketIndex() {
+            @Override
+            public int get(int hash) {
+                return hash2Bucket.containsKey(hash) ? hash2Bucket.get(hash) : -1;
+            }
+
+            @Override
+            public void put(int hash, short bucket) {
+                hash2Bucket.put(hash, bucket);
+            }
+        };
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.deletionvectors.DeletionVectorCache;
 import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
@@ -31,6 +32,8 @@ import org.apache.paimon.utils.IndexFilePathFactories;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SnapshotManager;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -41,7 +44,9 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.GlobalIndexFile.GLOBAL_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.PrimaryKeyIndexFile.PRIMARY_KEY_INDEX;
 
 /** Handle index files. */
 public class IndexFileHandler {
@@ -52,6 +57,8 @@ public class IndexFileHandler {
     private final IndexFilePathFactories pathFactories;
     private final MemorySize dvTargetFileSize;
     private final boolean dvBitmap64;
+    private final int dvMaxDeltaFiles;
+    @Nullable private final DeletionVectorCache dvCache;
 
     public IndexFileHandler(
             FileIO fileIO,
@@ -59,13 +66,28 @@ public class IndexFileHandler {
             IndexManifestFile indexManifestFile,
             IndexFilePathFactories pathFactories,
             MemorySize dvTargetFileSize,
-            boolean dvBitmap64) {
+            boolean dvBitmap64,
+            int dvMaxDeltaFiles,
+            @Nullable DeletionVectorCache dvCache) {
         this.fileIO = fileIO;
         this.snapshotManager = snapshotManager;
         this.pathFactories = pathFactories;
         this.indexManifestFile = indexManifestFile;
         this.dvTargetFileSize = dvTargetFileSize;
         this.dvBitmap64 = dvBitmap64;
+        this.dvMaxDeltaFiles = dvMaxDeltaFiles;
+        this.dvCache = dvCache;
+    }
+
+    /** Maximum number of delta deletion vectors index files of a bucket, 0 if disabled. */
+    public int dvMaxDeltaFiles() {
+        return dvMaxDeltaFiles;
+    }
+
+    /** Cache of deletion vectors shared with readers, null if disabled. */
+    @Nullable
+    public DeletionVectorCache dvCache() {
+        return dvCache;
     }
 
     public HashIndexFile hashIndex(BinaryRow partition, int bucket) {
@@ -77,6 +99,24 @@ public class IndexFileHandler {
                 fileIO, pathFactories.get(partition, bucket), dvTargetFileSize, dvBitmap64);
     }
 
+    public PrimaryKeyIndexFile pkIndex(BinaryRow partition, int bucket) {
+        return new PrimaryKeyIndexFile(fileIO, pathFactories.get(partition, bucket));
+    }
+
+    public GlobalIndexFile globalIndex(BinaryRow partition, int bucket) {
+        return new GlobalIndexFile(fileIO, pathFactories.get(partition, bucket));
+    }
+
+    public Optional<IndexFileMeta> scanPrimaryKeyIndex(
+            Snapshot snapshot, BinaryRow partition, int bucket) {
+        List<IndexFileMeta> result = scan(snapshot, PRIMARY_KEY_INDEX, partition, bucket);
+        if (result.size() > 1) {
+            throw new IllegalArgumentException(
+                    "Find multiple primary key index files for one bucket: " + result);
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
     public Optional<IndexFileMeta> scanHashIndex(
             Snapshot snapshot, BinaryRow partition, int bucket) {
         List<IndexFileMeta> result = scan(snapshot, HASH_INDEX, partition, bucket);
@@ -194,6 +234,10 @@ public class IndexFileHandler {
                 return hashIndex(entry.partition(), entry.bucket());
             case DELETION_VECTORS_INDEX:
                 return dvIndex(entry.partition(), entry.bucket());
+            case PRIMARY_KEY_INDEX:
+                return pkIndex(entry.partition(), entry.bucket());
+            case GLOBAL_INDEX:
+                return globalIndex(entry.partition(), entry.bucket());
             default:
                 throw new IllegalArgumentException("Unknown index type: " + file.indexType());
         }
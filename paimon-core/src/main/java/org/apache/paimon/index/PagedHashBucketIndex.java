@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.Int2ShortHashMap;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A {@link HashBucketIndex} whose hashes are distributed to pages, the least recently used pages
+ * are spilled to local files once the loaded entries exceed the memory.
+ *
+ * <p>The memory and the least recently used order are managed by a {@link PagePool}, which may be
+ * shared by the indexes of all partitions of an assigner, so the memory is a budget of the whole
+ * assigner instead of each partition.
+ *
+ * <p>A page is loaded from its file on access. Its file is only appended, entries added to a page
+ * are written in batches, so pages are never rewritten.
+ */
+public class PagedHashBucketIndex implements HashBucketIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PagedHashBucketIndex.class);
+
+    private static final int NUM_PAGES = 1024;
+
+    // estimated heap bytes of an entry in an open hash map with the default load factor
+    private static final int BYTES_PER_ENTRY = 12;
+
+    // entries added to a page are appended to its file in batches
+    private static final int FLUSH_ENTRIES = 1024;
+
+    private final PagePool pool;
+    private final Page[] pages;
+
+    public PagedHashBucketIndex(IOManager ioManager, MemorySize maxMemory) {
+        this(new PagePool(ioManager, maxMemory));
+    }
+
+    public PagedHashBucketIndex(PagePool pool) {
+        this.pool = pool;
+        this.pages = new Page[NUM_PAGES];
+    }
+
+    @Override
+    public int get(int hash) {
+        Int2ShortHashMap entries = load(page(hash));
+        return entries.containsKey(hash) ? entries.get(hash) : -1;
+    }
+
+    @Override
+    public void put(int hash, short bucket) {
+        Page page = page(hash);
+        Int2ShortHashMap entries = load(page);
+        int size = entries.size();
+        entries.put(hash, bucket);
+        page.add(hash, bucket, pool.ioManager);
+        pool.loadedEntries += entries.size() - size;
+        pool.spillIfNeeded();
+    }
+
+    /** Adds an entry without loading its page, used to bulk load the index. */
+    public void append(int hash, short bucket) {
+        Page page = page(hash);
+        if (page.entries != null) {
+            put(hash, bucket);
+        } else {
+            page.add(hash, bucket, pool.ioManager);
+        }
+    }
+
+    @VisibleForTesting
+    int numLoadedPages() {
+        int loaded = 0;
+        for (Page page : pages) {
+            if (page != null && page.entries != null) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private Page page(int hash) {
+        int id = MurmurHashUtils.fmix(hash) & (NUM_PAGES - 1);
+        Page page = pages[id];
+        if (page == null) {
+            page = new Page();
+            pages[id] = page;
+        }
+        return page;
+    }
+
+    private Int2ShortHashMap load(Page page) {
+        if (page.entries == null) {
+            page.entries = page.read();
+            pool.loadedEntries += page.entries.size();
+            pool.loadedPages.put(page, page);
+            pool.spillIfNeeded();
+        } else {
+            // touch the page
+            pool.loadedPages.get(page);
+        }
+        return page.entries;
+    }
+
+    @Override
+    public void close() {
+        for (Page page : pages) {
+            if (page == null) {
+                continue;
+            }
+            if (page.entries != null) {
+                pool.loadedEntries -= page.entries.size();
+                pool.loadedPages.remove(page);
+                page.entries = null;
+            }
+            if (page.file != null && !page.file.delete() && page.file.exists()) {
+                LOG.warn("Failed to delete index page file: {}", page.file.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Memory of {@link PagedHashBucketIndex}es, the least recently used page of all the indexes is
+     * spilled once the loaded entries exceed the memory. It is not thread safe.
+     */
+    public static class PagePool {
+
+        private final IOManager ioManager;
+        private final long maxLoadedEntries;
+
+        // access order, the first page is the least recently used one
+        private final LinkedHashMap<Page, Page> loadedPages;
+
+        private long loadedEntries;
+
+        public PagePool(IOManager ioManager, MemorySize maxMemory) {
+            this.ioManager = ioManager;
+            this.maxLoadedEntries = Math.max(1, maxMemory.getBytes() / BYTES_PER_ENTRY);
+            this.loadedPages = new LinkedHashMap<>(16, 0.75f, true);
+            this.loadedEntries = 0;
+        }
+
+        @VisibleForTesting
+        int numLoadedPages() {
+            return loadedPages.size();
+        }
+
+        @VisibleForTesting
+        long loadedEntries() {
+            return loadedEntries;
+        }
+
+        private void spillIfNeeded() {
+            Iterator<Page> iterator = loadedPages.values().iterator();
+            while (loadedEntries > maxLoadedEntries && loadedPages.size() > 1) {
+                Page page = iterator.next();
+                page.flush(ioManager);
+                loadedEntries -= page.entries.size();
+                page.entries = null;
+                iterator.remove();
+            }
+        }
+    }
+
+    /** A page of the index, backed by a local file. */
+    private static class Page {
+
+        private final IntArrayList added;
+
+        @Nullable private File file;
+        private int numEntriesInFile;
+        @Nullable private Int2ShortHashMap entries;
+
+        private Page() {
+            this.added = new IntArrayList(16);
+            this.numEntriesInFile = 0;
+        }
+
+        private Int2ShortHashMap read() {
+            Int2ShortHashMap entries = new Int2ShortHashMap(numEntriesInFile + added.size() / 2);
+            if (file != null) {
+                try (DataInputStream in =
+                        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                    for (int i = 0; i < numEntriesInFile; i++) {
+                        entries.put(in.readInt(), in.readShort());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            // later entries win, as the in memory index does
+            for (int i = 0; i < added.size(); i += 2) {
+                entries.put(added.get(i), (short) added.get(i + 1));
+            }
+            return entries;
+        }
+
+        private void add(int hash, short bucket, IOManager ioManager) {
+            added.add(hash);
+            added.add(bucket);
+            if (added.size() >= FLUSH_ENTRIES * 2) {
+                flush(ioManager);
+            }
+        }
+
+        private void flush(IOManager ioManager) {
+            if (added.isEmpty()) {
+                return;
+            }
+
+            if (file == null) {
+                file = ioManager.createChannel().getPathFile();
+            }
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(file, true)))) {
+                for (int i = 0; i < added.size(); i += 2) {
+                    out.writeInt(added.get(i));
+                    out.writeShort(added.get(i + 1));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            numEntriesInFile += added.size() / 2;
+            added.clear();
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.paimon.utils.Int2ShortHashMap;
 import org.apache.paimon.utils.IntIterator;
 import org.apache.paimon.utils.ListUtils;
 
+import javax.annotation.Nullable;
+
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -41,7 +43,7 @@ import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 /** Bucket Index Per Partition. */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    public final HashBucketIndex hash2Bucket;
 
     public final Map<Integer, Long> nonFullBucketInformation;
 
@@ -55,7 +57,7 @@ public class PartitionIndex {
     public long lastAccessedCommitIdentifier;
 
     public PartitionIndex(
-            Int2ShortHashMap hash2Bucket,
+            HashBucketIndex hash2Bucket,
             Map<Integer, Long> bucketInformation,
             long targetBucketRowNumber) {
         this.hash2Bucket = hash2Bucket;
@@ -71,8 +73,9 @@ public class PartitionIndex {
         accessed = true;
 
         // 1. is it a key that has appeared before
-        if (hash2Bucket.containsKey(hash)) {
-            return hash2Bucket.get(hash);
+        int existing = hash2Bucket.get(hash);
+        if (existing >= 0) {
+            return existing;
         }
 
         // 2. find bucket from existing buckets
@@ -117,14 +120,36 @@ public class PartitionIndex {
         return bucket;
     }
 
+    public void close() {
+        hash2Bucket.close();
+    }
+
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
             long targetBucketRowNumber,
             IntPredicate loadFilter,
             IntPredicate bucketFilter) {
+        return loadIndex(
+                indexFileHandler, partition, targetBucketRowNumber, loadFilter, bucketFilter, null);
+    }
+
+    /**
+     * Loads the index of a partition, the hashes are paged to local disk through the {@code
+     * pagePool} if it is not null.
+     */
+    public static PartitionIndex loadIndex(
+            IndexFileHandler indexFileHandler,
+            BinaryRow partition,
+            long targetBucketRowNumber,
+            IntPredicate loadFilter,
+            IntPredicate bucketFilter,
+            @Nullable PagedHashBucketIndex.PagePool pagePool) {
         List<IndexManifestEntry> files = indexFileHandler.scanEntries(HASH_INDEX, partition);
-        Int2ShortHashMap.Builder mapBuilder = Int2ShortHashMap.builder();
+        PagedHashBucketIndex pagedIndex =
+                pagePool == null ? null : new PagedHashBucketIndex(pagePool);
+        Int2ShortHashMap.Builder mapBuilder =
+                pagedIndex == null ? Int2ShortHashMap.builder() : null;
         Map<Integer, Long> buckets = new HashMap<>();
         for (IndexManifestEntry file : files) {
             try (IntIterator iterator =
@@ -135,7 +160,11 @@ public class PartitionIndex {
                     try {
                         int hash = iterator.next();
                         if (loadFilter.test(hash)) {
-                            mapBuilder.put(hash, (short) file.bucket());
+                            if (pagedIndex != null) {
+                                pagedIndex.append(hash, (short) file.bucket());
+                            } else {
+                                mapBuilder.put(hash, (short) file.bucket());
+                            }
                         }
                         if (bucketFilter.test(file.bucket())) {
                             buckets.compute(
@@ -147,9 +176,14 @@ public class PartitionIndex {
                     }
                 }
             } catch (IOException e) {
+                if (pagedIndex != null) {
+                    pagedIndex.close();
+                }
                 throw new UncheckedIOException(e);
             }
         }
-        return new PartitionIndex(mapBuilder.build(), buckets, targetBucketRowNumber);
+        HashBucketIndex hash2Bucket =
+                pagedIndex == null ? HashBucketIndex.inMemory(mapBuilder.build()) : pagedIndex;
+        return new PartitionIndex(hash2Bucket, buckets, targetBucketRowNumber);
     }
 }
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.Pair;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Primary key index file of a bucket, maps the hash of a primary key to the data files and row
+ * positions containing the key.
+ *
+ * <p>File layout: the indexed data file names, the entries sorted by hash, each entry is a hash, a
+ * data file ordinal and a row position, a fence with the hash of every {@link #BLOCK_ENTRIES}th
+ * entry, and a footer with the offsets of the entries and the fence. A lookup only reads the fence
+ * once and then one block of entries.
+ */
+public class PrimaryKeyIndexFile extends IndexFile {
+
+    public static final String PRIMARY_KEY_INDEX = "PRIMARY_KEY";
+
+    private static final int VERSION = 1;
+    private static final int ENTRY_BYTES = 12;
+    private static final int BLOCK_ENTRIES = 256;
+    private static final int FOOTER_BYTES = 24;
+
+    public PrimaryKeyIndexFile(FileIO fileIO, IndexPathFactory pathFactory) {
+        super(fileIO, pathFactory);
+    }
+
+    /** Creates a writer, entries should be added in order of hash. */
+    public Writer newWriter(List<String> dataFiles) throws IOException {
+        return new Writer(pathFactory.newPath(), dataFiles);
+    }
+
+    public Reader open(IndexFileMeta file) throws IOException {
+        Path path = path(file);
+        return new Reader(fileIO.newInputStream(path), fileSize(path));
+    }
+
+    /** Writer of {@link PrimaryKeyIndexFile}. */
+    public class Writer implements Closeable {
+
+        private final Path path;
+        private final DataOutputViewStreamWrapper out;
+        private final long entriesOffset;
+        private final IntArrayList fence;
+
+        private long numEntries;
+        private int lastHash;
+        private boolean finished;
+        private boolean closed;
+
+        private Writer(Path path, List<String> dataFiles) throws IOException {
+            this.path = path;
+            this.out =
+                    new DataOutputViewStreamWrapper(
+                            new BufferedOutputStream(fileIO.newOutputStream(path, false)));
+            out.writeInt(VERSION);
+            out.writeInt(dataFiles.size());
+            for (String file : dataFiles) {
+                out.writeUTF(file);
+            }
+            this.entriesOffset = out.size();
+            this.fence = new IntArrayList(16);
+        }
+
+        public void add(int hash, int fileOrdinal, int position) throws IOException {
+            checkArgument(numEntries == 0 || hash >= lastHash, "Hashes should be ascending.");
+            if (numEntries % BLOCK_ENTRIES == 0) {
+                fence.add(hash);
+            }
+            out.writeInt(hash);
+            out.writeInt(fileOrdinal);
+            out.writeInt(position);
+            lastHash = hash;
+            numEntries++;
+        }
+
+        public IndexFileMeta finish() throws IOException {
+            long fenceOffset = entriesOffset + numEntries * ENTRY_BYTES;
+            out.writeInt(fence.size());
+            for (int i = 0; i < fence.size(); i++) {
+                out.writeInt(fence.get(i));
+            }
+            out.writeLong(entriesOffset);
+            out.writeLong(fenceOffset);
+            out.writeLong(numEntries);
+            finished = true;
+            close();
+            return new IndexFileMeta(
+                    PRIMARY_KEY_INDEX,
+                    path.getName(),
+                    fileSize(path),
+                    numEntries,
+                    null,
+                    isExternalPath() ? path.toString() : null);
+        }
+
+        /** Closes the writer, the file is deleted if it is not finished. */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                out.close();
+            } finally {
+                if (!finished) {
+                    fileIO.deleteQuietly(path);
+                }
+            }
+        }
+    }
+
+    /** Reader of {@link PrimaryKeyIndexFile}. */
+    public static class Reader implements Closeable {
+
+        private final SeekableInputStream in;
+        private final List<String> dataFiles;
+        private final long entriesOffset;
+        private final long numEntries;
+        private final int[] fence;
+
+        private Reader(SeekableInputStream in, long fileLength) throws IOException {
+            this.in = in;
+            try {
+                in.seek(fileLength - FOOTER_BYTES);
+                DataInputDeserializer footer = new DataInputDeserializer(readFully(FOOTER_BYTES));
+                this.entriesOffset = footer.readLong();
+                long fenceOffset = footer.readLong();
+                this.numEntries = footer.readLong();
+
+                in.seek(0);
+                DataInputDeserializer header =
+                        new DataInputDeserializer(readFully((int) entriesOffset));
+                int version = header.readInt();
+                checkArgument(
+                        version == VERSION, "Unsupported primary key index version %s.", version);
+                int numFiles = header.readInt();
+                List<String> files = new ArrayList<>(numFiles);
+                for (int i = 0; i < numFiles; i++) {
+                    files.add(header.readUTF());
+                }
+                this.dataFiles = Collections.unmodifiableList(files);
+
+                in.seek(fenceOffset);
+                DataInputDeserializer fenceInput =
+                        new DataInputDeserializer(
+                                readFully((int) (fileLength - FOOTER_BYTES - fenceOffset)));
+                this.fence = new int[fenceInput.readInt()];
+                for (int i = 0; i < fence.length; i++) {
+                    fence[i] = fenceInput.readInt();
+                }
+            } catch (IOException | RuntimeException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /** Names of the data files indexed by this file. */
+        public List<String> dataFiles() {
+            return dataFiles;
+        }
+
+        public long numEntries() {
+            return numEntries;
+        }
+
+        /** Returns the data file names and row positions of the given hash. */
+        public List<Pair<String, Integer>> lookup(int hash) throws IOException {
+            List<Pair<String, Integer>> result = new ArrayList<>();
+            // entries of the hash may start in the block before the first fence equal to it
+            int block = lowerBound(fence, hash) - 1;
+            long entry = Math.max(block, 0) * (long) BLOCK_ENTRIES;
+            while (entry < numEntries) {
+                int count = (int) Math.min(BLOCK_ENTRIES, numEntries - entry);
+                in.seek(entriesOffset + entry * ENTRY_BYTES);
+                DataInputDeserializer input =
+                        new DataInputDeserializer(readFully(count * ENTRY_BYTES));
+                for (int i = 0; i < count; i++) {
+                    int entryHash = input.readInt();
+                    int fileOrdinal = input.readInt();
+                    int position = input.readInt();
+                    if (entryHash == hash) {
+                        result.add(Pair.of(dataFiles.get(fileOrdinal), position));
+                    } else if (entryHash > hash) {
+                        return result;
+                    }
+                }
+                entry += count;
+            }
+            return result;
+        }
+
+        /** Reads all entries in order of hash. */
+        public void forEach(EntryConsumer consumer) throws IOException {
+            in.seek(entriesOffset);
+            DataInputViewStreamWrapper input =
+                    new DataInputViewStreamWrapper(new BufferedInputStream(in));
+            for (long i = 0; i < numEntries; i++) {
+                consumer.accept(input.readInt(), input.readInt(), input.readInt());
+            }
+        }
+
+        private byte[] readFully(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(bytes, offset, length - offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of primary key index file.");
+                }
+                offset += read;
+            }
+            return bytes;
+        }
+
+        private static int lowerBound(int[] values, int key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /** Consumer of index entries. */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int hash, int fileOrdinal, int position) throws IOException;
+    }
+}
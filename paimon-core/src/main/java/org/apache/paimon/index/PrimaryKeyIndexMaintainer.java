@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueDataFileWriter;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.reader.FileRecordIterator;
+import org.apache.paimon.reader.FileRecordReader;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.LongArrayList;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index maintainer to maintain the {@link PrimaryKeyIndexFile} of a bucket.
+ *
+ * <p>Only files of the highest level are indexed, they hold most of the data and change only when
+ * compacted. When a compaction changes files of the highest level, a new index file is written from
+ * the entries of the previous index file which are still valid, and the entries of the new files.
+ * Files of the highest level which are not in the index, for example files written before the index
+ * is enabled, are indexed when they are rewritten.
+ *
+ * <p>The key hashes of files written to the highest level by compactions are collected while the
+ * files are written, see {@link #newKeyCollector()}. Only files of the highest level which are not
+ * written by this maintainer's compactions, for example upgraded files, are read to be indexed.
+ */
+public class PrimaryKeyIndexMaintainer {
+
+    private final PrimaryKeyIndexFile indexFile;
+    private final KeyValueFileReaderFactory readerFactory;
+    private final RowType keyType;
+    private final InternalRowSerializer keySerializer;
+    private final int numLevels;
+
+    /** Key hashes of files written by compactions, in the order of positions in the file. */
+    private final Map<String, int[]> collectedHashes;
+
+    @Nullable private IndexFileMeta current;
+
+    private PrimaryKeyIndexMaintainer(
+            PrimaryKeyIndexFile indexFile,
+            KeyValueFileReaderFactory readerFactory,
+            RowType keyType,
+            int numLevels,
+            @Nullable IndexFileMeta restoredFile) {
+        this.indexFile = indexFile;
+        this.readerFactory = readerFactory;
+        this.keyType = keyType;
+        this.keySerializer = new InternalRowSerializer(keyType);
+        this.numLevels = numLevels;
+        this.collectedHashes = new ConcurrentHashMap<>();
+        this.current = restoredFile;
+    }
+
+    /**
+     * Creates a collector for a data file written to the highest level. Collectors are used by the
+     * compaction threads, so each collector has its own serializer.
+     */
+    public KeyValueDataFileWriter.KeyCollector newKeyCollector() {
+        return new KeyValueDataFileWriter.KeyCollector() {
+
+            private final InternalRowSerializer serializer = new InternalRowSerializer(keyType);
+            private final IntArrayList hashes = new IntArrayList(1024);
+
+            @Override
+            public void collect(InternalRow key) {
+                hashes.add(serializer.toBinaryRow(key).hashCode());
+            }
+
+            @Override
+            public void finish(String fileName) {
+                collectedHashes.put(fileName, hashes.toArray());
+            }
+        };
+    }
+
+    /**
+     * Updates the index if the compaction changes files of the highest level, the index file
+     * changes are added to the {@link CompactIncrement}.
+     *
+     * @param increment the compaction increment to commit
+     * @param allFiles all the files of the bucket after the compaction
+     */
+    public void notifyCompaction(CompactIncrement increment, Collection<DataFileMeta> allFiles)
+            throws IOException {
+        for (DataFileMeta file : increment.compactBefore()) {
+            collectedHashes.remove(file.fileName());
+        }
+
+        // restored files may have more levels than configured, same as the levels of the writer
+        int maxLevel = numLevels - 1;
+        for (DataFileMeta file : allFiles) {
+            maxLevel = Math.max(maxLevel, file.level());
+        }
+        if (!changesMaxLevel(increment.compactBefore(), maxLevel)
+                && !changesMaxLevel(increment.compactAfter(), maxLevel)) {
+            return;
+        }
+
+        List<String> dataFiles = new ArrayList<>();
+        Map<String, DataFileMeta> toIndex = new HashMap<>();
+        for (DataFileMeta file : allFiles) {
+            if (file.level() == maxLevel) {
+                dataFiles.add(file.fileName());
+                toIndex.put(file.fileName(), file);
+            }
+        }
+
+        IndexFileMeta previous = current;
+        if (dataFiles.isEmpty()) {
+            current = null;
+        } else {
+            current = write(dataFiles, toIndex);
+            increment.newIndexFiles().add(current);
+        }
+        if (previous != null) {
+            increment.deletedIndexFiles().add(previous);
+        }
+    }
+
+    private static boolean changesMaxLevel(List<DataFileMeta> files, int maxLevel) {
+        for (DataFileMeta file : files) {
+            if (file.level() == maxLevel) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private IndexFileMeta write(List<String> dataFiles, Map<String, DataFileMeta> toIndex)
+            throws IOException {
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < dataFiles.size(); i++) {
+            ordinals.put(dataFiles.get(i), i);
+        }
+
+        // an entry is sorted by (hash << 32 | index), index points to its file and position
+        LongArrayList sortKeys = new LongArrayList(1024);
+        IntArrayList fileOrdinals = new IntArrayList(1024);
+        IntArrayList positions = new IntArrayList(1024);
+
+        if (current != null) {
+            try (PrimaryKeyIndexFile.Reader reader = indexFile.open(current)) {
+                List<String> indexed = reader.dataFiles();
+                int[] mapping = new int[indexed.size()];
+                for (int i = 0; i < indexed.size(); i++) {
+                    Integer ordinal = ordinals.get(indexed.get(i));
+                    mapping[i] = ordinal == null ? -1 : ordinal;
+                    if (ordinal != null) {
+                        toIndex.remove(indexed.get(i));
+                    }
+                }
+                reader.forEach(
+                        (hash, fileOrdinal, position) -> {
+                            int ordinal = mapping[fileOrdinal];
+                            if (ordinal >= 0) {
+                                addEntry(
+                                        sortKeys, fileOrdinals, positions, hash, ordinal, position);
+                            }
+                        });
+            }
+        }
+
+        for (DataFileMeta file : toIndex.values()) {
+            int ordinal = ordinals.get(file.fileName());
+            int[] hashes = collectedHashes.remove(file.fileName());
+            if (hashes != null) {
+                for (int position = 0; position < hashes.length; position++) {
+                    addEntry(
+                            sortKeys, fileOrdinals, positions, hashes[position], ordinal, position);
+                }
+                continue;
+            }
+
+            try (FileRecordReader<KeyValue> reader = readerFactory.createRecordReader(file, null)) {
+                FileRecordIterator<KeyValue> batch;
+                while ((batch = reader.readBatch()) != null) {
+                    KeyValue kv;
+                    while ((kv = batch.next()) != null) {
+                        int hash = keySerializer.toBinaryRow(kv.key()).hashCode();
+                        int position = (int) batch.returnedPosition();
+                        addEntry(sortKeys, fileOrdinals, positions, hash, ordinal, position);
+                    }
+                    batch.releaseBatch();
+                }
+            }
+        }
+
+        long[] sorted = sortKeys.toArray();
+        Arrays.sort(sorted);
+        try (PrimaryKeyIndexFile.Writer writer = indexFile.newWriter(dataFiles)) {
+            for (long sortKey : sorted) {
+                int index = (int) sortKey;
+                writer.add((int) (sortKey >> 32), fileOrdinals.get(index), positions.get(index));
+            }
+            return writer.finish();
+        }
+    }
+
+    private static void addEntry(
+            LongArrayList sortKeys,
+            IntArrayList fileOrdinals,
+            IntArrayList positions,
+            int hash,
+            int fileOrdinal,
+            int position) {
+        sortKeys.add(((long) hash << 32) | sortKeys.size());
+        fileOrdinals.add(fileOrdinal);
+        positions.add(position);
+    }
+
+    /** Factory to restore {@link PrimaryKeyIndexMaintainer}. */
+    public static class Factory {
+
+        private final IndexFileHandler handler;
+        private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
+        private final int numLevels;
+
+        public Factory(
+                IndexFileHandler handler,
+                KeyValueFileReaderFactory.Builder readerFactoryBuilder,
+                int numLevels) {
+            this.handler = handler;
+            this.readerFactoryBuilder =
+                    readerFactoryBuilder.copyWithoutProjection().withReadValueType(RowType.of());
+            this.numLevels = numLevels;
+        }
+
+        public IndexFileHandler indexFileHandler() {
+            return handler;
+        }
+
+        public PrimaryKeyIndexMaintainer create(
+                BinaryRow partition, int bucket, @Nullable IndexFileMeta restoredFile) {
+            return new PrimaryKeyIndexMaintainer(
+                    handler.pkIndex(partition, bucket),
+                    readerFactoryBuilder.build(partition, bucket, DeletionVector.emptyFactory()),
+                    readerFactoryBuilder.keyType(),
+                    numLevels,
+                    restoredFile);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.stats.SimpleStats;
+
+import org.apache.paimon.shade.guava30.com.google.common.collect.Interner;
+import org.apache.paimon.shade.guava30.com.google.common.collect.Interners;
+
+import javax.annotation.Nullable;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.apache.paimon.utils.InternalRowUtils.fromStringArrayData;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+
+/**
+ * A compact {@link DataFileMeta} backed by a {@link BinaryRow} in the layout of {@link
+ * DataFileMeta#SCHEMA}. Primitive fields are read on access, keys and stats are decoded lazily on
+ * first access, so it is much smaller than {@link PojoDataFileMeta} when holding a large number of
+ * files, for example in the splits of a plan.
+ *
+ * <p>{@code _VALUE_STATS_COLS} and {@code _WRITE_COLS} are usually the same for all files of a
+ * schema, they are kept out of the row and interned instead.
+ *
+ * <p>Copying methods like {@link #upgrade} return {@link PojoDataFileMeta}s.
+ */
+public class BinaryDataFileMeta implements DataFileMeta {
+
+    private static final Interner<List<String>> COLUMNS_INTERNER = Interners.newWeakInterner();
+
+    private final BinaryRow row;
+    private final @Nullable List<String> valueStatsCols;
+    private final @Nullable List<String> writeCols;
+
+    private @Nullable BinaryRow minKey;
+    private @Nullable BinaryRow maxKey;
+    private @Nullable SimpleStats keyStats;
+    private @Nullable SimpleStats valueStats;
+    private int hash;
+
+    /**
+     * Creates a {@link BinaryDataFileMeta}, {@code _VALUE_STATS_COLS} and {@code _WRITE_COLS} in
+     * the given row are ignored.
+     */
+    public BinaryDataFileMeta(
+            BinaryRow row,
+            @Nullable List<String> valueStatsCols,
+            @Nullable List<String> writeCols) {
+        checkArgument(
+                row.getFieldCount() == SCHEMA.getFieldCount(),
+                "Expect a row with %s fields, but is %s.",
+                SCHEMA.getFieldCount(),
+                row.getFieldCount());
+        this.row = row;
+        this.valueStatsCols = intern(valueStatsCols);
+        this.writeCols = intern(writeCols);
+    }
+
+    @Nullable
+    private static List<String> intern(@Nullable List<String> columns) {
+        return columns == null
+                ? null
+                : COLUMNS_INTERNER.intern(Collections.unmodifiableList(columns));
+    }
+
+    /** The backing row, {@code _VALUE_STATS_COLS} and {@code _WRITE_COLS} of it are null. */
+    BinaryRow row() {
+        return row;
+    }
+
+    @Override
+    public String fileName() {
+        return row.getString(0).toString();
+    }
+
+    @Override
+    public long fileSize() {
+        return row.getLong(1);
+    }
+
+    @Override
+    public long rowCount() {
+        return row.getLong(2);
+    }
+
+    @Override
+    public Optional<Long> deleteRowCount() {
+        return row.isNullAt(13) ? Optional.empty() : Optional.of(row.getLong(13));
+    }
+
+    @Override
+    public byte[] embeddedIndex() {
+        return row.isNullAt(14) ? null : row.getBinary(14);
+    }
+
+    @Override
+    public BinaryRow minKey() {
+        if (minKey == null) {
+            minKey = deserializeBinaryRow(row.getBinary(3));
+        }
+        return minKey;
+    }
+
+    @Override
+    public BinaryRow maxKey() {
+        if (maxKey == null) {
+            maxKey = deserializeBinaryRow(row.getBinary(4));
+        }
+        return maxKey;
+    }
+
+    @Override
+    public SimpleStats keyStats() {
+        if (keyStats == null) {
+            keyStats = SimpleStats.fromRow(row.getRow(5, 3));
+        }
+        return keyStats;
+    }
+
+    @Override
+    public SimpleStats valueStats() {
+        if (valueStats == null) {
+            valueStats = SimpleStats.fromRow(row.getRow(6, 3));
+        }
+        return valueStats;
+    }
+
+    @Override
+    public long minSequenceNumber() {
+        return row.getLong(7);
+    }
+
+    @Override
+    public long maxSequenceNumber() {
+        return row.getLong(8);
+    }
+
+    @Override
+    public long schemaId() {
+        return row.getLong(9);
+    }
+
+    @Override
+    public int level() {
+        return row.getInt(10);
+    }
+
+    @Override
+    public List<String> extraFiles() {
+        return Collections.unmodifiableList(fromStringArrayData(row.getArray(11)));
+    }
+
+    @Override
+    public Timestamp creationTime() {
+        return row.getTimestamp(12, 3);
+    }
+
+    @Override
+    public long creationTimeEpochMillis() {
+        return creationTime()
+                .toLocalDateTime()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    @Override
+    public String fileFormat() {
+        String fileName = fileName();
+        String[] split = fileName.split("\\.");
+        if (split.length == 1) {
+            throw new RuntimeException("Can't find format from file: " + fileName);
+        }
+        return split[split.length - 1];
+    }
+
+    @Override
+    public Optional<String> externalPath() {
+        return row.isNullAt(17) ? Optional.empty() : Optional.of(row.getString(17).toString());
+    }
+
+    @Override
+    public Optional<String> externalPathDir() {
+        return externalPath().map(Path::new).map(p -> p.getParent().toUri().toString());
+    }
+
+    @Override
+    public Optional<FileSource> fileSource() {
+        return row.isNullAt(15)
+                ? Optional.empty()
+                : Optional.of(FileSource.fromByteValue(row.getByte(15)));
+    }
+
+    @Nullable
+    @Override
+    public List<String> valueStatsCols() {
+        return valueStatsCols;
+    }
+
+    @Nullable
+    @Override
+    public Long firstRowId() {
+        return row.isNullAt(18) ? null : row.getLong(18);
+    }
+
+    @Nullable
+    @Override
+    public List<String> writeCols() {
+        return writeCols;
+    }
+
+    @Override
+    public DataFileMeta upgrade(int newLevel) {
+        return toPojo().upgrade(newLevel);
+    }
+
+    @Override
+    public DataFileMeta rename(String newFileName) {
+        return toPojo().rename(newFileName);
+    }
+
+    @Override
+    public DataFileMeta copyWithoutStats() {
+        return toPojo().copyWithoutStats();
+    }
+
+    @Override
+    public DataFileMeta assignSequenceNumber(long minSequenceNumber, long maxSequenceNumber) {
+        return toPojo().assignSequenceNumber(minSequenceNumber, maxSequenceNumber);
+    }
+
+    @Override
+    public DataFileMeta assignFirstRowId(long firstRowId) {
+        return toPojo().assignFirstRowId(firstRowId);
+    }
+
+    @Override
+    public DataFileMeta copy(List<String> newExtraFiles) {
+        return toPojo().copy(newExtraFiles);
+    }
+
+    @Override
+    public DataFileMeta newExternalPath(String newExternalPath) {
+        return toPojo().newExternalPath(newExternalPath);
+    }
+
+    @Override
+    public DataFileMeta copy(byte[] newEmbeddedIndex) {
+        return toPojo().copy(newEmbeddedIndex);
+    }
+
+    public PojoDataFileMeta toPojo() {
+        return new PojoDataFileMeta(
+                fileName(),
+                fileSize(),
+                rowCount(),
+                minKey(),
+                maxKey(),
+                keyStats(),
+                valueStats(),
+                minSequenceNumber(),
+                maxSequenceNumber(),
+                schemaId(),
+                level(),
+                extraFiles(),
+                creationTime(),
+                deleteRowCount().orElse(null),
+                embeddedIndex(),
+                fileSource().orElse(null),
+                valueStatsCols,
+                externalPath().orElse(null),
+                firstRowId(),
+                writeCols);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof DataFileMeta)) {
+            return false;
+        }
+        if (o instanceof BinaryDataFileMeta) {
+            BinaryDataFileMeta that = (BinaryDataFileMeta) o;
+            if (row.equals(that.row)
+                    && Objects.equals(valueStatsCols, that.valueStatsCols)
+                    && Objects.equals(writeCols, that.writeCols)) {
+                return true;
+            }
+        }
+        // cheap fields first, keys and stats are only decoded if all of them are equal
+        DataFileMeta that = (DataFileMeta) o;
+        return fileName().equals(that.fileName())
+                && fileSize() == that.fileSize()
+                && rowCount() == that.rowCount()
+                && minSequenceNumber() == that.minSequenceNumber()
+                && maxSequenceNumber() == that.maxSequenceNumber()
+                && schemaId() == that.schemaId()
+                && level() == that.level()
+                && Objects.equals(deleteRowCount(), that.deleteRowCount())
+                && Objects.equals(fileSource(), that.fileSource())
+                && Objects.equals(externalPath(), that.externalPath())
+                && Objects.equals(firstRowId(), that.firstRowId())
+                && Objects.equals(valueStatsCols, that.valueStatsCols())
+                && Objects.equals(writeCols, that.writeCols())
+                && Objects.equals(creationTime(), that.creationTime())
+                && Objects.equals(extraFiles(), that.extraFiles())
+                && Arrays.equals(embeddedIndex(), that.embeddedIndex())
+                && Objects.equals(minKey(), that.minKey())
+                && Objects.equals(maxKey(), that.maxKey())
+                && Objects.equals(keyStats(), that.keyStats())
+                && Objects.equals(valueStats(), that.valueStats());
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash =
+                    PojoDataFileMeta.hashCode(
+                            fileName(), fileSize(), rowCount(), minSequenceNumber(), level());
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return PojoDataFileMeta.toString(this);
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.io;
 
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -25,6 +26,9 @@ import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.stats.SimpleStats;
 import org.apache.paimon.utils.ObjectSerializer;
 
+import java.io.IOException;
+
+import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
 import static org.apache.paimon.utils.InternalRowUtils.fromStringArrayData;
 import static org.apache.paimon.utils.InternalRowUtils.toStringArrayData;
 import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
@@ -41,6 +45,11 @@ public class DataFileMetaSerializer extends ObjectSerializer<DataFileMeta> {
 
     @Override
     public InternalRow toRow(DataFileMeta meta) {
+        if (meta instanceof BinaryDataFileMeta
+                && meta.valueStatsCols() == null
+                && meta.writeCols() == null) {
+            return ((BinaryDataFileMeta) meta).row();
+        }
         return GenericRow.of(
                 BinaryString.fromString(meta.fileName()),
                 meta.fileSize(),
@@ -73,7 +82,7 @@ public class DataFileMetaSerializer extends ObjectSerializer<DataFileMeta> {
                 deserializeBinaryRow(row.getBinary(3)),
                 deserializeBinaryRow(row.getBinary(4)),
                 SimpleStats.fromRow(row.getRow(5, 3)),
-                SimpleStats.fromRow(row.getRow(6, 3)),
+                row.isNullAt(6) ? EMPTY_STATS : SimpleStats.fromRow(row.getRow(6, 3)),
                 row.getLong(7),
                 row.getLong(8),
                 row.getLong(9),
@@ -88,4 +97,26 @@ public class DataFileMetaSerializer extends ObjectSerializer<DataFileMeta> {
                 row.isNullAt(18) ? null : row.getLong(18),
                 row.isNullAt(19) ? null : fromStringArrayData(row.getArray(19)));
     }
+
+    /** Converts the given file to a compact {@link BinaryDataFileMeta}. */
+    public BinaryDataFileMeta toBinary(DataFileMeta meta) {
+        if (meta instanceof BinaryDataFileMeta) {
+            return (BinaryDataFileMeta) meta;
+        }
+
+        GenericRow row = (GenericRow) toRow(meta);
+        row.setField(16, null);
+        row.setField(19, null);
+        return new BinaryDataFileMeta(
+                rowSerializer.toBinaryRow(row).copy(), meta.valueStatsCols(), meta.writeCols());
+    }
+
+    /** De-serializes a compact {@link BinaryDataFileMeta} from the given source input view. */
+    public BinaryDataFileMeta deserializeToBinary(DataInputView source) throws IOException {
+        BinaryRow row = (BinaryRow) rowSerializer.deserialize(source);
+        if (row.isNullAt(16) && row.isNullAt(19)) {
+            return new BinaryDataFileMeta(row, null, null);
+        }
+        return toBinary(fromRow(row));
+    }
 }
@@ -108,8 +108,9 @@ public class FileIndexEvaluator {
         return selection;
     }
 
+    /** Creates the {@link FileIndexPredicate} of a data file, null if it has no file index. */
     @Nullable
-    private static FileIndexPredicate createFileIndexPredicate(
+    public static FileIndexPredicate createFileIndexPredicate(
             FileIO fileIO,
             TableSchema dataSchema,
             DataFilePathFactory dataFilePathFactory,
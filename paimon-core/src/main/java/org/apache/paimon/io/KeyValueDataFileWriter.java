@@ -69,6 +69,8 @@ public abstract class KeyValueDataFileWriter
     private final FileSource fileSource;
     @Nullable private final DataFileIndexWriter dataFileIndexWriter;
 
+    @Nullable private KeyCollector keyCollector;
+
     private BinaryRow minKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
     private long maxSeqNumber = Long.MIN_VALUE;
@@ -105,6 +107,11 @@ public abstract class KeyValueDataFileWriter
                         fileIO, dataFileToFileIndexPath(path), valueType, fileIndexOptions);
     }
 
+    public KeyValueDataFileWriter withKeyCollector(@Nullable KeyCollector keyCollector) {
+        this.keyCollector = keyCollector;
+        return this;
+    }
+
     @Override
     public void write(KeyValue kv) throws IOException {
         super.write(kv);
@@ -113,6 +120,10 @@ public abstract class KeyValueDataFileWriter
             dataFileIndexWriter.write(kv.value());
         }
 
+        if (keyCollector != null) {
+            keyCollector.collect(kv.key());
+        }
+
         keyKeeper.copyInto(kv.key());
         if (minKey == null) {
             minKey = keyKeeper.copiedRow();
@@ -158,6 +169,10 @@ public abstract class KeyValueDataFileWriter
                         ? DataFileIndexWriter.EMPTY_RESULT
                         : dataFileIndexWriter.result();
 
+        if (keyCollector != null) {
+            keyCollector.finish(path.getName());
+        }
+
         String externalPath = isExternalPath ? path.toString() : null;
         return DataFileMeta.create(
                 path.getName(),
@@ -192,4 +207,13 @@ public abstract class KeyValueDataFileWriter
         }
         super.close();
     }
+
+    /** Collects the keys of a data file in the order of their positions in the file. */
+    public interface KeyCollector {
+
+        void collect(InternalRow key);
+
+        /** Called when all keys of the data file with this name have been collected. */
+        void finish(String fileName);
+    }
 }
@@ -42,6 +42,7 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.AsyncRecordReader;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.FormatReaderMapping;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import javax.annotation.Nullable;
 
@@ -98,13 +99,25 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
     @Override
     public RecordReader<KeyValue> createRecordReader(DataFileMeta file) throws IOException {
         if (file.fileSize() >= asyncThreshold && file.fileName().endsWith(".orc")) {
-            return new AsyncRecordReader<>(() -> createRecordReader(file, false, 2));
+            return new AsyncRecordReader<>(() -> createRecordReader(file, false, 2, null));
         }
-        return createRecordReader(file, true, null);
+        return createRecordReader(file, true, null, null);
+    }
+
+    /**
+     * Creates a reader of the given row positions of the file, positions of the returned records
+     * are physical positions in the file.
+     */
+    public FileRecordReader<KeyValue> createRecordReader(
+            DataFileMeta file, @Nullable RoaringBitmap32 selection) throws IOException {
+        return createRecordReader(file, true, null, selection);
     }
 
     private FileRecordReader<KeyValue> createRecordReader(
-            DataFileMeta file, boolean reuseFormat, @Nullable Integer orcPoolSize)
+            DataFileMeta file,
+            boolean reuseFormat,
+            @Nullable Integer orcPoolSize,
+            @Nullable RoaringBitmap32 selection)
             throws IOException {
         String formatIdentifier = DataFilePathFactory.formatIdentifier(file.fileName());
         long schemaId = file.schemaId();
@@ -130,7 +143,7 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
                         schema.logicalRowType(),
                         formatReaderMapping.getReaderFactory(),
                         orcPoolSize == null
-                                ? new FormatReaderContext(fileIO, filePath, fileSize)
+                                ? new FormatReaderContext(fileIO, filePath, fileSize, selection)
                                 : new OrcFormatReaderContext(
                                         fileIO, filePath, fileSize, orcPoolSize),
                         formatReaderMapping.getIndexMapping(),
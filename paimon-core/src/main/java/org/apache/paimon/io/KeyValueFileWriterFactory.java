@@ -51,6 +51,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /** A factory to create {@link FileWriter}s for writing {@link KeyValue} files. */
@@ -65,6 +66,9 @@ public class KeyValueFileWriterFactory {
     private final CoreOptions options;
     private final FileIndexOptions fileIndexOptions;
 
+    private int keyCollectorLevel = -1;
+    @Nullable private Supplier<KeyValueDataFileWriter.KeyCollector> keyCollectorSupplier;
+
     private KeyValueFileWriterFactory(
             FileIO fileIO,
             long schemaId,
@@ -81,6 +85,17 @@ public class KeyValueFileWriterFactory {
         this.fileIndexOptions = options.indexColumnsOptions();
     }
 
+    /**
+     * Collects the keys of merge tree files written to the given level with collectors from the
+     * given supplier, one collector per file.
+     */
+    public KeyValueFileWriterFactory withKeyCollector(
+            int level, Supplier<KeyValueDataFileWriter.KeyCollector> keyCollectorSupplier) {
+        this.keyCollectorLevel = level;
+        this.keyCollectorSupplier = keyCollectorSupplier;
+        return this;
+    }
+
     public RowType keyType() {
         return keyType;
     }
@@ -100,10 +115,19 @@ public class KeyValueFileWriterFactory {
         return new RollingFileWriter<>(
                 () -> {
                     DataFilePathFactory pathFactory = formatContext.pathFactory(key);
-                    return createDataFileWriter(
-                            pathFactory.newPath(), key, fileSource, pathFactory.isExternalPath());
+                    KeyValueDataFileWriter writer =
+                            createDataFileWriter(
+                                    pathFactory.newPath(),
+                                    key,
+                                    fileSource,
+                                    pathFactory.isExternalPath());
+                    if (keyCollectorSupplier != null && level == keyCollectorLevel) {
+                        writer.withKeyCollector(keyCollectorSupplier.get());
+                    }
+                    return writer;
                 },
-                suggestedFileSize);
+                suggestedFileSize,
+                options.asyncFileCloseMaxPending());
     }
 
     public RollingFileWriter<KeyValue, DataFileMeta> createRollingChangelogFileWriter(int level) {
@@ -117,7 +141,8 @@ public class KeyValueFileWriterFactory {
                             FileSource.APPEND,
                             pathFactory.isExternalPath());
                 },
-                suggestedFileSize);
+                suggestedFileSize,
+                options.asyncFileCloseMaxPending());
     }
 
     private KeyValueDataFileWriter createDataFileWriter(
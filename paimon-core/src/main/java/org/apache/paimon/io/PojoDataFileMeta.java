@@ -486,56 +486,49 @@ public class PojoDataFileMeta implements DataFileMeta {
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                fileName,
-                fileSize,
-                rowCount,
-                Arrays.hashCode(embeddedIndex),
-                minKey,
-                maxKey,
-                keyStats,
-                valueStats,
-                minSequenceNumber,
-                maxSequenceNumber,
-                schemaId,
-                level,
-                extraFiles,
-                creationTime,
-                deleteRowCount,
-                fileSource,
-                valueStatsCols,
-                externalPath,
-                firstRowId,
-                writeCols);
+        return hashCode(fileName, fileSize, rowCount, minSequenceNumber, level);
+    }
+
+    /**
+     * Hash code shared by all {@link DataFileMeta} implementations. Only a few cheap fields are
+     * hashed, so that compact implementations need not decode keys and stats.
+     */
+    static int hashCode(
+            String fileName, long fileSize, long rowCount, long minSequenceNumber, int level) {
+        return Objects.hash(fileName, fileSize, rowCount, minSequenceNumber, level);
     }
 
     @Override
     public String toString() {
+        return toString(this);
+    }
+
+    static String toString(DataFileMeta meta) {
         return String.format(
                 "{fileName: %s, fileSize: %d, rowCount: %d, embeddedIndex: %s, "
                         + "minKey: %s, maxKey: %s, keyStats: %s, valueStats: %s, "
                         + "minSequenceNumber: %d, maxSequenceNumber: %d, "
                         + "schemaId: %d, level: %d, extraFiles: %s, creationTime: %s, "
                         + "deleteRowCount: %d, fileSource: %s, valueStatsCols: %s, externalPath: %s, firstRowId: %s, writeCols: %s}",
-                fileName,
-                fileSize,
-                rowCount,
-                Arrays.toString(embeddedIndex),
-                minKey,
-                maxKey,
-                keyStats,
-                valueStats,
-                minSequenceNumber,
-                maxSequenceNumber,
-                schemaId,
-                level,
-                extraFiles,
-                creationTime,
-                deleteRowCount,
-                fileSource,
-                valueStatsCols,
-                externalPath,
-                firstRowId,
-                writeCols);
+                meta.fileName(),
+                meta.fileSize(),
+                meta.rowCount(),
+                Arrays.toString(meta.embeddedIndex()),
+                meta.minKey(),
+                meta.maxKey(),
+                meta.keyStats(),
+                meta.valueStats(),
+                meta.minSequenceNumber(),
+                meta.maxSequenceNumber(),
+                meta.schemaId(),
+                meta.level(),
+                meta.extraFiles(),
+                meta.creationTime(),
+                meta.deleteRowCount().orElse(null),
+                meta.fileSource().orElse(null),
+                meta.valueStatsCols(),
+                meta.externalPath().orElse(null),
+                meta.firstRowId(),
+                meta.writeCols());
     }
 }
@@ -26,13 +26,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
+import static org.apache.paimon.utils.ThreadUtils.newDaemonThreadFactory;
+
 /**
  * Writer to roll over to a new file if the current size exceed the target file size.
  *
+ * <p>If {@code maxPendingCloses} is positive, rolled files are closed in background, so that
+ * flushing their last row group, writing the footer, completing the upload and collecting
+ * statistics overlap with writing the next file. The writer waits for the oldest pending file if
+ * there are more than {@code maxPendingCloses} of them, and for all of them when it is closed.
+ *
  * @param <T> record data type.
  * @param <R> the file metadata result.
  */
@@ -42,10 +56,15 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
 
     private static final int CHECK_ROLLING_RECORD_CNT = 1000;
 
+    private static final ExecutorService CLOSE_EXECUTOR =
+            Executors.newCachedThreadPool(newDaemonThreadFactory("RollingFileWriter-close"));
+
     private final Supplier<? extends SingleFileWriter<T, R>> writerFactory;
     private final long targetFileSize;
+    private final int maxPendingCloses;
     private final List<AbortExecutor> closedWriters;
     private final List<R> results;
+    private final Deque<PendingClose<T, R>> pendingCloses;
 
     private SingleFileWriter<T, R> currentWriter = null;
     private long recordCount = 0;
@@ -53,10 +72,19 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
 
     public RollingFileWriter(
             Supplier<? extends SingleFileWriter<T, R>> writerFactory, long targetFileSize) {
+        this(writerFactory, targetFileSize, 0);
+    }
+
+    public RollingFileWriter(
+            Supplier<? extends SingleFileWriter<T, R>> writerFactory,
+            long targetFileSize,
+            int maxPendingCloses) {
         this.writerFactory = writerFactory;
         this.targetFileSize = targetFileSize;
+        this.maxPendingCloses = maxPendingCloses;
         this.results = new ArrayList<>();
         this.closedWriters = new ArrayList<>();
+        this.pendingCloses = new ArrayDeque<>();
     }
 
     @VisibleForTesting
@@ -127,6 +155,22 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
             return;
         }
 
+        if (maxPendingCloses > 0) {
+            SingleFileWriter<T, R> writer = currentWriter;
+            Future<R> future =
+                    CLOSE_EXECUTOR.submit(
+                            () -> {
+                                writer.close();
+                                return writer.result();
+                            });
+            pendingCloses.addLast(new PendingClose<>(writer, future));
+            currentWriter = null;
+            while (pendingCloses.size() > maxPendingCloses) {
+                finishPendingClose();
+            }
+            return;
+        }
+
         currentWriter.close();
         // only store abort executor in memory
         // cannot store whole writer, it includes lots of memory for example column vectors to read
@@ -136,6 +180,31 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         currentWriter = null;
     }
 
+    /** Waits for the oldest file closed in background and collects its result. */
+    private void finishPendingClose() throws IOException {
+        PendingClose<T, R> pending = pendingCloses.getFirst();
+        R result;
+        try {
+            result = pending.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while closing file " + pending.writer.path());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to close file " + pending.writer.path(), cause);
+        }
+
+        pendingCloses.removeFirst();
+        closedWriters.add(pending.writer.abortExecutor());
+        results.add(result);
+    }
+
     @Override
     public long recordCount() {
         return recordCount;
@@ -146,6 +215,17 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         if (currentWriter != null) {
             currentWriter.abort();
         }
+        for (PendingClose<T, R> pending : pendingCloses) {
+            try {
+                pending.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+                // the file is deleted below
+            }
+            pending.writer.abort();
+        }
+        pendingCloses.clear();
         for (AbortExecutor abortExecutor : closedWriters) {
             abortExecutor.abort();
         }
@@ -165,9 +245,14 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
 
         try {
             closeCurrentWriter();
+            while (!pendingCloses.isEmpty()) {
+                finishPendingClose();
+            }
         } catch (IOException e) {
             LOG.warn(
-                    "Exception occurs when writing file " + currentWriter.path() + ". Cleaning up.",
+                    "Exception occurs when writing file "
+                            + (currentWriter == null ? null : currentWriter.path())
+                            + ". Cleaning up.",
                     e);
             abort();
             throw e;
@@ -175,4 +260,16 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
             closed = true;
         }
     }
+
+    /** A file being closed in background. */
+    private static class PendingClose<T, R> {
+
+        private final SingleFileWriter<T, R> writer;
+        private final Future<R> future;
+
+        private PendingClose(SingleFileWriter<T, R> writer, Future<R> future) {
+            this.writer = writer;
+            this.future = future;
+        }
+    }
 }
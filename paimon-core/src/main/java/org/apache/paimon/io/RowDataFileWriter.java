@@ -52,6 +52,12 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
     private final FileSource fileSource;
     @Nullable private final List<String> writeCols;
 
+    @Nullable private RowCollector rowCollector;
+
+    // value of seqNumCounter after the last record of this file, the file may be closed after
+    // the counter has moved on to the next file
+    private long nextSeqNumber;
+
     public RowDataFileWriter(
             FileIO fileIO,
             FileWriterContext context,
@@ -75,6 +81,12 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
                         fileIO, dataFileToFileIndexPath(path), writeSchema, fileIndexOptions);
         this.fileSource = fileSource;
         this.writeCols = writeCols;
+        this.nextSeqNumber = seqNumCounter.getValue();
+    }
+
+    public RowDataFileWriter withRowCollector(@Nullable RowCollector rowCollector) {
+        this.rowCollector = rowCollector;
+        return this;
     }
 
     @Override
@@ -84,7 +96,22 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
         if (dataFileIndexWriter != null) {
             dataFileIndexWriter.write(row);
         }
+        if (rowCollector != null) {
+            rowCollector.collect(row);
+        }
         seqNumCounter.add(1L);
+        nextSeqNumber = seqNumCounter.getValue();
+    }
+
+    @Override
+    public void writeBundle(BundleRecords bundle) throws IOException {
+        super.writeBundle(bundle);
+        if (rowCollector != null) {
+            for (InternalRow row : bundle) {
+                rowCollector.collect(row);
+            }
+        }
+        nextSeqNumber = seqNumCounter.getValue();
     }
 
     @Override
@@ -104,14 +131,17 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
                 dataFileIndexWriter == null
                         ? DataFileIndexWriter.EMPTY_RESULT
                         : dataFileIndexWriter.result();
+        if (rowCollector != null) {
+            rowCollector.finish(path.getName());
+        }
         String externalPath = isExternalPath ? path.toString() : null;
         return DataFileMeta.forAppend(
                 path.getName(),
                 fileSize,
                 recordCount(),
                 statsPair.getRight(),
-                seqNumCounter.getValue() - super.recordCount(),
-                seqNumCounter.getValue() - 1,
+                nextSeqNumber - super.recordCount(),
+                nextSeqNumber - 1,
                 schemaId,
                 indexResult.independentIndexFile() == null
                         ? Collections.emptyList()
@@ -123,4 +153,13 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
                 null,
                 writeCols);
     }
+
+    /** Collects the rows of a data file. */
+    public interface RowCollector {
+
+        void collect(InternalRow row);
+
+        /** Called when all rows of the data file with this name have been collected. */
+        void finish(String fileName);
+    }
 }
@@ -35,6 +35,7 @@ import javax.annotation.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 /** {@link RollingFileWriter} for data files containing {@link InternalRow}. */
 public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, DataFileMeta> {
@@ -52,25 +53,74 @@ public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, Dat
             FileIndexOptions fileIndexOptions,
             FileSource fileSource,
             boolean asyncFileWrite,
+            int asyncFileCloseMaxPending,
             boolean statsDenseStore,
             @Nullable List<String> writeCols) {
+        this(
+                fileIO,
+                schemaId,
+                fileFormat,
+                targetFileSize,
+                writeSchema,
+                pathFactory,
+                seqNumCounter,
+                fileCompression,
+                statsCollectors,
+                fileIndexOptions,
+                fileSource,
+                asyncFileWrite,
+                asyncFileCloseMaxPending,
+                statsDenseStore,
+                writeCols,
+                null);
+    }
+
+    /**
+     * Creates a writer whose files collect their rows with collectors from the given supplier, one
+     * collector per file.
+     */
+    public RowDataRollingFileWriter(
+            FileIO fileIO,
+            long schemaId,
+            FileFormat fileFormat,
+            long targetFileSize,
+            RowType writeSchema,
+            DataFilePathFactory pathFactory,
+            LongCounter seqNumCounter,
+            String fileCompression,
+            SimpleColStatsCollector.Factory[] statsCollectors,
+            FileIndexOptions fileIndexOptions,
+            FileSource fileSource,
+            boolean asyncFileWrite,
+            int asyncFileCloseMaxPending,
+            boolean statsDenseStore,
+            @Nullable List<String> writeCols,
+            @Nullable Supplier<RowDataFileWriter.RowCollector> rowCollectorSupplier) {
         super(
                 () ->
                         new RowDataFileWriter(
-                                fileIO,
-                                createFileWriterContext(
-                                        fileFormat, writeSchema, statsCollectors, fileCompression),
-                                pathFactory.newPath(),
-                                writeSchema,
-                                schemaId,
-                                seqNumCounter,
-                                fileIndexOptions,
-                                fileSource,
-                                asyncFileWrite,
-                                statsDenseStore,
-                                pathFactory.isExternalPath(),
-                                writeCols),
-                targetFileSize);
+                                        fileIO,
+                                        createFileWriterContext(
+                                                fileFormat,
+                                                writeSchema,
+                                                statsCollectors,
+                                                fileCompression),
+                                        pathFactory.newPath(),
+                                        writeSchema,
+                                        schemaId,
+                                        seqNumCounter,
+                                        fileIndexOptions,
+                                        fileSource,
+                                        asyncFileWrite,
+                                        statsDenseStore,
+                                        pathFactory.isExternalPath(),
+                                        writeCols)
+                                .withRowCollector(
+                                        rowCollectorSupplier == null
+                                                ? null
+                                                : rowCollectorSupplier.get()),
+                targetFileSize,
+                asyncFileCloseMaxPending);
     }
 
     @VisibleForTesting
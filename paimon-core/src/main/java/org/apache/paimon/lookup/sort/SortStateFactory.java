@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.ListState;
+import org.apache.paimon.lookup.SetState;
+import org.apache.paimon.lookup.StateFactory;
+import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Factory to create state stored in sorted lookup files, a pure Java LSM.
+ *
+ * <p>Writes are buffered in memory and flushed into immutable sorted runs, bulk loading writes a
+ * sorted run directly. Runs are merged once there are more than {@code maxSortedRuns} of them. Only
+ * value state is supported.
+ */
+public class SortStateFactory implements StateFactory {
+
+    /** Rows of a sorted file, which bounds the size of its bloom filter. */
+    public static final long DEFAULT_MAX_FILE_ROWS = 1 << 20;
+
+    private final File path;
+    private final SortLookupStoreFactory storeFactory;
+    private final Function<Long, BloomFilter.Builder> bloomFilterGenerator;
+    private final long writeBufferSize;
+    private final int maxSortedRuns;
+    private final long maxFileRows;
+    private final List<SortValueState<?, ?>> states;
+
+    private int fileIndex;
+
+    public SortStateFactory(
+            File path,
+            CacheManager cacheManager,
+            int blockSize,
+            CompressOptions compression,
+            Function<Long, BloomFilter.Builder> bloomFilterGenerator,
+            long writeBufferSize,
+            int maxSortedRuns,
+            long maxFileRows) {
+        this.path = path;
+        this.storeFactory =
+                new SortLookupStoreFactory(
+                        Comparator.naturalOrder(), cacheManager, blockSize, compression);
+        this.bloomFilterGenerator = bloomFilterGenerator;
+        this.writeBufferSize = writeBufferSize;
+        this.maxSortedRuns = Math.max(maxSortedRuns, 1);
+        this.maxFileRows = maxFileRows;
+        this.states = new ArrayList<>();
+    }
+
+    @Override
+    public <K, V> ValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        SortValueState<K, V> state = new SortValueState<>(this, keySerializer, valueSerializer);
+        states.add(state);
+        return state;
+    }
+
+    @Override
+    public <K, V> SetState<K, V> setState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        throw new UnsupportedOperationException("Sort state only supports value state.");
+    }
+
+    @Override
+    public <K, V> ListState<K, V> listState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        throw new UnsupportedOperationException("Sort state only supports value state.");
+    }
+
+    @Override
+    public boolean preferBulkLoad() {
+        return true;
+    }
+
+    SortLookupStoreFactory storeFactory() {
+        return storeFactory;
+    }
+
+    File newFile() {
+        return new File(path, "sort-" + fileIndex++);
+    }
+
+    @Nullable
+    BloomFilter.Builder bloomFilter(long expectedRows) {
+        return bloomFilterGenerator.apply(Math.min(expectedRows, maxFileRows));
+    }
+
+    long writeBufferSize() {
+        return writeBufferSize;
+    }
+
+    int maxSortedRuns() {
+        return maxSortedRuns;
+    }
+
+    long maxFileRows() {
+        return maxFileRows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (SortValueState<?, ?> state : states) {
+            state.close();
+        }
+        states.clear();
+    }
+}
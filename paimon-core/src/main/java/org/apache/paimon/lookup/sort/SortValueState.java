@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.ByteArray;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.FileIOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static org.apache.paimon.lookup.ByteArray.wrapBytes;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.SortUtil.compareBinary;
+
+/**
+ * Value state of {@link SortStateFactory}. Deletes are written as empty values, which are dropped
+ * when merged into the oldest sorted run, so put values must not be empty.
+ */
+public class SortValueState<K, V> implements ValueState<K, V>, Closeable {
+
+    private static final byte[] TOMBSTONE = new byte[0];
+
+    /** Estimated memory of an entry in the write buffer besides its bytes. */
+    private static final long ENTRY_OVERHEAD = 96;
+
+    private final SortStateFactory factory;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final DataOutputSerializer keyOutView;
+    private final DataInputDeserializer valueInputView;
+    private final DataOutputSerializer valueOutputView;
+    private final TreeMap<ByteArray, byte[]> writeBuffer;
+    // the newest sorted run first
+    private final LinkedList<SortedRun> sortedRuns;
+
+    private long writeBufferMemory;
+
+    SortValueState(
+            SortStateFactory factory, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this.factory = factory;
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.keyOutView = new DataOutputSerializer(32);
+        this.valueInputView = new DataInputDeserializer();
+        this.valueOutputView = new DataOutputSerializer(32);
+        this.writeBuffer = new TreeMap<>();
+        this.sortedRuns = new LinkedList<>();
+    }
+
+    @Override
+    public byte[] serializeKey(K key) throws IOException {
+        keyOutView.clear();
+        keySerializer.serialize(key, keyOutView);
+        return keyOutView.getCopyOfBuffer();
+    }
+
+    @Override
+    public byte[] serializeValue(V value) throws IOException {
+        valueOutputView.clear();
+        valueSerializer.serialize(value, valueOutputView);
+        return valueOutputView.getCopyOfBuffer();
+    }
+
+    @Override
+    public V deserializeValue(byte[] valueBytes) throws IOException {
+        valueInputView.setBuffer(valueBytes);
+        return valueSerializer.deserialize(valueInputView);
+    }
+
+    @Nullable
+    @Override
+    public V get(K key) throws IOException {
+        byte[] keyBytes = serializeKey(key);
+        byte[] valueBytes = writeBuffer.get(wrapBytes(keyBytes));
+        if (valueBytes == null) {
+            for (SortedRun run : sortedRuns) {
+                valueBytes = run.lookup(keyBytes);
+                if (valueBytes != null) {
+                    break;
+                }
+            }
+        }
+        return valueBytes == null || valueBytes.length == 0 ? null : deserializeValue(valueBytes);
+    }
+
+    @Override
+    public void put(K key, V value) throws IOException {
+        checkArgument(value != null);
+        byte[] valueBytes = serializeValue(value);
+        checkArgument(valueBytes.length > 0, "Sort state does not support empty values.");
+        write(serializeKey(key), valueBytes);
+    }
+
+    @Override
+    public void delete(K key) throws IOException {
+        byte[] keyBytes = serializeKey(key);
+        if (sortedRuns.isEmpty()) {
+            byte[] previous = writeBuffer.remove(wrapBytes(keyBytes));
+            if (previous != null) {
+                writeBufferMemory -= keyBytes.length + previous.length + ENTRY_OVERHEAD;
+            }
+        } else {
+            write(keyBytes, TOMBSTONE);
+        }
+    }
+
+    private void write(byte[] keyBytes, byte[] valueBytes) throws IOException {
+        byte[] previous = writeBuffer.put(wrapBytes(keyBytes), valueBytes);
+        if (previous == null) {
+            writeBufferMemory += keyBytes.length + valueBytes.length + ENTRY_OVERHEAD;
+        } else {
+            writeBufferMemory += valueBytes.length - previous.length;
+        }
+        if (writeBufferMemory >= factory.writeBufferSize()) {
+            flush();
+            compactIfNeeded();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (writeBuffer.isEmpty()) {
+            return;
+        }
+
+        SortedRunWriter writer = new SortedRunWriter(writeBuffer.size(), sortedRuns.isEmpty());
+        for (Map.Entry<ByteArray, byte[]> entry : writeBuffer.entrySet()) {
+            writer.write(entry.getKey().bytes, entry.getValue());
+        }
+        addNewest(writer.finish());
+        writeBuffer.clear();
+        writeBufferMemory = 0;
+    }
+
+    private void addNewest(SortedRun run) {
+        if (run.files.isEmpty()) {
+            return;
+        }
+        sortedRuns.addFirst(run);
+    }
+
+    /**
+     * Merges the newest runs when there are too many runs. Like the universal compaction of
+     * RocksDB, an older run is only picked if it is not larger than the runs picked before it, so a
+     * large bulk loaded run is not rewritten for every few flushes.
+     */
+    private void compactIfNeeded() throws IOException {
+        if (sortedRuns.size() <= factory.maxSortedRuns()) {
+            return;
+        }
+
+        List<SortedRun> picked = new ArrayList<>();
+        long pickedRows = 0;
+        for (SortedRun run : sortedRuns) {
+            if (picked.size() >= 2 && run.rowCount > pickedRows) {
+                break;
+            }
+            picked.add(run);
+            pickedRows += run.rowCount;
+        }
+
+        boolean dropTombstones = picked.size() == sortedRuns.size();
+        SortedRunWriter writer = new SortedRunWriter(pickedRows, dropTombstones);
+        PriorityQueue<RunEntryIterator> queue = new PriorityQueue<>();
+        for (int i = 0; i < picked.size(); i++) {
+            RunEntryIterator iterator = new RunEntryIterator(picked.get(i), i);
+            if (iterator.advance()) {
+                queue.add(iterator);
+            }
+        }
+
+        byte[] lastKey = null;
+        while (!queue.isEmpty()) {
+            RunEntryIterator iterator = queue.poll();
+            // for the same key, the entry of the newest run comes first
+            if (lastKey == null || compareBinary(lastKey, iterator.key) != 0) {
+                writer.write(iterator.key, iterator.value);
+                lastKey = iterator.key;
+            }
+            if (iterator.advance()) {
+                queue.add(iterator);
+            }
+        }
+        SortedRun merged = writer.finish();
+
+        for (int i = 0; i < picked.size(); i++) {
+            sortedRuns.removeFirst().close();
+        }
+        addNewest(merged);
+    }
+
+    @Override
+    public ValueBulkLoader createBulkLoader() {
+        return new ValueBulkLoader() {
+
+            private SortedRunWriter writer;
+            private byte[] lastKey;
+
+            @Override
+            public void write(byte[] key, byte[] value) throws WriteException {
+                if (lastKey != null && compareBinary(lastKey, key) >= 0) {
+                    throw new WriteException(
+                            new IllegalArgumentException(
+                                    "Keys of bulk load should be strictly ascending."));
+                }
+                lastKey = key;
+
+                try {
+                    if (writer == null) {
+                        flush();
+                        writer = new SortedRunWriter(Long.MAX_VALUE, sortedRuns.isEmpty());
+                    }
+                    writer.write(key, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void finish() {
+                if (writer == null) {
+                    return;
+                }
+
+                try {
+                    addNewest(writer.finish());
+                    compactIfNeeded();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    @VisibleForTesting
+    int numSortedRuns() {
+        return sortedRuns.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (SortedRun run : sortedRuns) {
+            run.close();
+        }
+        sortedRuns.clear();
+        writeBuffer.clear();
+        writeBufferMemory = 0;
+    }
+
+    /** Writer of a {@link SortedRun}, rolls to a new file every {@code maxFileRows} rows. */
+    private class SortedRunWriter {
+
+        private final long expectedRows;
+        private final boolean dropTombstones;
+        private final List<SortedFile> files;
+
+        private File file;
+        private SortLookupStoreWriter writer;
+        private long fileRows;
+        private long writtenRows;
+        private byte[] lastKey;
+
+        private SortedRunWriter(long expectedRows, boolean dropTombstones) {
+            this.expectedRows = expectedRows;
+            this.dropTombstones = dropTombstones;
+            this.files = new ArrayList<>();
+        }
+
+        private void write(byte[] key, byte[] value) throws IOException {
+            if (dropTombstones && value.length == 0) {
+                return;
+            }
+
+            if (writer == null) {
+                file = factory.newFile();
+                BloomFilter.Builder bloomFilter = factory.bloomFilter(expectedRows - writtenRows);
+                writer = factory.storeFactory().createWriter(file, bloomFilter);
+            }
+            writer.put(key, value);
+            lastKey = key;
+            fileRows++;
+            writtenRows++;
+            if (fileRows >= factory.maxFileRows()) {
+                closeFile();
+            }
+        }
+
+        private void closeFile() throws IOException {
+            LookupStoreFactory.Context context = writer.close();
+            files.add(
+                    new SortedFile(
+                            file, factory.storeFactory().createReader(file, context), lastKey));
+            writer = null;
+            fileRows = 0;
+        }
+
+        private SortedRun finish() throws IOException {
+            if (writer != null) {
+                closeFile();
+            }
+            return new SortedRun(files, writtenRows);
+        }
+    }
+
+    /** Sorted files with non-overlapping key ranges, ordered by key. */
+    private static class SortedRun implements Closeable {
+
+        private final List<SortedFile> files;
+        private final long rowCount;
+
+        private SortedRun(List<SortedFile> files, long rowCount) {
+            this.files = files;
+            this.rowCount = rowCount;
+        }
+
+        @Nullable
+        private byte[] lookup(byte[] key) throws IOException {
+            // binary search the first file whose last key is not less than the key
+            int low = 0;
+            int high = files.size() - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareBinary(files.get(mid).lastKey, key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return files.get(low).reader.lookup(key);
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (SortedFile file : files) {
+                file.reader.close();
+                FileIOUtils.deleteFileOrDirectory(file.file);
+            }
+        }
+    }
+
+    /** A sorted lookup file of a {@link SortedRun}. */
+    private static class SortedFile {
+
+        private final File file;
+        private final SortLookupStoreReader reader;
+        private final byte[] lastKey;
+
+        private SortedFile(File file, SortLookupStoreReader reader, byte[] lastKey) {
+            this.file = file;
+            this.reader = reader;
+            this.lastKey = lastKey;
+        }
+    }
+
+    /** Iterator over the entries of a {@link SortedRun} for merging. */
+    private static class RunEntryIterator implements Comparable<RunEntryIterator> {
+
+        private final Iterator<SortedFile> files;
+        private final int order;
+
+        private Iterator<BlockEntry> entries = Collections.emptyIterator();
+        private byte[] key;
+        private byte[] value;
+
+        private RunEntryIterator(SortedRun run, int order) {
+            this.files = run.files.iterator();
+            this.order = order;
+        }
+
+        private boolean advance() {
+            while (!entries.hasNext()) {
+                if (!files.hasNext()) {
+                    return false;
+                }
+                entries = files.next().reader.iterator();
+            }
+            BlockEntry entry = entries.next();
+            key = entry.getKey().copyBytes();
+            value = entry.getValue().copyBytes();
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunEntryIterator other) {
+            int result = compareBinary(key, other.key);
+            return result != 0 ? result : Integer.compare(order, other.order);
+        }
+    }
+}
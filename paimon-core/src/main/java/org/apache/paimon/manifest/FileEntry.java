@@ -26,6 +26,7 @@ import org.apache.paimon.utils.Preconditions;
 
 import javax.annotation.Nullable;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -71,7 +72,10 @@ public interface FileEntry {
      * The same {@link Identifier} indicates that the {@link ManifestEntry} refers to the same data
      * file.
      */
-    class Identifier {
+    class Identifier implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
         public final BinaryRow partition;
         public final int bucket;
         public final int level;
@@ -64,10 +64,26 @@ public class IndexManifestFile extends ObjectsFile<IndexManifestEntry> {
             @Nullable String previousIndexManifest,
             List<IndexManifestEntry> newIndexFiles,
             BucketMode bucketMode) {
+        return writeIndexFiles(previousIndexManifest, newIndexFiles, bucketMode, false, false);
+    }
+
+    /**
+     * Write new index files to index manifest, deletion vectors and hash index files of a bucket
+     * are combined by file name if their delta files are enabled.
+     */
+    @Nullable
+    public String writeIndexFiles(
+            @Nullable String previousIndexManifest,
+            List<IndexManifestEntry> newIndexFiles,
+            BucketMode bucketMode,
+            boolean dvDeltaFilesEnabled,
+            boolean hashDeltaFilesEnabled) {
         if (newIndexFiles.isEmpty()) {
             return previousIndexManifest;
         }
-        IndexManifestFileHandler handler = new IndexManifestFileHandler(this, bucketMode);
+        IndexManifestFileHandler handler =
+                new IndexManifestFileHandler(
+                        this, bucketMode, dvDeltaFilesEnabled, hashDeltaFilesEnabled);
         return handler.write(previousIndexManifest, newIndexFiles);
     }
 
@@ -21,11 +21,12 @@ package org.apache.paimon.manifest;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.table.BucketMode;
-import org.apache.paimon.utils.Pair;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,19 +34,38 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.GlobalIndexFile.GLOBAL_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.PrimaryKeyIndexFile.PRIMARY_KEY_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** IndexManifestFile Handler. */
 public class IndexManifestFileHandler {
 
+    private static final List<String> INDEX_TYPES =
+            Arrays.asList(HASH_INDEX, PRIMARY_KEY_INDEX, DELETION_VECTORS_INDEX, GLOBAL_INDEX);
+
     private final IndexManifestFile indexManifestFile;
 
     private final BucketMode bucketMode;
 
+    private final boolean dvDeltaFilesEnabled;
+
+    private final boolean hashDeltaFilesEnabled;
+
     IndexManifestFileHandler(IndexManifestFile indexManifestFile, BucketMode bucketMode) {
+        this(indexManifestFile, bucketMode, false, false);
+    }
+
+    IndexManifestFileHandler(
+            IndexManifestFile indexManifestFile,
+            BucketMode bucketMode,
+            boolean dvDeltaFilesEnabled,
+            boolean hashDeltaFilesEnabled) {
         this.indexManifestFile = indexManifestFile;
         this.bucketMode = bucketMode;
+        this.dvDeltaFilesEnabled = dvDeltaFilesEnabled;
+        this.hashDeltaFilesEnabled = hashDeltaFilesEnabled;
     }
 
     String write(@Nullable String previousIndexManifest, List<IndexManifestEntry> newIndexFiles) {
@@ -57,43 +77,39 @@ public class IndexManifestFileHandler {
             checkArgument(entry.kind() == FileKind.ADD);
         }
 
-        Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> previous =
-                separateIndexEntries(entries);
-        Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> current =
-                separateIndexEntries(newIndexFiles);
+        Map<String, List<IndexManifestEntry>> previous = separateIndexEntries(entries);
+        Map<String, List<IndexManifestEntry>> current = separateIndexEntries(newIndexFiles);
 
-        // Step1: get the hash index files;
-        List<IndexManifestEntry> indexEntries =
-                getIndexManifestFileCombine(HASH_INDEX)
-                        .combine(previous.getLeft(), current.getLeft());
-
-        // Step2: get the dv index files;
-        indexEntries.addAll(
-                getIndexManifestFileCombine(DELETION_VECTORS_INDEX)
-                        .combine(previous.getRight(), current.getRight()));
+        List<IndexManifestEntry> indexEntries = new ArrayList<>();
+        for (String indexType : INDEX_TYPES) {
+            indexEntries.addAll(
+                    getIndexManifestFileCombine(indexType)
+                            .combine(
+                                    previous.getOrDefault(indexType, Collections.emptyList()),
+                                    current.getOrDefault(indexType, Collections.emptyList())));
+        }
 
         return indexManifestFile.writeWithoutRolling(indexEntries);
     }
 
-    private Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> separateIndexEntries(
+    private Map<String, List<IndexManifestEntry>> separateIndexEntries(
             List<IndexManifestEntry> indexFiles) {
-        List<IndexManifestEntry> hashEntries = new ArrayList<>();
-        List<IndexManifestEntry> dvEntries = new ArrayList<>();
+        Map<String, List<IndexManifestEntry>> result = new HashMap<>();
         for (IndexManifestEntry entry : indexFiles) {
             String indexType = entry.indexFile().indexType();
-            if (indexType.equals(DELETION_VECTORS_INDEX)) {
-                dvEntries.add(entry);
-            } else if (indexType.equals(HASH_INDEX)) {
-                hashEntries.add(entry);
-            } else {
+            if (!INDEX_TYPES.contains(indexType)) {
                 throw new IllegalArgumentException("Can't recognize this index type: " + indexType);
             }
+            result.computeIfAbsent(indexType, k -> new ArrayList<>()).add(entry);
         }
-        return Pair.of(hashEntries, dvEntries);
+        return result;
     }
 
     private IndexManifestFileCombiner getIndexManifestFileCombine(String indexType) {
-        if (DELETION_VECTORS_INDEX.equals(indexType) && BucketMode.BUCKET_UNAWARE == bucketMode) {
+        if (GLOBAL_INDEX.equals(indexType)
+                || (DELETION_VECTORS_INDEX.equals(indexType)
+                        && (BucketMode.BUCKET_UNAWARE == bucketMode || dvDeltaFilesEnabled))
+                || (HASH_INDEX.equals(indexType) && hashDeltaFilesEnabled)) {
             return new GlobalCombiner();
         } else {
             return new BucketedCombiner();
@@ -106,8 +122,9 @@ public class IndexManifestFileHandler {
     }
 
     /**
-     * We combine the previous and new index files by the file name. This is only used for tables
-     * without bucket.
+     * We combine the previous and new index files by the file name. This is used for tables without
+     * bucket, for deletion vectors and hash index of buckets with delta files, and for global
+     * index.
      */
     static class GlobalCombiner implements IndexManifestFileCombiner {
 
@@ -130,15 +147,19 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}. A bucket may have
+     * multiple deletion vectors index files written with delta files, they are all replaced by a
+     * new index file of the bucket.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
-            Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            Map<BucketIdentifier, List<IndexManifestEntry>> indexEntries = new HashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                indexEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -154,9 +175,13 @@ public class IndexManifestFileHandler {
                 indexEntries.remove(identifier(entry));
             }
             for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
+                List<IndexManifestEntry> entries = new ArrayList<>();
+                entries.add(entry);
+                indexEntries.put(identifier(entry), entries);
             }
-            return new ArrayList<>(indexEntries.values());
+            return indexEntries.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
         }
     }
 
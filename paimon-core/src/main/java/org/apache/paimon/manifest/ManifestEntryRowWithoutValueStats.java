@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ProjectedRow;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A versioned manifest entry row read without the {@code _VALUE_STATS} field of {@code _FILE}. The
+ * missing field is exposed as null, so that the row keeps the layout expected by {@link
+ * ManifestEntrySerializer} and its row getters.
+ */
+class ManifestEntryRowWithoutValueStats extends ProjectedRow {
+
+    private static final int ENTRY_FIELD_COUNT =
+            VersionedObjectSerializer.versionType(ManifestEntry.SCHEMA).getFieldCount();
+
+    /** Position of {@code _FILE} in the versioned manifest entry row. */
+    private static final int FILE_POS = 5;
+
+    /** Position of {@code _VALUE_STATS} in {@link DataFileMeta#SCHEMA}. */
+    private static final int VALUE_STATS_POS = 6;
+
+    private final ProjectedRow fileRow;
+
+    ManifestEntryRowWithoutValueStats() {
+        super(identity(ENTRY_FIELD_COUNT));
+        int fileFieldCount = DataFileMeta.SCHEMA.getFieldCount();
+        int[] fileMapping = new int[fileFieldCount];
+        for (int i = 0; i < fileFieldCount; i++) {
+            if (i < VALUE_STATS_POS) {
+                fileMapping[i] = i;
+            } else if (i == VALUE_STATS_POS) {
+                fileMapping[i] = -1;
+            } else {
+                fileMapping[i] = i - 1;
+            }
+        }
+        this.fileRow = ProjectedRow.from(fileMapping);
+    }
+
+    @Override
+    public InternalRow getRow(int pos, int numFields) {
+        if (pos == FILE_POS) {
+            return fileRow.replaceRow(row.getRow(pos, numFields - 1));
+        }
+        return super.getRow(pos, numFields);
+    }
+
+    /** Removes {@code _VALUE_STATS} from the given versioned manifest entry type. */
+    static RowType projectType(RowType entryType) {
+        List<DataField> fields = new ArrayList<>(entryType.getFields());
+        DataField file = fields.get(FILE_POS);
+        RowType fileType = (RowType) file.type();
+        List<DataField> fileFields = new ArrayList<>(fileType.getFields());
+        fileFields.remove(VALUE_STATS_POS);
+        fields.set(FILE_POS, file.newType(new RowType(fileType.isNullable(), fileFields)));
+        return new RowType(entryType.isNullable(), fields);
+    }
+
+    private static int[] identity(int fieldCount) {
+        int[] mapping = new int[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            mapping[i] = i;
+        }
+        return mapping;
+    }
+}
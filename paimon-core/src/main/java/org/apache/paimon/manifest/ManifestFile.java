@@ -33,7 +33,9 @@ import org.apache.paimon.partition.PartitionPredicate;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.SimpleStatsConverter;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.CloseableIterator;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.FileUtils;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.ObjectsFile;
 import org.apache.paimon.utils.PathFactory;
@@ -56,6 +58,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
     private final SchemaManager schemaManager;
     private final RowType partitionType;
     private final FormatWriterFactory writerFactory;
+    private final FormatReaderFactory readerFactoryWithoutValueStats;
     private final long suggestedFileSize;
 
     private ManifestFile(
@@ -65,6 +68,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             ManifestEntrySerializer serializer,
             RowType schema,
             FormatReaderFactory readerFactory,
+            FormatReaderFactory readerFactoryWithoutValueStats,
             FormatWriterFactory writerFactory,
             String compression,
             PathFactory pathFactory,
@@ -82,6 +86,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
         this.writerFactory = writerFactory;
+        this.readerFactoryWithoutValueStats = readerFactoryWithoutValueStats;
         this.suggestedFileSize = suggestedFileSize;
     }
 
@@ -105,6 +110,25 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             @Nullable BucketFilter bucketFilter,
             Filter<InternalRow> readFilter,
             Filter<ManifestEntry> readTFilter) {
+        return read(
+                fileName, fileSize, partitionFilter, bucketFilter, readFilter, readTFilter, true);
+    }
+
+    /**
+     * Read {@link ManifestEntry}s of the given manifest file.
+     *
+     * <p>If {@code readValueStats} is false, the value stats of data files are not read from
+     * columnar manifest formats and the returned entries contain empty value stats. Entries read
+     * from the manifest cache always contain all stats.
+     */
+    public List<ManifestEntry> read(
+            String fileName,
+            @Nullable Long fileSize,
+            @Nullable PartitionPredicate partitionFilter,
+            @Nullable BucketFilter bucketFilter,
+            Filter<InternalRow> readFilter,
+            Filter<ManifestEntry> readTFilter,
+            boolean readValueStats) {
         try {
             Path path = pathFactory.toPath(fileName);
             if (cache != null) {
@@ -115,6 +139,14 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                                 partitionFilter, bucketFilter, readFilter, readTFilter));
             }
 
+            if (!readValueStats) {
+                return readFromIterator(
+                        createIteratorWithoutValueStats(path, fileSize),
+                        serializer,
+                        readFilter,
+                        readTFilter);
+            }
+
             return readFromIterator(
                     createIterator(path, fileSize), serializer, readFilter, readTFilter);
         } catch (IOException e) {
@@ -122,6 +154,14 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         }
     }
 
+    private CloseableIterator<InternalRow> createIteratorWithoutValueStats(
+            Path path, @Nullable Long fileSize) throws IOException {
+        ManifestEntryRowWithoutValueStats reused = new ManifestEntryRowWithoutValueStats();
+        return FileUtils.createFormatReader(fileIO, readerFactoryWithoutValueStats, path, fileSize)
+                .<InternalRow>transform(reused::replaceRow)
+                .toCloseableIterator();
+    }
+
     @VisibleForTesting
     public long suggestedFileSize() {
         return suggestedFileSize;
@@ -266,6 +306,8 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
 
         public ManifestFile create() {
             RowType entryType = VersionedObjectSerializer.versionType(ManifestEntry.SCHEMA);
+            RowType entryTypeWithoutValueStats =
+                    ManifestEntryRowWithoutValueStats.projectType(entryType);
             return new ManifestFile(
                     fileIO,
                     schemaManager,
@@ -273,6 +315,8 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     new ManifestEntrySerializer(),
                     entryType,
                     fileFormat.createReaderFactory(entryType, entryType, new ArrayList<>()),
+                    fileFormat.createReaderFactory(
+                            entryType, entryTypeWithoutValueStats, new ArrayList<>()),
                     fileFormat.createWriterFactory(entryType),
                     compression,
                     pathFactory.manifestFileFactory(),
@@ -74,7 +74,7 @@ public interface CompactStrategy {
                     // check record level expire for large files
                     filesToBeCompacted.add(file);
                 } else if (dvMaintainer != null
-                        && dvMaintainer.deletionVectorOf(file.fileName()).isPresent()) {
+                        && dvMaintainer.hasDeletionVector(file.fileName())) {
                     // check deletion vector for large files
                     filesToBeCompacted.add(file);
                 }
@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.index.GlobalIndexPruner;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.BucketFilter;
 import org.apache.paimon.manifest.FileEntry;
@@ -86,9 +87,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private Filter<Integer> levelFilter = null;
     private Filter<ManifestEntry> manifestEntryFilter = null;
     private Filter<String> fileNameFilter = null;
+    private List<ManifestFileMeta> specifiedManifests = null;
+    private Set<Identifier> specifiedDeletedEntries = null;
 
     private ScanMetrics scanMetrics = null;
     private boolean dropStats;
+    @Nullable private GlobalIndexPruner globalIndexPruner = null;
 
     public AbstractFileStoreScan(
             ManifestsReader manifestsReader,
@@ -249,7 +253,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         Snapshot snapshot = manifestsResult.snapshot;
         List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
 
-        Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+        Iterator<ManifestEntry> iterator =
+                readManifestEntries(manifests, false, globalIndexRowFilter(snapshot));
         List<ManifestEntry> files = new ArrayList<>();
         while (iterator.hasNext()) {
             files.add(iterator.next());
@@ -316,8 +321,10 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         List<ManifestFileMeta> manifests = readManifests().filteredManifests;
         Iterator<SimpleFileEntry> iterator =
                 scanMode == ScanMode.ALL
-                        ? readAndMergeFileEntries(manifests, SimpleFileEntry::from, false)
-                        : readAndNoMergeFileEntries(manifests, SimpleFileEntry::from, false);
+                        ? readAndMergeFileEntries(
+                                manifests, SimpleFileEntry::from, false, false, null)
+                        : readAndNoMergeFileEntries(
+                                manifests, SimpleFileEntry::from, false, false, null);
         List<SimpleFileEntry> result = new ArrayList<>();
         while (iterator.hasNext()) {
             result.add(iterator.next());
@@ -330,7 +337,11 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         List<ManifestFileMeta> manifests = readManifests().filteredManifests;
         Map<BinaryRow, PartitionEntry> partitions = new ConcurrentHashMap<>();
         Consumer<ManifestFileMeta> processor =
-                m -> PartitionEntry.merge(PartitionEntry.merge(readManifest(m)), partitions);
+                m ->
+                        PartitionEntry.merge(
+                                PartitionEntry.merge(
+                                        readManifest(m, null, null, readValueStats(false))),
+                                partitions);
         randomlyOnlyExecute(getExecutorService(parallelism), processor, manifests);
         return partitions.values().stream()
                 .filter(p -> p.fileCount() > 0)
@@ -342,7 +353,11 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         List<ManifestFileMeta> manifests = readManifests().filteredManifests;
         Map<Pair<BinaryRow, Integer>, BucketEntry> buckets = new ConcurrentHashMap<>();
         Consumer<ManifestFileMeta> processor =
-                m -> BucketEntry.merge(BucketEntry.merge(readManifest(m)), buckets);
+                m ->
+                        BucketEntry.merge(
+                                BucketEntry.merge(
+                                        readManifest(m, null, null, readValueStats(false))),
+                                buckets);
         randomlyOnlyExecute(getExecutorService(parallelism), processor, manifests);
         return buckets.values().stream()
                 .filter(p -> p.fileCount() > 0)
@@ -352,25 +367,51 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public Iterator<ManifestEntry> readFileIterator() {
         // useSequential: reduce memory and iterator can be stopping
-        return readManifestEntries(readManifests().filteredManifests, true);
+        return readManifestEntries(readManifests().filteredManifests, true, null);
+    }
+
+    /**
+     * Filter of manifest entries by the files skipped by the global index, the files are skipped
+     * before their stats are deserialized and tested.
+     */
+    @Nullable
+    private Filter<InternalRow> globalIndexRowFilter(@Nullable Snapshot snapshot) {
+        Predicate globalIndexFilter = globalIndexFilter();
+        if (globalIndexPruner == null || globalIndexFilter == null || snapshot == null) {
+            return null;
+        }
+
+        Set<String> skippedFiles =
+                globalIndexPruner.skippedFiles(
+                        snapshot, manifestsReader.partitionFilter(), globalIndexFilter);
+        if (skippedFiles.isEmpty()) {
+            return null;
+        }
+        Function<InternalRow, String> fileNameGetter = ManifestEntrySerializer.fileNameGetter();
+        return row -> !skippedFiles.contains(fileNameGetter.apply(row));
     }
 
     private Iterator<ManifestEntry> readManifestEntries(
-            List<ManifestFileMeta> manifests, boolean useSequential) {
+            List<ManifestFileMeta> manifests,
+            boolean useSequential,
+            @Nullable Filter<InternalRow> rowFilter) {
         return scanMode == ScanMode.ALL
-                ? readAndMergeFileEntries(manifests, Function.identity(), useSequential)
-                : readAndNoMergeFileEntries(manifests, Function.identity(), useSequential);
+                ? readAndMergeFileEntries(
+                        manifests, Function.identity(), useSequential, true, rowFilter)
+                : readAndNoMergeFileEntries(
+                        manifests, Function.identity(), useSequential, true, rowFilter);
     }
 
     private <T extends FileEntry> Iterator<T> readAndMergeFileEntries(
             List<ManifestFileMeta> manifests,
             Function<List<ManifestEntry>, List<T>> converter,
-            boolean useSequential) {
+            boolean useSequential,
+            boolean outputValueStats,
+            @Nullable Filter<InternalRow> rowFilter) {
         Set<Identifier> deletedEntries =
-                FileEntry.readDeletedEntries(
-                        manifest -> readManifest(manifest, FileEntry.deletedFilter(), null),
-                        manifests,
-                        parallelism);
+                specifiedDeletedEntries == null
+                        ? readDeletedEntries(manifests)
+                        : specifiedDeletedEntries;
 
         manifests =
                 manifests.stream()
@@ -382,8 +423,9 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                         converter.apply(
                                 readManifest(
                                         manifest,
-                                        FileEntry.addFilter(),
-                                        entry -> !deletedEntries.contains(entry.identifier())));
+                                        FileEntry.addFilter().and(rowFilter),
+                                        entry -> !deletedEntries.contains(entry.identifier()),
+                                        readValueStats(outputValueStats)));
         if (useSequential) {
             return sequentialBatchedExecute(processor, manifests, parallelism).iterator();
         } else {
@@ -394,9 +436,17 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private <T extends FileEntry> Iterator<T> readAndNoMergeFileEntries(
             List<ManifestFileMeta> manifests,
             Function<List<ManifestEntry>, List<T>> converter,
-            boolean useSequential) {
+            boolean useSequential,
+            boolean outputValueStats,
+            @Nullable Filter<InternalRow> rowFilter) {
         Function<ManifestFileMeta, List<T>> reader =
-                manifest -> converter.apply(readManifest(manifest));
+                manifest ->
+                        converter.apply(
+                                readManifest(
+                                        manifest,
+                                        rowFilter,
+                                        null,
+                                        readValueStats(outputValueStats)));
         if (useSequential) {
             return sequentialBatchedExecute(reader, manifests, parallelism).iterator();
         } else {
@@ -404,10 +454,36 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         }
     }
 
-    private ManifestsReader.Result readManifests() {
+    @Override
+    public ManifestsReader.Result readManifests() {
+        if (specifiedManifests != null) {
+            return new ManifestsReader.Result(
+                    specifiedSnapshot, specifiedManifests, specifiedManifests);
+        }
         return manifestsReader.read(specifiedSnapshot, scanMode);
     }
 
+    @Override
+    public FileStoreScan withManifests(
+            List<ManifestFileMeta> manifests, Set<Identifier> deletedEntries) {
+        this.specifiedManifests = manifests;
+        this.specifiedDeletedEntries = deletedEntries;
+        return this;
+    }
+
+    @Override
+    public Set<Identifier> readDeletedEntries(List<ManifestFileMeta> manifests) {
+        if (scanMode != ScanMode.ALL) {
+            return Collections.emptySet();
+        }
+        return FileEntry.readDeletedEntries(
+                manifest ->
+                        readManifest(
+                                manifest, FileEntry.deletedFilter(), null, readValueStats(false)),
+                manifests,
+                parallelism);
+    }
+
     // ------------------------------------------------------------------------
     // Start Thread Safe Methods: The following methods need to be thread safe because they will be
     // called by multiple threads
@@ -422,6 +498,18 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     /** Note: Keep this thread-safe. */
     protected abstract boolean filterByStats(ManifestEntry entry);
 
+    /** Prunes the scanned files with the global index of the table. */
+    public AbstractFileStoreScan withGlobalIndexPruner(GlobalIndexPruner globalIndexPruner) {
+        this.globalIndexPruner = globalIndexPruner;
+        return this;
+    }
+
+    /** The filter to prune files with the global index, null if there is no filter. */
+    @Nullable
+    protected Predicate globalIndexFilter() {
+        return null;
+    }
+
     protected boolean wholeBucketFilterEnabled() {
         return false;
     }
@@ -430,16 +518,30 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return entries;
     }
 
+    /** Whether value stats of data files are needed to filter manifest entries. */
+    protected abstract boolean valueStatsRequired();
+
+    /**
+     * Whether value stats of data files should be read from manifests. Columnar manifest formats
+     * can skip them when they are neither used for filtering nor returned to the caller.
+     */
+    private boolean readValueStats(boolean outputValueStats) {
+        return (outputValueStats && !dropStats)
+                || manifestEntryFilter != null
+                || valueStatsRequired();
+    }
+
     /** Note: Keep this thread-safe. */
     @Override
     public List<ManifestEntry> readManifest(ManifestFileMeta manifest) {
-        return readManifest(manifest, null, null);
+        return readManifest(manifest, null, null, readValueStats(true));
     }
 
     private List<ManifestEntry> readManifest(
             ManifestFileMeta manifest,
             @Nullable Filter<InternalRow> additionalFilter,
-            @Nullable Filter<ManifestEntry> additionalTFilter) {
+            @Nullable Filter<ManifestEntry> additionalTFilter,
+            boolean readValueStats) {
         List<ManifestEntry> entries =
                 manifestFileFactory
                         .create()
@@ -455,7 +557,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                         (additionalTFilter == null || additionalTFilter.test(entry))
                                                 && (manifestEntryFilter == null
                                                         || manifestEntryFilter.test(entry))
-                                                && filterByStats(entry));
+                                                && filterByStats(entry),
+                                readValueStats);
         if (dropStats) {
             List<ManifestEntry> copied = new ArrayList<>(entries.size());
             for (ManifestEntry entry : entries) {
@@ -28,6 +28,8 @@ import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.PrimaryKeyIndexMaintainer;
 import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataIncrement;
@@ -39,6 +41,7 @@ import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
 
@@ -74,6 +77,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private final int writerNumberMax;
     @Nullable private final DynamicBucketIndexMaintainer.Factory dbMaintainerFactory;
     @Nullable private final BucketedDvMaintainer.Factory dvMaintainerFactory;
+    @Nullable private final PrimaryKeyIndexMaintainer.Factory pkIndexMaintainerFactory;
     private final int numBuckets;
     private final RowType partitionType;
 
@@ -84,7 +88,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     protected WriteRestore restore;
     private ExecutorService lazyCompactExecutor;
     private boolean closeCompactExecutorWhenLeaving = true;
-    private boolean ignorePreviousFiles = false;
+    protected boolean ignorePreviousFiles = false;
     private boolean ignoreNumBucketCheck = false;
 
     protected CompactionMetrics compactionMetrics = null;
@@ -96,6 +100,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
             FileStoreScan scan,
             @Nullable DynamicBucketIndexMaintainer.Factory dbMaintainerFactory,
             @Nullable BucketedDvMaintainer.Factory dvMaintainerFactory,
+            @Nullable PrimaryKeyIndexMaintainer.Factory pkIndexMaintainerFactory,
             String tableName,
             CoreOptions options,
             RowType partitionType) {
@@ -104,10 +109,13 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
             indexFileHandler = dbMaintainerFactory.indexFileHandler();
         } else if (dvMaintainerFactory != null) {
             indexFileHandler = dvMaintainerFactory.indexFileHandler();
+        } else if (pkIndexMaintainerFactory != null) {
+            indexFileHandler = pkIndexMaintainerFactory.indexFileHandler();
         }
         this.restore = new FileSystemWriteRestore(options, snapshotManager, scan, indexFileHandler);
         this.dbMaintainerFactory = dbMaintainerFactory;
         this.dvMaintainerFactory = dvMaintainerFactory;
+        this.pkIndexMaintainerFactory = pkIndexMaintainerFactory;
         this.numBuckets = options.bucket();
         this.partitionType = partitionType;
         this.writers = new HashMap<>();
@@ -216,15 +224,24 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 DataIncrement newFilesIncrement = increment.newFilesIncrement();
                 CompactIncrement compactIncrement = increment.compactIncrement();
                 if (writerContainer.dynamicBucketMaintainer != null) {
-                    newFilesIncrement
-                            .newIndexFiles()
-                            .addAll(writerContainer.dynamicBucketMaintainer.prepareCommit());
+                    Pair<List<IndexFileMeta>, List<IndexFileMeta>> indexChanges =
+                            writerContainer.dynamicBucketMaintainer.prepareCommit();
+                    newFilesIncrement.newIndexFiles().addAll(indexChanges.getLeft());
+                    newFilesIncrement.deletedIndexFiles().addAll(indexChanges.getRight());
                 }
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
                     compactDeletionFile
                             .getOrCompute()
-                            .ifPresent(compactIncrement.newIndexFiles()::add);
+                            .ifPresent(
+                                    changes -> {
+                                        compactIncrement
+                                                .newIndexFiles()
+                                                .addAll(changes.newIndexFiles());
+                                        compactIncrement
+                                                .deletedIndexFiles()
+                                                .addAll(changes.deletedIndexFiles());
+                                    });
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -353,6 +370,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.writer.maxSequenceNumber(),
                                 writerContainer.dynamicBucketMaintainer,
                                 writerContainer.deletionVectorsMaintainer,
+                                writerContainer.pkIndexMaintainer,
                                 increment));
             }
         }
@@ -374,7 +392,8 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                             state.maxSequenceNumber,
                             state.commitIncrement,
                             compactExecutor(),
-                            state.deletionVectorsMaintainer);
+                            state.deletionVectorsMaintainer,
+                            state.pkIndexMaintainer);
             notifyNewWriter(writer);
             WriterContainer<T> writerContainer =
                     new WriterContainer<>(
@@ -382,6 +401,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                             state.totalBuckets,
                             state.indexMaintainer,
                             state.deletionVectorsMaintainer,
+                            state.pkIndexMaintainer,
                             state.baseSnapshotId);
             writerContainer.lastModifiedCommitIdentifier = state.lastModifiedCommitIdentifier;
             writers.computeIfAbsent(state.partition, k -> new HashMap<>())
@@ -440,6 +460,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                         ? null
                         : dvMaintainerFactory.create(
                                 partition, bucket, restored.deleteVectorsIndex());
+        PrimaryKeyIndexMaintainer pkIndexMaintainer =
+                pkIndexMaintainerFactory == null
+                        ? null
+                        : pkIndexMaintainerFactory.create(
+                                partition, bucket, restored.primaryKeyIndex());
 
         List<DataFileMeta> restoreFiles = restored.dataFiles();
         if (restoreFiles == null) {
@@ -453,7 +478,8 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                         getMaxSequenceNumber(restoreFiles),
                         null,
                         compactExecutor(),
-                        dvMaintainer);
+                        dvMaintainer,
+                        pkIndexMaintainer);
         notifyNewWriter(writer);
 
         Snapshot previousSnapshot = restored.snapshot();
@@ -462,6 +488,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 firstNonNull(restored.totalBuckets(), numBuckets),
                 indexMaintainer,
                 dvMaintainer,
+                pkIndexMaintainer,
                 previousSnapshot == null ? null : previousSnapshot.id());
     }
 
@@ -481,7 +508,8 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                         partition,
                         bucket,
                         dbMaintainerFactory != null,
-                        dvMaintainerFactory != null);
+                        dvMaintainerFactory != null,
+                        pkIndexMaintainerFactory != null);
         Integer restoredTotalBuckets = restored.totalBuckets();
         int totalBuckets = numBuckets;
         if (restoredTotalBuckets != null) {
@@ -530,7 +558,8 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
             long restoredMaxSeqNumber,
             @Nullable CommitIncrement restoreIncrement,
             ExecutorService compactExecutor,
-            @Nullable BucketedDvMaintainer deletionVectorsMaintainer);
+            @Nullable BucketedDvMaintainer deletionVectorsMaintainer,
+            @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer);
 
     // force buffer spill to avoid out of memory in batch mode
     protected void forceBufferSpill() throws Exception {}
@@ -545,6 +574,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         public final int totalBuckets;
         @Nullable public final DynamicBucketIndexMaintainer dynamicBucketMaintainer;
         @Nullable public final BucketedDvMaintainer deletionVectorsMaintainer;
+        @Nullable public final PrimaryKeyIndexMaintainer pkIndexMaintainer;
         protected final long baseSnapshotId;
         protected long lastModifiedCommitIdentifier;
 
@@ -553,11 +583,13 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 int totalBuckets,
                 @Nullable DynamicBucketIndexMaintainer dynamicBucketMaintainer,
                 @Nullable BucketedDvMaintainer deletionVectorsMaintainer,
+                @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer,
                 Long baseSnapshotId) {
             this.writer = writer;
             this.totalBuckets = totalBuckets;
             this.dynamicBucketMaintainer = dynamicBucketMaintainer;
             this.deletionVectorsMaintainer = deletionVectorsMaintainer;
+            this.pkIndexMaintainer = pkIndexMaintainer;
             this.baseSnapshotId =
                     baseSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID - 1 : baseSnapshotId;
             this.lastModifiedCommitIdentifier = Long.MIN_VALUE;
@@ -121,6 +121,17 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
         return testFileIndex(entry.file().embeddedIndex(), entry);
     }
 
+    @Override
+    protected boolean valueStatsRequired() {
+        return inputFilter != null;
+    }
+
+    @Nullable
+    @Override
+    protected Predicate globalIndexFilter() {
+        return inputFilter;
+    }
+
     private boolean testFileIndex(@Nullable byte[] embeddedIndexBytes, ManifestEntry entry) {
         if (embeddedIndexBytes == null) {
             return true;
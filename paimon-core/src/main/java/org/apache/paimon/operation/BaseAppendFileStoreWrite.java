@@ -29,12 +29,18 @@ import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.fileindex.FileIndexOptions;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.index.GlobalIndexWriter;
+import org.apache.paimon.index.PrimaryKeyIndexMaintainer;
 import org.apache.paimon.io.BundleRecords;
+import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.RowDataFileWriter;
 import org.apache.paimon.io.RowDataRollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.statistics.SimpleColStatsCollector;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.ExceptionUtils;
@@ -56,6 +62,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.apache.paimon.format.FileFormat.fileFormat;
 import static org.apache.paimon.utils.StatsCollectorFactories.createStatsFactories;
@@ -77,6 +84,7 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
     private RowType writeType;
     private @Nullable List<String> writeCols;
     private boolean forceBufferSpill = false;
+    private @Nullable GlobalIndexWriter globalIndexWriter;
 
     public BaseAppendFileStoreWrite(
             FileIO fileIO,
@@ -90,7 +98,15 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
             CoreOptions options,
             @Nullable BucketedDvMaintainer.Factory dvMaintainerFactory,
             String tableName) {
-        super(snapshotManager, scan, options, partitionType, null, dvMaintainerFactory, tableName);
+        super(
+                snapshotManager,
+                scan,
+                options,
+                partitionType,
+                null,
+                dvMaintainerFactory,
+                null,
+                tableName);
         this.fileIO = fileIO;
         this.readForCompact = readForCompact;
         this.schemaId = schemaId;
@@ -111,31 +127,36 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
             long restoredMaxSeqNumber,
             @Nullable CommitIncrement restoreIncrement,
             ExecutorService compactExecutor,
-            @Nullable BucketedDvMaintainer dvMaintainer) {
-        return new AppendOnlyWriter(
-                fileIO,
-                ioManager,
-                schemaId,
-                fileFormat,
-                options.targetFileSize(false),
-                writeType,
-                writeCols,
-                restoredMaxSeqNumber,
-                getCompactManager(partition, bucket, restoredFiles, compactExecutor, dvMaintainer),
-                // it is only for new files, no dv
-                files -> createFilesIterator(partition, bucket, files, null),
-                options.commitForceCompact(),
-                pathFactory.createDataFilePathFactory(partition, bucket),
-                restoreIncrement,
-                options.useWriteBufferForAppend() || forceBufferSpill,
-                options.writeBufferSpillable() || forceBufferSpill,
-                options.fileCompression(),
-                options.spillCompressOptions(),
-                statsCollectors(),
-                options.writeBufferSpillDiskSize(),
-                fileIndexOptions,
-                options.asyncFileWrite(),
-                options.statsDenseStore());
+            @Nullable BucketedDvMaintainer dvMaintainer,
+            @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer) {
+        AppendOnlyWriter writer =
+                new AppendOnlyWriter(
+                        fileIO,
+                        ioManager,
+                        schemaId,
+                        fileFormat,
+                        options.targetFileSize(false),
+                        writeType,
+                        writeCols,
+                        restoredMaxSeqNumber,
+                        getCompactManager(
+                                partition, bucket, restoredFiles, compactExecutor, dvMaintainer),
+                        // it is only for new files, no dv
+                        files -> createFilesIterator(partition, bucket, files, null),
+                        options.commitForceCompact(),
+                        pathFactory.createDataFilePathFactory(partition, bucket),
+                        restoreIncrement,
+                        options.useWriteBufferForAppend() || forceBufferSpill,
+                        options.writeBufferSpillable() || forceBufferSpill,
+                        options.fileCompression(),
+                        options.spillCompressOptions(),
+                        statsCollectors(),
+                        options.writeBufferSpillDiskSize(),
+                        fileIndexOptions,
+                        options.asyncFileWrite(),
+                        options.asyncFileCloseMaxPending(),
+                        options.statsDenseStore());
+        return writer.withRowCollector(rowCollectorSupplier());
     }
 
     @Override
@@ -152,6 +173,58 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
         }
     }
 
+    public BaseAppendFileStoreWrite withGlobalIndexWriter(GlobalIndexWriter globalIndexWriter) {
+        this.globalIndexWriter = globalIndexWriter;
+        return this;
+    }
+
+    /** Writer of the global index, null if the table has no global index. */
+    @Nullable
+    public GlobalIndexWriter globalIndexWriter() {
+        return globalIndexWriter;
+    }
+
+    @Override
+    public List<CommitMessage> prepareCommit(boolean waitCompaction, long commitIdentifier)
+            throws Exception {
+        List<CommitMessage> messages = super.prepareCommit(waitCompaction, commitIdentifier);
+        if (globalIndexWriter != null) {
+            for (CommitMessage message : messages) {
+                CommitMessageImpl commitMessage = (CommitMessageImpl) message;
+                CompactIncrement compactIncrement = commitMessage.compactIncrement();
+                globalIndexWriter.compact(
+                        commitMessage.partition(), commitMessage.bucket(), compactIncrement);
+                globalIndexWriter.index(
+                        commitMessage.partition(),
+                        commitMessage.bucket(),
+                        commitMessage.newFilesIncrement(),
+                        compactIncrement.deletedIndexFiles(),
+                        ignorePreviousFiles);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Supplier of the collectors of written files, the indexed values are collected while files are
+     * written instead of reading the files back when they are committed.
+     */
+    @Nullable
+    private Supplier<RowDataFileWriter.RowCollector> rowCollectorSupplier() {
+        // files of partial columns are not globally indexed
+        return globalIndexWriter == null || writeCols != null
+                ? null
+                : globalIndexWriter::newRowCollector;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (globalIndexWriter != null) {
+            globalIndexWriter.clear();
+        }
+    }
+
     private SimpleColStatsCollector.Factory[] statsCollectors() {
         return createStatsFactories(options.statsMode(), options, writeType.getFieldNames());
     }
@@ -215,8 +288,10 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
                 fileIndexOptions,
                 FileSource.COMPACT,
                 options.asyncFileWrite(),
+                options.asyncFileCloseMaxPending(),
                 options.statsDenseStore(),
-                rowType.equals(writeType) ? null : writeType.getFieldNames());
+                rowType.equals(writeType) ? null : writeType.getFieldNames(),
+                rowCollectorSupplier());
     }
 
     private RecordReaderIterator<InternalRow> createFilesIterator(
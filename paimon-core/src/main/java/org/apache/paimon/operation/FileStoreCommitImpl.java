@@ -137,6 +137,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final MemorySize manifestTargetSize;
     private final MemorySize manifestFullCompactionSize;
     private final int manifestMergeMinCount;
+    private final boolean manifestMergeOnCommit;
     private final boolean dynamicPartitionOverwrite;
     @Nullable private final Comparator<InternalRow> keyComparator;
     private final String branchName;
@@ -144,6 +145,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final List<CommitCallback> commitCallbacks;
     private final StatsFileHandler statsFileHandler;
     private final BucketMode bucketMode;
+    private final boolean dvDeltaFilesEnabled;
+    private final boolean hashDeltaFilesEnabled;
     private final long commitTimeout;
     private final long commitMinRetryWait;
     private final long commitMaxRetryWait;
@@ -209,6 +212,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.manifestTargetSize = manifestTargetSize;
         this.manifestFullCompactionSize = manifestFullCompactionSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
+        this.manifestMergeOnCommit = options.manifestMergeOnCommit();
         this.dynamicPartitionOverwrite = dynamicPartitionOverwrite;
         this.keyComparator = keyComparator;
         this.branchName = branchName;
@@ -230,6 +234,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.commitMetrics = null;
         this.statsFileHandler = statsFileHandler;
         this.bucketMode = bucketMode;
+        this.dvDeltaFilesEnabled = options.dvIndexFileMaxDeltaFiles() > 0;
+        this.hashDeltaFilesEnabled = options.dynamicBucketIndexFileMaxDeltaFiles() > 0;
         this.rowTrackingEnabled = rowTrackingEnabled;
     }
 
@@ -1060,16 +1066,19 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 oldIndexManifest = latestSnapshot.indexManifest();
             }
 
-            // try to merge old manifest files to create base manifest list
+            // try to merge old manifest files to create base manifest list, if merging is disabled,
+            // manifests are compacted by a separate compact_manifest job
             mergeAfterManifests =
-                    ManifestFileMerger.merge(
-                            mergeBeforeManifests,
-                            manifestFile,
-                            manifestTargetSize.getBytes(),
-                            manifestMergeMinCount,
-                            manifestFullCompactionSize.getBytes(),
-                            partitionType,
-                            manifestReadParallelism);
+                    manifestMergeOnCommit
+                            ? ManifestFileMerger.merge(
+                                    mergeBeforeManifests,
+                                    manifestFile,
+                                    manifestTargetSize.getBytes(),
+                                    manifestMergeMinCount,
+                                    manifestFullCompactionSize.getBytes(),
+                                    partitionType,
+                                    manifestReadParallelism)
+                            : mergeBeforeManifests;
             baseManifestList = manifestList.write(mergeAfterManifests);
 
             if (rowTrackingEnabled) {
@@ -1097,7 +1106,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
 
             indexManifest =
-                    indexManifestFile.writeIndexFiles(oldIndexManifest, indexFiles, bucketMode);
+                    indexManifestFile.writeIndexFiles(
+                            oldIndexManifest,
+                            indexFiles,
+                            bucketMode,
+                            dvDeltaFilesEnabled,
+                            hashDeltaFilesEnabled);
 
             long latestSchemaId =
                     schemaManager
@@ -1315,12 +1329,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     }
 
     private boolean commitSnapshotImpl(Snapshot newSnapshot, List<PartitionEntry> deltaStatistics) {
+        boolean committed;
         try {
             List<PartitionStatistics> statistics = new ArrayList<>(deltaStatistics.size());
             for (PartitionEntry entry : deltaStatistics) {
                 statistics.add(entry.toPartitionStatistics(partitionComputer));
             }
-            return snapshotCommit.commit(newSnapshot, branchName, statistics);
+            committed = snapshotCommit.commit(newSnapshot, branchName, statistics);
         } catch (Throwable e) {
             // exception when performing the atomic rename,
             // we cannot clean up because we can't determine the success
@@ -1335,6 +1350,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             newSnapshot.commitKind().name()),
                     e);
         }
+
+        if (committed) {
+            snapshotManager.commitSummary(newSnapshot);
+        }
+        return committed;
     }
 
     private List<SimpleFileEntry> readIncrementalChanges(
@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.BucketEntry;
+import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
@@ -40,6 +41,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.manifest.ManifestEntry.recordCount;
@@ -92,6 +94,19 @@ public interface FileStoreScan {
 
     ManifestsReader manifestsReader();
 
+    /** Read the manifest files to scan, with the snapshot they belong to. */
+    ManifestsReader.Result readManifests();
+
+    /**
+     * Only read the given manifest files of the snapshot. Files deleted by other manifest files of
+     * the snapshot are given by {@code deletedEntries}.
+     */
+    FileStoreScan withManifests(
+            List<ManifestFileMeta> manifests, Set<FileEntry.Identifier> deletedEntries);
+
+    /** Read the identifiers of files deleted by the given manifest files. */
+    Set<FileEntry.Identifier> readDeletedEntries(List<ManifestFileMeta> manifests);
+
     List<ManifestEntry> readManifest(ManifestFileMeta manifest);
 
     /** Produce a {@link Plan}. */
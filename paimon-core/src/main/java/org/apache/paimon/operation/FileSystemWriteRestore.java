@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 
 /** {@link WriteRestore} to restore files directly from file system. */
 public class FileSystemWriteRestore implements WriteRestore {
@@ -67,7 +68,8 @@ public class FileSystemWriteRestore implements WriteRestore {
             BinaryRow partition,
             int bucket,
             boolean scanDynamicBucketIndex,
-            boolean scanDeleteVectorsIndex) {
+            boolean scanDeleteVectorsIndex,
+            boolean scanPrimaryKeyIndex) {
         // NOTE: don't use snapshotManager.latestSnapshot() here,
         // because we don't want to flood the catalog with high concurrency
         Snapshot snapshot = snapshotManager.latestSnapshotFromFileSystem();
@@ -80,10 +82,9 @@ public class FileSystemWriteRestore implements WriteRestore {
                 scan.withSnapshot(snapshot).withPartitionBucket(partition, bucket).plan().files();
         Integer totalBuckets = WriteRestore.extractDataFiles(entries, restoreFiles);
 
-        IndexFileMeta dynamicBucketIndex = null;
+        List<IndexFileMeta> dynamicBucketIndex = null;
         if (scanDynamicBucketIndex) {
-            dynamicBucketIndex =
-                    indexFileHandler.scanHashIndex(snapshot, partition, bucket).orElse(null);
+            dynamicBucketIndex = indexFileHandler.scan(snapshot, HASH_INDEX, partition, bucket);
         }
 
         List<IndexFileMeta> deleteVectorsIndex = null;
@@ -92,7 +93,18 @@ public class FileSystemWriteRestore implements WriteRestore {
                     indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
         }
 
+        IndexFileMeta primaryKeyIndex = null;
+        if (scanPrimaryKeyIndex) {
+            primaryKeyIndex =
+                    indexFileHandler.scanPrimaryKeyIndex(snapshot, partition, bucket).orElse(null);
+        }
+
         return new RestoreFiles(
-                snapshot, totalBuckets, restoreFiles, dynamicBucketIndex, deleteVectorsIndex);
+                snapshot,
+                totalBuckets,
+                restoreFiles,
+                dynamicBucketIndex,
+                deleteVectorsIndex,
+                primaryKeyIndex);
     }
 }
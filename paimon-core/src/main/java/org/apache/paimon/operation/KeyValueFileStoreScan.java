@@ -161,6 +161,11 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         return entry.copyWithoutStats();
     }
 
+    @Override
+    protected boolean valueStatsRequired() {
+        return valueFilter != null;
+    }
+
     private boolean filterByFileIndex(@Nullable byte[] embeddedIndexBytes, ManifestEntry entry) {
         if (embeddedIndexBytes == null) {
             return true;
@@ -35,6 +35,7 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
+import org.apache.paimon.index.PrimaryKeyIndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.FileReaderFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
@@ -133,6 +134,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             FileStoreScan scan,
             @Nullable DynamicBucketIndexMaintainer.Factory dbMaintainerFactory,
             @Nullable BucketedDvMaintainer.Factory dvMaintainerFactory,
+            @Nullable PrimaryKeyIndexMaintainer.Factory pkIndexMaintainerFactory,
             CoreOptions options,
             KeyValueFieldsExtractor extractor,
             String tableName) {
@@ -143,6 +145,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 partitionType,
                 dbMaintainerFactory,
                 dvMaintainerFactory,
+                pkIndexMaintainerFactory,
                 tableName);
         this.partitionType = partitionType;
         this.keyType = keyType;
@@ -194,7 +197,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             long restoredMaxSeqNumber,
             @Nullable CommitIncrement restoreIncrement,
             ExecutorService compactExecutor,
-            @Nullable BucketedDvMaintainer dvMaintainer) {
+            @Nullable BucketedDvMaintainer dvMaintainer,
+            @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer) {
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Creating merge tree writer for partition {} bucket {} from restored files {}",
@@ -210,7 +214,13 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         CompactStrategy compactStrategy = createCompactStrategy(options);
         CompactManager compactManager =
                 createCompactManager(
-                        partition, bucket, compactStrategy, compactExecutor, levels, dvMaintainer);
+                        partition,
+                        bucket,
+                        compactStrategy,
+                        compactExecutor,
+                        levels,
+                        dvMaintainer,
+                        pkIndexMaintainer);
 
         return new MergeTreeWriter(
                 options.writeBufferSpillable(),
@@ -226,7 +236,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 options.commitForceCompact(),
                 options.changelogProducer(),
                 restoreIncrement,
-                UserDefinedSeqComparator.create(valueType, options));
+                UserDefinedSeqComparator.create(valueType, options),
+                pkIndexMaintainer);
     }
 
     private CompactStrategy createCompactStrategy(CoreOptions options) {
@@ -269,7 +280,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             CompactStrategy compactStrategy,
             ExecutorService compactExecutor,
             Levels levels,
-            @Nullable BucketedDvMaintainer dvMaintainer) {
+            @Nullable BucketedDvMaintainer dvMaintainer,
+            @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer) {
         if (options.writeOnly()) {
             return new NoopCompactManager();
         } else {
@@ -282,7 +294,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             keyComparator,
                             userDefinedSeqComparator,
                             levels,
-                            dvMaintainer);
+                            dvMaintainer,
+                            pkIndexMaintainer);
             return new MergeTreeCompactManager(
                     compactExecutor,
                     levels,
@@ -308,7 +321,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             Comparator<InternalRow> keyComparator,
             @Nullable FieldsComparator userDefinedSeqComparator,
             Levels levels,
-            @Nullable BucketedDvMaintainer dvMaintainer) {
+            @Nullable BucketedDvMaintainer dvMaintainer,
+            @Nullable PrimaryKeyIndexMaintainer pkIndexMaintainer) {
         DeletionVector.Factory dvFactory = DeletionVector.factory(dvMaintainer);
         FileReaderFactory<KeyValue> readerFactory =
                 readerFactoryBuilder.build(partition, bucket, dvFactory);
@@ -317,6 +331,9 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         }
         KeyValueFileWriterFactory writerFactory =
                 writerFactoryBuilder.build(partition, bucket, options);
+        if (pkIndexMaintainer != null) {
+            writerFactory.withKeyCollector(levels.maxLevel(), pkIndexMaintainer::newKeyCollector);
+        }
         MergeSorter mergeSorter = new MergeSorter(options, keyType, valueType, ioManager);
         int maxLevel = options.numLevels() - 1;
         MergeEngine mergeEngine = options.mergeEngine();
@@ -24,6 +24,7 @@ import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.deletionvectors.DeletionVectorCache;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
@@ -93,6 +94,8 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
 
     private boolean forceKeepDelete = false;
 
+    @Nullable private DeletionVectorCache deletionVectorCache;
+
     public MergeFileSplitRead(
             CoreOptions options,
             TableSchema schema,
@@ -199,6 +202,12 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
         return this;
     }
 
+    /** Reads deletion vectors through the cache, they are not modified by the readers. */
+    public MergeFileSplitRead withDeletionVectorCache(@Nullable DeletionVectorCache cache) {
+        this.deletionVectorCache = cache;
+        return this;
+    }
+
     @Override
     public MergeFileSplitRead forceKeepDelete() {
         this.forceKeepDelete = true;
@@ -276,7 +285,8 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
             throws IOException {
         // Sections are read by SortMergeReader, which sorts and merges records by keys.
         // So we cannot project keys or else the sorting will be incorrect.
-        DeletionVector.Factory dvFactory = DeletionVector.factory(fileIO, files, deletionFiles);
+        DeletionVector.Factory dvFactory =
+                DeletionVector.factory(fileIO, files, deletionFiles, deletionVectorCache);
         KeyValueFileReaderFactory overlappedSectionFactory =
                 readerFactoryBuilder.build(partition, bucket, dvFactory, false, filtersForKeys);
         KeyValueFileReaderFactory nonOverlappedSectionFactory =
@@ -318,7 +328,7 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
                 readerFactoryBuilder.build(
                         partition,
                         bucket,
-                        DeletionVector.factory(fileIO, files, deletionFiles),
+                        DeletionVector.factory(fileIO, files, deletionFiles, deletionVectorCache),
                         true,
                         onlyFilterKey ? filtersForKeys : filtersForAll);
         List<ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
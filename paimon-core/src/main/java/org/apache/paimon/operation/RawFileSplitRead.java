@@ -20,8 +20,11 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.deletionvectors.ApplyDeletionVectorReader;
+import org.apache.paimon.deletionvectors.BitmapDeletionVector;
 import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.deletionvectors.DeletionVectorCache;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fileindex.FileIndexResult;
 import org.apache.paimon.fileindex.bitmap.ApplyBitmapIndexRecordReader;
@@ -84,6 +87,8 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
     @Nullable private List<Predicate> filters;
     @Nullable private TopN topN;
     @Nullable private Integer limit;
+    @Nullable private DeletionVectorCache deletionVectorCache;
+    @Nullable private WritableColumnVectorFactory vectorFactory;
 
     public RawFileSplitRead(
             FileIO fileIO,
@@ -105,6 +110,12 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         this.readRowType = rowType;
     }
 
+    /** Reads deletion vectors through the cache, they are not modified by the readers. */
+    public RawFileSplitRead withDeletionVectorCache(@Nullable DeletionVectorCache cache) {
+        this.deletionVectorCache = cache;
+        return this;
+    }
+
     @Override
     public SplitRead<InternalRow> forceKeepDelete() {
         return this;
@@ -115,6 +126,13 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         return this;
     }
 
+    @Override
+    public SplitRead<InternalRow> withVectorFactory(
+            @Nullable WritableColumnVectorFactory vectorFactory) {
+        this.vectorFactory = vectorFactory;
+        return this;
+    }
+
     @Override
     public SplitRead<InternalRow> withReadType(RowType readRowType) {
         this.readRowType = readRowType;
@@ -149,7 +167,8 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
 
         List<DataFileMeta> files = split.dataFiles();
         DeletionVector.Factory dvFactory =
-                DeletionVector.factory(fileIO, files, split.deletionFiles().orElse(null));
+                DeletionVector.factory(
+                        fileIO, files, split.deletionFiles().orElse(null), deletionVectorCache);
         Map<String, IOExceptionSupplier<DeletionVector>> dvFactories = new HashMap<>();
         for (DataFileMeta file : files) {
             dvFactories.put(file.fileName(), () -> dvFactory.create(file.fileName()).orElse(null));
@@ -250,11 +269,22 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         RoaringBitmap32 selection = null;
         if (fileIndexResult instanceof BitmapIndexResult) {
             selection = ((BitmapIndexResult) fileIndexResult).get();
+        } else if (deletionVector instanceof BitmapDeletionVector && !deletionVector.isEmpty()) {
+            // push deleted positions down, so that format readers can skip deleted row groups,
+            // pages and batches, the deletion vector is still applied to the returned rows
+            selection =
+                    RoaringBitmap32.andNot(
+                            RoaringBitmap32.bitmapOfRange(0, file.rowCount()),
+                            ((BitmapDeletionVector) deletionVector).get());
         }
 
         FormatReaderContext formatReaderContext =
                 new FormatReaderContext(
-                        fileIO, dataFilePathFactory.toPath(file), file.fileSize(), selection);
+                        fileIO,
+                        dataFilePathFactory.toPath(file),
+                        file.fileSize(),
+                        selection,
+                        vectorFactory);
         FileRecordReader<InternalRow> fileRecordReader =
                 new DataFileRecordReader(
                         schema.logicalRowType(),
@@ -32,20 +32,23 @@ public class RestoreFiles {
     private final @Nullable Snapshot snapshot;
     private final @Nullable Integer totalBuckets;
     private final @Nullable List<DataFileMeta> dataFiles;
-    private final @Nullable IndexFileMeta dynamicBucketIndex;
+    private final @Nullable List<IndexFileMeta> dynamicBucketIndex;
     private final @Nullable List<IndexFileMeta> deleteVectorsIndex;
+    private final @Nullable IndexFileMeta primaryKeyIndex;
 
     public RestoreFiles(
             @Nullable Snapshot snapshot,
             @Nullable Integer totalBuckets,
             @Nullable List<DataFileMeta> dataFiles,
-            @Nullable IndexFileMeta dynamicBucketIndex,
-            @Nullable List<IndexFileMeta> deleteVectorsIndex) {
+            @Nullable List<IndexFileMeta> dynamicBucketIndex,
+            @Nullable List<IndexFileMeta> deleteVectorsIndex,
+            @Nullable IndexFileMeta primaryKeyIndex) {
         this.snapshot = snapshot;
         this.totalBuckets = totalBuckets;
         this.dataFiles = dataFiles;
         this.dynamicBucketIndex = dynamicBucketIndex;
         this.deleteVectorsIndex = deleteVectorsIndex;
+        this.primaryKeyIndex = primaryKeyIndex;
     }
 
     @Nullable
@@ -64,7 +67,7 @@ public class RestoreFiles {
     }
 
     @Nullable
-    public IndexFileMeta dynamicBucketIndex() {
+    public List<IndexFileMeta> dynamicBucketIndex() {
         return dynamicBucketIndex;
     }
 
@@ -73,7 +76,12 @@ public class RestoreFiles {
         return deleteVectorsIndex;
     }
 
+    @Nullable
+    public IndexFileMeta primaryKeyIndex() {
+        return primaryKeyIndex;
+    }
+
     public static RestoreFiles empty() {
-        return new RestoreFiles(null, null, null, null, null);
+        return new RestoreFiles(null, null, null, null, null, null);
     }
 }
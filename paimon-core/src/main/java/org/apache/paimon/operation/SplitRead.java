@@ -18,6 +18,7 @@
 
 package org.apache.paimon.operation;
 
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.TopN;
@@ -53,6 +54,10 @@ public interface SplitRead<T> {
         return this;
     }
 
+    default SplitRead<T> withVectorFactory(@Nullable WritableColumnVectorFactory vectorFactory) {
+        return this;
+    }
+
     /** Create a {@link RecordReader} from split. */
     RecordReader<T> createReader(DataSplit split) throws IOException;
 
@@ -239,6 +239,8 @@ public class SchemaValidation {
         validateMergeFunctionFactory(schema);
 
         validateRowTracking(schema, options);
+
+        validateGlobalIndex(schema, options);
     }
 
     public static void validateFallbackBranch(SchemaManager schemaManager, TableSchema schema) {
@@ -656,4 +658,23 @@ public class SchemaValidation {
                     "Data evolution config must disabled with deletion-vectors.enabled");
         }
     }
+
+    private static void validateGlobalIndex(TableSchema schema, CoreOptions options) {
+        List<String> columns = options.globalIndexColumns();
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        checkArgument(
+                schema.primaryKeys().isEmpty(),
+                "Cannot define %s for primary key table.",
+                CoreOptions.GLOBAL_INDEX_COLUMNS.key());
+        validateOnlyContainPrimitiveType(schema.fields(), columns, "global index");
+        for (String column : columns) {
+            checkArgument(
+                    !schema.partitionKeys().contains(column),
+                    "Global index column '%s' can not be a partition field.",
+                    column);
+        }
+    }
 }
@@ -269,6 +269,7 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         }
 
         writeEarliestHint(endExclusiveId);
+        snapshotManager.expireSummaries(earliestId, endExclusiveId);
         long duration = System.currentTimeMillis() - startTime;
         LOG.info(
                 "Finished expire snapshots, duration {} ms, range is [{}, {})",
@@ -99,6 +99,7 @@ public class RollbackHelper {
                 snapshotManager.deleteSnapshot(i);
             }
         }
+        snapshotManager.rollbackSummaries(retainedSnapshot.id(), latest);
     }
 
     private void cleanLongLivedChangelogs(Snapshot retainedSnapshot) throws IOException {
@@ -32,8 +32,10 @@ import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.predicate.TopN;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FormatTable;
+import org.apache.paimon.table.source.Aggregation;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.StreamTableScan;
+import org.apache.paimon.table.source.TableAggregate;
 import org.apache.paimon.table.source.TableRead;
 import org.apache.paimon.table.source.TableScan;
 import org.apache.paimon.types.RowType;
@@ -209,4 +211,9 @@ public class FormatReadBuilder implements ReadBuilder {
     public StreamTableScan newStreamScan() {
         throw new UnsupportedOperationException("Format Table does not support stream scan.");
     }
+
+    @Override
+    public TableAggregate newAggregate(List<Aggregation> aggregations) {
+        throw new UnsupportedOperationException("Format Table does not support aggregate.");
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.query;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.FileStore;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.PrimaryKeyIndexFile;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.reader.FileRecordIterator;
+import org.apache.paimon.reader.FileRecordReader;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.KeyComparatorSupplier;
+import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.RoaringBitmap32;
+import org.apache.paimon.utils.SnapshotManager;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.PrimaryKeyIndexFile.PRIMARY_KEY_INDEX;
+
+/**
+ * A {@link TableQuery} of tables with {@link CoreOptions#PRIMARY_KEY_INDEX_ENABLED}. Unlike {@link
+ * LocalTableQuery}, nothing is cached on local disk, the {@link PrimaryKeyIndexFile} of a bucket
+ * tells the data files and row positions of a key, so that only the matching rows of the files of
+ * the highest level are read. Files not in the index, like the files of lower levels, are read if
+ * their key range contains the key.
+ *
+ * <p>Buckets are loaded from the latest snapshot on their first lookup, call {@link #refresh()} to
+ * see newer snapshots. Only the deduplicate merge engine is supported, the record with the highest
+ * sequence number wins.
+ */
+public class PrimaryKeyIndexTableQuery implements TableQuery {
+
+    private final KeyValueFileStore store;
+    private final SnapshotManager snapshotManager;
+    private final IndexFileHandler indexFileHandler;
+    private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
+    private final RowType rowType;
+    private final Comparator<InternalRow> keyComparator;
+    private final InternalRowSerializer keySerializer;
+    private final Map<BinaryRow, Map<Integer, BucketView>> views;
+
+    public PrimaryKeyIndexTableQuery(FileStoreTable table) {
+        FileStore<?> tableStore = table.store();
+        if (!(tableStore instanceof KeyValueFileStore)) {
+            throw new UnsupportedOperationException(
+                    "Table Query only supports table with primary key.");
+        }
+        CoreOptions options = table.coreOptions();
+        if (options.mergeEngine() != CoreOptions.MergeEngine.DEDUPLICATE) {
+            throw new UnsupportedOperationException(
+                    "Primary key index query only supports deduplicate merge engine, but is "
+                            + options.mergeEngine());
+        }
+        this.store = (KeyValueFileStore) tableStore;
+        this.snapshotManager = table.snapshotManager();
+        this.indexFileHandler = store.newIndexFileHandler();
+        this.readerFactoryBuilder = store.newReaderFactoryBuilder();
+        this.rowType = table.schema().logicalRowType();
+        RowType keyType = readerFactoryBuilder.keyType();
+        this.keyComparator = new KeyComparatorSupplier(keyType).get();
+        this.keySerializer = new InternalRowSerializer(keyType);
+        this.views = new HashMap<>();
+    }
+
+    @Nullable
+    @Override
+    public synchronized InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
+            throws IOException {
+        BucketView view = views.computeIfAbsent(partition, k -> new HashMap<>()).get(bucket);
+        if (view == null) {
+            view = loadView(partition.copy(), bucket);
+            views.get(partition).put(bucket, view);
+        }
+
+        int hash = keySerializer.toBinaryRow(key).hashCode();
+        Map<String, RoaringBitmap32> indexed = view.lookupIndex(hash);
+        KeyValue result = null;
+        for (DataFileMeta file : view.files) {
+            RoaringBitmap32 selection = null;
+            if (view.indexedFiles.contains(file.fileName())) {
+                selection = indexed.get(file.fileName());
+                if (selection == null) {
+                    continue;
+                }
+            } else if (keyComparator.compare(key, file.minKey()) < 0
+                    || keyComparator.compare(key, file.maxKey()) > 0) {
+                continue;
+            }
+
+            KeyValue kv = lookup(view.readerFactory, file, selection, key);
+            if (kv != null && (result == null || kv.sequenceNumber() > result.sequenceNumber())) {
+                result = kv;
+            }
+        }
+
+        if (result == null || result.valueKind().isRetract()) {
+            return null;
+        }
+        return result.value();
+    }
+
+    @Nullable
+    private KeyValue lookup(
+            KeyValueFileReaderFactory readerFactory,
+            DataFileMeta file,
+            @Nullable RoaringBitmap32 selection,
+            InternalRow key)
+            throws IOException {
+        InternalRowSerializer valueSerializer = createValueSerializer();
+        KeyValue result = null;
+        try (FileRecordReader<KeyValue> reader =
+                readerFactory.createRecordReader(file, selection)) {
+            FileRecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                KeyValue kv;
+                while ((kv = batch.next()) != null) {
+                    // the selection is only a hint for some formats
+                    if (selection != null && !selection.contains((int) batch.returnedPosition())) {
+                        continue;
+                    }
+                    if (keyComparator.compare(key, kv.key()) == 0
+                            && (result == null || kv.sequenceNumber() > result.sequenceNumber())) {
+                        result = kv.copy(keySerializer, valueSerializer);
+                    }
+                }
+                batch.releaseBatch();
+            }
+        }
+        return result;
+    }
+
+    private BucketView loadView(BinaryRow partition, int bucket) throws IOException {
+        Snapshot snapshot = snapshotManager.latestSnapshot();
+        if (snapshot == null) {
+            return new BucketView(
+                    Collections.emptyList(),
+                    readerFactoryBuilder.build(partition, bucket, DeletionVector.emptyFactory()),
+                    null);
+        }
+
+        List<DataFileMeta> files =
+                store.newScan().withSnapshot(snapshot)
+                        .withPartitionFilter(Collections.singletonList(partition))
+                        .withBucket(bucket).plan().files().stream()
+                        .map(ManifestEntry::file)
+                        .collect(Collectors.toList());
+        List<IndexFileMeta> dvFiles =
+                indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
+        Map<String, DeletionVector> deletionVectors =
+                dvFiles.isEmpty()
+                        ? Collections.emptyMap()
+                        : indexFileHandler.readAllDeletionVectors(partition, bucket, dvFiles);
+        KeyValueFileReaderFactory readerFactory =
+                readerFactoryBuilder.build(
+                        partition,
+                        bucket,
+                        fileName -> Optional.ofNullable(deletionVectors.get(fileName)));
+
+        PrimaryKeyIndexFile.Reader indexReader = null;
+        List<IndexFileMeta> pkIndexFiles =
+                indexFileHandler.scan(snapshot, PRIMARY_KEY_INDEX, partition, bucket);
+        if (!pkIndexFiles.isEmpty()) {
+            indexReader = indexFileHandler.pkIndex(partition, bucket).open(pkIndexFiles.get(0));
+        }
+        return new BucketView(files, readerFactory, indexReader);
+    }
+
+    /** Drops the loaded buckets, they are loaded again from the latest snapshot. */
+    public synchronized void refresh() throws IOException {
+        for (Map<Integer, BucketView> buckets : views.values()) {
+            for (BucketView view : buckets.values()) {
+                view.close();
+            }
+        }
+        views.clear();
+    }
+
+    @Override
+    public PrimaryKeyIndexTableQuery withValueProjection(int[] projection) {
+        this.readerFactoryBuilder.withReadValueType(rowType.project(projection));
+        return this;
+    }
+
+    @Override
+    public InternalRowSerializer createValueSerializer() {
+        return InternalSerializers.create(readerFactoryBuilder.readValueType());
+    }
+
+    @Override
+    public void close() throws IOException {
+        refresh();
+    }
+
+    /** Files and primary key index of a bucket. */
+    private static class BucketView {
+
+        private final List<DataFileMeta> files;
+        private final KeyValueFileReaderFactory readerFactory;
+        @Nullable private final PrimaryKeyIndexFile.Reader indexReader;
+        private final Set<String> indexedFiles;
+
+        private BucketView(
+                List<DataFileMeta> files,
+                KeyValueFileReaderFactory readerFactory,
+                @Nullable PrimaryKeyIndexFile.Reader indexReader) {
+            this.files = files;
+            this.readerFactory = readerFactory;
+            this.indexReader = indexReader;
+            this.indexedFiles =
+                    indexReader == null
+                            ? Collections.emptySet()
+                            : new HashSet<>(indexReader.dataFiles());
+        }
+
+        private Map<String, RoaringBitmap32> lookupIndex(int hash) throws IOException {
+            if (indexReader == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, RoaringBitmap32> result = new HashMap<>();
+            for (Pair<String, Integer> entry : indexReader.lookup(hash)) {
+                result.computeIfAbsent(entry.getLeft(), k -> new RoaringBitmap32())
+                        .add(entry.getRight());
+            }
+            return result;
+        }
+
+        private void close() throws IOException {
+            if (indexReader != null) {
+                indexReader.close();
+            }
+        }
+    }
+}
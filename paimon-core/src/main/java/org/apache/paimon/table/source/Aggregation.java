@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source;
+
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/** An aggregation over all rows of a scan, see {@link ReadBuilder#newAggregate}. */
+public class Aggregation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Kind kind;
+    @Nullable private final FieldRef field;
+
+    private Aggregation(Kind kind, @Nullable FieldRef field) {
+        checkArgument(
+                (kind == Kind.COUNT_STAR) == (field == null),
+                "Aggregation %s requires %s field.",
+                kind,
+                kind == Kind.COUNT_STAR ? "no" : "a");
+        this.kind = kind;
+        this.field = field;
+    }
+
+    public static Aggregation countStar() {
+        return new Aggregation(Kind.COUNT_STAR, null);
+    }
+
+    public static Aggregation count(FieldRef field) {
+        return new Aggregation(Kind.COUNT, field);
+    }
+
+    public static Aggregation min(FieldRef field) {
+        return new Aggregation(Kind.MIN, field);
+    }
+
+    public static Aggregation max(FieldRef field) {
+        return new Aggregation(Kind.MAX, field);
+    }
+
+    public static Aggregation nullCount(FieldRef field) {
+        return new Aggregation(Kind.NULL_COUNT, field);
+    }
+
+    /** Estimated count of distinct non-null values, computed with a HyperLogLog sketch. */
+    public static Aggregation countDistinct(FieldRef field) {
+        return new Aggregation(Kind.COUNT_DISTINCT, field);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    @Nullable
+    public FieldRef field() {
+        return field;
+    }
+
+    /** Type of the result, min and max are of the field type, the others are counts. */
+    public DataType resultType() {
+        switch (kind) {
+            case MIN:
+            case MAX:
+                return field.type().copy(true);
+            default:
+                return DataTypes.BIGINT().notNull();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Aggregation that = (Aggregation) o;
+        return kind == that.kind && Objects.equals(field, that.field);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, field);
+    }
+
+    @Override
+    public String toString() {
+        return field == null ? kind.name() : String.format("%s(%s)", kind, field.name());
+    }
+
+    /** Kinds of aggregations. */
+    public enum Kind {
+        COUNT_STAR,
+        COUNT,
+        MIN,
+        MAX,
+        NULL_COUNT,
+        COUNT_DISTINCT
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.paimon.table.source;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.operation.MergeFileSplitRead;
 import org.apache.paimon.operation.SplitRead;
 import org.apache.paimon.predicate.Predicate;
@@ -48,6 +49,7 @@ public final class AppendTableRead extends AbstractDataTableRead {
     private Predicate predicate = null;
     private TopN topN = null;
     private Integer limit = null;
+    @Nullable private WritableColumnVectorFactory vectorFactory = null;
 
     public AppendTableRead(
             List<Function<SplitReadConfig, SplitReadProvider>> providerFactories,
@@ -76,6 +78,7 @@ public final class AppendTableRead extends AbstractDataTableRead {
         read.withFilter(predicate);
         read.withTopN(topN);
         read.withLimit(limit);
+        read.withVectorFactory(vectorFactory);
     }
 
     @Override
@@ -105,6 +108,13 @@ public final class AppendTableRead extends AbstractDataTableRead {
         return this;
     }
 
+    @Override
+    public InnerTableRead withVectorFactory(WritableColumnVectorFactory vectorFactory) {
+        initialized().forEach(r -> r.withVectorFactory(vectorFactory));
+        this.vectorFactory = vectorFactory;
+        return this;
+    }
+
     @Override
     public RecordReader<InternalRow> reader(Split split) throws IOException {
         DataSplit dataSplit = (DataSplit) split;
@@ -458,8 +458,9 @@ public class DataSplit implements Split {
                     new DataFileMetaFirstRowIdLegacySerializer();
             return serializer::deserialize;
         } else if (version == 8) {
+            // splits may be held in large numbers, e.g. by enumerators and drivers
             DataFileMetaSerializer serializer = new DataFileMetaSerializer();
-            return serializer::deserialize;
+            return serializer::deserializeToBinary;
         } else {
             throw new UnsupportedOperationException("Unsupported version: " + version);
         }
@@ -0,0 +1,532 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.fileindex.FileIndexPredicate;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.FileIndexEvaluator;
+import org.apache.paimon.predicate.CompareUtils;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.stats.SimpleStatsEvolution;
+import org.apache.paimon.stats.SimpleStatsEvolutions;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.HllSketchUtil;
+import org.apache.paimon.utils.InternalRowUtils;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.apache.paimon.table.source.PushDownUtils.minmaxAvailable;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * {@link TableAggregate} of a {@link FileStoreTable}.
+ *
+ * <p>Data files of append tables without deletion vectors are answered from metadata:
+ *
+ * <ul>
+ *   <li>If there is no filter, or the value stats prove that all rows match the filter, counts,
+ *       min, max and null counts are answered from the value stats.
+ *   <li>Otherwise, if the bitmap or bit slice indexes of the file give the exact rows matching the
+ *       filter, count of rows is answered from them.
+ *   <li>If the value stats prove that no row matches the filter, the file is skipped.
+ * </ul>
+ *
+ * <p>Splits of primary key tables are answered only for count of rows without filter, and only if
+ * their merged row count is known. Count distinct always reads its column. All the other files are
+ * read with the columns of the aggregations and the filter only.
+ */
+public class DataTableAggregate implements TableAggregate {
+
+    private final FileStoreTable table;
+    private final TableScan scan;
+    private final InnerTableRead read;
+    @Nullable private final Predicate filter;
+    private final List<Aggregation> aggregations;
+
+    private final TableSchema schema;
+    private final SimpleStatsEvolutions evolutions;
+    private final boolean fileIndexReadEnabled;
+
+    public DataTableAggregate(
+            FileStoreTable table,
+            TableScan scan,
+            InnerTableRead read,
+            @Nullable Predicate filter,
+            List<Aggregation> aggregations) {
+        checkArgument(!aggregations.isEmpty(), "Aggregations should not be empty.");
+        RowType rowType = table.rowType();
+        for (Aggregation aggregation : aggregations) {
+            FieldRef field = aggregation.field();
+            checkArgument(
+                    field == null
+                            || (field.index() < rowType.getFieldCount()
+                                    && rowType.getFieldNames()
+                                            .get(field.index())
+                                            .equals(field.name())),
+                    "Field of aggregation %s is not a field of table %s.",
+                    aggregation,
+                    table.name());
+        }
+        this.table = table;
+        this.scan = scan;
+        this.read = read;
+        this.filter = filter;
+        this.aggregations = aggregations;
+        this.schema = table.schema();
+        this.evolutions =
+                new SimpleStatsEvolutions(
+                        id -> table.schemaManager().schema(id).fields(), schema.id());
+        this.fileIndexReadEnabled = table.coreOptions().fileIndexReadEnabled();
+    }
+
+    @Override
+    public Result aggregate() throws IOException {
+        RowType rowType = table.rowType();
+        Set<Integer> readFields = new TreeSet<>();
+        for (Aggregation aggregation : aggregations) {
+            if (aggregation.field() != null) {
+                readFields.add(aggregation.field().index());
+            }
+        }
+        if (filter != null) {
+            collectFieldNames(filter, rowType, readFields);
+        }
+        if (readFields.isEmpty()) {
+            readFields.add(0);
+        }
+        int[] projection = readFields.stream().mapToInt(Integer::intValue).toArray();
+
+        List<Accumulator> accumulators = new ArrayList<>();
+        for (Aggregation aggregation : aggregations) {
+            int readPos = -1;
+            if (aggregation.field() != null) {
+                readPos = new ArrayList<>(readFields).indexOf(aggregation.field().index());
+            }
+            accumulators.add(createAccumulator(aggregation, readPos));
+        }
+        boolean onlyCountStar =
+                aggregations.stream().allMatch(a -> a.kind() == Aggregation.Kind.COUNT_STAR);
+
+        long answeredFiles = 0;
+        long readFiles = 0;
+        List<Split> splitsToRead = new ArrayList<>();
+        for (Split split : scan.plan().splits()) {
+            if (!(split instanceof DataSplit)) {
+                splitsToRead.add(split);
+                continue;
+            }
+
+            DataSplit dataSplit = (DataSplit) split;
+            int fileCount = dataSplit.dataFiles().size();
+            if (!table.primaryKeys().isEmpty() || !dataSplit.rawConvertible()) {
+                if (filter == null && onlyCountStar && dataSplit.mergedRowCountAvailable()) {
+                    FileMetadata metadata = FileMetadata.count(dataSplit.mergedRowCount());
+                    accumulators.forEach(a -> a.answer(metadata));
+                    answeredFiles += fileCount;
+                } else {
+                    splitsToRead.add(dataSplit);
+                    readFiles += fileCount;
+                }
+                continue;
+            }
+
+            List<DataFileMeta> files = dataSplit.dataFiles();
+            List<DeletionFile> deletionFiles = dataSplit.deletionFiles().orElse(null);
+            List<DataFileMeta> filesToRead = new ArrayList<>();
+            List<DeletionFile> deletionFilesToRead = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                DataFileMeta file = files.get(i);
+                DeletionFile deletionFile = deletionFiles == null ? null : deletionFiles.get(i);
+                FileMetadata metadata = metadata(dataSplit, file, deletionFile);
+                if (accumulators.stream().allMatch(a -> a.canAnswer(metadata))) {
+                    accumulators.forEach(a -> a.answer(metadata));
+                    answeredFiles++;
+                } else {
+                    filesToRead.add(file);
+                    deletionFilesToRead.add(deletionFile);
+                }
+            }
+
+            if (!filesToRead.isEmpty()) {
+                DataSplit.Builder builder =
+                        DataSplit.builder()
+                                .withSnapshot(dataSplit.snapshotId())
+                                .withPartition(dataSplit.partition())
+                                .withBucket(dataSplit.bucket())
+                                .withBucketPath(dataSplit.bucketPath())
+                                .withTotalBuckets(dataSplit.totalBuckets())
+                                .withDataFiles(filesToRead)
+                                .isStreaming(false)
+                                .rawConvertible(true);
+                if (deletionFiles != null) {
+                    builder.withDataDeletionFiles(deletionFilesToRead);
+                }
+                splitsToRead.add(builder.build());
+                readFiles += filesToRead.size();
+            }
+        }
+
+        if (!splitsToRead.isEmpty()) {
+            TableRead tableRead = read.withReadType(rowType.project(projection)).executeFilter();
+            try (RecordReader<InternalRow> reader = tableRead.createReader(splitsToRead)) {
+                reader.forEachRemaining(row -> accumulators.forEach(a -> a.update(row)));
+            }
+        }
+
+        GenericRow result = new GenericRow(accumulators.size());
+        for (int i = 0; i < accumulators.size(); i++) {
+            result.setField(i, accumulators.get(i).result());
+        }
+        return new Result(result, answeredFiles, readFiles);
+    }
+
+    private FileMetadata metadata(
+            DataSplit split, DataFileMeta file, @Nullable DeletionFile deletionFile)
+            throws IOException {
+        long rowCount = file.rowCount();
+        if (deletionFile != null) {
+            Long deleted = deletionFile.cardinality();
+            return filter == null && deleted != null
+                    ? FileMetadata.count(rowCount - deleted)
+                    : FileMetadata.UNKNOWN;
+        }
+
+        SimpleStatsEvolution.Result stats =
+                evolutions
+                        .getOrCreate(file.schemaId())
+                        .evolution(file.valueStats(), rowCount, file.valueStatsCols());
+        if (filter == null) {
+            return FileMetadata.allRows(rowCount, stats);
+        }
+
+        if (file.schemaId() != schema.id()) {
+            // the filter is not evolved to the fields of the file
+            return FileMetadata.UNKNOWN;
+        }
+
+        if (!filter.test(rowCount, stats.minValues(), stats.maxValues(), stats.nullCounts())) {
+            return FileMetadata.count(0);
+        }
+
+        if (matchesAllRows(rowCount, stats)) {
+            return FileMetadata.allRows(rowCount, stats);
+        }
+
+        if (fileIndexReadEnabled) {
+            try (FileIndexPredicate predicate =
+                    FileIndexEvaluator.createFileIndexPredicate(
+                            table.fileIO(),
+                            schema,
+                            table.store()
+                                    .pathFactory()
+                                    .createDataFilePathFactory(split.partition(), split.bucket()),
+                            file)) {
+                RoaringBitmap32 positions =
+                        predicate == null ? null : predicate.evaluateExact(filter);
+                if (positions != null) {
+                    return FileMetadata.count(positions.getCardinality());
+                }
+            }
+        }
+        return FileMetadata.UNKNOWN;
+    }
+
+    /** All rows match if no field of the filter has nulls and no row matches the negation. */
+    private boolean matchesAllRows(long rowCount, SimpleStatsEvolution.Result stats) {
+        Set<Integer> fields = new TreeSet<>();
+        collectFieldNames(filter, table.rowType(), fields);
+        for (int field : fields) {
+            Long nullCount = nullCount(stats, field);
+            if (nullCount == null || nullCount != 0) {
+                return false;
+            }
+        }
+
+        Optional<Predicate> negated = filter.negate();
+        return negated.isPresent()
+                && !negated.get()
+                        .test(rowCount, stats.minValues(), stats.maxValues(), stats.nullCounts());
+    }
+
+    private static void collectFieldNames(Predicate predicate, RowType rowType, Set<Integer> to) {
+        if (predicate instanceof LeafPredicate) {
+            to.add(rowType.getFieldIndex(((LeafPredicate) predicate).fieldName()));
+        } else {
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                collectFieldNames(child, rowType, to);
+            }
+        }
+    }
+
+    @Nullable
+    private static Long nullCount(SimpleStatsEvolution.Result stats, int field) {
+        return stats.nullCounts().isNullAt(field) ? null : stats.nullCounts().getLong(field);
+    }
+
+    private Accumulator createAccumulator(Aggregation aggregation, int readPos) {
+        switch (aggregation.kind()) {
+            case COUNT_STAR:
+                return new CountStarAccumulator();
+            case COUNT:
+                return new CountAccumulator(aggregation.field(), readPos, false);
+            case NULL_COUNT:
+                return new CountAccumulator(aggregation.field(), readPos, true);
+            case MIN:
+                return new MinMaxAccumulator(aggregation.field(), readPos, true);
+            case MAX:
+                return new MinMaxAccumulator(aggregation.field(), readPos, false);
+            case COUNT_DISTINCT:
+                return new CountDistinctAccumulator(aggregation.field(), readPos);
+            default:
+                throw new UnsupportedOperationException("Unsupported aggregation: " + aggregation);
+        }
+    }
+
+    /** What the metadata of a data file tells about its rows matching the filter. */
+    private static class FileMetadata {
+
+        private static final FileMetadata UNKNOWN = new FileMetadata(null, 0, null);
+
+        /** Exact count of the matching rows, null if unknown. */
+        @Nullable private final Long matchedRows;
+
+        private final long rowCount;
+
+        /** Stats of the file if all of its rows match, otherwise null. */
+        @Nullable private final SimpleStatsEvolution.Result stats;
+
+        private FileMetadata(
+                @Nullable Long matchedRows,
+                long rowCount,
+                @Nullable SimpleStatsEvolution.Result stats) {
+            this.matchedRows = matchedRows;
+            this.rowCount = rowCount;
+            this.stats = stats;
+        }
+
+        private static FileMetadata count(long matchedRows) {
+            return new FileMetadata(matchedRows, matchedRows, null);
+        }
+
+        private static FileMetadata allRows(long rowCount, SimpleStatsEvolution.Result stats) {
+            return new FileMetadata(rowCount, rowCount, stats);
+        }
+
+        private boolean noMatch() {
+            return matchedRows != null && matchedRows == 0;
+        }
+    }
+
+    /** Accumulates an aggregation from metadata of files and from rows read. */
+    private abstract static class Accumulator {
+
+        /** Whether the file can be answered from its metadata, a file without match always can. */
+        abstract boolean canAnswer(FileMetadata metadata);
+
+        abstract void answer(FileMetadata metadata);
+
+        abstract void update(InternalRow row);
+
+        @Nullable
+        abstract Object result();
+    }
+
+    private static class CountStarAccumulator extends Accumulator {
+
+        private long count;
+
+        @Override
+        boolean canAnswer(FileMetadata metadata) {
+            return metadata.matchedRows != null;
+        }
+
+        @Override
+        void answer(FileMetadata metadata) {
+            count += metadata.matchedRows;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            count++;
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class CountAccumulator extends Accumulator {
+
+        private final int field;
+        private final int readPos;
+        private final boolean countNulls;
+
+        private long count;
+
+        private CountAccumulator(FieldRef field, int readPos, boolean countNulls) {
+            this.field = field.index();
+            this.readPos = readPos;
+            this.countNulls = countNulls;
+        }
+
+        @Override
+        boolean canAnswer(FileMetadata metadata) {
+            return metadata.noMatch()
+                    || (metadata.stats != null && nullCount(metadata.stats, field) != null);
+        }
+
+        @Override
+        void answer(FileMetadata metadata) {
+            if (metadata.noMatch()) {
+                return;
+            }
+            long nullCount = nullCount(metadata.stats, field);
+            count += countNulls ? nullCount : metadata.rowCount - nullCount;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (row.isNullAt(readPos) == countNulls) {
+                count++;
+            }
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class MinMaxAccumulator extends Accumulator {
+
+        private final int field;
+        private final DataType type;
+        private final InternalRow.FieldGetter getter;
+        private final boolean min;
+
+        @Nullable private Object value;
+
+        private MinMaxAccumulator(FieldRef field, int readPos, boolean min) {
+            this.field = field.index();
+            this.type = field.type();
+            this.getter = InternalRow.createFieldGetter(type, readPos);
+            this.min = min;
+        }
+
+        @Override
+        boolean canAnswer(FileMetadata metadata) {
+            if (metadata.noMatch()) {
+                return true;
+            }
+            if (metadata.stats == null || !minmaxAvailable(type)) {
+                return false;
+            }
+            Long nullCount = nullCount(metadata.stats, field);
+            // stats of a file with non-null values but without min or max are not collected
+            return nullCount != null
+                    && (nullCount == metadata.rowCount || statsValue(metadata.stats) != null);
+        }
+
+        @Override
+        void answer(FileMetadata metadata) {
+            if (!metadata.noMatch()) {
+                merge(statsValue(metadata.stats));
+            }
+        }
+
+        @Override
+        void update(InternalRow row) {
+            merge(getter.getFieldOrNull(row));
+        }
+
+        @Nullable
+        private Object statsValue(SimpleStatsEvolution.Result stats) {
+            return InternalRowUtils.get(min ? stats.minValues() : stats.maxValues(), field, type);
+        }
+
+        private void merge(@Nullable Object other) {
+            if (other == null) {
+                return;
+            }
+            if (value == null) {
+                value = InternalRowUtils.copy(other, type);
+                return;
+            }
+            int compare = CompareUtils.compareLiteral(type, other, value);
+            if (min ? compare < 0 : compare > 0) {
+                value = InternalRowUtils.copy(other, type);
+            }
+        }
+
+        @Nullable
+        @Override
+        Object result() {
+            return value;
+        }
+    }
+
+    private static class CountDistinctAccumulator extends Accumulator {
+
+        private final InternalRow.FieldGetter getter;
+        private final HllSketchUtil.DistinctCounter counter = new HllSketchUtil.DistinctCounter();
+
+        private CountDistinctAccumulator(FieldRef field, int readPos) {
+            this.getter = InternalRow.createFieldGetter(field.type(), readPos);
+        }
+
+        @Override
+        boolean canAnswer(FileMetadata metadata) {
+            return metadata.noMatch();
+        }
+
+        @Override
+        void answer(FileMetadata metadata) {}
+
+        @Override
+        void update(InternalRow row) {
+            Object value = getter.getFieldOrNull(row);
+            if (value != null) {
+                counter.add(value);
+            }
+        }
+
+        @Override
+        Object result() {
+            return counter.estimate();
+        }
+    }
+}
@@ -19,23 +19,31 @@
 package org.apache.paimon.table.source;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.PartitionEntry;
+import org.apache.paimon.operation.ManifestsReader;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.SortValue;
 import org.apache.paimon.predicate.TopN;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.source.snapshot.ReadPlanStartingScanner;
 import org.apache.paimon.table.source.snapshot.SnapshotReader;
 import org.apache.paimon.table.source.snapshot.StartingScanner;
 import org.apache.paimon.table.source.snapshot.StartingScanner.ScannedResult;
 import org.apache.paimon.types.DataType;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.table.source.PushDownUtils.minmaxAvailable;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** {@link TableScan} implementation for batch planning. */
 public class DataTableBatchScan extends AbstractDataTableScan {
@@ -112,6 +120,87 @@ public class DataTableBatchScan extends AbstractDataTableScan {
         }
     }
 
+    @Override
+    public Optional<List<PlanTask>> planTasks(int maxTasks) {
+        authQuery();
+
+        if (startingScanner == null) {
+            startingScanner = createStartingScanner(false);
+        }
+
+        if (!options().scanPlanDistributedEnabled()
+                || !schema.primaryKeys().isEmpty()
+                || pushDownLimit != null
+                || topN != null
+                || !(startingScanner instanceof ReadPlanStartingScanner)) {
+            return Optional.empty();
+        }
+
+        ManifestsReader.Result manifests =
+                ((ReadPlanStartingScanner) startingScanner).readManifests(snapshotReader);
+        if (manifests == null) {
+            return Optional.empty();
+        }
+
+        // files deleted by the snapshot are read once and carried by all tasks, so that each
+        // manifest file of added files is read by only one task
+        Set<FileEntry.Identifier> deletedEntries =
+                snapshotReader.readDeletedEntries(manifests.filteredManifests);
+        List<ManifestFileMeta> toPlan =
+                manifests.filteredManifests.stream()
+                        .filter(manifest -> manifest.numAddedFiles() > 0)
+                        .sorted(
+                                Comparator.comparingLong(ManifestFileMeta::numAddedFiles)
+                                        .reversed())
+                        .collect(Collectors.toList());
+
+        long numFiles = toPlan.stream().mapToLong(ManifestFileMeta::numAddedFiles).sum();
+        int filesPerTask = options().scanPlanDistributedFilesPerTask();
+        int numTasks =
+                (int)
+                        Math.min(
+                                Math.min(maxTasks, toPlan.size()),
+                                Math.max(1, (numFiles - 1) / filesPerTask + 1));
+
+        // assign the largest manifest files first, each to the task with the fewest files
+        List<List<ManifestFileMeta>> assigned = new ArrayList<>(numTasks);
+        long[] assignedFiles = new long[numTasks];
+        for (int i = 0; i < numTasks; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        for (ManifestFileMeta manifest : toPlan) {
+            int target = 0;
+            for (int i = 1; i < numTasks; i++) {
+                if (assignedFiles[i] < assignedFiles[target]) {
+                    target = i;
+                }
+            }
+            assigned.get(target).add(manifest);
+            assignedFiles[target] += manifest.numAddedFiles();
+        }
+
+        List<PlanTask> tasks = new ArrayList<>(numTasks);
+        for (List<ManifestFileMeta> taskManifests : assigned) {
+            tasks.add(new PlanTask(manifests.snapshot, taskManifests, deletedEntries));
+        }
+        return Optional.of(tasks);
+    }
+
+    @Override
+    public TableScan.Plan planTask(PlanTask task) {
+        authQuery();
+
+        if (startingScanner == null) {
+            startingScanner = createStartingScanner(false);
+        }
+        checkArgument(
+                startingScanner instanceof ReadPlanStartingScanner,
+                "Distributed planning is not supported by %s.",
+                startingScanner.getClass().getName());
+        return DataFilePlan.fromResult(
+                ((ReadPlanStartingScanner) startingScanner).scan(snapshotReader, task));
+    }
+
     @Override
     public List<PartitionEntry> listPartitionEntries() {
         if (startingScanner == null) {
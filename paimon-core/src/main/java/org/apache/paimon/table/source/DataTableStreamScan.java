@@ -92,7 +92,10 @@ public class DataTableStreamScan extends AbstractDataTableScan implements Stream
         this.supportStreamingReadOverwrite = supportStreamingReadOverwrite;
         this.nextSnapshotProvider =
                 new NextSnapshotFetcher(
-                        snapshotManager, changelogManager, options.changelogLifecycleDecoupled());
+                        snapshotManager,
+                        changelogManager,
+                        options.changelogLifecycleDecoupled(),
+                        options.snapshotPrefetchNum());
         this.hasPk = hasPk;
 
         if (options.bucket() == BucketMode.POSTPONE_BUCKET
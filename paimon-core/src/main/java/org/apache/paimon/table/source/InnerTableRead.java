@@ -18,6 +18,7 @@
 
 package org.apache.paimon.table.source;
 
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -63,6 +64,14 @@ public interface InnerTableRead extends TableRead {
         return this;
     }
 
+    /**
+     * Creates the vectors which vectorized format readers decode into with the given factory, so
+     * that batches of raw data files can be handed over to the consumer without copying.
+     */
+    default InnerTableRead withVectorFactory(WritableColumnVectorFactory vectorFactory) {
+        return this;
+    }
+
     @Override
     default TableRead executeFilter() {
         return this;
@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /** Inner {@link TableScan} contains filter push down. */
 public interface InnerTableScan extends TableScan {
@@ -86,4 +87,24 @@ public interface InnerTableScan extends TableScan {
         // do nothing, should implement this if need
         return this;
     }
+
+    /**
+     * First phase of distributed planning, only reads manifest lists and the files deleted by the
+     * snapshot, and assigns disjoint sets of manifest files to at most {@code maxTasks} {@link
+     * PlanTask}s. Returns empty if distributed planning is disabled by {@code
+     * scan.plan.distributed.enabled} or not supported by this scan, {@link #plan()} should be used
+     * instead.
+     */
+    default Optional<List<PlanTask>> planTasks(int maxTasks) {
+        return Optional.empty();
+    }
+
+    /**
+     * Second phase of distributed planning, plans a task created by {@link #planTasks} of a scan
+     * with the same configuration.
+     */
+    default Plan planTask(PlanTask task) {
+        throw new UnsupportedOperationException(
+                "Distributed planning is not supported by " + getClass().getName());
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.table.source;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.operation.MergeFileSplitRead;
 import org.apache.paimon.operation.RawFileSplitRead;
@@ -57,6 +58,7 @@ public final class KeyValueTableRead extends AbstractDataTableRead {
     private IOManager ioManager = null;
     @Nullable private TopN topN = null;
     @Nullable private Integer limit = null;
+    @Nullable private WritableColumnVectorFactory vectorFactory = null;
 
     public KeyValueTableRead(
             Supplier<MergeFileSplitRead> mergeReadSupplier,
@@ -95,6 +97,9 @@ public final class KeyValueTableRead extends AbstractDataTableRead {
         if (limit != null) {
             read = read.withLimit(limit);
         }
+        if (vectorFactory != null) {
+            read = read.withVectorFactory(vectorFactory);
+        }
         read.withFilter(predicate).withIOManager(ioManager);
     }
 
@@ -132,6 +137,13 @@ public final class KeyValueTableRead extends AbstractDataTableRead {
         return this;
     }
 
+    @Override
+    public InnerTableRead withVectorFactory(WritableColumnVectorFactory vectorFactory) {
+        initialized().forEach(r -> r.withVectorFactory(vectorFactory));
+        this.vectorFactory = vectorFactory;
+        return this;
+    }
+
     @Override
     public TableRead withIOManager(IOManager ioManager) {
         initialized().forEach(r -> r.withIOManager(ioManager));
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestFileMetaSerializer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A task of distributed planning. The coordinator creates tasks with {@link
+ * InnerTableScan#planTasks}, and each task is planned by {@link InnerTableScan#planTask}, possibly
+ * on a different node.
+ *
+ * <p>Each task only reads its own manifest files of the snapshot, the manifest files of all tasks
+ * are disjoint. Files deleted by the manifest files of the snapshot are read by the coordinator and
+ * carried by every task, so splits of all tasks together contain the same files as a single plan.
+ */
+public class PlanTask implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final Snapshot snapshot;
+    private final HashSet<FileEntry.Identifier> deletedEntries;
+
+    private transient List<ManifestFileMeta> manifests;
+
+    public PlanTask(
+            Snapshot snapshot,
+            List<ManifestFileMeta> manifests,
+            Set<FileEntry.Identifier> deletedEntries) {
+        this.snapshot = snapshot;
+        this.manifests = manifests;
+        this.deletedEntries = new HashSet<>(deletedEntries);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public List<ManifestFileMeta> manifests() {
+        return manifests;
+    }
+
+    public Set<FileEntry.Identifier> deletedEntries() {
+        return deletedEntries;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        new ManifestFileMetaSerializer()
+                .serializeList(manifests, new DataOutputViewStreamWrapper(out));
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        manifests =
+                new ManifestFileMetaSerializer()
+                        .deserializeList(new DataInputViewStreamWrapper(in));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PlanTask that = (PlanTask) o;
+        return Objects.equals(snapshot, that.snapshot)
+                && Objects.equals(manifests, that.manifests)
+                && Objects.equals(deletedEntries, that.deletedEntries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapshot, manifests, deletedEntries);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PlanTask{snapshotId=%d, manifests=%d, deletedEntries=%d}",
+                snapshot.id(), manifests.size(), deletedEntries.size());
+    }
+}
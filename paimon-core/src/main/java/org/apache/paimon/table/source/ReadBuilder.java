@@ -160,4 +160,12 @@ public interface ReadBuilder extends Serializable {
 
     /** Create a {@link TableRead} to read {@link Split}s. */
     TableRead newRead();
+
+    /**
+     * Create a {@link TableAggregate} to compute aggregations over the rows of a batch scan, the
+     * filter is applied exactly. Limit, TopN and read type are ignored.
+     *
+     * @since 1.4.0
+     */
+    TableAggregate newAggregate(List<Aggregation> aggregations);
 }
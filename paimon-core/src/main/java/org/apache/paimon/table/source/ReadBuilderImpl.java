@@ -23,12 +23,14 @@ import org.apache.paimon.partition.PartitionPredicate;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.predicate.TopN;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.InnerTable;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Filter;
 
 import javax.annotation.Nullable;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -223,6 +225,20 @@ public class ReadBuilderImpl implements ReadBuilder {
         return read;
     }
 
+    @Override
+    public TableAggregate newAggregate(List<Aggregation> aggregations) {
+        if (!(table instanceof FileStoreTable)) {
+            throw new UnsupportedOperationException(
+                    "Aggregate push down is not supported by table " + table.name());
+        }
+        return new DataTableAggregate(
+                (FileStoreTable) table,
+                configureScan(table.newScan()),
+                table.newRead().withFilter(filter),
+                filter,
+                aggregations);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
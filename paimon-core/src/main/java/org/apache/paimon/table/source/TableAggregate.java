@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source;
+
+import org.apache.paimon.annotation.Public;
+import org.apache.paimon.data.InternalRow;
+
+import java.io.IOException;
+
+/**
+ * Computes {@link Aggregation}s over the rows of a scan. The aggregations are answered from the
+ * metadata of data files where possible, only the other data files are read.
+ *
+ * @since 1.4.0
+ */
+@Public
+public interface TableAggregate {
+
+    /** Computes the aggregations, the result row holds one field for each aggregation. */
+    Result aggregate() throws IOException;
+
+    /** Result of {@link #aggregate()}. */
+    class Result {
+
+        private final InternalRow row;
+        private final long answeredFiles;
+        private final long readFiles;
+
+        public Result(InternalRow row, long answeredFiles, long readFiles) {
+            this.row = row;
+            this.answeredFiles = answeredFiles;
+            this.readFiles = readFiles;
+        }
+
+        public InternalRow row() {
+            return row;
+        }
+
+        /** Number of data files answered from their metadata without reading them. */
+        public long answeredFiles() {
+            return answeredFiles;
+        }
+
+        /** Number of data files read. */
+        public long readFiles() {
+            return readFiles;
+        }
+    }
+}
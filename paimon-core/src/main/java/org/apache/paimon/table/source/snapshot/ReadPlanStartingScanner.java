@@ -19,6 +19,8 @@
 package org.apache.paimon.table.source.snapshot;
 
 import org.apache.paimon.manifest.PartitionEntry;
+import org.apache.paimon.operation.ManifestsReader;
+import org.apache.paimon.table.source.PlanTask;
 import org.apache.paimon.utils.SnapshotManager;
 
 import javax.annotation.Nullable;
@@ -26,6 +28,8 @@ import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 
+import static org.apache.paimon.utils.Preconditions.checkState;
+
 /** An {@link AbstractStartingScanner} to return plan. */
 public abstract class ReadPlanStartingScanner extends AbstractStartingScanner {
 
@@ -45,6 +49,31 @@ public abstract class ReadPlanStartingScanner extends AbstractStartingScanner {
         return StartingScanner.fromPlan(configured.read());
     }
 
+    /**
+     * Configures the reader and reads the manifest files to scan, used by the first phase of
+     * distributed planning. Returns null if there is no snapshot.
+     */
+    @Nullable
+    public ManifestsReader.Result readManifests(SnapshotReader snapshotReader) {
+        SnapshotReader configured = configure(snapshotReader);
+        if (configured == null) {
+            return null;
+        }
+        ManifestsReader.Result result = configured.readManifests();
+        return result.snapshot == null ? null : result;
+    }
+
+    /** Scans the manifest files of the snapshot described by the given task. */
+    public Result scan(SnapshotReader snapshotReader, PlanTask task) {
+        SnapshotReader configured = configure(snapshotReader);
+        checkState(configured != null, "No snapshot can be found to plan task %s.", task);
+        return StartingScanner.fromPlan(
+                configured
+                        .withSnapshot(task.snapshot())
+                        .withManifests(task.manifests(), task.deletedEntries())
+                        .read());
+    }
+
     @Override
     public List<PartitionEntry> scanPartitions(SnapshotReader snapshotReader) {
         SnapshotReader configured = configure(snapshotReader);
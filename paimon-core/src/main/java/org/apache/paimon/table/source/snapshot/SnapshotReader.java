@@ -22,6 +22,7 @@ import org.apache.paimon.Snapshot;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.BucketEntry;
+import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.PartitionEntry;
@@ -44,6 +45,7 @@ import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /** Read splits from specified {@link Snapshot} with given configuration. */
 public interface SnapshotReader {
@@ -57,6 +59,11 @@ public interface SnapshotReader {
 
     ManifestsReader manifestsReader();
 
+    ManifestsReader.Result readManifests();
+
+    /** Read the identifiers of files deleted by the given manifest files. */
+    Set<FileEntry.Identifier> readDeletedEntries(List<ManifestFileMeta> manifests);
+
     List<ManifestEntry> readManifest(ManifestFileMeta manifest);
 
     ConsumerManager consumerManager();
@@ -69,6 +76,13 @@ public interface SnapshotReader {
 
     SnapshotReader withSnapshot(Snapshot snapshot);
 
+    /**
+     * Only read the given manifest files of the snapshot, files deleted by other manifest files are
+     * given by {@code deletedEntries}.
+     */
+    SnapshotReader withManifests(
+            List<ManifestFileMeta> manifests, Set<FileEntry.Identifier> deletedEntries);
+
     SnapshotReader withFilter(Predicate predicate);
 
     SnapshotReader withPartitionFilter(Map<String, String> partitionSpec);
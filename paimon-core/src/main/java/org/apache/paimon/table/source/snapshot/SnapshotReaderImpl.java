@@ -30,6 +30,7 @@ import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.BucketEntry;
+import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
@@ -143,6 +144,16 @@ public class SnapshotReaderImpl implements SnapshotReader {
         return scan.manifestsReader();
     }
 
+    @Override
+    public ManifestsReader.Result readManifests() {
+        return scan.readManifests();
+    }
+
+    @Override
+    public Set<FileEntry.Identifier> readDeletedEntries(List<ManifestFileMeta> manifests) {
+        return scan.readDeletedEntries(manifests);
+    }
+
     @Override
     public List<ManifestEntry> readManifest(ManifestFileMeta manifest) {
         return scan.readManifest(manifest);
@@ -308,6 +319,13 @@ public class SnapshotReaderImpl implements SnapshotReader {
         return this;
     }
 
+    @Override
+    public SnapshotReader withManifests(
+            List<ManifestFileMeta> manifests, Set<FileEntry.Identifier> deletedEntries) {
+        scan.withManifests(manifests, deletedEntries);
+        return this;
+    }
+
     @Override
     public SnapshotReader withShard(int indexOfThisSubtask, int numberOfParallelSubtasks) {
         if (splitGenerator.alwaysRawConvertible()) {
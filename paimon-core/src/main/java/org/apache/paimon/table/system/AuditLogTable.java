@@ -28,6 +28,7 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.BucketEntry;
+import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
@@ -77,6 +78,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.catalog.Identifier.SYSTEM_TABLE_SPLITTER;
@@ -276,6 +278,16 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return wrapped.manifestsReader();
         }
 
+        @Override
+        public ManifestsReader.Result readManifests() {
+            return wrapped.readManifests();
+        }
+
+        @Override
+        public Set<FileEntry.Identifier> readDeletedEntries(List<ManifestFileMeta> manifests) {
+            return wrapped.readDeletedEntries(manifests);
+        }
+
         @Override
         public List<ManifestEntry> readManifest(ManifestFileMeta manifest) {
             return wrapped.readManifest(manifest);
@@ -306,6 +318,12 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return this;
         }
 
+        public SnapshotReader withManifests(
+                List<ManifestFileMeta> manifests, Set<FileEntry.Identifier> deletedEntries) {
+            wrapped.withManifests(manifests, deletedEntries);
+            return this;
+        }
+
         public SnapshotReader withFilter(Predicate predicate) {
             convert(predicate).ifPresent(wrapped::withFilter);
             return this;
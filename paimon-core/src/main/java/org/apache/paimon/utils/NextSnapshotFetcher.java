@@ -26,6 +26,9 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /** Fetcher for getting the next snapshot by snapshot id. */
 public class NextSnapshotFetcher {
 
@@ -36,6 +39,8 @@ public class NextSnapshotFetcher {
     private final SnapshotManager snapshotManager;
     private final ChangelogManager changelogManager;
     private final boolean changelogDecoupled;
+    private final int prefetchNum;
+    private final Map<Long, Snapshot> prefetched;
 
     private int rangeCheckCnt = 0;
 
@@ -43,15 +48,38 @@ public class NextSnapshotFetcher {
             SnapshotManager snapshotManager,
             ChangelogManager changelogManager,
             boolean changelogDecoupled) {
+        this(snapshotManager, changelogManager, changelogDecoupled, 0);
+    }
+
+    public NextSnapshotFetcher(
+            SnapshotManager snapshotManager,
+            ChangelogManager changelogManager,
+            boolean changelogDecoupled,
+            int prefetchNum) {
         this.snapshotManager = snapshotManager;
         this.changelogManager = changelogManager;
         this.changelogDecoupled = changelogDecoupled;
+        this.prefetchNum = prefetchNum;
+        this.prefetched = new HashMap<>();
     }
 
     @Nullable
     public Snapshot getNextSnapshot(long nextSnapshotId) {
+        Snapshot snapshot = prefetched.remove(nextSnapshotId);
+        if (snapshot != null) {
+            rangeCheckCnt = 0;
+            return snapshot;
+        }
+
         if (snapshotManager.snapshotExists(nextSnapshotId)) {
             rangeCheckCnt = 0;
+            if (prefetchNum > 0) {
+                prefetch(nextSnapshotId);
+                snapshot = prefetched.remove(nextSnapshotId);
+                if (snapshot != null) {
+                    return snapshot;
+                }
+            }
             return snapshotManager.snapshot(nextSnapshotId);
         }
 
@@ -67,6 +95,23 @@ public class NextSnapshotFetcher {
         return null;
     }
 
+    /**
+     * Reads the snapshots from {@code nextSnapshotId} up to the latest one in parallel, at most
+     * {@code prefetchNum} of them, so that a lagging reader does not read them one by one.
+     */
+    private void prefetch(long nextSnapshotId) {
+        prefetched.clear();
+        Long latestSnapshotId = snapshotManager.latestSnapshotId();
+        if (latestSnapshotId == null || latestSnapshotId <= nextSnapshotId) {
+            return;
+        }
+
+        long toSnapshotId = Math.min(latestSnapshotId, nextSnapshotId + prefetchNum - 1);
+        for (Snapshot snapshot : snapshotManager.tryGetSnapshots(nextSnapshotId, toSnapshotId)) {
+            prefetched.put(snapshot.id(), snapshot);
+        }
+    }
+
     private void rangeCheck(long nextSnapshotId) {
         Long earliestSnapshotId = snapshotManager.earliestSnapshotId();
         Long latestSnapshotId = snapshotManager.latestSnapshotIdFromFileSystem();
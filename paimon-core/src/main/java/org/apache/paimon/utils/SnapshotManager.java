@@ -38,9 +38,11 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -72,6 +74,8 @@ public class SnapshotManager implements Serializable {
     private final String branch;
     @Nullable private final SnapshotLoader snapshotLoader;
     @Nullable private final Cache<Path, Snapshot> cache;
+    private final int summarySegmentSize;
+    @Nullable private final SnapshotSummaryIndex summaryIndex;
 
     public SnapshotManager(
             FileIO fileIO,
@@ -79,11 +83,30 @@ public class SnapshotManager implements Serializable {
             @Nullable String branchName,
             @Nullable SnapshotLoader snapshotLoader,
             @Nullable Cache<Path, Snapshot> cache) {
+        this(fileIO, tablePath, branchName, snapshotLoader, cache, 0);
+    }
+
+    /**
+     * Creates a snapshot manager. A positive {@code summarySegmentSize} enables the {@link
+     * SnapshotSummaryIndex} used to search snapshots by time or watermark.
+     */
+    public SnapshotManager(
+            FileIO fileIO,
+            Path tablePath,
+            @Nullable String branchName,
+            @Nullable SnapshotLoader snapshotLoader,
+            @Nullable Cache<Path, Snapshot> cache,
+            int summarySegmentSize) {
         this.fileIO = fileIO;
         this.tablePath = tablePath;
         this.branch = BranchManager.normalizeBranch(branchName);
         this.snapshotLoader = snapshotLoader;
         this.cache = cache;
+        this.summarySegmentSize = summarySegmentSize;
+        this.summaryIndex =
+                summarySegmentSize > 0
+                        ? new SnapshotSummaryIndex(fileIO, snapshotDirectory(), summarySegmentSize)
+                        : null;
     }
 
     public SnapshotManager copyWithBranch(String branchName) {
@@ -91,7 +114,8 @@ public class SnapshotManager implements Serializable {
         if (snapshotLoader != null) {
             newSnapshotLoader = snapshotLoader.copyWithBranch(branchName);
         }
-        return new SnapshotManager(fileIO, tablePath, branchName, newSnapshotLoader, cache);
+        return new SnapshotManager(
+                fileIO, tablePath, branchName, newSnapshotLoader, cache, summarySegmentSize);
     }
 
     public FileIO fileIO() {
@@ -290,16 +314,22 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
+        return searchSnapshot(latest, reader -> earlierOrEqualTimeMills(timestampMills, reader));
+    }
+
+    private @Nullable SnapshotSummary earlierOrEqualTimeMills(
+            long timestampMills, SummaryReader reader) {
+        long latest = reader.latestId;
         Snapshot earliestSnapShot = earliestSnapshot(latest);
         if (earliestSnapShot == null || earliestSnapShot.timeMillis() > timestampMills) {
             return null;
         }
         long earliest = earliestSnapShot.id();
 
-        Snapshot finalSnapshot = null;
+        SnapshotSummary finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotSummary snapshot = reader.read(mid);
             long commitTime = snapshot.timeMillis();
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
@@ -325,14 +355,21 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        Snapshot latestSnapShot = snapshot(latest);
+        return searchSnapshot(
+                latest, reader -> laterOrEqualTimeMills(timestampMills, earliest, reader));
+    }
+
+    private @Nullable SnapshotSummary laterOrEqualTimeMills(
+            long timestampMills, long earliest, SummaryReader reader) {
+        long latest = reader.latestId;
+        SnapshotSummary latestSnapShot = reader.read(latest);
         if (latestSnapShot.timeMillis() < timestampMills) {
             return null;
         }
-        Snapshot finalSnapshot = null;
+        SnapshotSummary finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotSummary snapshot = reader.read(mid);
             long commitTime = snapshot.timeMillis();
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
@@ -349,9 +386,19 @@ public class SnapshotManager implements Serializable {
 
     public @Nullable Snapshot earlierOrEqualWatermark(long watermark) {
         Long latest = latestSnapshotId();
+        if (latest == null) {
+            return null;
+        }
+
+        return searchSnapshot(latest, reader -> earlierOrEqualWatermark(watermark, reader));
+    }
+
+    private @Nullable SnapshotSummary earlierOrEqualWatermark(
+            long watermark, SummaryReader reader) {
+        long latest = reader.latestId;
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
-        if (latest == null || snapshot(latest).watermark() == Long.MIN_VALUE) {
+        if (reader.read(latest).watermark() == Long.MIN_VALUE) {
             return null;
         }
 
@@ -366,7 +413,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = reader.read(earliest).watermark();
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -377,19 +424,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return reader.read(earliest);
         }
-        Snapshot finalSnapshot = null;
+        SnapshotSummary finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotSummary snapshot = reader.read(mid);
             Long commitWatermark = snapshot.watermark();
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = reader.read(mid).watermark();
                     if (commitWatermark != null) {
                         break;
                     }
@@ -414,9 +461,18 @@ public class SnapshotManager implements Serializable {
 
     public @Nullable Snapshot laterOrEqualWatermark(long watermark) {
         Long latest = latestSnapshotId();
+        if (latest == null) {
+            return null;
+        }
+
+        return searchSnapshot(latest, reader -> laterOrEqualWatermark(watermark, reader));
+    }
+
+    private @Nullable SnapshotSummary laterOrEqualWatermark(long watermark, SummaryReader reader) {
+        long latest = reader.latestId;
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
-        if (latest == null || snapshot(latest).watermark() == Long.MIN_VALUE) {
+        if (reader.read(latest).watermark() == Long.MIN_VALUE) {
             return null;
         }
 
@@ -431,7 +487,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = reader.read(earliest).watermark();
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -442,19 +498,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return reader.read(earliest);
         }
-        Snapshot finalSnapshot = null;
+        SnapshotSummary finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotSummary snapshot = reader.read(mid);
             Long commitWatermark = snapshot.watermark();
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = reader.read(mid).watermark();
                     if (commitWatermark != null) {
                         break;
                     }
@@ -477,6 +533,86 @@ public class SnapshotManager implements Serializable {
         return finalSnapshot;
     }
 
+    /**
+     * Runs a search over snapshot summaries and returns the found snapshot. If a summary used by
+     * the search comes from a stale summary index, for example after a rollback, the search is
+     * retried by reading snapshot files only.
+     */
+    private @Nullable Snapshot searchSnapshot(
+            long latestId, Function<SummaryReader, SnapshotSummary> search) {
+        SummaryReader reader = new SummaryReader(summaryIndex, latestId);
+        SnapshotSummary summary;
+        try {
+            summary = search.apply(reader);
+        } catch (StaleSummaryException e) {
+            LOG.warn(
+                    "Snapshot summary index of table {} is stale, fall back to reading snapshot files.",
+                    tablePath);
+            summaryIndex.invalidate();
+            reader = new SummaryReader(null, latestId);
+            summary = search.apply(reader);
+        }
+        return summary == null ? null : reader.resolve(summary);
+    }
+
+    /**
+     * Records the summary of a newly committed snapshot into the summary index. Failures are only
+     * logged, because searching falls back to snapshot files when summaries are missing.
+     */
+    public void commitSummary(Snapshot snapshot) {
+        if (summaryIndex == null) {
+            return;
+        }
+
+        try {
+            summaryIndex.commit(
+                    snapshot,
+                    id -> {
+                        try {
+                            return tryGetSnapshot(id);
+                        } catch (FileNotFoundException e) {
+                            return null;
+                        }
+                    });
+        } catch (Exception e) {
+            LOG.warn("Failed to commit summary of snapshot #{}.", snapshot.id(), e);
+        }
+    }
+
+    public void expireSummaries(long beginInclusiveId, long endExclusiveId) {
+        if (summaryIndex != null) {
+            summaryIndex.expire(beginInclusiveId, endExclusiveId);
+        }
+    }
+
+    public void rollbackSummaries(long retainedId, long latestId) {
+        if (summaryIndex != null) {
+            summaryIndex.rollback(retainedId, latestId);
+        }
+    }
+
+    /**
+     * Reads snapshots in {@code [fromId, toId]} in parallel, skipping the ones which do not exist.
+     * This allows streaming readers catching up with many snapshots to avoid reading them one by
+     * one.
+     */
+    public List<Snapshot> tryGetSnapshots(long fromId, long toId) {
+        List<Long> ids = LongStream.rangeClosed(fromId, toId).boxed().collect(Collectors.toList());
+        List<Snapshot> snapshots = new ArrayList<>(ids.size());
+        ManifestReadThreadPool.randomlyExecuteSequentialReturn(
+                        id -> {
+                            try {
+                                return Collections.singletonList(tryGetSnapshot(id));
+                            } catch (FileNotFoundException e) {
+                                return Collections.<Snapshot>emptyList();
+                            }
+                        },
+                        ids,
+                        null)
+                .forEachRemaining(snapshots::add);
+        return snapshots;
+    }
+
     public long snapshotCount() throws IOException {
         return snapshotIdStream().count();
     }
@@ -775,4 +911,88 @@ public class SnapshotManager implements Serializable {
             throw new RuntimeException("Fails to read snapshot from path " + path, e);
         }
     }
+
+    /** Reads summaries of the snapshots probed by a search, from the summary index if possible. */
+    private class SummaryReader {
+
+        @Nullable private final SnapshotSummaryIndex index;
+        private final long latestId;
+        private final Map<Long, Snapshot> loaded;
+        private final Set<Long> validSegmentEnds;
+
+        private SummaryReader(@Nullable SnapshotSummaryIndex index, long latestId) {
+            this.index = index;
+            this.latestId = latestId;
+            this.loaded = new HashMap<>();
+            this.validSegmentEnds = new HashSet<>();
+        }
+
+        private SnapshotSummary read(long snapshotId) {
+            SnapshotSummary summary = index == null ? null : index.get(snapshotId, latestId);
+            if (summary == null) {
+                return SnapshotSummary.of(load(snapshotId));
+            }
+
+            validate(summary);
+            return summary;
+        }
+
+        /**
+         * Validates a summary from the index. A segment is checked once through its last snapshot,
+         * if it is expired the summary is checked against its own snapshot.
+         */
+        private void validate(SnapshotSummary summary) {
+            long segmentEnd = index.segmentEndOf(summary.id());
+            if (validSegmentEnds.contains(segmentEnd)) {
+                return;
+            }
+
+            Snapshot end = tryLoad(segmentEnd);
+            if (end != null) {
+                SnapshotSummary endSummary = index.get(segmentEnd, latestId);
+                if (endSummary == null || !endSummary.describes(end)) {
+                    throw new StaleSummaryException();
+                }
+                validSegmentEnds.add(segmentEnd);
+            } else {
+                Snapshot snapshot = tryLoad(summary.id());
+                if (snapshot == null || !summary.describes(snapshot)) {
+                    throw new StaleSummaryException();
+                }
+            }
+        }
+
+        private Snapshot load(long snapshotId) {
+            Snapshot snapshot = loaded.get(snapshotId);
+            if (snapshot == null) {
+                snapshot = snapshot(snapshotId);
+                loaded.put(snapshotId, snapshot);
+            }
+            return snapshot;
+        }
+
+        @Nullable
+        private Snapshot tryLoad(long snapshotId) {
+            Snapshot snapshot = loaded.get(snapshotId);
+            if (snapshot == null) {
+                try {
+                    snapshot = tryGetSnapshot(snapshotId);
+                } catch (FileNotFoundException e) {
+                    return null;
+                }
+                loaded.put(snapshotId, snapshot);
+            }
+            return snapshot;
+        }
+
+        private Snapshot resolve(SnapshotSummary summary) {
+            return load(summary.id());
+        }
+    }
+
+    /** Thrown when a summary used by a search does not describe its snapshot. */
+    private static class StaleSummaryException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
 }
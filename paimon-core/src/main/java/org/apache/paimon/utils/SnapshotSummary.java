@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonCreator;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonGetter;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonInclude;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A compact summary of a {@link Snapshot}, containing only the fields needed to locate snapshots by
+ * time or watermark. Summaries are stored in {@link SnapshotSummaryIndex} segments.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SnapshotSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_SCHEMA_ID = "schemaId";
+    private static final String FIELD_TIME_MILLIS = "timeMillis";
+    private static final String FIELD_WATERMARK = "watermark";
+    private static final String FIELD_BASE_MANIFEST_LIST = "baseManifestList";
+    private static final String FIELD_DELTA_MANIFEST_LIST = "deltaManifestList";
+    private static final String FIELD_CHANGELOG_MANIFEST_LIST = "changelogManifestList";
+
+    @JsonProperty(FIELD_ID)
+    private final long id;
+
+    @JsonProperty(FIELD_SCHEMA_ID)
+    private final long schemaId;
+
+    @JsonProperty(FIELD_TIME_MILLIS)
+    private final long timeMillis;
+
+    @JsonProperty(FIELD_WATERMARK)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Nullable
+    private final Long watermark;
+
+    @JsonProperty(FIELD_BASE_MANIFEST_LIST)
+    private final String baseManifestList;
+
+    @JsonProperty(FIELD_DELTA_MANIFEST_LIST)
+    private final String deltaManifestList;
+
+    @JsonProperty(FIELD_CHANGELOG_MANIFEST_LIST)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Nullable
+    private final String changelogManifestList;
+
+    @JsonCreator
+    public SnapshotSummary(
+            @JsonProperty(FIELD_ID) long id,
+            @JsonProperty(FIELD_SCHEMA_ID) long schemaId,
+            @JsonProperty(FIELD_TIME_MILLIS) long timeMillis,
+            @JsonProperty(FIELD_WATERMARK) @Nullable Long watermark,
+            @JsonProperty(FIELD_BASE_MANIFEST_LIST) String baseManifestList,
+            @JsonProperty(FIELD_DELTA_MANIFEST_LIST) String deltaManifestList,
+            @JsonProperty(FIELD_CHANGELOG_MANIFEST_LIST) @Nullable String changelogManifestList) {
+        this.id = id;
+        this.schemaId = schemaId;
+        this.timeMillis = timeMillis;
+        this.watermark = watermark;
+        this.baseManifestList = baseManifestList;
+        this.deltaManifestList = deltaManifestList;
+        this.changelogManifestList = changelogManifestList;
+    }
+
+    public static SnapshotSummary of(Snapshot snapshot) {
+        return new SnapshotSummary(
+                snapshot.id(),
+                snapshot.schemaId(),
+                snapshot.timeMillis(),
+                snapshot.watermark(),
+                snapshot.baseManifestList(),
+                snapshot.deltaManifestList(),
+                snapshot.changelogManifestList());
+    }
+
+    @JsonGetter(FIELD_ID)
+    public long id() {
+        return id;
+    }
+
+    @JsonGetter(FIELD_SCHEMA_ID)
+    public long schemaId() {
+        return schemaId;
+    }
+
+    @JsonGetter(FIELD_TIME_MILLIS)
+    public long timeMillis() {
+        return timeMillis;
+    }
+
+    @JsonGetter(FIELD_WATERMARK)
+    @Nullable
+    public Long watermark() {
+        return watermark;
+    }
+
+    @JsonGetter(FIELD_BASE_MANIFEST_LIST)
+    public String baseManifestList() {
+        return baseManifestList;
+    }
+
+    @JsonGetter(FIELD_DELTA_MANIFEST_LIST)
+    public String deltaManifestList() {
+        return deltaManifestList;
+    }
+
+    @JsonGetter(FIELD_CHANGELOG_MANIFEST_LIST)
+    @Nullable
+    public String changelogManifestList() {
+        return changelogManifestList;
+    }
+
+    /**
+     * Returns true if this summary describes the given snapshot. A summary may become stale when
+     * snapshots are rolled back and their ids are reused.
+     */
+    public boolean describes(Snapshot snapshot) {
+        return id == snapshot.id()
+                && timeMillis == snapshot.timeMillis()
+                && Objects.equals(baseManifestList, snapshot.baseManifestList())
+                && Objects.equals(deltaManifestList, snapshot.deltaManifestList());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotSummary that = (SnapshotSummary) o;
+        return id == that.id
+                && schemaId == that.schemaId
+                && timeMillis == that.timeMillis
+                && Objects.equals(watermark, that.watermark)
+                && Objects.equals(baseManifestList, that.baseManifestList)
+                && Objects.equals(deltaManifestList, that.deltaManifestList)
+                && Objects.equals(changelogManifestList, that.changelogManifestList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                id,
+                schemaId,
+                timeMillis,
+                watermark,
+                baseManifestList,
+                deltaManifestList,
+                changelogManifestList);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "SnapshotSummary{id=%d, schemaId=%d, timeMillis=%d, watermark=%s}",
+                id, schemaId, timeMillis, watermark);
+    }
+}
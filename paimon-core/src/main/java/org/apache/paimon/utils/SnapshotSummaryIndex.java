@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.core.type.TypeReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.apache.paimon.utils.ThreadUtils.newDaemonThreadFactory;
+
+/**
+ * An append-only index of {@link SnapshotSummary}s, used to search snapshots by time or watermark
+ * without reading every probed snapshot file.
+ *
+ * <p>The index consists of immutable segment files stored in the snapshot directory. Segment {@code
+ * k} is named {@code summary-k} and contains the summaries of snapshots {@code [k * segmentSize +
+ * 1, (k + 1) * segmentSize]}. A segment is sealed by the commit which creates the last snapshot of
+ * its range, so snapshots of the newest, unsealed segment are still read from their snapshot files.
+ * A sealed segment is consistent as long as its last snapshot is unchanged, since snapshot ids are
+ * only reused after rolling back the latest snapshots.
+ */
+public class SnapshotSummaryIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotSummaryIndex.class);
+
+    public static final String SUMMARY_PREFIX = "summary-";
+
+    private static final ExecutorService SEAL_EXECUTOR =
+            Executors.newSingleThreadExecutor(newDaemonThreadFactory("SNAPSHOT-SUMMARY-SEAL"));
+
+    private final FileIO fileIO;
+    private final Path directory;
+    private final int segmentSize;
+
+    private transient Map<Long, Map<Long, SnapshotSummary>> segments;
+    private transient Set<Long> missingSegments;
+    private transient Map<Long, SnapshotSummary> pending;
+
+    public SnapshotSummaryIndex(FileIO fileIO, Path directory, int segmentSize) {
+        Preconditions.checkArgument(
+                segmentSize > 0, "Segment size of snapshot summary index must be positive.");
+        this.fileIO = fileIO;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    public Path segmentPath(long segment) {
+        return new Path(directory, SUMMARY_PREFIX + segment);
+    }
+
+    /**
+     * Returns the summary of the given snapshot if it is stored in a sealed segment, otherwise
+     * returns null and the caller should read the snapshot file instead.
+     */
+    @Nullable
+    public SnapshotSummary get(long snapshotId, long latestSnapshotId) {
+        long segment = segmentOf(snapshotId);
+        long segmentEnd = segmentEnd(segment);
+        if (segmentEnd > latestSnapshotId) {
+            // segment is not sealed yet
+            return null;
+        }
+
+        // the committer seals a segment right after committing its last snapshot, only remember
+        // a missing segment if it should have been sealed long ago
+        boolean rememberMissing = segmentEnd + segmentSize < latestSnapshotId;
+        Map<Long, SnapshotSummary> summaries = loadSegment(segment, rememberMissing);
+        return summaries == null ? null : summaries.get(snapshotId);
+    }
+
+    /**
+     * Records the summary of a newly committed snapshot and seals the segment ending with it, if
+     * any. Summaries recorded by earlier commits are reused. If some snapshots of the segment were
+     * committed by others, the segment is sealed asynchronously, collecting their summaries through
+     * {@code snapshotLoader}, which returns null for snapshots that no longer exist.
+     */
+    public void commit(Snapshot snapshot, Function<Long, Snapshot> snapshotLoader)
+            throws IOException {
+        long segment = segmentOf(snapshot.id());
+        Map<Long, SnapshotSummary> pending = pending();
+        pending.keySet().removeIf(id -> id < segmentStart(segment));
+        pending.put(snapshot.id(), SnapshotSummary.of(snapshot));
+        if (snapshot.id() % segmentSize != 0) {
+            return;
+        }
+
+        List<SnapshotSummary> summaries = new ArrayList<>(segmentSize);
+        List<Long> missing = new ArrayList<>();
+        for (long id = segmentStart(segment); id <= snapshot.id(); id++) {
+            SnapshotSummary summary = pending.remove(id);
+            if (summary == null) {
+                missing.add(id);
+            } else {
+                summaries.add(summary);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            seal(segment, summaries);
+            return;
+        }
+
+        SEAL_EXECUTOR.execute(
+                () -> {
+                    try {
+                        ManifestReadThreadPool.randomlyExecuteSequentialReturn(
+                                        id -> {
+                                            Snapshot loaded = snapshotLoader.apply(id);
+                                            return loaded == null
+                                                    ? Collections.<SnapshotSummary>emptyList()
+                                                    : Collections.singletonList(
+                                                            SnapshotSummary.of(loaded));
+                                        },
+                                        missing,
+                                        null)
+                                .forEachRemaining(summaries::add);
+                        summaries.sort(Comparator.comparingLong(SnapshotSummary::id));
+                        seal(segment, summaries);
+                    } catch (Exception e) {
+                        LOG.warn("Failed to seal snapshot summary segment {}.", segment, e);
+                    }
+                });
+    }
+
+    private void seal(long segment, List<SnapshotSummary> summaries) throws IOException {
+        fileIO.overwriteFileUtf8(segmentPath(segment), JsonSerdeUtil.toJson(summaries));
+        segments().put(segment, toMap(summaries));
+        missingSegments().remove(segment);
+    }
+
+    /** Deletes segments whose snapshots are all earlier than {@code endExclusiveId}. */
+    public void expire(long beginInclusiveId, long endExclusiveId) {
+        for (long segment = segmentOf(Math.max(beginInclusiveId, 1));
+                segmentEnd(segment) < endExclusiveId;
+                segment++) {
+            fileIO.deleteQuietly(segmentPath(segment));
+            segments().remove(segment);
+        }
+    }
+
+    /**
+     * Deletes segments containing snapshots later than {@code retainedId}, because these snapshot
+     * ids will be reused by later commits.
+     */
+    public void rollback(long retainedId, long latestId) {
+        for (long segment = segmentOf(retainedId + 1); segment <= segmentOf(latestId); segment++) {
+            fileIO.deleteQuietly(segmentPath(segment));
+        }
+        invalidate();
+    }
+
+    public void invalidate() {
+        segments().clear();
+        missingSegments().clear();
+        pending().clear();
+    }
+
+    @Nullable
+    private Map<Long, SnapshotSummary> loadSegment(long segment, boolean rememberMissing) {
+        Map<Long, SnapshotSummary> summaries = segments().get(segment);
+        if (summaries != null) {
+            return summaries;
+        }
+        if (missingSegments().contains(segment)) {
+            return null;
+        }
+
+        Optional<String> json;
+        try {
+            json = fileIO.readOverwrittenFileUtf8(segmentPath(segment));
+        } catch (IOException e) {
+            LOG.warn("Failed to read snapshot summary segment {}.", segmentPath(segment), e);
+            return null;
+        }
+
+        if (!json.isPresent()) {
+            if (rememberMissing) {
+                missingSegments().add(segment);
+            }
+            return null;
+        }
+
+        summaries =
+                toMap(
+                        JsonSerdeUtil.fromJson(
+                                json.get(), new TypeReference<List<SnapshotSummary>>() {}));
+        segments().put(segment, summaries);
+        return summaries;
+    }
+
+    /** Returns the last snapshot id of the segment containing the given snapshot. */
+    public long segmentEndOf(long snapshotId) {
+        return segmentEnd(segmentOf(snapshotId));
+    }
+
+    private long segmentOf(long snapshotId) {
+        return (snapshotId - 1) / segmentSize;
+    }
+
+    private long segmentStart(long segment) {
+        return segment * segmentSize + 1;
+    }
+
+    private long segmentEnd(long segment) {
+        return (segment + 1) * segmentSize;
+    }
+
+    private Map<Long, Map<Long, SnapshotSummary>> segments() {
+        if (segments == null) {
+            segments = new ConcurrentHashMap<>();
+        }
+        return segments;
+    }
+
+    private Map<Long, SnapshotSummary> pending() {
+        if (pending == null) {
+            pending = new ConcurrentHashMap<>();
+        }
+        return pending;
+    }
+
+    private Set<Long> missingSegments() {
+        if (missingSegments == null) {
+            missingSegments = ConcurrentHashMap.newKeySet();
+        }
+        return missingSegments;
+    }
+
+    private static Map<Long, SnapshotSummary> toMap(List<SnapshotSummary> summaries) {
+        Map<Long, SnapshotSummary> map = new HashMap<>(summaries.size());
+        for (SnapshotSummary summary : summaries) {
+            map.put(summary.id(), summary);
+        }
+        return map;
+    }
+}
@@ -151,7 +151,14 @@ public class TestAppendFileStore extends AppendOnlyFileStore {
             }
         }
         List<IndexFileMeta> indexFiles = new ArrayList<>();
-        dvMaintainer.writeDeletionVectorsIndex().ifPresent(indexFiles::add);
+        List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
+        dvMaintainer
+                .writeDeletionVectorsIndex()
+                .ifPresent(
+                        changes -> {
+                            indexFiles.addAll(changes.newIndexFiles());
+                            deletedIndexFiles.addAll(changes.deletedIndexFiles());
+                        });
         return new CommitMessageImpl(
                 partition,
                 bucket,
@@ -161,7 +168,7 @@ public class TestAppendFileStore extends AppendOnlyFileStore {
                         Collections.emptyList(),
                         Collections.emptyList(),
                         indexFiles,
-                        Collections.emptyList()),
+                        deletedIndexFiles),
                 CompactIncrement.emptyIncrement());
     }
 
@@ -20,6 +20,8 @@ package org.apache.paimon.arrow.converter;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.arrow.vector.ArrowWritableColumnVectorFactory;
+import org.apache.paimon.arrow.vector.ArrowWritableVectors.ArrowWritableVector;
 import org.apache.paimon.arrow.writer.ArrowFieldWriter;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.CatalogContext;
@@ -32,6 +34,7 @@ import org.apache.paimon.data.GenericMap;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.fs.Path;
@@ -210,6 +213,79 @@ public class ArrowBatchConverterTest {
         }
     }
 
+    @TestTemplate
+    public void testTransferArrowVectors() throws Exception {
+        assumeThat(testMode).isEqualTo("vectorized_without_dv");
+        RowType rowType =
+                RowType.of(
+                        DataTypes.INT().notNull(),
+                        DataTypes.BIGINT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.STRING());
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_FORMAT.key(), "parquet");
+        FileStoreTable table = createFileStoreTable(rowType, Collections.emptyList(), options);
+
+        int numRows = RND.nextInt(5) + 5;
+        StreamTableWrite write = table.newStreamWriteBuilder().newWrite();
+        write.withIOManager(new IOManagerImpl(tempDir.toString()));
+        StreamTableCommit commit = table.newStreamWriteBuilder().newCommit();
+        for (int i = 0; i < numRows; i++) {
+            write.write(
+                    i % 3 == 0
+                            ? GenericRow.of(i, null, null, null)
+                            : GenericRow.of(i, i * 10L, i / 2.0, BinaryString.fromString("s" + i)));
+        }
+        commit.commit(0, write.prepareCommit(false, 0));
+        write.close();
+        commit.close();
+
+        // the consumer owns the allocator, the reader decodes into buffers of it
+        try (RootAllocator allocator = new RootAllocator()) {
+            VectorSchemaRoot vsr = ArrowUtils.createVectorSchemaRoot(rowType, allocator);
+            try (RecordReader<InternalRow> reader =
+                    table.newRead()
+                            .withVectorFactory(new ArrowWritableColumnVectorFactory(allocator))
+                            .createReader(table.newReadBuilder().newScan().plan())) {
+                RecordReader.RecordIterator<InternalRow> iterator = reader.readBatch();
+                assertThat(iterator).isInstanceOf(VectorizedRecordIterator.class);
+                ColumnVector[] columns = ((VectorizedRecordIterator) iterator).batch().columns;
+                assertThat(columns[0]).isInstanceOf(ArrowWritableVector.class);
+                assertThat(columns[1]).isInstanceOf(ArrowWritableVector.class);
+                assertThat(columns[3]).isNotInstanceOf(ArrowWritableVector.class);
+                FieldVector intSource = ((ArrowWritableVector<?>) columns[0]).getFieldVector();
+                FieldVector longSource = ((ArrowWritableVector<?>) columns[1]).getFieldVector();
+                long intAddress = intSource.getDataBuffer().memoryAddress();
+                long longAddress = longSource.getDataBuffer().memoryAddress();
+
+                ArrowBatchConverter arrowWriter = createArrowWriter(iterator, rowType, vsr);
+                arrowWriter.next(numRows);
+                assertThat(vsr.getRowCount()).isEqualTo(numRows);
+
+                // the buffers are moved to the root without copying
+                assertThat(vsr.getVector(0).getDataBuffer().memoryAddress()).isEqualTo(intAddress);
+                assertThat(vsr.getVector(1).getDataBuffer().memoryAddress()).isEqualTo(longAddress);
+                assertThat(intSource.getValueCapacity()).isZero();
+                assertThat(longSource.getValueCapacity()).isZero();
+
+                for (int i = 0; i < numRows; i++) {
+                    assertThat(vsr.getVector(0).getObject(i)).isEqualTo(i);
+                    if (i % 3 == 0) {
+                        assertThat(vsr.getVector(1).isNull(i)).isTrue();
+                        assertThat(vsr.getVector(2).isNull(i)).isTrue();
+                        assertThat(vsr.getVector(3).isNull(i)).isTrue();
+                    } else {
+                        assertThat(vsr.getVector(1).getObject(i)).isEqualTo(i * 10L);
+                        assertThat(vsr.getVector(2).getObject(i)).isEqualTo(i / 2.0);
+                        assertThat(vsr.getVector(3).getObject(i)).hasToString("s" + i);
+                    }
+                }
+                assertThat(reader.readBatch()).isNull();
+            }
+            vsr.close();
+        }
+    }
+
     @TestTemplate
     public void testArrayType() throws Exception {
         testDv(false);
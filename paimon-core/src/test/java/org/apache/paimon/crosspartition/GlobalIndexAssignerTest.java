@@ -19,6 +19,7 @@
 package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.CrossPartitionIndexBackend;
 import org.apache.paimon.CoreOptions.MergeEngine;
 import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
@@ -41,6 +42,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
+import static org.apache.paimon.CoreOptions.CrossPartitionIndexBackend.SORT;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Test for {@link GlobalIndexAssigner}. */
@@ -52,8 +54,15 @@ public class GlobalIndexAssignerTest extends TableTestBase {
 
     private GlobalIndexAssigner createAssigner(MergeEngine mergeEngine, boolean enableTtl)
             throws Exception {
+        return createAssigner(mergeEngine, enableTtl, CrossPartitionIndexBackend.ROCKSDB);
+    }
+
+    private GlobalIndexAssigner createAssigner(
+            MergeEngine mergeEngine, boolean enableTtl, CrossPartitionIndexBackend backend)
+            throws Exception {
         Identifier identifier = identifier("T");
         Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_INDEX_BACKEND, backend);
         options.set(CoreOptions.MERGE_ENGINE, mergeEngine);
         if (mergeEngine == MergeEngine.FIRST_ROW) {
             options.set(CoreOptions.CHANGELOG_PRODUCER, CoreOptions.ChangelogProducer.LOOKUP);
@@ -86,12 +95,38 @@ public class GlobalIndexAssignerTest extends TableTestBase {
         innerTestBucketAssign(true);
     }
 
+    @Test
+    public void testSortIndexBackend() throws Exception {
+        innerTestBucketAssign(createAssigner(MergeEngine.DEDUPLICATE, false, SORT));
+    }
+
+    @Test
+    public void testSortIndexBackendBootstrap() throws Exception {
+        GlobalIndexAssigner assigner = createAssigner(MergeEngine.DEDUPLICATE, false, SORT);
+        List<Pair<InternalRow, Integer>> output = new ArrayList<>();
+        assigner.open(0, ioManager(), 2, 0, (row, bucket) -> output.add(Pair.of(row, bucket)));
+        assigner.bootstrapKey(GenericRow.of(1, 1, 1));
+        assigner.endBoostrap(false);
+
+        assigner.processInput(GenericRow.of(1, 1, 5));
+        assigner.processInput(GenericRow.of(2, 1, 6));
+        Assertions.assertThat(output)
+                .containsExactly(
+                        Pair.of(GenericRow.of(1, 1, 5), 1),
+                        Pair.of(GenericRow.ofKind(RowKind.DELETE, 1, 1, 6), 1),
+                        Pair.of(GenericRow.of(2, 1, 6), 0));
+        assigner.close();
+    }
+
     private IOManager ioManager() {
         return IOManager.create(new File(tempPath.toFile(), "io").getPath());
     }
 
     private void innerTestBucketAssign(boolean enableTtl) throws Exception {
-        GlobalIndexAssigner assigner = createAssigner(MergeEngine.DEDUPLICATE, enableTtl);
+        innerTestBucketAssign(createAssigner(MergeEngine.DEDUPLICATE, enableTtl));
+    }
+
+    private void innerTestBucketAssign(GlobalIndexAssigner assigner) throws Exception {
         List<Integer> output = new ArrayList<>();
         assigner.open(0, ioManager(), 2, 0, (row, bucket) -> output.add(bucket));
         assigner.endBoostrap(false);
@@ -37,13 +37,16 @@ import org.apache.paimon.utils.Pair;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.crosspartition.IndexBootstrap.BUCKET_FIELD;
 import static org.apache.paimon.crosspartition.IndexBootstrap.filterSplit;
@@ -96,9 +99,59 @@ public class IndexBootstrapTest extends TableTestBase {
         Thread.sleep(1000);
     }
 
+    @Test
+    public void testBootstrapCache() throws Exception {
+        File cacheDir = new File(tempPath.toFile(), "bootstrap-cache");
+        Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_BOOTSTRAP_CACHE_PATH, cacheDir.getPath());
+        Table table = createTable(options);
+        write(table, row(1, 1, 1, 2), row(2, 4, 4, 5));
+
+        IndexBootstrap indexBootstrap = new IndexBootstrap((FileStoreTable) table);
+        List<GenericRow> result = new ArrayList<>();
+        Consumer<InternalRow> consumer =
+                row -> result.add(GenericRow.of(row.getInt(0), row.getInt(1), row.getInt(2)));
+
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result)
+                .containsExactlyInAnyOrder(GenericRow.of(1, 1, 2), GenericRow.of(4, 2, 5));
+        result.clear();
+        Set<String> cacheFiles = listFiles(cacheDir);
+        assertThat(cacheFiles).hasSize(2);
+
+        // read from cache
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result)
+                .containsExactlyInAnyOrder(GenericRow.of(1, 1, 2), GenericRow.of(4, 2, 5));
+        result.clear();
+        assertThat(listFiles(cacheDir)).isEqualTo(cacheFiles);
+
+        // only the changed bucket is read again
+        write(table, row(1, 9, 9, 2));
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2), GenericRow.of(9, 1, 2), GenericRow.of(4, 2, 5));
+        Set<String> newCacheFiles = listFiles(cacheDir);
+        assertThat(newCacheFiles).hasSize(2);
+        assertThat(newCacheFiles).filteredOn(cacheFiles::contains).hasSize(1);
+
+        Thread.sleep(1000);
+    }
+
+    private static Set<String> listFiles(File dir) {
+        return Arrays.stream(dir.listFiles())
+                .map(File::getName)
+                .filter(name -> !name.startsWith("."))
+                .collect(Collectors.toSet());
+    }
+
     private Table createTable() throws Exception {
+        return createTable(new Options());
+    }
+
+    private Table createTable(Options options) throws Exception {
         Identifier identifier = identifier("T");
-        Options options = new Options();
         options.set(CoreOptions.BUCKET, -1);
         Schema schema =
                 Schema.newBuilder()
@@ -33,6 +33,7 @@ import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.FileIOUtils;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -71,7 +72,7 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
 
         assertThat(dvMaintainer.deletionVectorOf("f1")).isPresent();
         assertThat(dvMaintainer.deletionVectorOf("f3")).isEmpty();
-        IndexFileMeta file = dvMaintainer.writeDeletionVectorsIndex().get();
+        IndexFileMeta file = dvMaintainer.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
 
         Map<String, DeletionVector> deletionVectors =
                 fileHandler.readAllDeletionVectors(EMPTY_ROW, 0, Collections.singletonList(file));
@@ -97,7 +98,7 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         dvMaintainer.notifyNewDeletion("f1", deletionVector1);
         assertThat(dvMaintainer.bitmap64()).isEqualTo(bitmap64);
 
-        IndexFileMeta file = dvMaintainer.writeDeletionVectorsIndex().get();
+        IndexFileMeta file = dvMaintainer.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
         CommitMessage commitMessage =
                 new CommitMessageImpl(
                         EMPTY_ROW,
@@ -124,7 +125,7 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         deletionVector2.delete(2);
         dvMaintainer.notifyNewDeletion("f1", deletionVector2);
 
-        file = dvMaintainer.writeDeletionVectorsIndex().get();
+        file = dvMaintainer.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
         commitMessage =
                 new CommitMessageImpl(
                         EMPTY_ROW,
@@ -202,7 +203,7 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         dvMaintainer1.notifyNewDeletion("f2", 3);
         assertThat(dvMaintainer1.bitmap64()).isEqualTo(bitmap64);
 
-        IndexFileMeta file = dvMaintainer1.writeDeletionVectorsIndex().get();
+        IndexFileMeta file = dvMaintainer1.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
         CommitMessage commitMessage1 =
                 new CommitMessageImpl(
                         EMPTY_ROW,
@@ -239,7 +240,7 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3"))
                 .isInstanceOf(bitmap64 ? BitmapDeletionVector.class : Bitmap64DeletionVector.class);
 
-        file = dvMaintainer2.writeDeletionVectorsIndex().get();
+        file = dvMaintainer2.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
         CommitMessage commitMessage2 =
                 new CommitMessageImpl(
                         EMPTY_ROW,
@@ -268,6 +269,164 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3").getCardinality()).isEqualTo(2);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testDeltaFiles(boolean bitmap64) {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTOR_BITMAP64.key(), String.valueOf(bitmap64));
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_MAX_DELTA_FILES.key(), "2");
+        table = table.copy(options);
+        fileHandler = table.store().newIndexFileHandler();
+        BucketedDvMaintainer.Factory factory = BucketedDvMaintainer.factory(fileHandler);
+
+        BucketedDvMaintainer dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        DvIndexFileChanges changes = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(changes.writtenFiles()).hasSize(1);
+        assertThat(changes.deletedIndexFiles()).isEmpty();
+        commit(changes);
+
+        // only the changed deletion vector is written, the older file drops it
+        dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f1", 3);
+        changes = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(changes.writtenFiles()).hasSize(1);
+        assertThat(changes.writtenFiles().get(0).dvRanges()).containsOnlyKeys("f1");
+        assertThat(changes.newIndexFiles()).hasSize(2);
+        assertThat(changes.deletedIndexFiles()).isEmpty();
+        commit(changes);
+
+        List<IndexFileMeta> indexFiles = scanIndexFiles();
+        assertThat(indexFiles).hasSize(2);
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(EMPTY_ROW, 0, indexFiles);
+        assertThat(deletionVectors).containsOnlyKeys("f1", "f2");
+        assertThat(deletionVectors.get("f1").isDeleted(1)).isTrue();
+        assertThat(deletionVectors.get("f1").isDeleted(3)).isTrue();
+        assertThat(deletionVectors.get("f2").isDeleted(2)).isTrue();
+
+        // a file without deletion vectors is deleted
+        dvMaintainer = restore(factory);
+        dvMaintainer.removeDeletionVectorOf("f2");
+        changes = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(changes.writtenFiles()).isEmpty();
+        assertThat(changes.deletedIndexFiles()).hasSize(1);
+        commit(changes);
+        assertThat(scanIndexFiles()).hasSize(1);
+
+        // consolidate when there are too many delta files
+        dvMaintainer = restore(factory);
+        for (int i = 0; i < 2; i++) {
+            dvMaintainer.notifyNewDeletion("f" + (i + 3), i);
+            commit(dvMaintainer.writeDeletionVectorsIndex().get());
+        }
+        assertThat(scanIndexFiles()).hasSize(3);
+        dvMaintainer.notifyNewDeletion("f1", 5);
+        changes = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(changes.newIndexFiles()).hasSize(1);
+        assertThat(changes.deletedIndexFiles()).hasSize(3);
+        commit(changes);
+
+        indexFiles = scanIndexFiles();
+        assertThat(indexFiles).hasSize(1);
+        deletionVectors = fileHandler.readAllDeletionVectors(EMPTY_ROW, 0, indexFiles);
+        assertThat(deletionVectors).containsOnlyKeys("f1", "f3", "f4");
+        assertThat(deletionVectors.get("f1").getCardinality()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDeltaFilesConsolidateByLiveSize() {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_MAX_DELTA_FILES.key(), "10");
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_TARGET_SIZE.key(), "1 kb");
+        table = table.copy(options);
+        fileHandler = table.store().newIndexFileHandler();
+        BucketedDvMaintainer.Factory factory = BucketedDvMaintainer.factory(fileHandler);
+
+        BucketedDvMaintainer dvMaintainer = restore(factory);
+        for (int i = 0; i < 1000; i++) {
+            dvMaintainer.notifyNewDeletion("f1", i * 7);
+        }
+        dvMaintainer.notifyNewDeletion("f2", 1);
+        commit(dvMaintainer.writeDeletionVectorsIndex().get());
+
+        // the large deletion vector moves to a delta file, the first file only keeps f2 alive
+        dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f1", 7001);
+        commit(dvMaintainer.writeDeletionVectorsIndex().get());
+        assertThat(scanIndexFiles()).hasSize(2);
+
+        // the live size of the files other than the largest one is small, no consolidation
+        dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f3", 1);
+        DvIndexFileChanges changes = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(changes.deletedIndexFiles()).isEmpty();
+        assertThat(changes.writtenFiles()).hasSize(1);
+        assertThat(changes.writtenFiles().get(0).dvRanges()).containsOnlyKeys("f3");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testLazyRestore(boolean bitmap64) {
+        initIndexHandler(bitmap64);
+        BucketedDvMaintainer.Factory factory = BucketedDvMaintainer.factory(fileHandler);
+
+        BucketedDvMaintainer dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        commit(dvMaintainer.writeDeletionVectorsIndex().get());
+
+        dvMaintainer = restore(factory);
+        assertThat(dvMaintainer.hasDeletionVector("f1")).isTrue();
+        assertThat(dvMaintainer.hasDeletionVector("f2")).isTrue();
+        assertThat(dvMaintainer.hasDeletionVector("f3")).isFalse();
+
+        // deletion vectors shared through the cache are not modified
+        dvMaintainer.notifyNewDeletion("f1", 3);
+        BucketedDvMaintainer dvMaintainer2 = restore(factory);
+        assertThat(dvMaintainer2.deletionVectorOf("f1").get().isDeleted(1)).isTrue();
+        assertThat(dvMaintainer2.deletionVectorOf("f1").get().isDeleted(3)).isFalse();
+
+        // remove a deletion vector which is not read yet
+        dvMaintainer.removeDeletionVectorOf("f2");
+        IndexFileMeta file = dvMaintainer.writeDeletionVectorsIndex().get().newIndexFiles().get(0);
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(EMPTY_ROW, 0, Collections.singletonList(file));
+        assertThat(deletionVectors).containsOnlyKeys("f1");
+        assertThat(deletionVectors.get("f1").isDeleted(3)).isTrue();
+    }
+
+    private BucketedDvMaintainer restore(BucketedDvMaintainer.Factory factory) {
+        return factory.create(EMPTY_ROW, 0, scanIndexFiles());
+    }
+
+    private List<IndexFileMeta> scanIndexFiles() {
+        return table.latestSnapshot()
+                .map(snapshot -> fileHandler.scan(snapshot, DELETION_VECTORS_INDEX, EMPTY_ROW, 0))
+                .orElse(Collections.emptyList());
+    }
+
+    private void commit(DvIndexFileChanges changes) {
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        EMPTY_ROW,
+                        0,
+                        1,
+                        DataIncrement.emptyIncrement(),
+                        new CompactIncrement(
+                                Collections.emptyList(),
+                                Collections.emptyList(),
+                                Collections.emptyList(),
+                                changes.newIndexFiles(),
+                                changes.deletedIndexFiles()));
+        try (BatchTableCommit commit = table.newBatchWriteBuilder().newCommit()) {
+            commit.commit(Collections.singletonList(commitMessage));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private DeletionVector createDeletionVector(boolean bitmap64) {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
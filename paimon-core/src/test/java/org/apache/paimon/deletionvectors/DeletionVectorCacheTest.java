@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.deletionvectors;
+
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.table.source.DeletionFile;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link DeletionVectorCache}. */
+public class DeletionVectorCacheTest {
+
+    @Test
+    public void testLoadOnce() throws IOException {
+        DeletionVectorCache cache = new DeletionVectorCache(MemorySize.ofMebiBytes(1));
+        DeletionFile deletionFile = new DeletionFile("index-1", 1, 10, 1L);
+        AtomicInteger loads = new AtomicInteger();
+
+        DeletionVector first =
+                cache.get(
+                        deletionFile,
+                        () -> {
+                            loads.incrementAndGet();
+                            DeletionVector deletionVector = new BitmapDeletionVector();
+                            deletionVector.delete(3);
+                            return deletionVector;
+                        });
+        DeletionVector second =
+                cache.get(
+                        new DeletionFile("index-1", 1, 10, 1L),
+                        () -> {
+                            loads.incrementAndGet();
+                            return new BitmapDeletionVector();
+                        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.isDeleted(3)).isTrue();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLoadFailure() throws IOException {
+        DeletionVectorCache cache = new DeletionVectorCache(MemorySize.ofMebiBytes(1));
+        DeletionFile deletionFile = new DeletionFile("index-1", 1, 10, 1L);
+
+        assertThatThrownBy(
+                        () ->
+                                cache.get(
+                                        deletionFile,
+                                        () -> {
+                                            throw new IOException("Expected failure.");
+                                        }))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Expected failure.");
+
+        // failed loads are not cached
+        assertThat(cache.get(deletionFile, BitmapDeletionVector::new).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testShared() {
+        assertThat(DeletionVectorCache.shared(MemorySize.ZERO)).isNull();
+        DeletionVectorCache cache = DeletionVectorCache.shared(MemorySize.ofMebiBytes(1));
+        assertThat(DeletionVectorCache.shared(MemorySize.ofMebiBytes(2))).isSameAs(cache);
+    }
+}
@@ -102,6 +102,7 @@ public class FileFormatSuffixTest extends KeyValueFileReadWriteTest {
                         MemorySize.MAX_VALUE,
                         new FileIndexOptions(),
                         true,
+                        0,
                         false);
         appendOnlyWriter.setMemoryPool(
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
@@ -24,6 +24,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.table.sink.StreamTableCommit;
@@ -35,10 +36,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -147,6 +150,59 @@ public class DynamicBucketIndexMaintainerTest extends PrimaryKeyTableTestBase {
         commit.close();
     }
 
+    @Test
+    public void testDeltaFiles() throws Exception {
+        FileStoreTable deltaTable =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.DYNAMIC_BUCKET_INDEX_FILE_MAX_DELTA_FILES.key(), "2"));
+        IndexFileHandler deltaFileHandler = deltaTable.store().newIndexFileHandler();
+        writeBuilder = deltaTable.newStreamWriteBuilder().withCommitUser(commitUser);
+        write = writeBuilder.newWrite();
+        commit = writeBuilder.newCommit();
+
+        // the first file and two delta files only contain the new hashcodes
+        int[][] expected = {{1465514398}, {1340390384}, {-771300025}};
+        for (int i = 0; i < expected.length; i++) {
+            write(write, createRow(1, 1, i + 1, i + 1));
+            List<CommitMessage> commitMessages = write.prepareCommit(true, i);
+            CommitMessageImpl message = (CommitMessageImpl) commitMessages.get(0);
+            assertThat(message.newFilesIncrement().deletedIndexFiles()).isEmpty();
+            assertThat(readIndex(commitMessages).get(row(1)).get(1))
+                    .containsExactlyInAnyOrder(expected[i]);
+            commit.commit(i, commitMessages);
+            assertThat(scanHashIndex(deltaTable, deltaFileHandler)).hasSize(i + 1);
+        }
+
+        // restore from all files, the existing key does not create a new file
+        write.close();
+        write = writeBuilder.newWrite();
+        write(write, createRow(1, 1, 2, 2));
+        List<CommitMessage> commitMessages = write.prepareCommit(true, 3);
+        assertThat(readIndex(commitMessages)).isEmpty();
+        commit.commit(3, commitMessages);
+
+        // another delta file exceeds the max delta files, consolidate all files
+        List<IndexFileMeta> previousFiles = scanHashIndex(deltaTable, deltaFileHandler);
+        write(write, createRow(1, 1, 4, 4));
+        commitMessages = write.prepareCommit(true, 4);
+        CommitMessageImpl message = (CommitMessageImpl) commitMessages.get(0);
+        assertThat(message.newFilesIncrement().deletedIndexFiles())
+                .containsExactlyInAnyOrderElementsOf(previousFiles);
+        int[] hashcodes = readIndex(commitMessages).get(row(1)).get(1);
+        assertThat(hashcodes).hasSize(4).contains(1465514398, 1340390384, -771300025);
+        commit.commit(4, commitMessages);
+        assertThat(scanHashIndex(deltaTable, deltaFileHandler))
+                .containsExactlyElementsOf(message.newFilesIncrement().newIndexFiles());
+
+        write.close();
+        commit.close();
+    }
+
+    private List<IndexFileMeta> scanHashIndex(FileStoreTable table, IndexFileHandler handler) {
+        return handler.scan(table.snapshotManager().latestSnapshot(), HASH_INDEX, row(1), 1);
+    }
+
     private void write(StreamTableWrite write, Pair<InternalRow, Integer> rowWithBucket)
             throws Exception {
         write.write(rowWithBucket.getKey(), rowWithBucket.getValue());
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PagedHashBucketIndex}. */
+public class PagedHashBucketIndexTest {
+
+    @TempDir Path tempDir;
+
+    private IOManager ioManager;
+
+    @BeforeEach
+    public void before() {
+        ioManager = IOManager.create(tempDir.toString());
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        ioManager.close();
+    }
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        Random random = new Random();
+        Map<Integer, Integer> expected = new HashMap<>();
+        PagedHashBucketIndex index = new PagedHashBucketIndex(ioManager, MemorySize.parse("8 kb"));
+
+        // bulk load, later entries win
+        for (int i = 0; i < 20_000; i++) {
+            int hash = random.nextInt(50_000);
+            short bucket = (short) random.nextInt(100);
+            index.append(hash, bucket);
+            expected.put(hash, (int) bucket);
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            int hash = random.nextInt(100_000);
+            if (random.nextBoolean()) {
+                short bucket = (short) random.nextInt(100);
+                index.put(hash, bucket);
+                expected.put(hash, (int) bucket);
+            } else {
+                assertThat(index.get(hash)).isEqualTo(expected.getOrDefault(hash, -1));
+            }
+            assertThat(index.numLoadedPages()).isLessThan(1024);
+        }
+
+        for (int hash = 0; hash < 100_000; hash++) {
+            assertThat(index.get(hash)).isEqualTo(expected.getOrDefault(hash, -1));
+        }
+
+        assertThat(listFiles()).isNotEmpty();
+        index.close();
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    public void testAllInMemory() {
+        PagedHashBucketIndex index = new PagedHashBucketIndex(ioManager, MemorySize.parse("1 mb"));
+        for (int hash = 0; hash < 10_000; hash++) {
+            index.put(hash, (short) (hash % 7));
+        }
+        for (int hash = 0; hash < 10_000; hash++) {
+            assertThat(index.get(hash)).isEqualTo(hash % 7);
+        }
+        assertThat(index.get(10_000)).isEqualTo(-1);
+        index.close();
+    }
+
+    @Test
+    public void testSharedPagePool() throws IOException {
+        PagedHashBucketIndex.PagePool pool =
+                new PagedHashBucketIndex.PagePool(ioManager, MemorySize.parse("8 kb"));
+        PagedHashBucketIndex index1 = new PagedHashBucketIndex(pool);
+        PagedHashBucketIndex index2 = new PagedHashBucketIndex(pool);
+        for (int hash = 0; hash < 10_000; hash++) {
+            index1.put(hash, (short) 1);
+            index2.put(hash, (short) 2);
+            // the memory is a budget of both indexes, one page may exceed it
+            assertThat(pool.loadedEntries()).isLessThanOrEqualTo(8 * 1024 / 12 + 64);
+        }
+        assertThat(pool.numLoadedPages())
+                .isEqualTo(index1.numLoadedPages() + index2.numLoadedPages());
+
+        for (int hash = 0; hash < 10_000; hash++) {
+            assertThat(index1.get(hash)).isEqualTo(1);
+            assertThat(index2.get(hash)).isEqualTo(2);
+        }
+
+        // closing an index releases its pages, the other index is still readable
+        index1.close();
+        assertThat(pool.numLoadedPages()).isEqualTo(index2.numLoadedPages());
+        for (int hash = 0; hash < 10_000; hash++) {
+            assertThat(index2.get(hash)).isEqualTo(2);
+        }
+        index2.close();
+        assertThat(pool.numLoadedPages()).isZero();
+        assertThat(pool.loadedEntries()).isZero();
+        assertThat(listFiles()).isEmpty();
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+}
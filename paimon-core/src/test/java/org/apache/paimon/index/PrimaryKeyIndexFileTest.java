@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.utils.Pair;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PrimaryKeyIndexFile}. */
+public class PrimaryKeyIndexFileTest {
+
+    @TempDir java.nio.file.Path tempPath;
+
+    @Test
+    public void testLookup() throws IOException {
+        Path dir = new Path(tempPath.toUri());
+        IndexPathFactory pathFactory =
+                new IndexPathFactory() {
+                    @Override
+                    public Path newPath() {
+                        return new Path(dir, UUID.randomUUID().toString());
+                    }
+
+                    @Override
+                    public Path toPath(IndexFileMeta file) {
+                        return new Path(dir, file.fileName());
+                    }
+
+                    @Override
+                    public boolean isExternalPath() {
+                        return false;
+                    }
+                };
+        PrimaryKeyIndexFile file = new PrimaryKeyIndexFile(LocalFileIO.create(), pathFactory);
+
+        // few distinct hashes, so that entries of a hash cross blocks
+        Random rnd = new Random();
+        int numEntries = rnd.nextInt(10_000) + 1;
+        long[] entries = new long[numEntries];
+        for (int i = 0; i < numEntries; i++) {
+            entries[i] = ((long) (rnd.nextInt(200) - 100) << 32) | i;
+        }
+        Arrays.sort(entries);
+
+        List<String> dataFiles = Arrays.asList("data-1.orc", "data-2.orc");
+        IndexFileMeta meta;
+        try (PrimaryKeyIndexFile.Writer writer = file.newWriter(dataFiles)) {
+            for (long entry : entries) {
+                int position = (int) entry;
+                writer.add((int) (entry >> 32), position % 2, position);
+            }
+            meta = writer.finish();
+        }
+        assertThat(meta.indexType()).isEqualTo(PrimaryKeyIndexFile.PRIMARY_KEY_INDEX);
+        assertThat(meta.rowCount()).isEqualTo(numEntries);
+
+        try (PrimaryKeyIndexFile.Reader reader = file.open(meta)) {
+            assertThat(reader.dataFiles()).isEqualTo(dataFiles);
+            for (int hash = -101; hash <= 100; hash++) {
+                List<Pair<String, Integer>> expected = new ArrayList<>();
+                for (long entry : entries) {
+                    if ((int) (entry >> 32) == hash) {
+                        int position = (int) entry;
+                        expected.add(Pair.of(dataFiles.get(position % 2), position));
+                    }
+                }
+                assertThat(reader.lookup(hash)).containsExactlyInAnyOrderElementsOf(expected);
+            }
+
+            List<Integer> positions = new ArrayList<>();
+            reader.forEach((hash, fileOrdinal, position) -> positions.add(position));
+            assertThat(positions).hasSize(numEntries);
+        }
+    }
+}
@@ -18,9 +18,17 @@
 
 package org.apache.paimon.io;
 
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.utils.ObjectSerializerTestBase;
 
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.paimon.utils.InternalRowUtils.toStringArrayData;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /** Tests for {@link DataFileMetaSerializer}. */
 public class DataFileMetaSerializerTest extends ObjectSerializerTestBase<DataFileMeta> {
@@ -36,4 +44,47 @@ public class DataFileMetaSerializerTest extends ObjectSerializerTestBase<DataFil
     protected DataFileMeta object() {
         return gen.next().meta.copy(Arrays.asList("extra1", "extra2"));
     }
+
+    @Test
+    public void testToBinary() throws IOException {
+        DataFileMetaSerializer serializer = serializer();
+        for (int i = 0; i < 100; i++) {
+            DataFileMeta meta = object();
+            if (i % 2 == 0) {
+                GenericRow row = (GenericRow) serializer.toRow(meta);
+                row.setField(16, toStringArrayData(Arrays.asList("a", "b")));
+                row.setField(19, toStringArrayData(Collections.singletonList("c")));
+                meta = serializer.fromRow(row);
+            }
+
+            BinaryDataFileMeta binary = serializer.toBinary(meta);
+            assertThat(binary).isEqualTo(meta);
+            assertThat(meta).isEqualTo(binary);
+            assertThat(binary.hashCode()).isEqualTo(meta.hashCode());
+            assertThat(binary.toString()).isEqualTo(meta.toString());
+            assertThat(binary).isNotEqualTo(meta.upgrade(meta.level() + 1));
+            assertThat(binary.minKey()).isSameAs(binary.minKey());
+            assertThat(binary.valueStats()).isSameAs(binary.valueStats());
+            assertThat(binary.upgrade(meta.level() + 1)).isEqualTo(meta.upgrade(meta.level() + 1));
+
+            DataOutputSerializer out = new DataOutputSerializer(128);
+            serializer.serialize(binary, out);
+            BinaryDataFileMeta actual =
+                    serializer.deserializeToBinary(
+                            new DataInputDeserializer(out.getCopyOfBuffer()));
+            assertThat(actual).isEqualTo(meta);
+        }
+    }
+
+    @Test
+    public void testInternColumns() {
+        DataFileMetaSerializer serializer = serializer();
+        GenericRow row = (GenericRow) serializer.toRow(object());
+        row.setField(16, toStringArrayData(Arrays.asList("a", "b")));
+        BinaryDataFileMeta first = serializer.toBinary(serializer.fromRow(row));
+        row = (GenericRow) serializer.toRow(object());
+        row.setField(16, toStringArrayData(Arrays.asList("a", "b")));
+        BinaryDataFileMeta second = serializer.toBinary(serializer.fromRow(row));
+        assertThat(first.valueStatsCols()).isSameAs(second.valueStatsCols());
+    }
 }
@@ -41,6 +41,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -65,6 +66,10 @@ public class RollingFileWriterTest {
     }
 
     public void initialize(String identifier, boolean statsDenseStore) {
+        initialize(identifier, statsDenseStore, 0);
+    }
+
+    public void initialize(String identifier, boolean statsDenseStore, int maxPendingCloses) {
         FileFormat fileFormat = FileFormat.fromIdentifier(identifier, new Options());
         rollingFileWriter =
                 new RollingFileWriter<>(
@@ -99,7 +104,8 @@ public class RollingFileWriterTest {
                                         statsDenseStore,
                                         false,
                                         null),
-                        TARGET_FILE_SIZE);
+                        TARGET_FILE_SIZE,
+                        maxPendingCloses);
     }
 
     @ParameterizedTest
@@ -139,4 +145,26 @@ public class RollingFileWriterTest {
         assertThat(file.valueStatsCols()).isNull();
         assertThat(file.valueStats().minValues().getFieldCount()).isEqualTo(SCHEMA.getFieldCount());
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    public void testAsyncClose(int maxPendingCloses) throws IOException {
+        initialize("parquet", false, maxPendingCloses);
+        for (int i = 0; i < 3500; i++) {
+            rollingFileWriter.write(GenericRow.of(i));
+        }
+        rollingFileWriter.close();
+
+        List<DataFileMeta> files = rollingFileWriter.result();
+        assertThat(files).hasSize(4);
+        for (int i = 0; i < files.size(); i++) {
+            DataFileMeta file = files.get(i);
+            long expectedRowCount = i < 3 ? 1000 : 500;
+            assertThat(file.rowCount()).isEqualTo(expectedRowCount);
+            assertThat(file.minSequenceNumber()).isEqualTo(i * 1000L);
+            assertThat(file.maxSequenceNumber()).isEqualTo(i * 1000L + expectedRowCount - 1);
+            assertThat(file.valueStats().minValues().getInt(0)).isEqualTo(i * 1000);
+        }
+        assertFileNum(4);
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.data.serializer.IntSerializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link SortValueState}. */
+public class SortValueStateTest {
+
+    private static final int MAX_SORTED_RUNS = 3;
+
+    @TempDir Path tempDir;
+
+    private SortStateFactory createFactory() {
+        return new SortStateFactory(
+                tempDir.toFile(),
+                new CacheManager(MemorySize.ofMebiBytes(1)),
+                1024,
+                new CompressOptions("none", 1),
+                rows -> rows > 0 ? BloomFilter.builder(rows, 0.01) : null,
+                4096,
+                MAX_SORTED_RUNS,
+                500);
+    }
+
+    private SortValueState<Integer, Integer> createState(SortStateFactory factory) {
+        return (SortValueState<Integer, Integer>)
+                factory.valueState("test", IntSerializer.INSTANCE, IntSerializer.INSTANCE, 0);
+    }
+
+    @Test
+    public void testRandomUpdates() throws Exception {
+        SortStateFactory factory = createFactory();
+        SortValueState<Integer, Integer> state = createState(factory);
+
+        // bulk load even keys
+        Map<Integer, Integer> expected = new HashMap<>();
+        ValueBulkLoader bulkLoader = state.createBulkLoader();
+        for (int i = 0; i < 2000; i += 2) {
+            bulkLoader.write(state.serializeKey(i), state.serializeValue(i));
+            expected.put(i, i);
+        }
+        bulkLoader.finish();
+        assertThat(state.numSortedRuns()).isEqualTo(1);
+
+        Random random = new Random();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(3000);
+            if (random.nextInt(4) == 0) {
+                state.delete(key);
+                expected.remove(key);
+            } else {
+                int value = random.nextInt();
+                state.put(key, value);
+                expected.put(key, value);
+            }
+            assertThat(state.numSortedRuns()).isLessThanOrEqualTo(MAX_SORTED_RUNS);
+        }
+
+        for (int key = 0; key < 3000; key++) {
+            assertThat(state.get(key)).isEqualTo(expected.get(key));
+        }
+        factory.close();
+        assertThat(tempDir.toFile().listFiles()).isEmpty();
+    }
+
+    @Test
+    public void testBulkLoadUnsortedKeys() throws Exception {
+        SortStateFactory factory = createFactory();
+        SortValueState<Integer, Integer> state = createState(factory);
+
+        ValueBulkLoader bulkLoader = state.createBulkLoader();
+        bulkLoader.write(state.serializeKey(2), state.serializeValue(2));
+        assertThatThrownBy(() -> bulkLoader.write(state.serializeKey(1), state.serializeValue(1)))
+                .isInstanceOf(BulkLoader.WriteException.class);
+        factory.close();
+    }
+}
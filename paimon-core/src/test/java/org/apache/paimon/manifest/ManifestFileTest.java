@@ -30,9 +30,12 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.StatsTestUtils;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.Filter;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -42,6 +45,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.TestKeyValueGenerator.DEFAULT_PART_TYPE;
+import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
 import static org.apache.paimon.stats.StatsTestUtils.convertWithoutSchemaEvolution;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,6 +72,36 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"avro", "parquet", "orc"})
+    public void testReadWithoutValueStats(String format) {
+        List<ManifestEntry> entries = generateData();
+        ManifestFile manifestFile =
+                createManifestFile(
+                        tempDir.toString(), FileFormat.fromIdentifier(format, new Options()));
+
+        List<ManifestEntry> actualEntries = new ArrayList<>();
+        for (ManifestFileMeta meta : manifestFile.write(entries)) {
+            actualEntries.addAll(
+                    manifestFile.read(
+                            meta.fileName(),
+                            meta.fileSize(),
+                            null,
+                            null,
+                            Filter.alwaysTrue(),
+                            Filter.alwaysTrue(),
+                            false));
+        }
+
+        assertThat(actualEntries).hasSameSizeAs(entries);
+        for (int i = 0; i < entries.size(); i++) {
+            ManifestEntry actual = actualEntries.get(i);
+            assertThat(actual.file().valueStats()).isEqualTo(EMPTY_STATS);
+            assertThat(actual.file().keyStats()).isEqualTo(entries.get(i).file().keyStats());
+            assertThat(actual.copyWithoutStats()).isEqualTo(entries.get(i).copyWithoutStats());
+        }
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -94,6 +128,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, avro);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, FileFormat format) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -115,7 +153,7 @@ public class ManifestFileTest {
                         fileIO,
                         new SchemaManager(fileIO, path),
                         DEFAULT_PART_TYPE,
-                        avro,
+                        format,
                         "zstd",
                         pathFactory,
                         suggestedFileSize,
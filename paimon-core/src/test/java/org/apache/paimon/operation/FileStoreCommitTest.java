@@ -37,6 +37,7 @@ import org.apache.paimon.manifest.ManifestCommittable;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.operation.FileStoreCommitImpl.RetryResult;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -1022,6 +1023,31 @@ public class FileStoreCommitTest {
                 .isEqualTo(0);
     }
 
+    @Test
+    public void testDisableManifestMergeOnCommit() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.MANIFEST_MERGE_ON_COMMIT.key(), "false");
+        options.put(CoreOptions.MANIFEST_MERGE_MIN_COUNT.key(), "2");
+        TestFileStore store = createStore(false, options);
+
+        List<KeyValue> keyValues = generateDataList(1);
+        BinaryRow partition = gen.getPartition(keyValues.get(0));
+        Snapshot snapshot = null;
+        for (int i = 0; i < 5; i++) {
+            snapshot =
+                    store.commitData(keyValues, s -> partition, kv -> 0, Collections.emptyMap())
+                            .get(0);
+        }
+
+        ManifestList manifestList = store.manifestListFactory().create();
+        assertThat(manifestList.readDataManifests(snapshot)).hasSize(5);
+
+        store.newCommit().compactManifest();
+        Snapshot latest = store.snapshotManager().latestSnapshot();
+        assertThat(latest.commitKind()).isEqualTo(Snapshot.CommitKind.COMPACT);
+        assertThat(manifestList.readDataManifests(latest)).hasSize(1);
+    }
+
     @Test
     public void testCommitManifestWithProperties() throws Exception {
         TestFileStore store = createStore(false);
@@ -19,6 +19,7 @@
 package org.apache.paimon.table;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.append.AppendCompactTask;
 import org.apache.paimon.bucket.DefaultBucketFunction;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
@@ -34,8 +35,11 @@ import org.apache.paimon.fileindex.rangebitmap.RangeBitmapFileIndexFactory;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.index.GlobalIndexFile;
 import org.apache.paimon.io.BundleRecords;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.operation.BaseAppendFileStoreWrite;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Equal;
@@ -50,15 +54,19 @@ import org.apache.paimon.schema.SchemaChange;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.sink.BatchTableCommit;
 import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.BatchWriteBuilder;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.source.Aggregation;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.ScanMode;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.table.source.StreamTableScan;
+import org.apache.paimon.table.source.TableAggregate;
 import org.apache.paimon.table.source.TableRead;
 import org.apache.paimon.table.source.TableScan;
 import org.apache.paimon.types.DataField;
@@ -544,6 +552,266 @@ public class AppendOnlySimpleTableTest extends SimpleTableTestBase {
         assertThat(metas.size()).isEqualTo(1);
     }
 
+    @Test
+    public void testGlobalIndex() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("index_column", DataTypes.STRING())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> options.set(CoreOptions.GLOBAL_INDEX_COLUMNS, "index_column"));
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(1, BinaryString.fromString("a")));
+        write.write(GenericRow.of(2, BinaryString.fromString("c")));
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.write(GenericRow.of(3, BinaryString.fromString("b")));
+        commit.commit(1, write.prepareCommit(true, 1));
+        write.write(GenericRow.of(4, BinaryString.fromString("b")));
+        write.write(GenericRow.of(5, BinaryString.fromString("d")));
+        commit.commit(2, write.prepareCommit(true, 2));
+        write.close();
+        commit.close();
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+
+        // min max of the first file can not skip it, the global index can
+        Predicate equal = builder.equal(1, BinaryString.fromString("b"));
+        assertThat(dataFileCount(table, equal)).isEqualTo(2);
+        assertThat(readIds(table, equal)).containsExactlyInAnyOrder(3, 4);
+
+        Predicate in =
+                builder.in(
+                        1,
+                        Arrays.asList(BinaryString.fromString("c"), BinaryString.fromString("x")));
+        assertThat(dataFileCount(table, in)).isEqualTo(1);
+        assertThat(readIds(table, in)).containsExactly(2);
+
+        Predicate both =
+                PredicateBuilder.and(equal, builder.equal(1, BinaryString.fromString("d")));
+        assertThat(dataFileCount(table, both)).isEqualTo(1);
+
+        // non indexed columns are not pruned by the global index
+        assertThat(dataFileCount(table, builder.greaterThan(0, 0))).isEqualTo(3);
+
+        // small index files are merged when new files are indexed
+        assertThat(globalIndexFiles(table)).hasSize(1);
+
+        // overwrite replaces the index files in the same commit
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder().withOverwrite();
+        try (BatchTableWrite batchWrite = writeBuilder.newWrite();
+                BatchTableCommit batchCommit = writeBuilder.newCommit()) {
+            batchWrite.write(GenericRow.of(6, BinaryString.fromString("b")));
+            batchCommit.commit(batchWrite.prepareCommit());
+        }
+        List<IndexManifestEntry> indexFiles = globalIndexFiles(table);
+        assertThat(indexFiles).hasSize(1);
+        assertThat(
+                        table.store()
+                                .newIndexFileHandler()
+                                .globalIndex(BinaryRow.EMPTY_ROW, 0)
+                                .read(indexFiles.get(0).indexFile(), null)
+                                .dataFiles())
+                .hasSize(1);
+        assertThat(readIds(table, equal)).containsExactly(6);
+
+        try (BatchTableCommit batchCommit = table.newBatchWriteBuilder().newCommit()) {
+            batchCommit.truncateTable();
+        }
+        assertThat(globalIndexFiles(table)).isEmpty();
+    }
+
+    @Test
+    public void testGlobalIndexWithParallelWritersAndCompaction() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("index_column", DataTypes.STRING())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> options.set(CoreOptions.GLOBAL_INDEX_COLUMNS, "index_column"));
+
+        // all writers of a bucket-unaware table write bucket 0
+        StreamTableWrite write1 = table.newWrite(commitUser);
+        StreamTableWrite write2 = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write1.write(GenericRow.of(1, BinaryString.fromString("a")));
+        write2.write(GenericRow.of(2, BinaryString.fromString("c")));
+        commitAll(commit, 0, write1, write2);
+        write1.write(GenericRow.of(3, BinaryString.fromString("b")));
+        write2.write(GenericRow.of(4, BinaryString.fromString("b")));
+        commitAll(commit, 1, write1, write2);
+        write1.write(GenericRow.of(5, BinaryString.fromString("d")));
+        commitAll(commit, 2, write1, write2);
+
+        // each writer only merges the small index files written by itself
+        assertThat(globalIndexFiles(table)).hasSize(2);
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        Predicate equalB = builder.equal(1, BinaryString.fromString("b"));
+        assertThat(dataFileCount(table, equalB)).isEqualTo(2);
+        assertThat(readIds(table, equalB)).containsExactlyInAnyOrder(3, 4);
+
+        // compact the files of ids 1, 2 and 3, both index files cover some of them
+        List<DataFileMeta> compactBefore =
+                table.newScan().plan().splits().stream()
+                        .flatMap(split -> ((DataSplit) split).dataFiles().stream())
+                        .filter(file -> file.valueStats().minValues().getInt(0) <= 3)
+                        .collect(Collectors.toList());
+        assertThat(compactBefore).hasSize(3);
+        BaseAppendFileStoreWrite compactWrite =
+                (BaseAppendFileStoreWrite) table.store().newWrite(commitUser);
+        CommitMessage compactMessage =
+                new AppendCompactTask(BinaryRow.EMPTY_ROW, compactBefore)
+                        .doCompact(table, compactWrite);
+        compactWrite.close();
+        commit.commit(3, Collections.singletonList(compactMessage));
+
+        assertThat(globalIndexFiles(table)).hasSize(1);
+        assertThat(dataFileCount(table, equalB)).isEqualTo(2);
+        assertThat(readIds(table, equalB)).containsExactlyInAnyOrder(3, 4);
+        Predicate equalA = builder.equal(1, BinaryString.fromString("a"));
+        assertThat(dataFileCount(table, equalA)).isEqualTo(1);
+        assertThat(readIds(table, equalA)).containsExactly(1);
+        Predicate equalC = builder.equal(1, BinaryString.fromString("c"));
+        assertThat(readIds(table, equalC)).containsExactly(2);
+        Predicate equalD = builder.equal(1, BinaryString.fromString("d"));
+        assertThat(dataFileCount(table, equalD)).isEqualTo(1);
+        assertThat(readIds(table, equalD)).containsExactly(5);
+
+        // the index file of the writer was replaced by the compaction, it is not merged again
+        write1.write(GenericRow.of(6, BinaryString.fromString("e")));
+        commitAll(commit, 4, write1, write2);
+        assertThat(globalIndexFiles(table)).hasSize(2);
+        Predicate equalE = builder.equal(1, BinaryString.fromString("e"));
+        assertThat(dataFileCount(table, equalE)).isEqualTo(1);
+        assertThat(readIds(table, equalE)).containsExactly(6);
+        assertThat(readIds(table, equalB)).containsExactlyInAnyOrder(3, 4);
+
+        write1.close();
+        write2.close();
+        commit.close();
+    }
+
+    private static void commitAll(
+            StreamTableCommit commit, long identifier, StreamTableWrite... writes)
+            throws Exception {
+        List<CommitMessage> messages = new ArrayList<>();
+        for (StreamTableWrite write : writes) {
+            messages.addAll(write.prepareCommit(true, identifier));
+        }
+        commit.commit(identifier, messages);
+    }
+
+    private static List<IndexManifestEntry> globalIndexFiles(FileStoreTable table) {
+        return table.store().newIndexFileHandler().scan(GlobalIndexFile.GLOBAL_INDEX);
+    }
+
+    @Test
+    public void testAggregatePushDown() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("v", DataTypes.INT())
+                        .field("s", DataTypes.STRING())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options ->
+                                options.set(
+                                        FileIndexOptions.FILE_INDEX
+                                                + "."
+                                                + BitmapFileIndexFactory.BITMAP_INDEX
+                                                + "."
+                                                + CoreOptions.COLUMNS,
+                                        "s"));
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(1, 10, BinaryString.fromString("a")));
+        write.write(GenericRow.of(2, 20, BinaryString.fromString("b")));
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.write(GenericRow.of(3, null, BinaryString.fromString("a")));
+        write.write(GenericRow.of(4, 40, BinaryString.fromString("c")));
+        commit.commit(1, write.prepareCommit(true, 1));
+        write.write(GenericRow.of(5, 50, BinaryString.fromString("a")));
+        write.write(GenericRow.of(6, 60, BinaryString.fromString("b")));
+        commit.commit(2, write.prepareCommit(true, 2));
+        write.close();
+        commit.close();
+
+        FieldRef v = new FieldRef(1, "v", DataTypes.INT());
+        FieldRef s = new FieldRef(2, "s", DataTypes.STRING());
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+
+        // answered from value stats
+        TableAggregate.Result result =
+                table.newReadBuilder()
+                        .newAggregate(
+                                Arrays.asList(
+                                        Aggregation.countStar(),
+                                        Aggregation.count(v),
+                                        Aggregation.nullCount(v),
+                                        Aggregation.min(v),
+                                        Aggregation.max(v)))
+                        .aggregate();
+        assertThat(result.answeredFiles()).isEqualTo(3);
+        assertThat(result.readFiles()).isEqualTo(0);
+        assertThat(result.row()).isEqualTo(GenericRow.of(6L, 5L, 1L, 10, 60));
+
+        // answered from bitmap indexes
+        result =
+                table.newReadBuilder()
+                        .withFilter(builder.equal(2, BinaryString.fromString("a")))
+                        .newAggregate(Collections.singletonList(Aggregation.countStar()))
+                        .aggregate();
+        assertThat(result.answeredFiles()).isEqualTo(3);
+        assertThat(result.readFiles()).isEqualTo(0);
+        assertThat(result.row()).isEqualTo(GenericRow.of(3L));
+
+        // all rows of the third file match, the second file has to be read
+        result =
+                table.newReadBuilder()
+                        .withFilter(builder.greaterOrEqual(1, 40))
+                        .newAggregate(Arrays.asList(Aggregation.countStar(), Aggregation.min(v)))
+                        .aggregate();
+        assertThat(result.answeredFiles()).isEqualTo(1);
+        assertThat(result.readFiles()).isEqualTo(1);
+        assertThat(result.row()).isEqualTo(GenericRow.of(3L, 40));
+
+        // count distinct reads the data files
+        result =
+                table.newReadBuilder()
+                        .newAggregate(Collections.singletonList(Aggregation.countDistinct(s)))
+                        .aggregate();
+        assertThat(result.readFiles()).isEqualTo(3);
+        assertThat(result.row()).isEqualTo(GenericRow.of(3L));
+    }
+
+    private static int dataFileCount(FileStoreTable table, Predicate predicate) {
+        return table.newScan().withFilter(predicate).plan().splits().stream()
+                .mapToInt(split -> ((DataSplit) split).dataFiles().size())
+                .sum();
+    }
+
+    private static List<Integer> readIds(FileStoreTable table, Predicate predicate)
+            throws Exception {
+        ReadBuilder readBuilder = table.newReadBuilder().withFilter(predicate);
+        List<Integer> ids = new ArrayList<>();
+        readBuilder
+                .newRead()
+                .executeFilter()
+                .createReader(readBuilder.newScan().plan())
+                .forEachRemaining(row -> ids.add(row.getInt(0)));
+        return ids;
+    }
+
     @Test
     public void testBloomFilterInDisk() throws Exception {
         RowType rowType =
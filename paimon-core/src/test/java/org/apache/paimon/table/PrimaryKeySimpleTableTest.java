@@ -51,6 +51,7 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.query.LocalTableQuery;
+import org.apache.paimon.table.query.PrimaryKeyIndexTableQuery;
 import org.apache.paimon.table.sink.BatchTableCommit;
 import org.apache.paimon.table.sink.BatchTableWrite;
 import org.apache.paimon.table.sink.BatchWriteBuilder;
@@ -139,6 +140,7 @@ import static org.apache.paimon.CoreOptions.SOURCE_SPLIT_TARGET_SIZE;
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.Snapshot.CommitKind.COMPACT;
 import static org.apache.paimon.data.DataFormatTestUtil.internalRowToString;
+import static org.apache.paimon.index.PrimaryKeyIndexFile.PRIMARY_KEY_INDEX;
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.predicate.PredicateBuilder.and;
 import static org.apache.paimon.predicate.SortValue.NullOrdering.NULLS_LAST;
@@ -2295,6 +2297,69 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
         innerTestTableQuery(table);
     }
 
+    @Test
+    public void testPrimaryKeyIndexTableQuery() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(BUCKET, 1);
+                            options.set(CoreOptions.PRIMARY_KEY_INDEX_ENABLED, true);
+                        });
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+
+        for (int i = 0; i < 1000; i++) {
+            write.write(rowData(1, i, (long) i));
+        }
+        write.compact(binaryRow(1), 0, true);
+        commit.commit(0, write.prepareCommit(true, 0));
+        assertThat(table.store().newIndexFileHandler().scan(PRIMARY_KEY_INDEX)).hasSize(1);
+
+        // updates in level 0 are not indexed
+        write.write(rowData(1, 10, 1010L));
+        write.write(rowDataWithKind(RowKind.DELETE, 1, 20, 20L));
+        commit.commit(1, write.prepareCommit(true, 1));
+
+        PrimaryKeyIndexTableQuery query = new PrimaryKeyIndexTableQuery(table);
+        assertThat(query.lookup(binaryRow(1), 0, row(5)).getLong(2)).isEqualTo(5L);
+        assertThat(query.lookup(binaryRow(1), 0, row(10)).getLong(2)).isEqualTo(1010L);
+        assertThat(query.lookup(binaryRow(1), 0, row(20))).isNull();
+        assertThat(query.lookup(binaryRow(1), 0, row(1000))).isNull();
+
+        // the index is rebuilt from the previous index and the new files
+        write.compact(binaryRow(1), 0, true);
+        commit.commit(2, write.prepareCommit(true, 2));
+        assertThat(table.store().newIndexFileHandler().scan(PRIMARY_KEY_INDEX)).hasSize(1);
+
+        query.refresh();
+        for (int i = 0; i < 1000; i++) {
+            InternalRow value = query.lookup(binaryRow(1), 0, row(i));
+            if (i == 20) {
+                assertThat(value).isNull();
+            } else {
+                assertThat(value.getLong(2)).isEqualTo(i == 10 ? 1010L : i);
+            }
+        }
+
+        // overwrite does not restore the previous index
+        BatchWriteBuilder overwriteBuilder = table.newBatchWriteBuilder().withOverwrite();
+        try (BatchTableWrite overwrite = overwriteBuilder.newWrite();
+                BatchTableCommit overwriteCommit = overwriteBuilder.newCommit()) {
+            overwrite.write(rowData(1, 5, 2005L));
+            overwrite.compact(binaryRow(1), 0, true);
+            overwriteCommit.commit(overwrite.prepareCommit());
+        }
+        assertThat(table.store().newIndexFileHandler().scan(PRIMARY_KEY_INDEX)).hasSize(1);
+
+        query.refresh();
+        assertThat(query.lookup(binaryRow(1), 0, row(5)).getLong(2)).isEqualTo(2005L);
+        assertThat(query.lookup(binaryRow(1), 0, row(6))).isNull();
+
+        query.close();
+        write.close();
+        commit.close();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     public void testLookupWithDropDelete(boolean specificConfig) throws Exception {
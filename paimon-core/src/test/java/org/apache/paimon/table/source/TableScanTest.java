@@ -18,23 +18,35 @@
 
 package org.apache.paimon.table.source;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.predicate.FieldRef;
 import org.apache.paimon.predicate.TopN;
 import org.apache.paimon.stats.SimpleStatsEvolutions;
 import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.BatchTableCommit;
+import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.BatchWriteBuilder;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.source.snapshot.ScannerTestBase;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.InstantiationUtil;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.apache.paimon.predicate.SortValue.NullOrdering.NULLS_FIRST;
 import static org.apache.paimon.predicate.SortValue.NullOrdering.NULLS_LAST;
@@ -376,4 +388,105 @@ public class TableScanTest extends ScannerTestBase {
         assertThat(((DataSplit) plan2.splits().get(0)).maxValue(field.id(), field, evolutions))
                 .isNull();
     }
+
+    @Test
+    public void testDistributedPlan() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.SCAN_PLAN_DISTRIBUTED_ENABLED.key(), "true");
+        options.put(CoreOptions.SCAN_PLAN_DISTRIBUTED_FILES_PER_TASK.key(), "2");
+        // tables with primary keys need all files of a bucket to generate splits
+        assertThat(((InnerTableScan) table.copy(options).newScan()).planTasks(10)).isEmpty();
+
+        createAppendOnlyTable();
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 5; i++) {
+            write.write(rowData(i, i * 10, i * 100L));
+            commit.commit(i, write.prepareCommit(true, i));
+        }
+        write.close();
+        commit.close();
+
+        assertThat(((InnerTableScan) table.newScan()).planTasks(10)).isEmpty();
+
+        FileStoreTable distributed = table.copy(options);
+
+        Optional<List<PlanTask>> tasks = ((InnerTableScan) distributed.newScan()).planTasks(10);
+        assertThat(tasks).isPresent();
+        assertThat(tasks.get()).hasSize(3);
+
+        // each manifest file is planned by exactly one task
+        List<String> manifests = new ArrayList<>();
+        for (PlanTask task : tasks.get()) {
+            task.manifests().forEach(manifest -> manifests.add(manifest.fileName()));
+        }
+        assertThat(manifests).doesNotHaveDuplicates().hasSize(5);
+
+        List<Split> splits = new ArrayList<>();
+        for (PlanTask task : tasks.get()) {
+            PlanTask copied = InstantiationUtil.clone(task);
+            assertThat(copied).isEqualTo(task);
+            splits.addAll(((InnerTableScan) distributed.newScan()).planTask(copied).splits());
+        }
+        assertThat(getResult(table.newRead(), splits))
+                .hasSameElementsAs(getResult(table.newRead(), table.newScan().plan().splits()));
+        assertThat(splits).hasSize(5);
+    }
+
+    @Test
+    public void testDistributedPlanWithDeletedFiles() throws Exception {
+        createAppendOnlyTable();
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 5; i++) {
+            write.write(rowData(i % 2, i * 10, i * 100L));
+            commit.commit(i, write.prepareCommit(true, i));
+        }
+        write.close();
+        commit.close();
+
+        // overwriting partition 1 deletes files added by other manifest files
+        BatchWriteBuilder overwriteBuilder =
+                table.newBatchWriteBuilder().withOverwrite(Collections.singletonMap("pt", "1"));
+        try (BatchTableWrite overwrite = overwriteBuilder.newWrite();
+                BatchTableCommit overwriteCommit = overwriteBuilder.newCommit()) {
+            overwrite.write(rowData(1, 50, 500L));
+            overwriteCommit.commit(overwrite.prepareCommit());
+        }
+
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.SCAN_PLAN_DISTRIBUTED_ENABLED.key(), "true");
+        options.put(CoreOptions.SCAN_PLAN_DISTRIBUTED_FILES_PER_TASK.key(), "1");
+        FileStoreTable distributed = table.copy(options);
+
+        Optional<List<PlanTask>> tasks = ((InnerTableScan) distributed.newScan()).planTasks(10);
+        assertThat(tasks).isPresent();
+        assertThat(tasks.get()).hasSizeGreaterThan(1);
+
+        List<Split> splits = new ArrayList<>();
+        for (PlanTask task : tasks.get()) {
+            assertThat(task.deletedEntries()).hasSize(2);
+            PlanTask copied = InstantiationUtil.clone(task);
+            assertThat(copied).isEqualTo(task);
+            splits.addAll(((InnerTableScan) distributed.newScan()).planTask(copied).splits());
+        }
+
+        List<Split> expected = table.newScan().plan().splits();
+        assertThat(dataFileNames(splits)).isEqualTo(dataFileNames(expected));
+        assertThat(getResult(table.newRead(), splits))
+                .containsExactlyInAnyOrderElementsOf(getResult(table.newRead(), expected))
+                .containsExactlyInAnyOrder("+I 0|0|0", "+I 0|20|200", "+I 0|40|400", "+I 1|50|500");
+    }
+
+    private Set<String> dataFileNames(List<Split> splits) {
+        Set<String> fileNames = new HashSet<>();
+        for (Split split : splits) {
+            for (DataFileMeta file : ((DataSplit) split).dataFiles()) {
+                assertThat(fileNames.add(file.fileName())).isTrue();
+            }
+        }
+        return fileNames;
+    }
 }
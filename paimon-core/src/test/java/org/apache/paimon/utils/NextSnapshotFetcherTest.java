@@ -27,11 +27,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+
 import static org.apache.paimon.utils.NextSnapshotFetcher.RANGE_CHECK_INTERVAL;
+import static org.apache.paimon.utils.SnapshotManagerTest.createSnapshotWithMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +67,26 @@ public class NextSnapshotFetcherTest {
         verify(changelogManager, never()).longLivedChangelogExists(anyLong());
     }
 
+    @Test
+    public void testPrefetchNextSnapshots() {
+        // Arrange
+        Snapshot snapshot5 = createSnapshotWithMillis(5, 5000);
+        Snapshot snapshot6 = createSnapshotWithMillis(6, 6000);
+        Snapshot snapshot7 = createSnapshotWithMillis(7, 7000);
+        when(snapshotManager.snapshotExists(5)).thenReturn(true);
+        when(snapshotManager.latestSnapshotId()).thenReturn(10L);
+        when(snapshotManager.tryGetSnapshots(5, 7))
+                .thenReturn(Arrays.asList(snapshot5, snapshot6, snapshot7));
+        fetcher = new NextSnapshotFetcher(snapshotManager, changelogManager, false, 3);
+
+        // Act & Assert
+        assertThat(fetcher.getNextSnapshot(5)).isSameAs(snapshot5);
+        assertThat(fetcher.getNextSnapshot(6)).isSameAs(snapshot6);
+        assertThat(fetcher.getNextSnapshot(7)).isSameAs(snapshot7);
+        verify(snapshotManager, never()).snapshot(anyLong());
+        verify(snapshotManager, times(1)).tryGetSnapshots(anyLong(), anyLong());
+    }
+
     @Test
     public void testGetNextSnapshotFromChangelogManager() {
         // Arrange
@@ -242,6 +242,76 @@ public class SnapshotManagerTest {
         assertThat(snapshotManager.laterOrEqualWatermark(millis + 999)).isNull();
     }
 
+    @Test
+    public void testSummaryIndex() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        Path tablePath = new Path(tempDir.toString());
+        SnapshotManager snapshotManager =
+                new SnapshotManager(localFileIO, tablePath, DEFAULT_MAIN_BRANCH, null, null, 4);
+        // create 10 snapshots
+        for (long i = 1; i <= 10; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 1000, millis + i * 1000);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+            snapshotManager.commitSummary(snapshot);
+        }
+
+        SnapshotSummaryIndex index =
+                new SnapshotSummaryIndex(localFileIO, snapshotManager.snapshotDirectory(), 4);
+        assertThat(localFileIO.exists(index.segmentPath(0))).isTrue();
+        assertThat(localFileIO.exists(index.segmentPath(1))).isTrue();
+        assertThat(localFileIO.exists(index.segmentPath(2))).isFalse();
+        assertThat(index.get(3, 10).timeMillis()).isEqualTo(millis + 3000);
+        assertThat(index.get(9, 10)).isNull();
+
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 3500).id()).isEqualTo(3);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 9500).id()).isEqualTo(9);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 5500).id()).isEqualTo(6);
+        assertThat(snapshotManager.earlierOrEqualWatermark(millis + 7000).id()).isEqualTo(7);
+        assertThat(snapshotManager.laterOrEqualWatermark(millis + 1500).id()).isEqualTo(2);
+
+        // rewrite the snapshots of the second segment, stale summaries should not misdirect the
+        // search even if it ends in a valid segment
+        for (long i = 5; i <= 8; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + 4000 + (i - 4) * 100, millis);
+            localFileIO.overwriteFileUtf8(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 4500).id()).isEqualTo(8);
+
+        // rewrite snapshots without maintaining the index, searching should detect stale summaries
+        for (long i = 1; i <= 10; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 2000, millis + i * 2000);
+            localFileIO.overwriteFileUtf8(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 7000).id()).isEqualTo(3);
+
+        // rollback removes segments containing the rolled back snapshots
+        snapshotManager.rollbackSummaries(5, 10);
+        assertThat(localFileIO.exists(index.segmentPath(0))).isTrue();
+        assertThat(localFileIO.exists(index.segmentPath(1))).isFalse();
+
+        // expiring removes segments containing only expired snapshots
+        snapshotManager.expireSummaries(1, 6);
+        assertThat(localFileIO.exists(index.segmentPath(0))).isFalse();
+    }
+
+    @Test
+    public void testTryGetSnapshots() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager =
+                newSnapshotManager(localFileIO, new Path(tempDir.toString()));
+        for (long i = 1; i <= 10; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 1000);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+        snapshotManager.deleteSnapshot(5);
+
+        assertThat(snapshotManager.tryGetSnapshots(3, 12))
+                .extracting(Snapshot::id)
+                .containsExactly(3L, 4L, 6L, 7L, 8L, 9L, 10L);
+    }
+
     public static Snapshot createSnapshotWithMillis(long id, long millis) {
         return new Snapshot(
                 id,
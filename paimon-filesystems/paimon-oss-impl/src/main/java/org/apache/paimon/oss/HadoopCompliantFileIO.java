@@ -21,6 +21,7 @@ package org.apache.paimon.oss;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PooledVectoredInputStream;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.RemoteIterator;
 import org.apache.paimon.fs.SeekableInputStream;
@@ -48,7 +49,12 @@ public abstract class HadoopCompliantFileIO implements FileIO {
     @Override
     public SeekableInputStream newInputStream(Path path) throws IOException {
         org.apache.hadoop.fs.Path hadoopPath = path(path);
-        return new HadoopSeekableInputStream(getFileSystem(hadoopPath).open(hadoopPath));
+        FileSystem fs = getFileSystem(hadoopPath);
+        // positioned reads of object stores use additional streams to read ranges concurrently
+        return new PooledVectoredInputStream(
+                new HadoopSeekableInputStream(fs.open(hadoopPath)),
+                () -> new HadoopSeekableInputStream(fs.open(hadoopPath)),
+                hadoopPath.toString());
     }
 
     @Override
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.action;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.BatchTableCommit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact manifest files action for Flink. It rewrites the manifests of the latest snapshot in a
+ * new snapshot of kind COMPACT, so that writers can disable {@link
+ * CoreOptions#MANIFEST_MERGE_ON_COMMIT} and leave manifest compaction to a separate job.
+ */
+public class CompactManifestAction extends TableActionBase {
+
+    private static final String COMMIT_USER = "Compact-Manifest-Action-Committer";
+
+    public CompactManifestAction(
+            String databaseName,
+            String tableName,
+            Map<String, String> catalogConfig,
+            Map<String, String> tableConfig) {
+        super(databaseName, tableName, catalogConfig);
+        if (!(table instanceof FileStoreTable)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Only FileStoreTable supports compact_manifest action. The table type is '%s'.",
+                            table.getClass().getName()));
+        }
+        Map<String, String> dynamicOptions = new HashMap<>();
+        dynamicOptions.put(CoreOptions.COMMIT_USER_PREFIX.key(), COMMIT_USER);
+        dynamicOptions.putAll(tableConfig);
+        table = table.copy(dynamicOptions);
+    }
+
+    @Override
+    public void run() throws Exception {
+        try (BatchTableCommit commit = table.newBatchWriteBuilder().newCommit()) {
+            commit.compactManifests();
+        }
+    }
+}
@@ -18,10 +18,12 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.index.BucketAssigner;
 import org.apache.paimon.index.HashBucketAssigner;
 import org.apache.paimon.index.SimpleHashBucketAssigner;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
@@ -50,6 +52,7 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
 
     private transient BucketAssigner assigner;
     private transient PartitionKeyExtractor<T> extractor;
+    private transient IOManager ioManager;
 
     public HashBucketAssignerOperator(
             String commitUser,
@@ -79,19 +82,32 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
         int taskId = RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext());
         long targetRowNum = table.coreOptions().dynamicBucketTargetRowNum();
         Integer maxBucketsNum = table.coreOptions().dynamicBucketMaxBuckets();
-        this.assigner =
-                overwrite
-                        ? new SimpleHashBucketAssigner(
-                                numberTasks, taskId, targetRowNum, maxBucketsNum)
-                        : new HashBucketAssigner(
-                                table.snapshotManager(),
-                                commitUser,
-                                table.store().newIndexFileHandler(),
-                                numberTasks,
-                                MathUtils.min(numAssigners, numberTasks),
-                                taskId,
-                                targetRowNum,
-                                maxBucketsNum);
+        if (overwrite) {
+            this.assigner =
+                    new SimpleHashBucketAssigner(numberTasks, taskId, targetRowNum, maxBucketsNum);
+        } else {
+            HashBucketAssigner hashAssigner =
+                    new HashBucketAssigner(
+                            table.snapshotManager(),
+                            commitUser,
+                            table.store().newIndexFileHandler(),
+                            numberTasks,
+                            MathUtils.min(numAssigners, numberTasks),
+                            taskId,
+                            targetRowNum,
+                            maxBucketsNum);
+            MemorySize indexMemory = table.coreOptions().dynamicBucketAssignerIndexMemory();
+            if (indexMemory != null) {
+                this.ioManager =
+                        IOManager.create(
+                                getContainingTask()
+                                        .getEnvironment()
+                                        .getIOManager()
+                                        .getSpillingDirectoriesPaths());
+                hashAssigner.withPagedIndex(ioManager, indexMemory);
+            }
+            this.assigner = hashAssigner;
+        }
         this.extractor = extractorFunction.apply(table.schema());
     }
 
@@ -108,4 +124,15 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (assigner != null) {
+            assigner.close();
+        }
+        if (ioManager != null) {
+            ioManager.close();
+        }
+    }
 }
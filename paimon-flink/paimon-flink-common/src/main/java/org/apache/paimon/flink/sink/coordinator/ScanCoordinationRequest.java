@@ -23,22 +23,25 @@ import org.apache.flink.runtime.operators.coordination.CoordinationRequest;
 /** Write request to initial data files for partition and bucket. */
 public class ScanCoordinationRequest implements CoordinationRequest {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private final byte[] partition;
     private final int bucket;
     private final boolean scanDynamicBucketIndex;
     private final boolean scanDeleteVectorsIndex;
+    private final boolean scanPrimaryKeyIndex;
 
     public ScanCoordinationRequest(
             byte[] partition,
             int bucket,
             boolean scanDynamicBucketIndex,
-            boolean scanDeleteVectorsIndex) {
+            boolean scanDeleteVectorsIndex,
+            boolean scanPrimaryKeyIndex) {
         this.partition = partition;
         this.bucket = bucket;
         this.scanDynamicBucketIndex = scanDynamicBucketIndex;
         this.scanDeleteVectorsIndex = scanDeleteVectorsIndex;
+        this.scanPrimaryKeyIndex = scanPrimaryKeyIndex;
     }
 
     public byte[] partition() {
@@ -56,4 +59,8 @@ public class ScanCoordinationRequest implements CoordinationRequest {
     public boolean scanDeleteVectorsIndex() {
         return scanDeleteVectorsIndex;
     }
+
+    public boolean scanPrimaryKeyIndex() {
+        return scanPrimaryKeyIndex;
+    }
 }
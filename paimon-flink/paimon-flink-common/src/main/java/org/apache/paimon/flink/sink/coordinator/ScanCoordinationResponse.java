@@ -35,20 +35,22 @@ import java.util.List;
 /** Write response to initial data files for partition and bucket. */
 public class ScanCoordinationResponse implements CoordinationResponse {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 3L;
 
     @Nullable private final Snapshot snapshot;
     @Nullable private final Integer totalBuckets;
     @Nullable private final List<byte[]> dataFiles;
-    @Nullable private final byte[] dynamicBucketIndex;
+    @Nullable private final List<byte[]> dynamicBucketIndex;
     @Nullable private final List<byte[]> deleteVectorsIndex;
+    @Nullable private final byte[] primaryKeyIndex;
 
     public ScanCoordinationResponse(
             @Nullable Snapshot snapshot,
             @Nullable Integer totalBuckets,
             @Nullable List<DataFileMeta> dataFiles,
-            @Nullable IndexFileMeta dynamicBucketIndex,
-            @Nullable List<IndexFileMeta> deleteVectorsIndex)
+            @Nullable List<IndexFileMeta> dynamicBucketIndex,
+            @Nullable List<IndexFileMeta> deleteVectorsIndex,
+            @Nullable IndexFileMeta primaryKeyIndex)
             throws IOException {
         this.snapshot = snapshot;
         this.totalBuckets = totalBuckets;
@@ -63,21 +65,40 @@ public class ScanCoordinationResponse implements CoordinationResponse {
             this.dataFiles = null;
         }
 
-        IndexFileMetaSerializer indexSerializer = new IndexFileMetaSerializer();
-        if (dynamicBucketIndex != null) {
-            this.dynamicBucketIndex = indexSerializer.serializeToBytes(dynamicBucketIndex);
-        } else {
-            this.dynamicBucketIndex = null;
+        this.dynamicBucketIndex = serializeIndexFiles(dynamicBucketIndex);
+        this.deleteVectorsIndex = serializeIndexFiles(deleteVectorsIndex);
+        this.primaryKeyIndex =
+                primaryKeyIndex == null
+                        ? null
+                        : new IndexFileMetaSerializer().serializeToBytes(primaryKeyIndex);
+    }
+
+    @Nullable
+    private static List<byte[]> serializeIndexFiles(@Nullable List<IndexFileMeta> indexFiles)
+            throws IOException {
+        if (indexFiles == null) {
+            return null;
+        }
+        IndexFileMetaSerializer serializer = new IndexFileMetaSerializer();
+        List<byte[]> result = new ArrayList<>(indexFiles.size());
+        for (IndexFileMeta indexFile : indexFiles) {
+            result.add(serializer.serializeToBytes(indexFile));
         }
+        return result;
+    }
 
-        if (deleteVectorsIndex != null) {
-            this.deleteVectorsIndex = new ArrayList<>(deleteVectorsIndex.size());
-            for (IndexFileMeta indexFile : deleteVectorsIndex) {
-                this.deleteVectorsIndex.add(indexSerializer.serializeToBytes(indexFile));
-            }
-        } else {
-            this.deleteVectorsIndex = null;
+    @Nullable
+    private static List<IndexFileMeta> deserializeIndexFiles(@Nullable List<byte[]> indexFiles)
+            throws IOException {
+        if (indexFiles == null) {
+            return null;
         }
+        IndexFileMetaSerializer serializer = new IndexFileMetaSerializer();
+        List<IndexFileMeta> metas = new ArrayList<>(indexFiles.size());
+        for (byte[] file : indexFiles) {
+            metas.add(serializer.deserializeFromBytes(file));
+        }
+        return metas;
     }
 
     @Nullable
@@ -104,23 +125,20 @@ public class ScanCoordinationResponse implements CoordinationResponse {
     }
 
     @Nullable
-    public IndexFileMeta extractDynamicBucketIndex() throws IOException {
-        if (dynamicBucketIndex == null) {
-            return null;
-        }
-        return new IndexFileMetaSerializer().deserializeFromBytes(dynamicBucketIndex);
+    public List<IndexFileMeta> extractDynamicBucketIndex() throws IOException {
+        return deserializeIndexFiles(dynamicBucketIndex);
     }
 
     @Nullable
     public List<IndexFileMeta> extractDeletionVectorsIndex() throws IOException {
-        if (deleteVectorsIndex == null) {
+        return deserializeIndexFiles(deleteVectorsIndex);
+    }
+
+    @Nullable
+    public IndexFileMeta extractPrimaryKeyIndex() throws IOException {
+        if (primaryKeyIndex == null) {
             return null;
         }
-        IndexFileMetaSerializer serializer = new IndexFileMetaSerializer();
-        List<IndexFileMeta> metas = new ArrayList<>(deleteVectorsIndex.size());
-        for (byte[] file : deleteVectorsIndex) {
-            metas.add(serializer.deserializeFromBytes(file));
-        }
-        return metas;
+        return new IndexFileMetaSerializer().deserializeFromBytes(primaryKeyIndex);
     }
 }
@@ -43,6 +43,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 import static org.apache.paimon.utils.InstantiationUtil.deserializeObject;
 import static org.apache.paimon.utils.InstantiationUtil.serializeObject;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
@@ -99,7 +100,8 @@ public class TableWriteCoordinator {
             throws IOException {
         if (snapshot == null) {
             return new PagedCoordinationResponse(
-                    serializeObject(new ScanCoordinationResponse(null, null, null, null, null)),
+                    serializeObject(
+                            new ScanCoordinationResponse(null, null, null, null, null, null)),
                     null);
         }
 
@@ -142,7 +144,7 @@ public class TableWriteCoordinator {
     public synchronized ScanCoordinationResponse scan(ScanCoordinationRequest request)
             throws IOException {
         if (snapshot == null) {
-            return new ScanCoordinationResponse(null, null, null, null, null);
+            return new ScanCoordinationResponse(null, null, null, null, null, null);
         }
 
         BinaryRow partition = deserializeBinaryRow(request.partition());
@@ -152,10 +154,9 @@ public class TableWriteCoordinator {
         List<ManifestEntry> entries = scan.withPartitionBucket(partition, bucket).plan().files();
         Integer totalBuckets = WriteRestore.extractDataFiles(entries, restoreFiles);
 
-        IndexFileMeta dynamicBucketIndex = null;
+        List<IndexFileMeta> dynamicBucketIndex = null;
         if (request.scanDynamicBucketIndex()) {
-            dynamicBucketIndex =
-                    indexFileHandler.scanHashIndex(snapshot, partition, bucket).orElse(null);
+            dynamicBucketIndex = indexFileHandler.scan(snapshot, HASH_INDEX, partition, bucket);
         }
 
         List<IndexFileMeta> deleteVectorsIndex = null;
@@ -164,8 +165,19 @@ public class TableWriteCoordinator {
                     indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
         }
 
+        IndexFileMeta primaryKeyIndex = null;
+        if (request.scanPrimaryKeyIndex()) {
+            primaryKeyIndex =
+                    indexFileHandler.scanPrimaryKeyIndex(snapshot, partition, bucket).orElse(null);
+        }
+
         return new ScanCoordinationResponse(
-                snapshot, totalBuckets, restoreFiles, dynamicBucketIndex, deleteVectorsIndex);
+                snapshot,
+                totalBuckets,
+                restoreFiles,
+                dynamicBucketIndex,
+                deleteVectorsIndex,
+                primaryKeyIndex);
     }
 
     public synchronized long latestCommittedIdentifier(String user) {
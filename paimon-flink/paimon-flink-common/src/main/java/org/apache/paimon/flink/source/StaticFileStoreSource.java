@@ -21,11 +21,12 @@ package org.apache.paimon.flink.source;
 import org.apache.paimon.flink.NestedProjectedRowData;
 import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.source.assigners.FIFOSplitAssigner;
+import org.apache.paimon.flink.source.assigners.PlanTaskSplitAssigner;
 import org.apache.paimon.flink.source.assigners.PreAssignSplitAssigner;
 import org.apache.paimon.flink.source.assigners.SplitAssigner;
 import org.apache.paimon.table.source.InnerTableScan;
+import org.apache.paimon.table.source.PlanTask;
 import org.apache.paimon.table.source.ReadBuilder;
-import org.apache.paimon.table.source.TableScan;
 
 import org.apache.flink.api.connector.source.Boundedness;
 import org.apache.flink.api.connector.source.SplitEnumerator;
@@ -34,7 +35,9 @@ import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import javax.annotation.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.apache.paimon.flink.FlinkConnectorOptions.SplitAssignMode;
 
@@ -79,23 +82,41 @@ public class StaticFileStoreSource extends FlinkSource {
     public SplitEnumerator<FileStoreSourceSplit, PendingSplitsCheckpoint> restoreEnumerator(
             SplitEnumeratorContext<FileStoreSourceSplit> context,
             PendingSplitsCheckpoint checkpoint) {
-        Collection<FileStoreSourceSplit> splits =
-                checkpoint == null ? getSplits(context) : checkpoint.splits();
         SplitAssigner splitAssigner =
-                createSplitAssigner(context, splitBatchSize, splitAssignMode, splits);
+                checkpoint == null
+                        ? createSplitAssigner(context)
+                        : createSplitAssigner(
+                                context, splitBatchSize, splitAssignMode, checkpoint.splits());
         return new StaticFileStoreSplitEnumerator(
                 context, null, splitAssigner, dynamicPartitionFilteringInfo);
     }
 
-    private List<FileStoreSourceSplit> getSplits(SplitEnumeratorContext context) {
+    private SplitAssigner createSplitAssigner(
+            SplitEnumeratorContext<FileStoreSourceSplit> context) {
         FileStoreSourceSplitGenerator splitGenerator = new FileStoreSourceSplitGenerator();
-        TableScan scan = readBuilder.newScan();
+        InnerTableScan scan = (InnerTableScan) readBuilder.newScan();
         // register scan metrics
         if (context.metricGroup() != null) {
-            ((InnerTableScan) scan)
-                    .withMetricRegistry(new FlinkMetricRegistry(context.metricGroup()));
+            scan.withMetricRegistry(new FlinkMetricRegistry(context.metricGroup()));
         }
-        return splitGenerator.createSplits(scan.plan());
+
+        Optional<List<PlanTask>> tasks = scan.planTasks(Integer.MAX_VALUE);
+        if (!tasks.isPresent()) {
+            return createSplitAssigner(
+                    context,
+                    splitBatchSize,
+                    splitAssignMode,
+                    splitGenerator.createSplits(scan.plan()));
+        }
+
+        // tasks are planned when readers request splits, so that the enumerator does not hold
+        // the splits of the whole plan
+        return new PlanTaskSplitAssigner(
+                createSplitAssigner(
+                        context, splitBatchSize, splitAssignMode, Collections.emptyList()),
+                tasks.get(),
+                task -> splitGenerator.createSplits(scan.planTask(task)),
+                context.currentParallelism());
     }
 
     public static SplitAssigner createSplitAssigner(
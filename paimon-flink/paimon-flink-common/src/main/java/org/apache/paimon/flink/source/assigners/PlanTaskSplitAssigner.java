@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source.assigners;
+
+import org.apache.paimon.flink.source.FileStoreSourceSplit;
+import org.apache.paimon.table.source.PlanTask;
+
+import javax.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * A {@link SplitAssigner} which plans the {@link PlanTask}s of a distributed plan lazily. A task is
+ * only planned when the inner assigner has no more splits for the requesting subtask, and its
+ * splits are handed to that subtask, so the enumerator only holds the splits of the tasks planned
+ * but not yet consumed instead of the whole plan.
+ */
+public class PlanTaskSplitAssigner implements SplitAssigner {
+
+    private final SplitAssigner innerAssigner;
+    private final Queue<PlanTask> pendingTasks;
+    private final Function<PlanTask, List<FileStoreSourceSplit>> planner;
+    private final int parallelism;
+
+    public PlanTaskSplitAssigner(
+            SplitAssigner innerAssigner,
+            List<PlanTask> tasks,
+            Function<PlanTask, List<FileStoreSourceSplit>> planner,
+            int parallelism) {
+        this.innerAssigner = innerAssigner;
+        this.pendingTasks = new LinkedList<>(tasks);
+        this.planner = planner;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public List<FileStoreSourceSplit> getNext(int subtask, @Nullable String hostname) {
+        List<FileStoreSourceSplit> splits = innerAssigner.getNext(subtask, hostname);
+        while (splits.isEmpty() && !pendingTasks.isEmpty()) {
+            for (FileStoreSourceSplit split : planner.apply(pendingTasks.poll())) {
+                innerAssigner.addSplit(subtask, split);
+            }
+            splits = innerAssigner.getNext(subtask, hostname);
+        }
+        return splits;
+    }
+
+    @Override
+    public void addSplit(int suggestedTask, FileStoreSourceSplit split) {
+        innerAssigner.addSplit(suggestedTask, split);
+    }
+
+    @Override
+    public void addSplitsBack(int subtask, List<FileStoreSourceSplit> splits) {
+        innerAssigner.addSplitsBack(subtask, splits);
+    }
+
+    @Override
+    public Collection<FileStoreSourceSplit> remainingSplits() {
+        // checkpoints only contain splits, so all pending tasks are planned
+        int subtask = 0;
+        while (!pendingTasks.isEmpty()) {
+            for (FileStoreSourceSplit split : planner.apply(pendingTasks.poll())) {
+                innerAssigner.addSplit(subtask, split);
+                subtask = (subtask + 1) % parallelism;
+            }
+        }
+        return innerAssigner.remainingSplits();
+    }
+
+    @Override
+    public Optional<Long> getNextSnapshotId(int subtask) {
+        return innerAssigner.getNextSnapshotId(subtask);
+    }
+
+    /** The splits of pending tasks are not counted, as they are unknown before planning. */
+    @Override
+    public int numberOfRemainingSplits() {
+        return innerAssigner.numberOfRemainingSplits();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.action;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** IT cases for {@link CompactManifestAction}. */
+public class CompactManifestActionITCase extends ActionITCaseBase {
+
+    private static final DataType[] FIELD_TYPES =
+            new DataType[] {DataTypes.BIGINT(), DataTypes.STRING()};
+
+    private static final RowType ROW_TYPE = RowType.of(FIELD_TYPES, new String[] {"k", "v"});
+
+    @Test
+    public void testCompactManifest() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        ROW_TYPE,
+                        Collections.emptyList(),
+                        Collections.singletonList("k"),
+                        Collections.emptyList(),
+                        Collections.singletonMap(
+                                CoreOptions.MANIFEST_MERGE_ON_COMMIT.key(), "false"));
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder().withCommitUser(commitUser);
+        write = writeBuilder.newWrite();
+        commit = writeBuilder.newCommit();
+
+        for (long i = 0; i < 5; i++) {
+            writeData(rowData(i, BinaryString.fromString("v" + i)));
+        }
+
+        ManifestList manifestList = table.store().manifestListFactory().create();
+        Snapshot before = table.snapshotManager().latestSnapshot();
+        assertThat(before.id()).isEqualTo(5);
+        // manifests are not merged by the commits
+        assertThat(manifestList.readDataManifests(before)).hasSize(5);
+
+        createAction(
+                        CompactManifestAction.class,
+                        "compact_manifest",
+                        "--warehouse",
+                        warehouse,
+                        "--database",
+                        database,
+                        "--table",
+                        tableName)
+                .run();
+
+        Snapshot after = table.snapshotManager().latestSnapshot();
+        assertThat(after.id()).isEqualTo(6);
+        assertThat(after.commitKind()).isEqualTo(Snapshot.CommitKind.COMPACT);
+        assertThat(manifestList.readDataManifests(after)).hasSize(1);
+        assertThat(manifestList.readDeltaManifests(after)).isEmpty();
+        assertThat(after.totalRecordCount()).isEqualTo(before.totalRecordCount());
+        assertThat(getData(tableName)).hasSize(5);
+    }
+}
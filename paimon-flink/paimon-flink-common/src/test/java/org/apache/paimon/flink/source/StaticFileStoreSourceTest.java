@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.FileStoreTableFactory;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.DataTypes;
+
+import org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link StaticFileStoreSource}. */
+public class StaticFileStoreSourceTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testDistributedPlanReadsEachManifestOnce() throws Exception {
+        ManifestCountingFileIO fileIO = new ManifestCountingFileIO();
+        int numCommits = 4;
+        FileStoreTable table = createTable(fileIO, numCommits);
+        fileIO.manifestReads.clear();
+
+        StaticFileStoreSource source =
+                new StaticFileStoreSource(
+                        table.newReadBuilder(),
+                        null,
+                        1,
+                        FlinkConnectorOptions.SplitAssignMode.FAIR);
+        StaticFileStoreSplitEnumerator enumerator =
+                (StaticFileStoreSplitEnumerator)
+                        source.restoreEnumerator(new TestingSplitEnumeratorContext<>(1), null);
+
+        assertThat(
+                        enumerator.snapshotState(1L).splits().stream()
+                                .mapToInt(split -> ((DataSplit) split.split()).dataFiles().size())
+                                .sum())
+                .isEqualTo(numCommits);
+        assertThat(fileIO.manifestReads).hasSize(numCommits);
+        assertThat(fileIO.manifestReads.values()).allMatch(count -> count.get() == 1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(FlinkConnectorOptions.SplitAssignMode.class)
+    public void testDistributedPlanIsPlannedOnSplitRequests(
+            FlinkConnectorOptions.SplitAssignMode splitAssignMode) throws Exception {
+        ManifestCountingFileIO fileIO = new ManifestCountingFileIO();
+        int numCommits = 4;
+        FileStoreTable table = createTable(fileIO, numCommits);
+        fileIO.manifestReads.clear();
+
+        StaticFileStoreSource source =
+                new StaticFileStoreSource(table.newReadBuilder(), null, 1, splitAssignMode);
+        TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(2);
+        context.registerReader(0, "test-host");
+        context.registerReader(1, "test-host");
+        StaticFileStoreSplitEnumerator enumerator =
+                (StaticFileStoreSplitEnumerator) source.restoreEnumerator(context, null);
+
+        // no task is planned before readers request splits
+        assertThat(fileIO.manifestReads).isEmpty();
+
+        for (int i = 0; i < numCommits; i++) {
+            enumerator.handleSplitRequest(i % 2, "test-host");
+            assertThat(fileIO.manifestReads).hasSize(i + 1);
+        }
+        enumerator.handleSplitRequest(0, "test-host");
+        enumerator.handleSplitRequest(1, "test-host");
+
+        Map<Integer, TestingSplitEnumeratorContext.SplitAssignmentState<FileStoreSourceSplit>>
+                assignments = context.getSplitAssignments();
+        List<FileStoreSourceSplit> assigned = new ArrayList<>();
+        for (int subtask = 0; subtask < 2; subtask++) {
+            assertThat(assignments.get(subtask).getAssignedSplits()).hasSize(numCommits / 2);
+            assertThat(assignments.get(subtask).hasReceivedNoMoreSplitsSignal()).isTrue();
+            assigned.addAll(assignments.get(subtask).getAssignedSplits());
+        }
+        assertThat(assigned.stream().map(FileStoreSourceSplit::splitId)).doesNotHaveDuplicates();
+        assertThat(dataFileNames(assigned.stream().map(FileStoreSourceSplit::split)))
+                .containsExactlyInAnyOrderElementsOf(
+                        dataFileNames(table.newReadBuilder().newScan().plan().splits().stream()));
+        assertThat(fileIO.manifestReads.values()).allMatch(count -> count.get() == 1);
+    }
+
+    private List<String> dataFileNames(Stream<Split> splits) {
+        return splits.flatMap(split -> ((DataSplit) split).dataFiles().stream())
+                .map(DataFileMeta::fileName)
+                .collect(Collectors.toList());
+    }
+
+    private FileStoreTable createTable(FileIO fileIO, int numCommits) throws Exception {
+        Path tablePath = new Path(tempDir.toString());
+        TableSchema tableSchema =
+                new SchemaManager(fileIO, tablePath)
+                        .createTable(
+                                Schema.newBuilder()
+                                        .column("a", DataTypes.INT())
+                                        .column("b", DataTypes.BIGINT())
+                                        .option(
+                                                CoreOptions.SCAN_PLAN_DISTRIBUTED_ENABLED.key(),
+                                                "true")
+                                        .option(
+                                                CoreOptions.SCAN_PLAN_DISTRIBUTED_FILES_PER_TASK
+                                                        .key(),
+                                                "1")
+                                        .build());
+        FileStoreTable table = FileStoreTableFactory.create(fileIO, tablePath, tableSchema);
+
+        try (StreamTableWrite write = table.newWrite("test");
+                StreamTableCommit commit = table.newCommit("test")) {
+            for (int i = 0; i < numCommits; i++) {
+                write.write(GenericRow.of(i, (long) i));
+                commit.commit(i, write.prepareCommit(false, i));
+            }
+        }
+        return table;
+    }
+
+    /** A {@link LocalFileIO} which counts how often each manifest file is opened. */
+    private static class ManifestCountingFileIO extends LocalFileIO {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, AtomicInteger> manifestReads = new ConcurrentHashMap<>();
+
+        @Override
+        public SeekableInputStream newInputStream(Path path) throws IOException {
+            String name = path.getName();
+            if (name.startsWith("manifest-") && !name.startsWith("manifest-list-")) {
+                manifestReads.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+            }
+            return super.newInputStream(path);
+        }
+    }
+}
@@ -192,6 +192,7 @@ public class TestChangelogDataReadWrite {
                         null, // not used, we only create an empty writer
                         null,
                         null,
+                        null,
                         options,
                         EXTRACTOR,
                         tablePath.getName());
@@ -128,6 +128,8 @@ public class RecordReaderImpl implements RecordReader {
     // identifies whether the file has bad bloom filters that we should not use.
     private final boolean skipBloomFilters;
     @Nullable private final RoaringBitmap32 selection;
+    // row number of the first row of the last batch
+    private long batchFirstRowNumber;
 
     static final String[] BAD_CPP_BLOOM_FILTER_VERSIONS = {
         "1.6.0", "1.6.1", "1.6.2", "1.6.3", "1.6.4", "1.6.5", "1.6.6", "1.6.7", "1.6.8", "1.6.9",
@@ -275,6 +277,11 @@ public class RecordReaderImpl implements RecordReader {
             sargApp.setRowIndexCols(rowIndexCols);
         } else {
             sargApp = null;
+            if (selection != null && rowIndexStride > 0) {
+                // row groups are picked by the selection only, the row indexes are still needed
+                // to seek to the picked row groups, reading them for the root column is enough
+                rowIndexCols[0] = true;
+            }
         }
 
         long rows = 0;
@@ -1372,9 +1379,13 @@ public class RecordReaderImpl implements RecordReader {
                 }
                 result[rowGroup] = sarg.evaluate(leafValues).isNeeded();
                 if (selection != null) {
-                    long firstRow = rowBaseInStripe + rowIndexStride * rowGroup;
-                    long lastRow = Math.min(firstRow + rowIndexStride, firstRow + rowsInStripe);
-                    result[rowGroup] &= selection.intersects(firstRow, lastRow);
+                    result[rowGroup] &=
+                            rowGroupSelected(
+                                    selection,
+                                    rowBaseInStripe,
+                                    rowsInStripe,
+                                    rowIndexStride,
+                                    rowGroup);
                 }
                 hasSelected = hasSelected || result[rowGroup];
                 hasSkipped = hasSkipped || (!result[rowGroup]);
@@ -1413,14 +1424,26 @@ public class RecordReaderImpl implements RecordReader {
      * @throws IOException
      */
     protected boolean[] pickRowGroups() throws IOException {
+        StripeInformation stripe = stripes.get(currentStripe);
+        if (selection != null
+                && rowIndexStride > 0
+                && !selection.intersects(
+                        rowBaseInStripe, rowBaseInStripe + stripe.getNumberOfRows())) {
+            // skip the whole stripe without reading its row indexes
+            return new boolean[rowGroupCount(stripe.getNumberOfRows(), rowIndexStride)];
+        }
+
         // Read the Row Indicies if required
         if (rowIndexColsToRead != null) {
             readCurrentStripeRowIndex();
         }
 
-        // In the absence of SArg all rows groups should be included
+        // In the absence of SArg all rows groups should be included, except the ones without
+        // selected rows
         if (sargApp == null) {
-            return null;
+            return selection == null || rowIndexStride <= 0
+                    ? SargApplier.READ_ALL_RGS
+                    : pickRowGroupsBySelection(stripe.getNumberOfRows());
         }
         return sargApp.pickRowGroups(
                 stripes.get(currentStripe),
@@ -1433,6 +1456,33 @@ public class RecordReaderImpl implements RecordReader {
                 selection);
     }
 
+    private boolean[] pickRowGroupsBySelection(long rowsInStripe) {
+        boolean[] result = new boolean[rowGroupCount(rowsInStripe, rowIndexStride)];
+        boolean hasSkipped = false;
+        for (int rowGroup = 0; rowGroup < result.length; rowGroup++) {
+            result[rowGroup] =
+                    rowGroupSelected(
+                            selection, rowBaseInStripe, rowsInStripe, rowIndexStride, rowGroup);
+            hasSkipped = hasSkipped || !result[rowGroup];
+        }
+        return hasSkipped ? result : SargApplier.READ_ALL_RGS;
+    }
+
+    private static int rowGroupCount(long rowsInStripe, long rowIndexStride) {
+        return (int) ((rowsInStripe + rowIndexStride - 1) / rowIndexStride);
+    }
+
+    private static boolean rowGroupSelected(
+            RoaringBitmap32 selection,
+            long rowBaseInStripe,
+            long rowsInStripe,
+            long rowIndexStride,
+            int rowGroup) {
+        long firstRow = rowBaseInStripe + rowIndexStride * rowGroup;
+        long lastRow = Math.min(firstRow + rowIndexStride, rowBaseInStripe + rowsInStripe);
+        return selection.intersects(firstRow, lastRow);
+    }
+
     private void clearStreams() {
         planner.clearStreams();
     }
@@ -1574,6 +1624,7 @@ public class RecordReaderImpl implements RecordReader {
                     followRowInStripe = rowInStripe;
                 }
 
+                batchFirstRowNumber = getRowNumber();
                 batchSize = computeBatchSize(batch.getMaxSize());
                 reader.setVectorColumnCount(batch.getDataColumnCount());
                 reader.nextBatch(batch, batchSize, startReadPhase);
@@ -1740,6 +1791,15 @@ public class RecordReaderImpl implements RecordReader {
         return rowInStripe + rowBaseInStripe + firstRow;
     }
 
+    /**
+     * Returns the row number of the first row of the batch last read by {@link #nextBatch}. The
+     * batch holds consecutive rows starting from it, if the selected vector is in use, the row
+     * number of a selected row is this plus its index in the batch.
+     */
+    public long getBatchFirstRowNumber() {
+        return batchFirstRowNumber;
+    }
+
     /**
      * Return the fraction of rows that have been read from the selected. section of the file
      *
@@ -55,7 +55,6 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
-import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
 import static org.apache.paimon.format.OrcOptions.ORC_TIMESTAMP_LTZ_LEGACY_TYPE;
 
 /** Orc {@link FileFormat}. */
@@ -69,7 +68,6 @@ public class OrcFileFormat extends FileFormat {
     private final org.apache.hadoop.conf.Configuration writerConf;
     private final int readBatchSize;
     private final int writeBatchSize;
-    private final boolean deletionVectorsEnabled;
     private final boolean legacyTimestampLtzType;
 
     public OrcFileFormat(FormatContext formatContext) {
@@ -81,7 +79,6 @@ public class OrcFileFormat extends FileFormat {
         this.orcProperties.forEach((k, v) -> writerConf.set(k.toString(), v.toString()));
         this.readBatchSize = formatContext.readBatchSize();
         this.writeBatchSize = formatContext.writeBatchSize();
-        this.deletionVectorsEnabled = formatContext.options().get(DELETION_VECTORS_ENABLED);
         this.legacyTimestampLtzType = formatContext.options().get(ORC_TIMESTAMP_LTZ_LEGACY_TYPE);
     }
 
@@ -121,7 +118,6 @@ public class OrcFileFormat extends FileFormat {
                 (RowType) refineDataType(projectedRowType),
                 orcPredicates,
                 readBatchSize,
-                deletionVectorsEnabled,
                 legacyTimestampLtzType);
     }
 
@@ -35,6 +35,7 @@ import org.apache.paimon.reader.RecordReader.RecordIterator;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.LongIterator;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.Pool;
 import org.apache.paimon.utils.RoaringBitmap32;
@@ -68,7 +69,6 @@ public class OrcReaderFactory implements FormatReaderFactory {
     protected final RowType tableType;
     protected final List<OrcFilters.Predicate> conjunctPredicates;
     protected final int batchSize;
-    protected final boolean deletionVectorsEnabled;
     protected final boolean legacyTimestampLtzType;
 
     /**
@@ -81,14 +81,12 @@ public class OrcReaderFactory implements FormatReaderFactory {
             final RowType readType,
             final List<OrcFilters.Predicate> conjunctPredicates,
             final int batchSize,
-            final boolean deletionVectorsEnabled,
             final boolean legacyTimestampLtzType) {
         this.hadoopConfig = checkNotNull(hadoopConfig);
         this.schema = convertToOrcSchema(readType);
         this.tableType = readType;
         this.conjunctPredicates = checkNotNull(conjunctPredicates);
         this.batchSize = batchSize;
-        this.deletionVectorsEnabled = deletionVectorsEnabled;
         this.legacyTimestampLtzType = legacyTimestampLtzType;
     }
 
@@ -103,7 +101,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         : 1;
         Pool<OrcReaderBatch> poolOfBatches = createPoolOfBatches(context.filePath(), poolSize);
 
-        RecordReader orcReader =
+        RecordReaderImpl orcReader =
                 createRecordReader(
                         hadoopConfig,
                         schema,
@@ -112,8 +110,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         context.filePath(),
                         0,
                         context.fileSize(),
-                        context.selection(),
-                        deletionVectorsEnabled);
+                        context.selection());
         return new OrcVectorizedReader(orcReader, poolOfBatches);
     }
 
@@ -193,11 +190,21 @@ public class OrcReaderFactory implements FormatReaderFactory {
         }
 
         private ColumnarRowIterator convertAndGetIterator(
-                VectorizedRowBatch orcBatch, long rowNumber) {
+                VectorizedRowBatch orcBatch, long firstRowNumber) {
             // no copying from the ORC column vectors to the Paimon columns vectors necessary,
             // because they point to the same data arrays internally design
             paimonColumnBatch.setNumRows(orcBatch.size);
-            result.reset(rowNumber);
+            if (orcBatch.selectedInUse) {
+                // rows are filtered by the search argument, vectors map rows to selected ones
+                long[] positions = new long[orcBatch.size];
+                int[] selected = orcBatch.getSelected();
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = firstRowNumber + selected[i];
+                }
+                result.reset(LongIterator.fromArray(positions));
+            } else {
+                result.reset(firstRowNumber);
+            }
             return result;
         }
     }
@@ -214,15 +221,16 @@ public class OrcReaderFactory implements FormatReaderFactory {
      * OrcReaderBatch} implementation.
      *
      * <p>The reader tracks its current position using ORC's <i>row numbers</i>. Each record in a
-     * batch is addressed by the starting row number of the batch, plus the number of records to be
-     * skipped before.
+     * batch is addressed by the starting row number of the batch, plus its index in the batch
+     * before rows are filtered by the selected vector.
      */
     private static final class OrcVectorizedReader implements FileRecordReader<InternalRow> {
 
-        private final RecordReader orcReader;
+        private final RecordReaderImpl orcReader;
         private final Pool<OrcReaderBatch> pool;
 
-        private OrcVectorizedReader(final RecordReader orcReader, final Pool<OrcReaderBatch> pool) {
+        private OrcVectorizedReader(
+                final RecordReaderImpl orcReader, final Pool<OrcReaderBatch> pool) {
             this.orcReader = checkNotNull(orcReader, "orcReader");
             this.pool = checkNotNull(pool, "pool");
         }
@@ -233,13 +241,12 @@ public class OrcReaderFactory implements FormatReaderFactory {
             final OrcReaderBatch batch = getCachedEntry();
             final VectorizedRowBatch orcVectorBatch = batch.orcVectorizedRowBatch();
 
-            long rowNumber = orcReader.getRowNumber();
             if (!nextBatch(orcReader, orcVectorBatch)) {
                 batch.recycle();
                 return null;
             }
 
-            return batch.convertAndGetIterator(orcVectorBatch, rowNumber);
+            return batch.convertAndGetIterator(orcVectorBatch, orcReader.getBatchFirstRowNumber());
         }
 
         @Override
@@ -257,7 +264,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
         }
     }
 
-    private static RecordReader createRecordReader(
+    private static RecordReaderImpl createRecordReader(
             org.apache.hadoop.conf.Configuration conf,
             TypeDescription schema,
             List<OrcFilters.Predicate> conjunctPredicates,
@@ -265,8 +272,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
             org.apache.paimon.fs.Path path,
             long splitStart,
             long splitLength,
-            @Nullable RoaringBitmap32 selection,
-            boolean deletionVectorsEnabled)
+            @Nullable RoaringBitmap32 selection)
             throws IOException {
         org.apache.orc.Reader orcReader = createReader(conf, fileIO, path, selection);
         try {
@@ -283,9 +289,9 @@ public class OrcReaderFactory implements FormatReaderFactory {
                             .skipCorruptRecords(OrcConf.SKIP_CORRUPT_DATA.getBoolean(conf))
                             .tolerateMissingSchema(
                                     OrcConf.TOLERATE_MISSING_SCHEMA.getBoolean(conf));
-            if (!conjunctPredicates.isEmpty() && !deletionVectorsEnabled && selection == null) {
-                // row group filter push down will make row number change incorrect
-                // so deletion vectors mode and bitmap index cannot work with row group push down
+            if (!conjunctPredicates.isEmpty()) {
+                // row numbers of filtered rows are tracked by the selected vector, so this also
+                // works with deletion vectors and bitmap indexes
                 options.useSelected(OrcConf.READER_USE_SELECTED.getBoolean(conf));
                 options.allowSARGToFilter(OrcConf.ALLOW_SARG_TO_FILTER.getBoolean(conf));
             }
@@ -301,7 +307,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
             }
 
             // create ORC row reader
-            RecordReader orcRowsReader = orcReader.rows(options);
+            RecordReaderImpl orcRowsReader = (RecordReaderImpl) orcReader.rows(options);
 
             // assign ids
             schema.getId();
@@ -41,6 +41,11 @@ public class OrcDecimalColumnVector extends AbstractOrcColumnVector
     @Override
     public Decimal getDecimal(int i, int precision, int scale) {
         i = rowMapper(i);
+        if (Decimal.isCompact(precision)) {
+            // avoid creating a BigDecimal for decimals which fit in a long
+            long unscaled = vector.vector[i].serialize64(scale);
+            return Decimal.fromUnscaledLong(unscaled, precision, scale);
+        }
         BigDecimal data = vector.vector[i].getHiveDecimal().bigDecimalValue();
         return Decimal.fromBigDecimal(data, precision, scale);
     }
@@ -24,10 +24,13 @@ import org.apache.paimon.format.FileFormatFactory.FormatContext;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.SimpleStatsExtractor;
+import org.apache.paimon.format.parquet.writer.AdaptiveColumnEncodings;
 import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.predicate.PredicateReplaceVisitor;
 import org.apache.paimon.statistics.SimpleColStatsCollector;
 import org.apache.paimon.types.RowType;
 
@@ -36,8 +39,11 @@ import org.apache.parquet.hadoop.ParquetOutputFormat;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.paimon.format.parquet.ParquetFileFormatFactory.IDENTIFIER;
 
@@ -47,11 +53,15 @@ public class ParquetFileFormat extends FileFormat {
     private final Options options;
     private final int readBatchSize;
 
+    /** Encodings chosen from the first file written for each schema, shared by later files. */
+    private final Map<RowType, AdaptiveColumnEncodings> adaptiveEncodings;
+
     public ParquetFileFormat(FormatContext formatContext) {
         super(IDENTIFIER);
 
         this.options = getParquetConfiguration(formatContext);
         this.readBatchSize = formatContext.readBatchSize();
+        this.adaptiveEncodings = new ConcurrentHashMap<>();
     }
 
     @VisibleForTesting
@@ -65,12 +75,43 @@ public class ParquetFileFormat extends FileFormat {
             RowType projectedRowType,
             @Nullable List<Predicate> filters) {
         return new ParquetReaderFactory(
-                options, projectedRowType, readBatchSize, ParquetFilters.convert(filters));
+                options,
+                projectedRowType,
+                readBatchSize,
+                ParquetFilters.convert(filters),
+                lateMaterializationFilter(projectedRowType, filters));
+    }
+
+    @Nullable
+    private Predicate lateMaterializationFilter(
+            RowType projectedRowType, @Nullable List<Predicate> filters) {
+        if (filters == null
+                || filters.isEmpty()
+                || !options.get(ParquetOptions.PARQUET_LATE_MATERIALIZATION_ENABLED)) {
+            return null;
+        }
+
+        // filters may refer to fields by their indexes in the table schema, map them by names
+        PredicateReplaceVisitor visitor =
+                leaf -> {
+                    int index = projectedRowType.getFieldIndex(leaf.fieldName());
+                    return index < 0 ? Optional.empty() : Optional.of(leaf.copyWithNewIndex(index));
+                };
+        List<Predicate> projected = new ArrayList<>();
+        for (Predicate filter : filters) {
+            filter.visit(visitor).ifPresent(projected::add);
+        }
+        return projected.isEmpty() ? null : PredicateBuilder.and(projected);
     }
 
     @Override
     public FormatWriterFactory createWriterFactory(RowType type) {
-        return new ParquetWriterFactory(new RowDataParquetBuilder(type, options));
+        AdaptiveColumnEncodings encodings =
+                options.get(ParquetOptions.PARQUET_ADAPTIVE_ENCODING_ENABLED)
+                        ? adaptiveEncodings.computeIfAbsent(
+                                type, t -> new AdaptiveColumnEncodings())
+                        : null;
+        return new ParquetWriterFactory(new RowDataParquetBuilder(type, options, encodings));
     }
 
     @Override
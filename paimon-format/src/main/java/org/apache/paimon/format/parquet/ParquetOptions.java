@@ -31,4 +31,37 @@ public class ParquetOptions {
                     .noDefaultValue()
                     .withDescription(
                             "Specify the variant shredding schema for writing parquet files.");
+
+    public static final ConfigOption<Boolean> PARQUET_LATE_MATERIALIZATION_ENABLED =
+            key("parquet.late-materialization.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to decode the filter columns first when reading parquet "
+                                    + "files, and skip decoding the other columns of batches "
+                                    + "without matching rows.");
+
+    public static final ConfigOption<Boolean> PARQUET_READ_PREFETCH_ENABLED =
+            key("parquet.read.prefetch.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the column chunks of the next row group "
+                                    + "asynchronously while the current row group is decoded. "
+                                    + "Only takes effect for file systems supporting vectored "
+                                    + "reads, it is meant for object stores like S3, OSS and GCS "
+                                    + "with high latency per request. The prefetched row group is "
+                                    + "held in memory in addition to the current one.");
+
+    public static final ConfigOption<Boolean> PARQUET_ADAPTIVE_ENCODING_ENABLED =
+            key("parquet.adaptive-encoding.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to choose the encoding of each column from the first row "
+                                    + "group written. Columns falling back from dictionary "
+                                    + "encoding are written without dictionary in the following "
+                                    + "files of the writer, float and double columns of them with "
+                                    + "BYTE_STREAM_SPLIT encoding. Explicit per-column settings "
+                                    + "take precedence.");
 }
@@ -21,10 +21,12 @@ package org.apache.paimon.format.parquet;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.parquet.reader.VectorizedParquetRecordReader;
 import org.apache.paimon.format.parquet.type.ParquetField;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataField;
@@ -49,6 +51,8 @@ import org.apache.parquet.schema.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -75,12 +79,25 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private final int batchSize;
     private final FilterCompat.Filter filter;
 
+    /** Filter on the fields of the read type for late materialization. */
+    @Nullable private final Predicate lateMaterializationFilter;
+
     public ParquetReaderFactory(
             Options conf, RowType readType, int batchSize, FilterCompat.Filter filter) {
+        this(conf, readType, batchSize, filter, null);
+    }
+
+    public ParquetReaderFactory(
+            Options conf,
+            RowType readType,
+            int batchSize,
+            FilterCompat.Filter filter,
+            @Nullable Predicate lateMaterializationFilter) {
         this.conf = conf;
         this.readFields = readType.getFields().toArray(new DataField[0]);
         this.batchSize = batchSize;
         this.filter = filter;
+        this.lateMaterializationFilter = lateMaterializationFilter;
     }
 
     @Override
@@ -110,13 +127,20 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         reader.setRequestedSchema(requestedSchema);
         RowType[] shreddingSchemas =
                 VariantUtils.extractShreddingSchemasFromParquetSchema(readFields, fileSchema);
-        WritableColumnVector[] writableVectors = createWritableVectors();
+        WritableColumnVector[] writableVectors = createWritableVectors(context.vectorFactory());
 
         MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(requestedSchema);
         List<ParquetField> fields = buildFieldsList(readFields, columnIO, shreddingSchemas);
 
         return new VectorizedParquetRecordReader(
-                context.filePath(), reader, fileSchema, fields, writableVectors, batchSize);
+                context.filePath(),
+                reader,
+                fileSchema,
+                fields,
+                writableVectors,
+                batchSize,
+                lateMaterializationFilter,
+                context.selection());
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -136,6 +160,9 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         if (badRecordThresh != null) {
             builder.set(BAD_RECORD_THRESHOLD_CONF_KEY, badRecordThresh);
         }
+        builder.set(
+                ParquetOptions.PARQUET_READ_PREFETCH_ENABLED.key(),
+                String.valueOf(conf.get(ParquetOptions.PARQUET_READ_PREFETCH_ENABLED)));
         builder.withRecordFilter(filter);
     }
 
@@ -231,10 +258,16 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         }
     }
 
-    private WritableColumnVector[] createWritableVectors() {
+    private WritableColumnVector[] createWritableVectors(
+            @Nullable WritableColumnVectorFactory vectorFactory) {
         WritableColumnVector[] columns = new WritableColumnVector[readFields.length];
         for (int i = 0; i < readFields.length; i++) {
-            columns[i] = createWritableColumnVector(batchSize, readFields[i].type());
+            WritableColumnVector column =
+                    vectorFactory == null ? null : vectorFactory.create(readFields[i], batchSize);
+            columns[i] =
+                    column == null
+                            ? createWritableColumnVector(batchSize, readFields[i].type())
+                            : column;
         }
         return columns;
     }
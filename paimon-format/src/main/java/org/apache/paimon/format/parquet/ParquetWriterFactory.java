@@ -50,6 +50,6 @@ public class ParquetWriterFactory implements FormatWriterFactory {
     public FormatWriter create(PositionOutputStream stream, String compression) throws IOException {
         final OutputFile out = new StreamOutputFile(stream);
         final ParquetWriter<InternalRow> writer = writerBuilder.createWriter(out, compression);
-        return new ParquetBulkWriter(writer);
+        return new ParquetBulkWriter(writer, writerBuilder::onWriterClosed);
     }
 }
@@ -32,6 +32,8 @@ import org.apache.paimon.data.columnar.writable.WritableIntVector;
 import org.apache.paimon.data.columnar.writable.WritableLongVector;
 import org.apache.paimon.format.parquet.ParquetSchemaConverter;
 
+import javax.annotation.Nullable;
+
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /**
@@ -113,6 +115,12 @@ public class ParquetDecimalVector
         return vector.hasDictionary();
     }
 
+    @Nullable
+    @Override
+    public Dictionary getDictionary() {
+        return vector.getDictionary();
+    }
+
     @Override
     public WritableIntVector reserveDictionaryIds(int capacity) {
         return vector.reserveDictionaryIds(capacity);
@@ -28,6 +28,11 @@ import java.util.PrimitiveIterator;
 public class RowIndexGenerator {
 
     private LongIterator rowIndexIterator;
+    private long[] rowIndexes;
+
+    public RowIndexGenerator(int batchSize) {
+        this.rowIndexes = new long[batchSize];
+    }
 
     public void initFromPageReadStore(PageReadStore pageReadStore) {
         long startingRowIdx = pageReadStore.getRowIndexOffset().orElse(0L);
@@ -52,7 +57,17 @@ public class RowIndexGenerator {
         }
     }
 
-    public void populateRowIndex(ColumnarBatch columnarBatch) {
-        columnarBatch.resetPositions(rowIndexIterator);
+    /**
+     * Returns the row indexes of the next `numRows` rows. The returned array is reused by the next
+     * call and may be longer than `numRows`.
+     */
+    public long[] next(int numRows) {
+        if (rowIndexes.length < numRows) {
+            rowIndexes = new long[numRows];
+        }
+        for (int i = 0; i < numRows; i++) {
+            rowIndexes[i] = rowIndexIterator.next();
+        }
+        return rowIndexes;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.reader;
+
+import org.apache.paimon.data.columnar.writable.WritableDoubleVector;
+import org.apache.paimon.data.columnar.writable.WritableFloatVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+import org.apache.paimon.data.columnar.writable.WritableLongVector;
+
+import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.io.ParquetDecodingException;
+
+import java.io.IOException;
+
+/**
+ * An implementation of the Parquet BYTE_STREAM_SPLIT decoder that supports the vectorized
+ * interface. BYTE_STREAM_SPLIT stores the k-th byte of all values of a page in the k-th stream, it
+ * is used for 4 and 8 bytes wide values.
+ */
+public class VectorizedByteStreamSplitReader extends VectorizedReaderBase {
+
+    private final int width;
+
+    private byte[] data;
+    private int valueCount;
+    private int currentValue;
+
+    VectorizedByteStreamSplitReader(int width) {
+        this.width = width;
+    }
+
+    @Override
+    public void initFromPage(int valueCount, ByteBufferInputStream in) throws IOException {
+        int length = (int) in.available();
+        if (length % width != 0) {
+            throw new ParquetDecodingException(
+                    "Invalid BYTE_STREAM_SPLIT page of " + length + " bytes for width " + width);
+        }
+        this.data = new byte[length];
+        in.slice(length).get(data);
+        this.valueCount = length / width;
+        this.currentValue = 0;
+    }
+
+    @Override
+    public int readInteger() {
+        return (int) nextValue();
+    }
+
+    @Override
+    public long readLong() {
+        return nextValue();
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat((int) nextValue());
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(nextValue());
+    }
+
+    @Override
+    public void readIntegers(int total, WritableIntVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setInt(rowId + i, (int) nextValue());
+        }
+    }
+
+    @Override
+    public void readLongs(int total, WritableLongVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setLong(rowId + i, nextValue());
+        }
+    }
+
+    @Override
+    public void readFloats(int total, WritableFloatVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setFloat(rowId + i, Float.intBitsToFloat((int) nextValue()));
+        }
+    }
+
+    @Override
+    public void readDoubles(int total, WritableDoubleVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setDouble(rowId + i, Double.longBitsToDouble(nextValue()));
+        }
+    }
+
+    @Override
+    public void skipIntegers(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipLongs(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipFloats(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipDoubles(int total) {
+        skipValues(total);
+    }
+
+    private long nextValue() {
+        if (currentValue >= valueCount) {
+            throw new ParquetDecodingException("No more values to read.");
+        }
+        long bits = 0;
+        for (int k = 0; k < width; k++) {
+            bits |= (data[k * valueCount + currentValue] & 0xFFL) << (k * 8);
+        }
+        currentValue++;
+        return bits;
+    }
+
+    private void skipValues(int total) {
+        if (currentValue + total > valueCount) {
+            throw new ParquetDecodingException("No more values to skip.");
+        }
+        currentValue += total;
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.paimon.format.parquet.reader;
 
 import org.apache.paimon.data.columnar.BooleanColumnVector;
 import org.apache.paimon.data.columnar.BytesColumnVector;
-import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.DoubleColumnVector;
 import org.apache.paimon.data.columnar.FloatColumnVector;
 import org.apache.paimon.data.columnar.IntColumnVector;
@@ -47,6 +46,8 @@ import org.apache.parquet.column.values.RequiresPreviousReader;
 import org.apache.parquet.column.values.ValuesReader;
 import org.apache.parquet.schema.PrimitiveType;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BOOLEAN;
@@ -56,6 +57,12 @@ public class VectorizedColumnReader {
     /** The dictionary, if this column has dictionary encoding. */
     private final Dictionary dictionary;
 
+    /**
+     * The dictionary exposed to column vectors. It is shared by all batches of the column chunk, so
+     * that consumers can cache results per dictionary id across batches.
+     */
+    @Nullable private final ParquetDictionary parquetDictionary;
+
     /** If true, the current page is dictionary encoded. */
     private boolean isCurrentPageDictionaryEncoded;
 
@@ -108,6 +115,7 @@ public class VectorizedColumnReader {
             this.dictionary = null;
             this.isCurrentPageDictionaryEncoded = false;
         }
+        this.parquetDictionary = dictionary == null ? null : new ParquetDictionary(dictionary);
         if (pageReader.getTotalValueCount() == 0) {
             throw new IOException("totalValueCount == 0");
         }
@@ -115,7 +123,10 @@ public class VectorizedColumnReader {
     }
 
     private boolean isLazyDecodingSupported(
-            PrimitiveType.PrimitiveTypeName typeName, ColumnVector columnVector) {
+            PrimitiveType.PrimitiveTypeName typeName, WritableColumnVector columnVector) {
+        if (!columnVector.supportsDictionary()) {
+            return false;
+        }
         boolean isSupported = false;
         switch (typeName) {
             case INT32:
@@ -204,7 +215,7 @@ public class VectorizedColumnReader {
                 if (column.hasDictionary()
                         || (startRowId == pageFirstRowIndex
                                 && isLazyDecodingSupported(typeName, column))) {
-                    column.setDictionary(new ParquetDictionary(dictionary));
+                    column.setDictionary(parquetDictionary);
                 } else {
                     updater.decodeDictionaryIds(
                             readState.valueOffset - startOffset,
@@ -240,6 +251,30 @@ public class VectorizedColumnReader {
         }
     }
 
+    /**
+     * Skips `total` rows of this columnReader without decoding their values, it is only supported
+     * for non-repeated top level columns.
+     */
+    void skipBatch(int total, DataType type) throws IOException {
+        ParquetVectorUpdater updater = ParquetVectorUpdaterFactory.getUpdater(descriptor, type);
+        ParquetVectorUpdater dictionaryIdsUpdater =
+                new ParquetVectorUpdaterFactory.IntegerUpdater();
+        readState.resetForNewBatch(total);
+        while (readState.rowsToReadInBatch > 0) {
+            if (readState.valuesToReadInPage == 0) {
+                int pageValueCount = readPage();
+                if (pageValueCount < 0) {
+                    break;
+                }
+                readState.resetForNewPage(pageValueCount, pageFirstRowIndex);
+            }
+            defColumn.skipBatch(
+                    readState,
+                    (VectorizedValuesReader) dataColumn,
+                    isCurrentPageDictionaryEncoded ? dictionaryIdsUpdater : updater);
+        }
+    }
+
     private int readPage() {
         DataPage page = pageReader.readPage();
         if (page == null) {
@@ -317,6 +352,25 @@ public class VectorizedColumnReader {
                 return new VectorizedDeltaLengthByteArrayReader();
             case DELTA_BINARY_PACKED:
                 return new VectorizedDeltaBinaryPackedReader();
+            case BYTE_STREAM_SPLIT:
+                {
+                    PrimitiveType.PrimitiveTypeName typeName =
+                            this.descriptor.getPrimitiveType().getPrimitiveTypeName();
+                    switch (typeName) {
+                        case INT32:
+                        case FLOAT:
+                            return new VectorizedByteStreamSplitReader(4);
+                        case INT64:
+                        case DOUBLE:
+                            return new VectorizedByteStreamSplitReader(8);
+                        default:
+                            throw new RuntimeException(
+                                    "error: _LEGACY_ERROR_TEMP_3189, encoding: "
+                                            + encoding
+                                            + ", typeName: "
+                                            + typeName);
+                    }
+                }
             case RLE:
                 {
                     PrimitiveType.PrimitiveTypeName typeName =
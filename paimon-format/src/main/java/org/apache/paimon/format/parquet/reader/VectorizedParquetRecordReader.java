@@ -30,6 +30,10 @@ import org.apache.paimon.data.columnar.writable.WritableColumnVector;
 import org.apache.paimon.format.parquet.type.ParquetField;
 import org.apache.paimon.format.parquet.type.ParquetPrimitiveField;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.predicate.ColumnarPredicateEvaluator;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -37,6 +41,9 @@ import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.MapType;
 import org.apache.paimon.types.MultisetType;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.LongIterator;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.parquet.VersionParser;
 import org.apache.parquet.column.ColumnDescriptor;
@@ -58,7 +65,19 @@ import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
-/** Record reader for parquet. */
+/**
+ * Record reader for parquet.
+ *
+ * <p>If a filter is given, the reader does late materialization: columns referenced by the filter
+ * are decoded first, and the other non-repeated top level columns of a batch are only decoded if at
+ * least one row of the batch matches the filter. Otherwise the whole batch is skipped. Filters on
+ * dictionary encoded string columns are evaluated once per dictionary value, see {@link
+ * ColumnarPredicateEvaluator}.
+ *
+ * <p>If a selection of row positions is given, for example from deletion vectors or bitmap indexes,
+ * rows out of the selection never match the filter, and batches without selected rows are skipped
+ * without decoding if all columns can be skipped.
+ */
 public class VectorizedParquetRecordReader implements FileRecordReader<InternalRow> {
 
     private ParquetFileReader reader;
@@ -89,26 +108,48 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
     private final Path filePath;
     private final MessageType fileSchema;
     private final List<ParquetField> fields;
+    private final WritableColumnVector[] vectors;
     private final RowIndexGenerator rowIndexGenerator;
 
     private Set<ParquetField> missingColumns;
     private VersionParser.ParsedVersion writerVersion;
 
+    /** The filter for late materialization, null if late materialization is not applied. */
+    @Nullable private Predicate filter;
+
+    /** Whether a column is decoded only when some rows of the batch match {@link #filter}. */
+    private boolean[] lazyColumns;
+
+    private ColumnarPredicateEvaluator filterEvaluator;
+
+    /** Ids of rows in the current batch to be evaluated by {@link #filterEvaluator}. */
+    private int[] filterRowIds;
+
+    /** Selected row positions, rows out of it can be skipped. */
+    @Nullable private final RoaringBitmap32 selection;
+
+    /** Whether all columns can be skipped without decoding. */
+    private boolean allColumnsSkippable;
+
     public VectorizedParquetRecordReader(
             Path filePath,
             ParquetFileReader reader,
             MessageType fileSchema,
             List<ParquetField> fields,
             WritableColumnVector[] vectors,
-            int batchSize)
+            int batchSize,
+            @Nullable Predicate filter,
+            @Nullable RoaringBitmap32 selection)
             throws IOException {
         this.filePath = filePath;
         this.reader = reader;
         this.fileSchema = fileSchema;
         this.fields = fields;
+        this.vectors = vectors;
         this.totalRowCount = reader.getFilteredRecordCount();
         this.batchSize = batchSize;
-        this.rowIndexGenerator = new RowIndexGenerator();
+        this.rowIndexGenerator = new RowIndexGenerator(batchSize);
+        this.selection = selection;
 
         // fetch writer version from file metadata
         try {
@@ -122,6 +163,58 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         checkMissingColumns();
         // Initialize the columnarBatch and columnVectors,
         initBatch(vectors);
+        initLateMaterialization(filter);
+    }
+
+    private void initLateMaterialization(@Nullable Predicate filter) {
+        allColumnsSkippable = true;
+        for (ParquetField field : fields) {
+            allColumnsSkippable &= missingColumns.contains(field) || isSkippable(field);
+        }
+
+        lazyColumns = new boolean[fields.size()];
+        if (filter == null) {
+            return;
+        }
+
+        Set<Integer> filterColumns = new HashSet<>();
+        collectFieldIndexes(filter, filterColumns);
+        boolean hasLazyColumn = false;
+        for (int i = 0; i < fields.size(); i++) {
+            ParquetField field = fields.get(i);
+            if (!filterColumns.contains(i)
+                    && !missingColumns.contains(field)
+                    && isSkippable(field)) {
+                lazyColumns[i] = true;
+                hasLazyColumn = true;
+            }
+        }
+
+        if (hasLazyColumn) {
+            this.filter = filter;
+            this.filterEvaluator =
+                    new ColumnarPredicateEvaluator(filter, columnarBatch.vectorizedColumnBatch);
+            this.filterRowIds = new int[batchSize];
+        } else {
+            Arrays.fill(lazyColumns, false);
+        }
+    }
+
+    /** Only non-repeated top level primitive columns support skipping rows without decoding. */
+    private static boolean isSkippable(ParquetField field) {
+        return field.isPrimitive()
+                && field.getRepetitionLevel() == 0
+                && !field.variantFileType().isPresent();
+    }
+
+    private static void collectFieldIndexes(Predicate predicate, Set<Integer> indexes) {
+        if (predicate instanceof CompoundPredicate) {
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                collectFieldIndexes(child, indexes);
+            }
+        } else {
+            indexes.add(((LeafPredicate) predicate).index());
+        }
     }
 
     private void initBatch(WritableColumnVector[] vectors) {
@@ -255,34 +348,37 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
 
     public boolean nextBatch() throws IOException {
         try {
-            if (rowsReturned >= totalRowCount) {
-                return false;
-            }
-            for (ParquetColumnVector vector : columnVectors) {
-                vector.reset();
-            }
-            columnarBatch.setNumRows(0);
-            checkEndOfRowGroup();
-
-            int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
-            for (ParquetColumnVector cv : columnVectors) {
-                for (ParquetColumnVector leafCv : cv.getLeaves()) {
-                    VectorizedColumnReader columnReader = leafCv.getColumnReader();
-                    if (columnReader != null) {
-                        columnReader.readBatch(
-                                num,
-                                leafCv.getColumn().getType(),
-                                leafCv.getValueVector(),
-                                leafCv.getRepetitionLevelVector(),
-                                leafCv.getDefinitionLevelVector());
+            while (rowsReturned < totalRowCount) {
+                for (ParquetColumnVector vector : columnVectors) {
+                    vector.reset();
+                }
+                columnarBatch.setNumRows(0);
+                checkEndOfRowGroup();
+
+                int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
+                long[] rowIndexes = rowIndexGenerator.next(num);
+                rowsReturned += num;
+                if (allColumnsSkippable && !anyRowSelected(rowIndexes, num)) {
+                    skipColumns(num, false);
+                    skipColumns(num, true);
+                    continue;
+                }
+
+                readColumns(num, false);
+                if (filter != null) {
+                    columnarBatch.setNumRows(num);
+                    if (!anyRowMatches(rowIndexes, num)) {
+                        skipColumns(num, true);
+                        continue;
                     }
+                    readColumns(num, true);
                 }
-                cv.assemble();
+
+                columnarBatch.setNumRows(num);
+                columnarBatch.resetPositions(LongIterator.fromArray(rowIndexes));
+                return true;
             }
-            rowsReturned += num;
-            columnarBatch.setNumRows(num);
-            rowIndexGenerator.populateRowIndex(columnarBatch);
-            return true;
+            return false;
         } catch (IOException e) {
             throw new IOException(
                     format(
@@ -298,6 +394,60 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         }
     }
 
+    /** Reads `num` rows of the lazy columns or of the other columns. */
+    private void readColumns(int num, boolean lazy) throws IOException {
+        for (int i = 0; i < columnVectors.length; i++) {
+            if (lazyColumns[i] != lazy) {
+                continue;
+            }
+            ParquetColumnVector cv = columnVectors[i];
+            for (ParquetColumnVector leafCv : cv.getLeaves()) {
+                VectorizedColumnReader columnReader = leafCv.getColumnReader();
+                if (columnReader != null) {
+                    columnReader.readBatch(
+                            num,
+                            leafCv.getColumn().getType(),
+                            leafCv.getValueVector(),
+                            leafCv.getRepetitionLevelVector(),
+                            leafCv.getDefinitionLevelVector());
+                }
+            }
+            cv.assemble();
+        }
+    }
+
+    private boolean anyRowSelected(long[] rowIndexes, int num) {
+        if (selection == null) {
+            return true;
+        }
+        for (int i = 0; i < num; i++) {
+            if (selection.contains((int) rowIndexes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean anyRowMatches(long[] rowIndexes, int num) {
+        int size = 0;
+        for (int i = 0; i < num; i++) {
+            if (selection == null || selection.contains((int) rowIndexes[i])) {
+                filterRowIds[size++] = i;
+            }
+        }
+        return size > 0 && filterEvaluator.filter(filterRowIds, size) > 0;
+    }
+
+    /** Skips `num` rows of the lazy columns or of the other columns. */
+    private void skipColumns(int num, boolean lazy) throws IOException {
+        for (int i = 0; i < columnVectors.length; i++) {
+            ParquetColumnVector cv = columnVectors[i];
+            if (lazyColumns[i] == lazy && cv.getColumnReader() != null) {
+                cv.getColumnReader().skipBatch(num, cv.getColumn().getType());
+            }
+        }
+    }
+
     private void checkEndOfRowGroup() throws IOException {
         if (rowsReturned != totalCountLoadedSoFar) {
             return;
@@ -353,5 +503,11 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
             reader.close();
             reader = null;
         }
+        // vectors created by a WritableColumnVectorFactory may hold off-heap buffers
+        for (WritableColumnVector vector : vectors) {
+            if (vector instanceof AutoCloseable) {
+                IOUtils.closeQuietly((AutoCloseable) vector);
+            }
+        }
     }
 }
@@ -294,6 +294,50 @@ public final class VectorizedRleValuesReader extends ValuesReader
         state.rowId = rowId;
     }
 
+    /**
+     * Skips the next {@code state.rowsToReadInBatch} rows of a non-repeated column without decoding
+     * them, rows out of the row ranges in 'state' are not counted like in {@link #readBatch}.
+     */
+    public void skipBatch(
+            ParquetReadState state,
+            VectorizedValuesReader valueReader,
+            ParquetVectorUpdater updater) {
+        long rowId = state.rowId;
+        int leftInBatch = state.rowsToReadInBatch;
+        int leftInPage = state.valuesToReadInPage;
+
+        while (leftInBatch > 0 && leftInPage > 0) {
+            if (currentCount == 0 && !readNextGroup()) {
+                break;
+            }
+            int n = Math.min(leftInBatch, Math.min(leftInPage, this.currentCount));
+
+            long rangeStart = state.currentRangeStart();
+            long rangeEnd = state.currentRangeEnd();
+
+            if (rowId + n < rangeStart) {
+                skipValues(n, state, valueReader, updater);
+                rowId += n;
+                leftInPage -= n;
+            } else if (rowId > rangeEnd) {
+                state.nextRange();
+            } else {
+                // skip the part [rowId, start) out of the range and the part [start, end] in it
+                long start = Math.max(rangeStart, rowId);
+                long end = Math.min(rangeEnd, rowId + n - 1);
+                n = (int) (end - rowId + 1);
+                skipValues(n, state, valueReader, updater);
+                leftInBatch -= (int) (end - start + 1);
+                rowId += n;
+                leftInPage -= n;
+            }
+        }
+
+        state.rowsToReadInBatch = leftInBatch;
+        state.valuesToReadInPage = leftInPage;
+        state.rowId = rowId;
+    }
+
     private void readBatchInternalWithDefLevels(
             ParquetReadState state,
             WritableColumnVector values,
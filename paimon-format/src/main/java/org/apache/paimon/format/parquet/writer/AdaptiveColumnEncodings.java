@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.writer;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+
+import org.apache.parquet.column.EncodingStats;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodings of Parquet columns chosen from the first row group written, and applied to the
+ * following files of the same writer.
+ *
+ * <p>A column which falls back from dictionary encoding in the first row group has too many
+ * distinct values, building its dictionary again for every row group is wasted work. Dictionary
+ * encoding is disabled for such columns. Float and double columns are then written with
+ * BYTE_STREAM_SPLIT, the other columns with the fallback encoding of the writer version, that is
+ * DELTA_BINARY_PACKED or DELTA_BYTE_ARRAY for v2 and PLAIN for v1.
+ */
+public class AdaptiveColumnEncodings implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Nullable private volatile Map<String, ColumnEncoding> encodings;
+
+    /** Applies the chosen encodings to the builder, nothing is applied before the first file. */
+    public void applyTo(ParquetWriter.Builder<?, ?> builder) {
+        Map<String, ColumnEncoding> encodings = this.encodings;
+        if (encodings == null) {
+            return;
+        }
+
+        encodings.forEach(
+                (path, encoding) -> {
+                    builder.withDictionaryEncoding(path, encoding == ColumnEncoding.DICTIONARY);
+                    if (encoding == ColumnEncoding.BYTE_STREAM_SPLIT) {
+                        builder.withByteStreamSplitEncoding(path, true);
+                    }
+                });
+    }
+
+    /** Chooses the encodings from the first row group of a written file, if not chosen yet. */
+    public void learn(ParquetMetadata footer) {
+        if (encodings != null || footer.getBlocks().isEmpty()) {
+            return;
+        }
+
+        BlockMetaData firstRowGroup = footer.getBlocks().get(0);
+        Map<String, ColumnEncoding> chosen = new HashMap<>();
+        for (ColumnChunkMetaData column : firstRowGroup.getColumns()) {
+            EncodingStats encodingStats = column.getEncodingStats();
+            Statistics<?> statistics = column.getStatistics();
+            if (encodingStats == null
+                    || statistics == null
+                    || statistics.getNumNulls() >= column.getValueCount()) {
+                // nothing learned from a column without values
+                continue;
+            }
+            chosen.put(
+                    column.getPath().toDotString(),
+                    choose(column.getPrimitiveType().getPrimitiveTypeName(), encodingStats));
+        }
+
+        synchronized (this) {
+            if (encodings == null) {
+                encodings = Collections.unmodifiableMap(chosen);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Map<String, ColumnEncoding> encodings() {
+        return encodings;
+    }
+
+    private static ColumnEncoding choose(PrimitiveTypeName type, EncodingStats encodingStats) {
+        if (encodingStats.hasDictionaryEncodedPages()
+                && !encodingStats.hasNonDictionaryEncodedPages()) {
+            return ColumnEncoding.DICTIONARY;
+        }
+
+        switch (type) {
+            case FLOAT:
+            case DOUBLE:
+                return ColumnEncoding.BYTE_STREAM_SPLIT;
+            default:
+                return ColumnEncoding.FALLBACK;
+        }
+    }
+
+    /** Encoding chosen for a column. */
+    public enum ColumnEncoding {
+        DICTIONARY,
+        BYTE_STREAM_SPLIT,
+        FALLBACK
+    }
+}
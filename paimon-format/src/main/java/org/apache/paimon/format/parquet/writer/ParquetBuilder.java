@@ -19,6 +19,7 @@
 package org.apache.paimon.format.parquet.writer;
 
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.io.OutputFile;
 
 import java.io.IOException;
@@ -34,4 +35,7 @@ public interface ParquetBuilder<T> extends Serializable {
 
     /** Creates and configures a parquet writer to the given output file. */
     ParquetWriter<T> createWriter(OutputFile out, String compression) throws IOException;
+
+    /** Notified with the footer of a file after its writer is closed. */
+    default void onWriterClosed(ParquetMetadata footer) {}
 }
@@ -22,8 +22,10 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FormatWriter;
 
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
@@ -33,13 +35,22 @@ public class ParquetBulkWriter implements FormatWriter {
     /** The ParquetWriter to write to. */
     private final ParquetWriter<InternalRow> parquetWriter;
 
+    /** Consumes the footer of the file after the writer is closed. */
+    private final Consumer<ParquetMetadata> footerConsumer;
+
     /**
      * Creates a new ParquetBulkWriter wrapping the given ParquetWriter.
      *
      * @param parquetWriter The ParquetWriter to write to.
      */
     public ParquetBulkWriter(ParquetWriter<InternalRow> parquetWriter) {
+        this(parquetWriter, footer -> {});
+    }
+
+    public ParquetBulkWriter(
+            ParquetWriter<InternalRow> parquetWriter, Consumer<ParquetMetadata> footerConsumer) {
         this.parquetWriter = checkNotNull(parquetWriter, "parquetWriter");
+        this.footerConsumer = footerConsumer;
     }
 
     @Override
@@ -50,6 +61,7 @@ public class ParquetBulkWriter implements FormatWriter {
     @Override
     public void close() throws IOException {
         parquetWriter.close();
+        footerConsumer.accept(parquetWriter.getFooter());
     }
 
     @Override
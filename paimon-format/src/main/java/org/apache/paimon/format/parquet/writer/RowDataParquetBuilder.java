@@ -28,8 +28,11 @@ import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.hadoop.ParquetOutputFormat;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.io.OutputFile;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 
 /** A {@link ParquetBuilder} for {@link InternalRow}. */
@@ -37,11 +40,18 @@ public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
 
     private final RowType rowType;
     private final Configuration conf;
+    @Nullable private final AdaptiveColumnEncodings adaptiveEncodings;
 
     public RowDataParquetBuilder(RowType rowType, Options options) {
+        this(rowType, options, null);
+    }
+
+    public RowDataParquetBuilder(
+            RowType rowType, Options options, @Nullable AdaptiveColumnEncodings adaptiveEncodings) {
         this.rowType = rowType;
         this.conf = new Configuration(false);
         options.toMap().forEach(conf::set);
+        this.adaptiveEncodings = adaptiveEncodings;
     }
 
     @Override
@@ -86,7 +96,19 @@ public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
                         .withBloomFilterEnabled(
                                 conf.getBoolean(
                                         ParquetOutputFormat.BLOOM_FILTER_ENABLED,
-                                        ParquetProperties.DEFAULT_BLOOM_FILTER_ENABLED));
+                                        ParquetProperties.DEFAULT_BLOOM_FILTER_ENABLED))
+                        .withColumnIndexTruncateLength(
+                                conf.getInt(
+                                        ParquetOutputFormat.COLUMN_INDEX_TRUNCATE_LENGTH,
+                                        ParquetProperties.DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH))
+                        .withStatisticsTruncateLength(
+                                conf.getInt(
+                                        ParquetOutputFormat.STATISTICS_TRUNCATE_LENGTH,
+                                        ParquetProperties.DEFAULT_STATISTICS_TRUNCATE_LENGTH));
+        if (adaptiveEncodings != null) {
+            // applied before the per-column settings, so that explicit settings take precedence
+            adaptiveEncodings.applyTo(builder);
+        }
         new ColumnConfigParser()
                 .withColumnConfig(
                         ParquetOutputFormat.ENABLE_DICTIONARY,
@@ -108,6 +130,13 @@ public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
         return builder.build();
     }
 
+    @Override
+    public void onWriterClosed(ParquetMetadata footer) {
+        if (adaptiveEncodings != null) {
+            adaptiveEncodings.learn(footer);
+        }
+    }
+
     public String getCompression(String compression) {
         return conf.get("parquet.compression", compression);
     }
@@ -19,6 +19,8 @@
 package org.apache.parquet.filter2.predicate;
 
 import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.predicate.FieldRef;
 import org.apache.paimon.predicate.FunctionVisitor;
 import org.apache.paimon.predicate.Predicate;
@@ -28,6 +30,8 @@ import org.apache.paimon.types.BinaryType;
 import org.apache.paimon.types.BlobType;
 import org.apache.paimon.types.BooleanType;
 import org.apache.paimon.types.CharType;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeChecks;
 import org.apache.paimon.types.DataTypeVisitor;
 import org.apache.paimon.types.DateType;
 import org.apache.paimon.types.DecimalType;
@@ -53,6 +57,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is32BitDecimal;
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is64BitDecimal;
+
 /** Convert {@link Predicate} to {@link FilterCompat.Filter}. */
 public class ParquetFilters {
 
@@ -94,32 +101,35 @@ public class ParquetFilters {
 
         @Override
         public FilterPredicate visitLessThan(FieldRef fieldRef, Object literal) {
-            return new Operators.Lt(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.Lt(toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
         public FilterPredicate visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
-            return new Operators.GtEq(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.GtEq(
+                    toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
         public FilterPredicate visitNotEqual(FieldRef fieldRef, Object literal) {
-            return new Operators.NotEq(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.NotEq(
+                    toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
         public FilterPredicate visitLessOrEqual(FieldRef fieldRef, Object literal) {
-            return new Operators.LtEq(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.LtEq(
+                    toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
         public FilterPredicate visitEqual(FieldRef fieldRef, Object literal) {
-            return new Operators.Eq(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.Eq(toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
         public FilterPredicate visitGreaterThan(FieldRef fieldRef, Object literal) {
-            return new Operators.Gt(toParquetColumn(fieldRef), toParquetObject(literal));
+            return new Operators.Gt(toParquetColumn(fieldRef), toParquetObject(fieldRef, literal));
         }
 
         @Override
@@ -160,19 +170,23 @@ public class ParquetFilters {
             Operators.Column<?> column = toParquetColumn(fieldRef);
             if (column instanceof Operators.LongColumn) {
                 return FilterApi.in(
-                        (Operators.LongColumn) column, convertSets(literals, Long.class));
+                        (Operators.LongColumn) column, convertSets(fieldRef, literals, Long.class));
             } else if (column instanceof Operators.IntColumn) {
                 return FilterApi.in(
-                        (Operators.IntColumn) column, convertSets(literals, Integer.class));
+                        (Operators.IntColumn) column,
+                        convertSets(fieldRef, literals, Integer.class));
             } else if (column instanceof Operators.DoubleColumn) {
                 return FilterApi.in(
-                        (Operators.DoubleColumn) column, convertSets(literals, Double.class));
+                        (Operators.DoubleColumn) column,
+                        convertSets(fieldRef, literals, Double.class));
             } else if (column instanceof Operators.FloatColumn) {
                 return FilterApi.in(
-                        (Operators.FloatColumn) column, convertSets(literals, Float.class));
+                        (Operators.FloatColumn) column,
+                        convertSets(fieldRef, literals, Float.class));
             } else if (column instanceof Operators.BinaryColumn) {
                 return FilterApi.in(
-                        (Operators.BinaryColumn) column, convertSets(literals, Binary.class));
+                        (Operators.BinaryColumn) column,
+                        convertSets(fieldRef, literals, Binary.class));
             }
 
             throw new UnsupportedOperationException();
@@ -183,29 +197,33 @@ public class ParquetFilters {
             Operators.Column<?> column = toParquetColumn(fieldRef);
             if (column instanceof Operators.LongColumn) {
                 return FilterApi.notIn(
-                        (Operators.LongColumn) column, convertSets(literals, Long.class));
+                        (Operators.LongColumn) column, convertSets(fieldRef, literals, Long.class));
             } else if (column instanceof Operators.IntColumn) {
                 return FilterApi.notIn(
-                        (Operators.IntColumn) column, convertSets(literals, Integer.class));
+                        (Operators.IntColumn) column,
+                        convertSets(fieldRef, literals, Integer.class));
             } else if (column instanceof Operators.DoubleColumn) {
                 return FilterApi.notIn(
-                        (Operators.DoubleColumn) column, convertSets(literals, Double.class));
+                        (Operators.DoubleColumn) column,
+                        convertSets(fieldRef, literals, Double.class));
             } else if (column instanceof Operators.FloatColumn) {
                 return FilterApi.notIn(
-                        (Operators.FloatColumn) column, convertSets(literals, Float.class));
+                        (Operators.FloatColumn) column,
+                        convertSets(fieldRef, literals, Float.class));
             } else if (column instanceof Operators.BinaryColumn) {
                 return FilterApi.notIn(
-                        (Operators.BinaryColumn) column, convertSets(literals, Binary.class));
+                        (Operators.BinaryColumn) column,
+                        convertSets(fieldRef, literals, Binary.class));
             }
 
             throw new UnsupportedOperationException();
         }
     }
 
-    private static <T> Set<T> convertSets(List<Object> values, Class<T> kclass) {
+    private static <T> Set<T> convertSets(FieldRef fieldRef, List<Object> values, Class<T> kclass) {
         Set<T> converted = new HashSet<>();
         for (Object value : values) {
-            Comparable<?> cmp = toParquetObject(value);
+            Comparable<?> cmp = toParquetObject(fieldRef, value);
             if (kclass.isInstance(cmp)) {
                 converted.add((T) cmp);
             } else {
@@ -219,12 +237,17 @@ public class ParquetFilters {
         return fieldRef.type().accept(new ConvertToColumnTypeVisitor(fieldRef.name()));
     }
 
-    private static Comparable<?> toParquetObject(Object value) {
+    private static Comparable<?> toParquetObject(FieldRef fieldRef, Object value) {
         if (value == null) {
             return null;
         }
 
-        if (value instanceof Number) {
+        DataType type = fieldRef.type();
+        if (value instanceof Timestamp) {
+            return toParquetTimestamp((Timestamp) value, DataTypeChecks.getPrecision(type));
+        } else if (value instanceof Decimal) {
+            return toParquetDecimal((Decimal) value, (DecimalType) type);
+        } else if (value instanceof Number) {
             if (value instanceof Byte) {
                 return ((Byte) value).intValue();
             } else if (value instanceof Short) {
@@ -239,10 +262,38 @@ public class ParquetFilters {
             return Binary.fromReusedByteArray((byte[]) value);
         }
 
-        // TODO Support Decimal and Timestamp
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Converts a timestamp literal to the INT64 value written by {@link
+     * org.apache.paimon.format.parquet.writer.ParquetRowDataWriter}. A literal more precise than
+     * the column can not be compared with the stored values, so it is not pushed down.
+     */
+    private static Long toParquetTimestamp(Timestamp timestamp, int precision) {
+        if (precision <= 3) {
+            if (timestamp.getNanoOfMillisecond() != 0) {
+                throw new UnsupportedOperationException();
+            }
+            return timestamp.getMillisecond();
+        } else if (precision <= 6) {
+            if (timestamp.getNanoOfMillisecond() % 1000 != 0) {
+                throw new UnsupportedOperationException();
+            }
+            return timestamp.toMicros();
+        }
+        throw new UnsupportedOperationException();
+    }
+
+    /** Converts a decimal literal to the unscaled INT32 or INT64 value of a compact decimal. */
+    private static Comparable<?> toParquetDecimal(Decimal decimal, DecimalType type) {
+        if (decimal.scale() != type.getScale() || !Decimal.isCompact(type.getPrecision())) {
+            throw new UnsupportedOperationException();
+        }
+        long unscaled = decimal.toUnscaledLong();
+        return is32BitDecimal(type.getPrecision()) ? (Comparable<?>) (int) unscaled : unscaled;
+    }
+
     private static class ConvertToColumnTypeVisitor
             implements DataTypeVisitor<Operators.Column<?>> {
 
@@ -317,20 +368,31 @@ public class ParquetFilters {
             return FilterApi.intColumn(name);
         }
 
-        // TODO we can support decimal and timestamp
-
         @Override
         public Operators.Column<?> visit(DecimalType decimalType) {
+            if (is32BitDecimal(decimalType.getPrecision())) {
+                return FilterApi.intColumn(name);
+            } else if (is64BitDecimal(decimalType.getPrecision())) {
+                return FilterApi.longColumn(name);
+            }
             throw new UnsupportedOperationException();
         }
 
         @Override
         public Operators.Column<?> visit(TimestampType timestampType) {
-            throw new UnsupportedOperationException();
+            return timestampColumn(timestampType.getPrecision());
         }
 
         @Override
         public Operators.Column<?> visit(LocalZonedTimestampType localZonedTimestampType) {
+            return timestampColumn(localZonedTimestampType.getPrecision());
+        }
+
+        /** Timestamps with precision greater than 6 are stored as INT96. */
+        private Operators.Column<?> timestampColumn(int precision) {
+            if (precision <= 6) {
+                return FilterApi.longColumn(name);
+            }
             throw new UnsupportedOperationException();
         }
 
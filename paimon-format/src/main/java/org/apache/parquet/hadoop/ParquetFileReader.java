@@ -20,6 +20,7 @@ package org.apache.parquet.hadoop;
 
 import org.apache.paimon.format.parquet.ParquetInputFile;
 import org.apache.paimon.format.parquet.ParquetInputStream;
+import org.apache.paimon.format.parquet.ParquetOptions;
 import org.apache.paimon.fs.FileRange;
 import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.utils.RoaringBitmap32;
@@ -49,6 +50,7 @@ import org.apache.parquet.crypto.ModuleCipherFactory.ModuleType;
 import org.apache.parquet.crypto.ParquetCryptoRuntimeException;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.predicate.SchemaCompatibilityValidator;
 import org.apache.parquet.format.BlockCipher;
 import org.apache.parquet.format.BloomFilterHeader;
 import org.apache.parquet.format.DataPageHeader;
@@ -233,6 +235,7 @@ public class ParquetFileReader implements Closeable {
     protected final ParquetInputStream f;
     private final ParquetInputFile file;
     private final ParquetReadOptions options;
+    private final FilterCompat.Filter recordFilter;
     private final Map<ColumnPath, ColumnDescriptor> paths = new HashMap<>();
     private final FileMetaData fileMetaData; // may be null
     private final List<BlockMetaData> blocks;
@@ -240,6 +243,10 @@ public class ParquetFileReader implements Closeable {
     private final List<RowRanges> blockRowRanges;
     private final boolean blocksFiltered;
     @Nullable private final RoaringBitmap32 selection;
+    private final boolean prefetchEnabled;
+
+    /** Ranges of the next row group read in advance, keyed by their offsets. */
+    private final Map<Long, FileRange> prefetchedRanges = new HashMap<>();
 
     // not final. in some cases, this may be lazily loaded for backward-compat.
     private ParquetMetadata footer;
@@ -258,6 +265,9 @@ public class ParquetFileReader implements Closeable {
         this.f = this.file.newStream();
         this.options = options;
         this.selection = selection;
+        this.prefetchEnabled =
+                Boolean.parseBoolean(
+                        options.getProperty(ParquetOptions.PARQUET_READ_PREFETCH_ENABLED.key()));
         try {
             this.footer = readFooter(file, options, f, converter);
         } catch (Exception e) {
@@ -267,6 +277,7 @@ public class ParquetFileReader implements Closeable {
             throw e;
         }
         this.fileMetaData = footer.getFileMetaData();
+        this.recordFilter = compatibleRecordFilter(options.getRecordFilter());
         this.fileDecryptor =
                 fileMetaData.getFileDecryptor(); // must be called before filterRowGroups!
         if (null != fileDecryptor && fileDecryptor.plaintextFile()) {
@@ -329,9 +340,7 @@ public class ParquetFileReader implements Closeable {
     }
 
     public long getFilteredRecordCount() {
-        if (!options.useColumnIndexFilter()
-                || (!FilterCompat.isFilteringRequired(options.getRecordFilter())
-                        && selection == null)) {
+        if (!rowRangesFilteringRequired()) {
             return getRecordCount();
         }
         long total = 0L;
@@ -354,9 +363,26 @@ public class ParquetFileReader implements Closeable {
         return file.toString();
     }
 
-    private List<BlockMetaData> filterRowGroups(List<BlockMetaData> blocks) throws IOException {
-        FilterCompat.Filter recordFilter = options.getRecordFilter();
+    /**
+     * Returns {@link FilterCompat#NOOP} if the filter does not match the physical types of this
+     * file, for example timestamps written as INT96 by other engines. Rows are still filtered by
+     * the upper layers in this case.
+     */
+    private FilterCompat.Filter compatibleRecordFilter(FilterCompat.Filter filter) {
+        if (filter instanceof FilterCompat.FilterPredicateCompat) {
+            try {
+                SchemaCompatibilityValidator.validate(
+                        ((FilterCompat.FilterPredicateCompat) filter).getFilterPredicate(),
+                        fileMetaData.getSchema());
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Skip filter incompatible with the schema of file {}.", file, e);
+                return FilterCompat.NOOP;
+            }
+        }
+        return filter;
+    }
 
+    private List<BlockMetaData> filterRowGroups(List<BlockMetaData> blocks) throws IOException {
         for (BlockMetaData block : blocks) {
             if (block.getRowIndexOffset() == -1) {
                 LOG.warn(
@@ -455,6 +481,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         advanceToNextBlock();
+        prefetchRowGroup(currentBlock);
 
         return currentRowGroup;
     }
@@ -469,14 +496,29 @@ public class ParquetFileReader implements Closeable {
         }
         ColumnChunkPageReadStore rowGroup =
                 new ColumnChunkPageReadStore(block.getRowCount(), block.getRowIndexOffset());
-        // prepare the list of consecutive parts to read them in one scan
+        List<ConsecutivePartList> allParts = buildParts(block);
+        for (ConsecutivePartList parts : allParts) {
+            BenchmarkCounter.incrementTotalBytes(parts.length);
+        }
+        // actually read all the chunks
+        ChunkListBuilder builder = new ChunkListBuilder(block.getRowCount());
+        readAllPartsVectoredOrNormal(allParts, builder);
+        rowGroup.setReleaser(builder.releaser);
+        for (Chunk chunk : builder.build()) {
+            readChunkPages(chunk, block, rowGroup);
+        }
+
+        return rowGroup;
+    }
+
+    /** Prepares the list of consecutive parts of all requested columns to read them in one scan. */
+    private List<ConsecutivePartList> buildParts(BlockMetaData block) {
         List<ConsecutivePartList> allParts = new ArrayList<>();
         ConsecutivePartList currentParts = null;
         for (ColumnChunkMetaData mc : block.getColumns()) {
             ColumnPath pathKey = mc.getPath();
             ColumnDescriptor columnDescriptor = paths.get(pathKey);
             if (columnDescriptor != null) {
-                BenchmarkCounter.incrementTotalBytes(mc.getTotalSize());
                 long startingPos = mc.getStartingPos();
                 // first part or not consecutive => new list
                 if (currentParts == null || currentParts.endPos() != startingPos) {
@@ -487,15 +529,7 @@ public class ParquetFileReader implements Closeable {
                         new ChunkDescriptor(columnDescriptor, mc, startingPos, mc.getTotalSize()));
             }
         }
-        // actually read all the chunks
-        ChunkListBuilder builder = new ChunkListBuilder(block.getRowCount());
-        readAllPartsVectoredOrNormal(allParts, builder);
-        rowGroup.setReleaser(builder.releaser);
-        for (Chunk chunk : builder.build()) {
-            readChunkPages(chunk, block, rowGroup);
-        }
-
-        return rowGroup;
+        return allParts;
     }
 
     /**
@@ -515,9 +549,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || (!FilterCompat.isFilteringRequired(options.getRecordFilter())
-                        && selection == null)) {
+        if (!rowRangesFilteringRequired()) {
             return internalReadRowGroup(blockIndex);
         }
 
@@ -648,6 +680,7 @@ public class ParquetFileReader implements Closeable {
             throws IOException {
 
         List<FileRange> ranges = new ArrayList<>(allParts.size());
+        List<FileRange> rangesToRead = new ArrayList<>(allParts.size());
         long totalSize = 0;
         for (ConsecutivePartList consecutiveChunks : allParts) {
             final long len = consecutiveChunks.length;
@@ -655,13 +688,28 @@ public class ParquetFileReader implements Closeable {
                     len < Integer.MAX_VALUE,
                     "Invalid length %s for vectored read operation. It must be less than max integer value.",
                     len);
-            ranges.add(FileRange.createFileRange(consecutiveChunks.offset, (int) len));
-            totalSize += len;
+            FileRange range = prefetchedRanges.remove(consecutiveChunks.offset);
+            if (range != null && range.getLength() != len) {
+                range.getData().cancel(false);
+                range = null;
+            }
+            if (range == null || range.getData().isCompletedExceptionally()) {
+                range = FileRange.createFileRange(consecutiveChunks.offset, (int) len);
+                rangesToRead.add(range);
+                totalSize += len;
+            }
+            ranges.add(range);
         }
+        cancelPrefetch();
         LOG.debug(
-                "Reading {} bytes of data with vectored IO in {} ranges", totalSize, ranges.size());
+                "Reading {} bytes of data with vectored IO in {} ranges, {} ranges are prefetched",
+                totalSize,
+                rangesToRead.size(),
+                ranges.size() - rangesToRead.size());
         // Request a vectored read;
-        ((VectoredReadable) f.in()).readVectored(ranges);
+        if (!rangesToRead.isEmpty()) {
+            ((VectoredReadable) f.in()).readVectored(rangesToRead);
+        }
         int k = 0;
         for (ConsecutivePartList consecutivePart : allParts) {
             FileRange currRange = ranges.get(k++);
@@ -683,9 +731,7 @@ public class ParquetFileReader implements Closeable {
             return null;
         }
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || (!FilterCompat.isFilteringRequired(options.getRecordFilter())
-                        && selection == null)) {
+        if (!rowRangesFilteringRequired()) {
             return readNextRowGroup();
         }
         BlockMetaData block = blocks.get(currentBlock);
@@ -716,6 +762,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         advanceToNextBlock();
+        prefetchRowGroup(currentBlock);
 
         return this.currentRowGroup;
     }
@@ -724,8 +771,29 @@ public class ParquetFileReader implements Closeable {
             BlockMetaData block, RowRanges rowRanges, ColumnIndexStore ciStore) throws IOException {
         ColumnChunkPageReadStore rowGroup =
                 new ColumnChunkPageReadStore(rowRanges, block.getRowIndexOffset());
-        // prepare the list of consecutive parts to read them in one scan
         ChunkListBuilder builder = new ChunkListBuilder(block.getRowCount());
+        List<ConsecutivePartList> allParts = buildFilteredParts(block, rowRanges, ciStore, builder);
+        for (ConsecutivePartList parts : allParts) {
+            BenchmarkCounter.incrementTotalBytes(parts.length);
+        }
+        readAllPartsVectoredOrNormal(allParts, builder);
+        rowGroup.setReleaser(builder.releaser);
+        for (Chunk chunk : builder.build()) {
+            readChunkPages(chunk, block, rowGroup);
+        }
+
+        return rowGroup;
+    }
+
+    /**
+     * Prepares the list of consecutive parts of the pages in {@code rowRanges} to read them in one
+     * scan. The filtered offset indexes are registered to {@code builder} if it is not null.
+     */
+    private List<ConsecutivePartList> buildFilteredParts(
+            BlockMetaData block,
+            RowRanges rowRanges,
+            ColumnIndexStore ciStore,
+            @Nullable ChunkListBuilder builder) {
         List<ConsecutivePartList> allParts = new ArrayList<>();
         ConsecutivePartList currentParts = null;
         for (ColumnChunkMetaData mc : block.getColumns()) {
@@ -738,7 +806,6 @@ public class ParquetFileReader implements Closeable {
                         filterOffsetIndex(offsetIndex, rowRanges, block.getRowCount());
                 for (OffsetRange range :
                         calculateOffsetRanges(filteredOffsetIndex, mc, offsetIndex.getOffset(0))) {
-                    BenchmarkCounter.incrementTotalBytes(range.getLength());
                     long startingPos = range.getOffset();
                     // first part or not consecutive => new list
                     if (currentParts == null || currentParts.endPos() != startingPos) {
@@ -749,17 +816,77 @@ public class ParquetFileReader implements Closeable {
                             new ChunkDescriptor(
                                     columnDescriptor, mc, startingPos, range.getLength());
                     currentParts.addChunk(chunkDescriptor);
-                    builder.setOffsetIndex(chunkDescriptor, filteredOffsetIndex);
+                    if (builder != null) {
+                        builder.setOffsetIndex(chunkDescriptor, filteredOffsetIndex);
+                    }
                 }
             }
         }
-        readAllPartsVectoredOrNormal(allParts, builder);
-        rowGroup.setReleaser(builder.releaser);
-        for (Chunk chunk : builder.build()) {
-            readChunkPages(chunk, block, rowGroup);
+        return allParts;
+    }
+
+    /**
+     * Starts reading the chunks of the given row group asynchronously, so that the IO overlaps with
+     * decoding the current row group. The ranges are picked up by {@link #readVectored} when the
+     * row group is actually read.
+     */
+    private void prefetchRowGroup(int blockIndex) {
+        cancelPrefetch();
+        if (!prefetchEnabled
+                || blockIndex >= blocks.size()
+                || !(f.in() instanceof VectoredReadable)) {
+            return;
         }
 
-        return rowGroup;
+        BlockMetaData block = blocks.get(blockIndex);
+        if (block.getRowCount() == 0) {
+            return;
+        }
+
+        try {
+            List<ConsecutivePartList> allParts;
+            if (rowRangesFilteringRequired()) {
+                RowRanges rowRanges = getRowRanges(blockIndex);
+                if (rowRanges.rowCount() == 0) {
+                    return;
+                }
+                allParts =
+                        rowRanges.rowCount() == block.getRowCount()
+                                ? buildParts(block)
+                                : buildFilteredParts(
+                                        block, rowRanges, getColumnIndexStore(blockIndex), null);
+            } else {
+                allParts = buildParts(block);
+            }
+
+            if (allParts.isEmpty() || !arePartsValidForVectoredIo(allParts)) {
+                return;
+            }
+
+            List<FileRange> ranges = new ArrayList<>(allParts.size());
+            for (ConsecutivePartList consecutiveChunks : allParts) {
+                FileRange range =
+                        FileRange.createFileRange(
+                                consecutiveChunks.offset, (int) consecutiveChunks.length);
+                ranges.add(range);
+                prefetchedRanges.put(range.getOffset(), range);
+            }
+            ((VectoredReadable) f.in()).readVectoredAsync(ranges);
+        } catch (Exception e) {
+            LOG.debug("Failed to prefetch row group {} of {}.", blockIndex, getFile(), e);
+            cancelPrefetch();
+        }
+    }
+
+    /**
+     * Drops the prefetched ranges which are not used. Their futures are cancelled, so the buffers
+     * are released as soon as the in-flight reads finish, which fail if the stream is closed.
+     */
+    private void cancelPrefetch() {
+        for (FileRange range : prefetchedRanges.values()) {
+            range.getData().cancel(false);
+        }
+        prefetchedRanges.clear();
     }
 
     private void readChunkPages(Chunk chunk, BlockMetaData block, ColumnChunkPageReadStore rowGroup)
@@ -795,9 +922,20 @@ public class ParquetFileReader implements Closeable {
         return ciStore;
     }
 
+    /**
+     * Whether row groups are read by row ranges. The selection always narrows the pages to read,
+     * the column indexes are only used when enabled.
+     */
+    private boolean rowRangesFilteringRequired() {
+        return selection != null || columnIndexFilteringRequired();
+    }
+
+    private boolean columnIndexFilteringRequired() {
+        return options.useColumnIndexFilter() && FilterCompat.isFilteringRequired(recordFilter);
+    }
+
     private RowRanges getRowRanges(int blockIndex) {
-        boolean filteringRequired = FilterCompat.isFilteringRequired(options.getRecordFilter());
-        if (!filteringRequired && selection == null) {
+        if (!rowRangesFilteringRequired()) {
             throw new IllegalArgumentException("Should not be invoked if filter is null or NOOP");
         }
 
@@ -812,8 +950,7 @@ public class ParquetFileReader implements Closeable {
     private RowRanges calculateRowRanges(int blockIndex) {
         BlockMetaData block = blocks.get(blockIndex);
         RowRanges rowRanges = RowRanges.createSingle(block.getRowCount());
-        FilterCompat.Filter recordFilter = options.getRecordFilter();
-        boolean filteringRequired = FilterCompat.isFilteringRequired(recordFilter);
+        boolean filteringRequired = columnIndexFilteringRequired();
         if (selection != null || filteringRequired) {
             ColumnIndexStore store = getColumnIndexStore(blockIndex);
 
@@ -1169,6 +1306,7 @@ public class ParquetFileReader implements Closeable {
     @Override
     public void close() throws IOException {
         try {
+            cancelPrefetch();
             if (f != null) {
                 f.close();
             }
@@ -331,6 +331,19 @@ public class ParquetWriter<T> implements Closeable {
             return self();
         }
 
+        /**
+         * Enable or disable BYTE_STREAM_SPLIT encoding of the specified column for the constructed
+         * writer.
+         *
+         * @param columnPath the path of the column (dot-string)
+         * @param enableByteStreamSplit whether BYTE_STREAM_SPLIT encoding should be enabled
+         * @return this builder for method chaining.
+         */
+        public SELF withByteStreamSplitEncoding(String columnPath, boolean enableByteStreamSplit) {
+            encodingPropsBuilder.withByteStreamSplitEncoding(columnPath, enableByteStreamSplit);
+            return self();
+        }
+
         /**
          * Enables validation for the constructed writer.
          *
@@ -31,9 +31,11 @@ import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DecimalUtils;
 import org.apache.paimon.utils.Projection;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.OrcConf;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -234,6 +236,38 @@ class OrcReaderFactoryTest {
         }
     }
 
+    @Test
+    void testReadRowPositionWithSelectedVector() throws IOException {
+        Configuration conf = new Configuration();
+        conf.setBoolean(OrcConf.READER_USE_SELECTED.getAttribute(), true);
+        conf.setBoolean(OrcConf.ALLOW_SARG_TO_FILTER.getAttribute(), true);
+        List<OrcFilters.Predicate> predicates = new ArrayList<>();
+        predicates.add(
+                new OrcFilters.In("_col0", PredicateLeaf.Type.LONG, 5L, 10L, 123456L, 1920800L));
+        OrcReaderFactory format =
+                new OrcReaderFactory(
+                        conf,
+                        Projection.of(new int[] {2, 0, 1}).project(FLAT_FILE_TYPE),
+                        predicates,
+                        BATCH_SIZE,
+                        true);
+
+        List<Integer> values = new ArrayList<>();
+        LocalFileIO localFileIO = new LocalFileIO();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                localFileIO, flatFile, localFileIO.getFileSize(flatFile)))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        // in flatFile, field _col0's value is row position + 1
+                        assertThat(rowPosition + 1).isEqualTo(row.getInt(1));
+                        values.add(row.getInt(1));
+                    });
+        }
+        assertThat(values).containsExactly(5, 10, 123456, 1920800);
+    }
+
     @Test
     void testReadDecimalTypeFile() throws IOException {
         OrcReaderFactory format = createFormat(DECIMAL_FILE_TYPE, new int[] {0});
@@ -278,10 +312,38 @@ class OrcReaderFactoryTest {
                 Projection.of(selectedFields).project(formatType),
                 conjunctPredicates,
                 BATCH_SIZE,
-                false,
                 true);
     }
 
+    @Test
+    void testReadWithSelection() throws IOException {
+        OrcReaderFactory format = createFormat(FLAT_FILE_TYPE, new int[] {2, 0, 1});
+
+        // no predicate is pushed down, row groups are picked by the selection only
+        RoaringBitmap32 selection = RoaringBitmap32.bitmapOfRange(5000, 5010);
+        selection.add(123456);
+        List<Integer> values = new ArrayList<>();
+        LocalFileIO localFileIO = new LocalFileIO();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                localFileIO,
+                                flatFile,
+                                localFileIO.getFileSize(flatFile),
+                                selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        // in flatFile, field _col0's value is row position + 1
+                        assertThat(rowPosition + 1).isEqualTo(row.getInt(1));
+                        values.add(row.getInt(1));
+                    });
+        }
+
+        assertThat(values).contains(5001, 5010, 123457);
+        assertThat(values).doesNotContain(1, 1000000, 1920800);
+        assertThat(values.size()).isLessThan(100000);
+    }
+
     private void forEach(OrcReaderFactory format, Path file, Consumer<InternalRow> action)
             throws IOException {
         LocalFileIO fileIO = new LocalFileIO();
@@ -18,13 +18,18 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.DoubleType;
 import org.apache.paimon.types.FloatType;
+import org.apache.paimon.types.LocalZonedTimestampType;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.TimestampType;
 import org.apache.paimon.types.VarCharType;
 
 import org.apache.parquet.filter2.compat.FilterCompat;
@@ -94,6 +99,51 @@ class ParquetFiltersTest {
                 true);
     }
 
+    @Test
+    public void testTimestamp() {
+        PredicateBuilder builder =
+                new PredicateBuilder(
+                        new RowType(
+                                Arrays.asList(
+                                        new DataField(0, "ts3", new TimestampType(3)),
+                                        new DataField(1, "ts6", new LocalZonedTimestampType(6)),
+                                        new DataField(2, "ts9", new TimestampType(9)))));
+
+        Timestamp millis = Timestamp.fromEpochMillis(1000);
+        test(builder.lessThan(0, millis), "lt(ts3, 1000)", true);
+        test(builder.greaterOrEqual(1, millis), "gteq(ts6, 1000000)", true);
+        test(builder.equal(2, millis), "", false);
+
+        // literals more precise than the column can not be pushed down
+        Timestamp nanos = Timestamp.fromEpochMillis(1000, 1);
+        test(builder.lessThan(0, nanos), "", false);
+        test(builder.lessThan(1, nanos), "", false);
+    }
+
+    @Test
+    public void testDecimal() {
+        PredicateBuilder builder =
+                new PredicateBuilder(
+                        new RowType(
+                                Arrays.asList(
+                                        new DataField(0, "dec9", new DecimalType(9, 2)),
+                                        new DataField(1, "dec18", new DecimalType(18, 2)),
+                                        new DataField(2, "dec38", new DecimalType(38, 2)))));
+
+        test(
+                builder.lessThan(0, Decimal.fromUnscaledLong(12345, 9, 2)),
+                FilterApi.lt(FilterApi.intColumn("dec9"), 12345),
+                true);
+        test(
+                builder.greaterThan(1, Decimal.fromUnscaledLong(12345, 18, 2)),
+                FilterApi.gt(FilterApi.longColumn("dec18"), 12345L),
+                true);
+        test(builder.lessThan(2, Decimal.fromUnscaledLong(12345, 38, 2)), "", false);
+
+        // literal with a different scale
+        test(builder.lessThan(1, Decimal.fromUnscaledLong(12345, 18, 3)), "", false);
+    }
+
     @Test
     public void testInFilterLong() {
         PredicateBuilder builder =
@@ -29,6 +29,7 @@ import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.FormatWriter;
+import org.apache.paimon.format.parquet.writer.AdaptiveColumnEncodings;
 import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
@@ -54,15 +55,21 @@ import org.apache.paimon.types.TimestampType;
 import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.SimpleGroupFactory;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.predicate.ParquetFilters;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.ConversionPatterns;
@@ -465,6 +472,252 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testLateMaterialization(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        RowType readType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    new IntType(),
+                                    new VarCharType(VarCharType.MAX_LENGTH),
+                                    new DoubleType(),
+                                    new DecimalType(15, 2)
+                                },
+                                new String[] {"f4", "f0", "f7", "f12"})
+                        .build();
+        PredicateBuilder builder = new PredicateBuilder(readType);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        readType,
+                        100,
+                        FilterCompat.NOOP,
+                        PredicateBuilder.or(
+                                PredicateBuilder.and(
+                                        builder.greaterOrEqual(0, 5000), builder.lessThan(0, 5050)),
+                                builder.equal(0, 8888)));
+
+        List<Integer> values = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(0);
+                        // batches without matching rows are skipped, the other columns of
+                        // returned batches must still be decoded correctly
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(1).toString()).isEqualTo(String.valueOf(v));
+                        assertThat(row.getDouble(2)).isEqualTo(v);
+                        assertThat(row.getDecimal(3, 15, 2).toBigDecimal())
+                                .isEqualTo(records.get(v).getDecimal(12, 15, 2).toBigDecimal());
+                        values.add(v);
+                    });
+        }
+
+        assertThat(values).contains(5000, 5049, 8888);
+        assertThat(values).doesNotContain(0, 4899, 5150, 8787, 8989, 9999);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithSelection(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        RowType readType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    new IntType(), new VarCharType(VarCharType.MAX_LENGTH)
+                                },
+                                new String[] {"f4", "f0"})
+                        .build();
+        PredicateBuilder builder = new PredicateBuilder(readType);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(), readType, 100, FilterCompat.NOOP, builder.lessThan(0, 5000));
+
+        // rows [3000, 3050), 7777 and 8888 are selected, but 8888 does not match the filter
+        RoaringBitmap32 selection = RoaringBitmap32.bitmapOfRange(3000, 3050);
+        selection.add(7777);
+        selection.add(8888);
+        List<Integer> values = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath),
+                                selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(0);
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(1).toString()).isEqualTo(String.valueOf(v));
+                        values.add(v);
+                    });
+        }
+
+        assertThat(values).contains(3000, 3049);
+        assertThat(values).doesNotContain(0, 2899, 3150, 7777, 8888, 9999);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithSelectionWithoutColumnIndexFilter(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        RowType readType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    new IntType(), new VarCharType(VarCharType.MAX_LENGTH)
+                                },
+                                new String[] {"f4", "f0"})
+                        .build();
+        Options conf = new Options();
+        conf.setBoolean(ParquetInputFormat.COLUMN_INDEX_FILTERING_ENABLED, false);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(conf, readType, 100, FilterCompat.NOOP);
+
+        // the selection alone narrows the pages, without column indexes and predicates
+        RoaringBitmap32 selection = RoaringBitmap32.bitmapOfRange(3000, 3050);
+        selection.add(7777);
+        List<Integer> values = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath),
+                                selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(0);
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(1).toString()).isEqualTo(String.valueOf(v));
+                        values.add(v);
+                    });
+        }
+
+        assertThat(values).contains(3000, 3049, 7777);
+        assertThat(values).doesNotContain(0, 2899, 3150, 7676, 7878, 9999);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithPrefetch(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+        assertThat(rowGroupCount(testPath)).isGreaterThan(1);
+
+        RowType readType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    new IntType(), new VarCharType(VarCharType.MAX_LENGTH)
+                                },
+                                new String[] {"f4", "f0"})
+                        .build();
+        Options conf = new Options();
+        conf.set(ParquetOptions.PARQUET_READ_PREFETCH_ENABLED, true);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(conf, readType, 100, FilterCompat.NOOP);
+
+        AtomicInteger cnt = new AtomicInteger(0);
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = cnt.getAndIncrement();
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getInt(0)).isEqualTo(v);
+                        assertThat(row.getString(1).toString()).isEqualTo(String.valueOf(v));
+                    });
+        }
+        assertThat(cnt.get()).isEqualTo(number);
+    }
+
+    @Test
+    void testCloseWithPrefetch() throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, 10, ROW_TYPE);
+        assertThat(rowGroupCount(testPath)).isGreaterThan(2);
+
+        Options conf = new Options();
+        conf.set(ParquetOptions.PARQUET_READ_PREFETCH_ENABLED, true);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(conf, ROW_TYPE, 100, FilterCompat.NOOP);
+
+        // the reader is closed while the next row group is prefetched
+        RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)));
+        RecordReader.RecordIterator<InternalRow> batch = reader.readBatch();
+        assertThat(batch).isNotNull();
+        InternalRow row = batch.next();
+        assertThat(row).isNotNull();
+        assertThat(row.getInt(4)).isEqualTo(0);
+        batch.releaseBatch();
+        reader.close();
+
+        // the file can be read again after the reader is closed
+        AtomicInteger cnt = new AtomicInteger(0);
+        try (RecordReader<InternalRow> another =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            another.forEachRemaining(r -> assertThat(r.getInt(4)).isEqualTo(cnt.getAndIncrement()));
+        }
+        assertThat(cnt.get()).isEqualTo(number);
+    }
+
+    private int rowGroupCount(Path path) throws IOException {
+        LocalFileIO fileIO = new LocalFileIO();
+        try (ParquetFileReader reader =
+                ParquetUtil.getParquetReader(fileIO, path, fileIO.getFileSize(path))) {
+            return reader.getFooter().getBlocks().size();
+        }
+    }
+
     @ParameterizedTest
     @CsvSource({"10, paimon", "1000, paimon", "10, origin", "1000, origin"})
     public void testNestedRead(int rowGroupSize, String writerType) throws Exception {
@@ -491,6 +744,60 @@ public class ParquetReadWriteTest {
         compareNestedRow(rows, results);
     }
 
+    @Test
+    public void testAdaptiveEncoding() throws IOException {
+        RowType rowType = RowType.of(DataTypes.STRING(), DataTypes.BIGINT(), DataTypes.DOUBLE());
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            rows.add(GenericRow.of(BinaryString.fromString("v" + i % 5), i * 1_000_003L, i / 7.0));
+        }
+
+        Options conf = new Options();
+        conf.set("parquet.dictionary.page.size", "1024");
+        AdaptiveColumnEncodings encodings = new AdaptiveColumnEncodings();
+        ParquetWriterFactory factory =
+                new ParquetWriterFactory(new RowDataParquetBuilder(rowType, conf, encodings));
+        Path[] paths = new Path[2];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = new Path(folder.getPath(), UUID.randomUUID().toString());
+            FormatWriter writer =
+                    factory.create(new LocalFileIO().newOutputStream(paths[i], false), "zstd");
+            for (InternalRow row : rows) {
+                writer.addElement(row);
+            }
+            writer.close();
+        }
+
+        LocalFileIO fileIO = new LocalFileIO();
+        try (ParquetFileReader reader =
+                ParquetUtil.getParquetReader(fileIO, paths[1], fileIO.getFileSize(paths[1]))) {
+            List<ColumnChunkMetaData> columns = reader.getFooter().getBlocks().get(0).getColumns();
+            EncodingStats stringStats = columns.get(0).getEncodingStats();
+            assertThat(stringStats.hasDictionaryEncodedPages()).isTrue();
+            assertThat(stringStats.hasNonDictionaryEncodedPages()).isFalse();
+            assertThat(columns.get(1).getEncodingStats().hasDictionaryPages()).isFalse();
+            assertThat(columns.get(2).getEncodingStats().getDataEncodings())
+                    .containsExactly(Encoding.BYTE_STREAM_SPLIT);
+        }
+
+        for (Path path : paths) {
+            ParquetReaderFactory readerFactory =
+                    new ParquetReaderFactory(new Options(), rowType, 500, FilterCompat.NOOP);
+            RecordReader<InternalRow> reader =
+                    readerFactory.createReader(
+                            new FormatReaderContext(fileIO, path, fileIO.getFileSize(path)));
+            AtomicInteger cnt = new AtomicInteger(0);
+            reader.forEachRemaining(
+                    row -> {
+                        InternalRow expected = rows.get(cnt.getAndIncrement());
+                        assertThat(row.getString(0)).isEqualTo(expected.getString(0));
+                        assertThat(row.getLong(1)).isEqualTo(expected.getLong(1));
+                        assertThat(row.getDouble(2)).isEqualTo(expected.getDouble(2));
+                    });
+            assertThat(cnt.get()).isEqualTo(rows.size());
+        }
+    }
+
     @Test
     public void testDecimalWithFixedLengthRead() throws Exception {
         int number = new Random().nextInt(1000) + 100;
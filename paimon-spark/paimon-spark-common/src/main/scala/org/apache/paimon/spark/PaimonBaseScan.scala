@@ -25,8 +25,9 @@ import org.apache.paimon.spark.metric.SparkMetricRegistry
 import org.apache.paimon.spark.sources.PaimonMicroBatchStream
 import org.apache.paimon.spark.statistics.StatisticsHelper
 import org.apache.paimon.table.{DataTable, InnerTable}
-import org.apache.paimon.table.source.{InnerTableScan, Split}
+import org.apache.paimon.table.source.{InnerTableScan, PlanTask, Split}
 
+import org.apache.spark.sql.PaimonSparkSession
 import org.apache.spark.sql.connector.metric.{CustomMetric, CustomTaskMetric}
 import org.apache.spark.sql.connector.read.{Batch, Scan, Statistics, SupportsReportStatistics}
 import org.apache.spark.sql.connector.read.streaming.MicroBatchStream
@@ -68,18 +69,30 @@ abstract class PaimonBaseScan(
   @VisibleForTesting
   def getOriginSplits: Array[Split] = {
     if (inputSplits == null) {
-      inputSplits = readBuilder
+      val scan = readBuilder
         .newScan()
         .asInstanceOf[InnerTableScan]
         .withMetricRegistry(paimonMetricsRegistry)
-        .plan()
-        .splits()
-        .asScala
-        .toArray
+      val tasks = scan.planTasks(PaimonSparkSession.active.sparkContext.defaultParallelism)
+      inputSplits = if (tasks.isPresent && tasks.get.size > 1) {
+        planDistributed(tasks.get.asScala.toSeq)
+      } else {
+        scan.plan().splits().asScala.toArray
+      }
     }
     inputSplits
   }
 
+  /** Plans the tasks on executors, only the resulting splits are collected to the driver. */
+  private def planDistributed(tasks: Seq[PlanTask]): Array[Split] = {
+    val builder = readBuilder
+    PaimonSparkSession.active.sparkContext
+      .parallelize(tasks, tasks.size)
+      .flatMap(
+        task => builder.newScan().asInstanceOf[InnerTableScan].planTask(task).splits().asScala)
+      .collect()
+  }
+
   final def lazyInputPartitions: Seq[PaimonInputPartition] = {
     if (inputPartitions == null) {
       inputPartitions = getInputPartitions(getOriginSplits)